@@ -0,0 +1,424 @@
+package com.checkmarx.intellij.benchmarks;
+
+import com.checkmarx.intellij.devassist.ignore.IgnoreEntry;
+import com.checkmarx.intellij.devassist.ignore.IgnoreFileManager;
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.model.Vulnerability;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.LightVirtualFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic data shared by the benchmarks.
+ * <p>
+ * CLI result objects are built the same way the wrapper builds them, by deserializing JSON-shaped maps,
+ * so the benchmarks exercise the real model classes instead of mocks. Platform types that cannot be created
+ * without a running IDE ({@link Project}, {@link PsiFile}) are replaced with minimal dynamic proxies.
+ */
+public final class BenchmarkFixtures {
+
+    public static final String[] SEVERITIES = {"CRITICAL", "HIGH", "MEDIUM", "LOW", "INFO"};
+    public static final String[] STATES = {"TO_VERIFY", "NOT_EXPLOITABLE", "PROPOSED_NOT_EXPLOITABLE", "CONFIRMED", "URGENT"};
+    public static final String[] AST_ENGINES = {"sast", "sca", "kics", "sscs-secret-detection"};
+
+    private static final String[] STATUSES = {"Critical", "High", "Medium", "Low", "Malicious", "OK"};
+    private static final String[] PACKAGE_MANAGERS = {"npm", "maven", "pypi", "nuget", "go"};
+    private static final String[] EXTENSIONS = {"java", "js", "ts", "py", "go", "cs", "tf", "yaml", "json", "md", "xml", "txt"};
+    private static final String[] MANIFESTS = {"package.json", "pom.xml", "requirements.txt", "go.mod", "packages.config",
+            "Dockerfile", "docker-compose.yml", "main.auto.tfvars"};
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // Private constructor to prevent instantiation - using static methods
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Converts a JSON-shaped map into the given CLI model type, mirroring how the wrapper parses CLI output.
+     */
+    public static <T> T fromJson(Object json, Class<T> type) {
+        return MAPPER.convertValue(json, type);
+    }
+
+    /**
+     * Fails fast when a fixture did not produce any data, which would otherwise make a benchmark measure nothing.
+     */
+    public static void requireNonEmpty(List<?> values, String what) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalStateException("Synthetic fixture produced no " + what);
+        }
+    }
+
+    /**
+     * @return {@code count} project-relative file paths with a realistic mix of sources and manifests
+     */
+    public static List<String> filePaths(int count) {
+        Random random = new Random(count);
+        List<String> paths = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String dir = "/workspace/module" + (i % 50) + "/src/pkg" + (i % 400);
+            if (i % 97 == 0) {
+                dir = "/workspace/node_modules/dep" + (i % 13);
+            }
+            String name = random.nextInt(10) == 0
+                    ? MANIFESTS[random.nextInt(MANIFESTS.length)]
+                    : "File" + i + "." + EXTENSIONS[random.nextInt(EXTENSIONS.length)];
+            paths.add(dir + "/" + name);
+        }
+        return paths;
+    }
+
+    // ------------------------------------------------------------------ AST results
+
+    /**
+     * @return a JSON-shaped {@code Results} document with {@code count} results spread over all engines
+     */
+    public static Map<String, Object> astResultsJson(int count) {
+        Random random = new Random(count);
+        List<Map<String, Object>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String type = AST_ENGINES[i % AST_ENGINES.length];
+            String file = "/src/module" + (i % 50) + "/File" + (i % 2000) + ".java";
+
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("queryName", "Query_" + (i % 300));
+            data.put("fileName", file);
+            data.put("line", 1 + random.nextInt(500));
+            data.put("ruleName", "Rule_" + (i % 40));
+            data.put("packageIdentifier", "pkg-" + (i % 700) + "@1." + (i % 9));
+            if ("sast".equals(type)) {
+                List<Map<String, Object>> nodes = new ArrayList<>();
+                for (int n = 0; n < 3; n++) {
+                    Map<String, Object> node = new LinkedHashMap<>();
+                    node.put("id", i + "-" + n);
+                    node.put("nodeID", i * 3 + n);
+                    node.put("fileName", file);
+                    node.put("line", 1 + random.nextInt(500));
+                    node.put("column", 1 + random.nextInt(80));
+                    node.put("length", 1 + random.nextInt(20));
+                    node.put("name", "var" + n);
+                    node.put("method", "method" + (i % 30));
+                    nodes.add(node);
+                }
+                data.put("nodes", nodes);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("type", type);
+            result.put("id", "result-" + i);
+            result.put("similarityId", String.valueOf(i * 31));
+            result.put("status", i % 3 == 0 ? "NEW" : "RECURRENT");
+            result.put("state", STATES[i % STATES.length]);
+            result.put("severity", SEVERITIES[random.nextInt(SEVERITIES.length)]);
+            result.put("description", "Synthetic finding " + i);
+            result.put("data", data);
+            results.add(result);
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("totalCount", count);
+        root.put("results", results);
+        return root;
+    }
+
+    // ------------------------------------------------------------------ Realtime CLI results
+
+    /**
+     * @return a JSON-shaped OSS realtime document with {@code count} packages
+     */
+    public static Map<String, Object> ossJson(int count) {
+        List<Map<String, Object>> packages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> pkg = new LinkedHashMap<>();
+            pkg.put("PackageManager", PACKAGE_MANAGERS[i % PACKAGE_MANAGERS.length]);
+            pkg.put("PackageName", "package-" + i);
+            pkg.put("PackageVersion", "1." + (i % 20) + "." + (i % 7));
+            pkg.put("FilePath", "/workspace/package.json");
+            pkg.put("Status", STATUSES[i % STATUSES.length]);
+            pkg.put("Locations", List.of(location(i)));
+            List<Map<String, Object>> vulnerabilities = new ArrayList<>();
+            for (int v = 0; v < i % 4; v++) {
+                Map<String, Object> vulnerability = new LinkedHashMap<>();
+                vulnerability.put("CVE", "CVE-2024-" + (10000 + i + v));
+                vulnerability.put("Id", "CVE-2024-" + (10000 + i + v));
+                vulnerability.put("Severity", STATUSES[(i + v) % 4]);
+                vulnerability.put("Description", "Synthetic vulnerability " + v);
+                vulnerability.put("FixVersion", "2.0." + v);
+                vulnerabilities.add(vulnerability);
+            }
+            pkg.put("Vulnerabilities", vulnerabilities);
+            packages.add(pkg);
+        }
+        return Map.of("Packages", packages);
+    }
+
+    /**
+     * @return a JSON-shaped secrets realtime document with {@code count} secrets
+     */
+    public static Map<String, Object> secretsJson(int count) {
+        List<Map<String, Object>> secrets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> secret = new LinkedHashMap<>();
+            secret.put("Title", "generic-api-key");
+            secret.put("Description", "Synthetic secret " + i);
+            secret.put("SecretValue", "sk_live_" + Integer.toHexString(i * 7919));
+            secret.put("FilePath", "/workspace/config.properties");
+            secret.put("Severity", STATUSES[i % 4]);
+            secret.put("Locations", List.of(location(i)));
+            secrets.add(secret);
+        }
+        return Map.of("Secrets", secrets);
+    }
+
+    /**
+     * @return a JSON-shaped IaC realtime document with {@code count} findings
+     */
+    public static Map<String, Object> iacJson(int count) {
+        List<Map<String, Object>> results = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("Title", "Misconfiguration " + (i % 60));
+            result.put("Description", "Synthetic IaC finding " + i);
+            result.put("SimilarityID", "sim-" + i);
+            result.put("SimilarityId", "sim-" + i);
+            result.put("FilePath", "/workspace/main.tf");
+            result.put("Severity", STATUSES[i % 4]);
+            result.put("ExpectedValue", "true");
+            result.put("ActualValue", "false");
+            result.put("Locations", List.of(location(i)));
+            results.add(result);
+        }
+        return Map.of("Results", results);
+    }
+
+    /**
+     * @return a JSON-shaped containers realtime document with {@code count} images
+     */
+    public static Map<String, Object> containersJson(int count) {
+        List<Map<String, Object>> images = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> image = new LinkedHashMap<>();
+            image.put("ImageName", "registry.local/image-" + i);
+            image.put("ImageTag", "1." + (i % 10));
+            image.put("FilePath", "/workspace/Dockerfile");
+            image.put("Status", STATUSES[i % STATUSES.length]);
+            image.put("Locations", List.of(location(i)));
+            List<Map<String, Object>> vulnerabilities = new ArrayList<>();
+            for (int v = 0; v < i % 3; v++) {
+                vulnerabilities.add(Map.of("CVE", "CVE-2023-" + (20000 + i + v), "Severity", STATUSES[v % 4]));
+            }
+            image.put("Vulnerabilities", vulnerabilities);
+            images.add(image);
+        }
+        return Map.of("Images", images);
+    }
+
+    /**
+     * @return a JSON-shaped ASCA document with {@code count} scan details, roughly two per line
+     */
+    public static Map<String, Object> ascaJson(int count) {
+        List<Map<String, Object>> details = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("rule_id", i % 90);
+            detail.put("language", "java");
+            detail.put("rule_name", "Rule_" + (i % 90));
+            detail.put("severity", STATUSES[i % 4]);
+            detail.put("file_name", "Main.java");
+            detail.put("line", 1 + i / 2);
+            detail.put("problematicLine", "String password = \"secret" + i + "\";");
+            detail.put("length", 10);
+            detail.put("remediationAdvise", "Do not hardcode credentials");
+            detail.put("description", "Synthetic ASCA finding " + i);
+            details.add(detail);
+        }
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("request_id", "benchmark");
+        root.put("status", true);
+        root.put("message", "");
+        root.put("scan_details", details);
+        return root;
+    }
+
+    private static Map<String, Object> location(int i) {
+        Map<String, Object> location = new HashMap<>();
+        location.put("Line", i % 5000);
+        location.put("StartIndex", i % 40);
+        location.put("EndIndex", i % 40 + 12);
+        return location;
+    }
+
+    // ------------------------------------------------------------------ Plugin model
+
+    /**
+     * @return {@code count} scan issues spread over all realtime engines
+     */
+    public static List<ScanIssue> scanIssues(int count) {
+        ScanEngine[] engines = {ScanEngine.OSS, ScanEngine.ASCA, ScanEngine.SECRETS, ScanEngine.IAC, ScanEngine.CONTAINERS};
+        List<ScanIssue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ScanIssue issue = new ScanIssue();
+            issue.setScanEngine(engines[i % engines.length]);
+            issue.setSeverity(STATUSES[i % 4]);
+            issue.setTitle("Issue " + i);
+            issue.setDescription("Synthetic issue description " + i);
+            issue.setPackageManager(PACKAGE_MANAGERS[i % PACKAGE_MANAGERS.length]);
+            issue.setPackageVersion("1.0." + (i % 10));
+            issue.setImageTag("1." + (i % 10));
+            issue.setSecretValue("sk_live_" + i);
+            issue.setRemediationAdvise("Upgrade to a fixed version");
+            issue.setFilePath("/workspace/File" + (i % 100) + ".java");
+            issue.setScanIssueId("issue-" + i);
+            issue.getLocations().add(new Location(1 + i % 500, 0, 20));
+            for (int v = 0; v < 1 + i % 3; v++) {
+                Vulnerability vulnerability = new Vulnerability();
+                vulnerability.setCve("CVE-2024-" + (i + v));
+                vulnerability.setTitle("Rule_" + ((i + v) % 90));
+                vulnerability.setSeverity(STATUSES[v % 4]);
+                vulnerability.setDescription("Synthetic vulnerability " + v);
+                vulnerability.setRemediationAdvise("Apply the fix");
+                vulnerability.setFixVersion("2.0." + v);
+                vulnerability.setActualValue("false");
+                vulnerability.setExpectedValue("true");
+                issue.getVulnerabilities().add(vulnerability);
+            }
+            issues.add(issue);
+        }
+        return issues;
+    }
+
+    /**
+     * @return {@code count} ASCA ignore entries, keyed like the ignore file, all pointing at {@code relativePath}
+     */
+    public static Map<String, IgnoreEntry> ascaIgnoreEntries(int count, String relativePath) {
+        Map<String, IgnoreEntry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            IgnoreEntry entry = new IgnoreEntry();
+            entry.setType(ScanEngine.ASCA);
+            entry.setPackageName("Rule_" + (i % 90));
+            entry.setRuleId(i % 90);
+            entry.setSeverity(STATUSES[i % 4]);
+            entry.getFiles().add(new IgnoreEntry.FileReference(relativePath, true, 1 + i / 2,
+                    "String password = \"secret" + i + "\";"));
+            entries.put("Rule_" + (i % 90) + ":" + i, entry);
+        }
+        return entries;
+    }
+
+    // ------------------------------------------------------------------ Platform stand-ins
+
+    /**
+     * Creates a temporary project directory holding the given ignore entries and a {@link Project} stand-in
+     * with an {@link IgnoreFileManager} service that loaded them.
+     */
+    public static Project ignoreProject(Map<String, IgnoreEntry> entries) {
+        try {
+            Path basePath = Files.createTempDirectory("cx-benchmark");
+            Path ideaDir = Files.createDirectories(basePath.resolve(".idea"));
+            Files.writeString(ideaDir.resolve(".checkmarxIgnored"), MAPPER.writeValueAsString(entries));
+            Map<Class<?>, Object> services = new HashMap<>();
+            Project project = project(basePath.toString(), services);
+            services.put(IgnoreFileManager.class, new IgnoreFileManager(project));
+            return project;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a {@link Project} stand-in that only answers {@code getBasePath}, {@code getName} and {@code getService}.
+     *
+     * @param basePath project base path
+     * @param services project services keyed by their class
+     */
+    public static Project project(String basePath, Map<Class<?>, Object> services) {
+        return (Project) Proxy.newProxyInstance(Project.class.getClassLoader(), new Class<?>[]{Project.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getBasePath":
+                            return basePath;
+                        case "getName":
+                            return "benchmark";
+                        case "getService":
+                            return services.get((Class<?>) args[0]);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "BenchmarkProject";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    /**
+     * Creates a {@link PsiFile} stand-in backed by an in-memory virtual file with the given path's name.
+     */
+    public static PsiFile psiFile(String path) {
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        LightVirtualFile virtualFile = new LightVirtualFile(name);
+        return (PsiFile) Proxy.newProxyInstance(PsiFile.class.getClassLoader(), new Class<?>[]{PsiFile.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getVirtualFile":
+                            return virtualFile;
+                        case "getName":
+                            return name;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return path;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
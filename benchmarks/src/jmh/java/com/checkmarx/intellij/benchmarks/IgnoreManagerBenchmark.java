@@ -0,0 +1,59 @@
+package com.checkmarx.intellij.benchmarks;
+
+import com.checkmarx.intellij.devassist.ignore.IgnoreEntry;
+import com.checkmarx.intellij.devassist.ignore.IgnoreFileManager;
+import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
+import com.checkmarx.intellij.devassist.model.Vulnerability;
+import com.intellij.openapi.project.Project;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for matching ASCA vulnerabilities against an ignore file holding {@code size} entries.
+ * Each invocation checks a fixed batch of vulnerabilities, half of which are ignored.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IgnoreManagerBenchmark {
+
+    private static final int LOOKUPS = 1000;
+
+    @Param({"1000", "10000", "100000", "500000"})
+    public int size;
+
+    private IgnoreManager ignoreManager;
+    private List<IgnoreEntry> ignoreEntries;
+    private List<Vulnerability> vulnerabilities;
+    private String filePath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Project project = BenchmarkFixtures.ignoreProject(BenchmarkFixtures.ascaIgnoreEntries(size, "src/Main.java"));
+        ignoreManager = new IgnoreManager(project);
+        ignoreEntries = IgnoreFileManager.getInstance(project).getAllIgnoreEntries();
+        BenchmarkFixtures.requireNonEmpty(ignoreEntries, "ignore entries");
+        filePath = project.getBasePath() + "/src/Main.java";
+
+        vulnerabilities = new ArrayList<>(LOOKUPS);
+        for (int i = 0; i < LOOKUPS; i++) {
+            // Odd lookups point past the last entry so they never match and scan the whole list
+            int index = i % 2 == 0 ? (int) ((long) i * size / LOOKUPS) : size + i;
+            Vulnerability vulnerability = new Vulnerability();
+            vulnerability.setTitle("Rule_" + (index % 90));
+            vulnerability.setProblematicLine("String password = \"secret" + index + "\";");
+            vulnerabilities.add(vulnerability);
+        }
+    }
+
+    @Benchmark
+    public void isAscaVulnerabilityIgnored(Blackhole blackhole) {
+        for (Vulnerability vulnerability : vulnerabilities) {
+            blackhole.consume(ignoreManager.isAscaVulnerabilityIgnored(vulnerability, ignoreEntries, filePath));
+        }
+    }
+}
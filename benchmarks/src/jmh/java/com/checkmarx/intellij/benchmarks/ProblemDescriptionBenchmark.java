@@ -0,0 +1,57 @@
+package com.checkmarx.intellij.benchmarks;
+
+import com.checkmarx.intellij.common.context.PluginContext;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.ui.ProblemDescription;
+import com.intellij.mock.MockApplication;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.util.Disposer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for rendering the HTML problem descriptions shown in inspection tooltips for {@code size} issues
+ * spread over all realtime engines.
+ * <p>
+ * {@link ProblemDescription} looks up the plugin context while loading its icons, so a mock application
+ * providing {@link PluginContext} is installed for the duration of the trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProblemDescriptionBenchmark {
+
+    @Param({"1000", "10000", "100000", "500000"})
+    public int size;
+
+    private Disposable disposable;
+    private ProblemDescription problemDescription;
+    private List<ScanIssue> issues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        disposable = Disposer.newDisposable();
+        MockApplication application = new MockApplication(disposable);
+        application.registerService(PluginContext.class, new PluginContext());
+        ApplicationManager.setApplication(application, disposable);
+
+        problemDescription = new ProblemDescription();
+        issues = BenchmarkFixtures.scanIssues(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Disposer.dispose(disposable);
+    }
+
+    @Benchmark
+    public void formatDescription(Blackhole blackhole) {
+        for (ScanIssue issue : issues) {
+            blackhole.consume(problemDescription.formatDescription(issue));
+        }
+    }
+}
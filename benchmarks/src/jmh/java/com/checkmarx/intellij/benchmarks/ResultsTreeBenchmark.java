@@ -0,0 +1,93 @@
+package com.checkmarx.intellij.benchmarks;
+
+import com.checkmarx.ast.results.Results;
+import com.checkmarx.intellij.ast.project.ProjectResultsService;
+import com.checkmarx.intellij.ast.window.actions.group.by.GroupBy;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeFactory;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeIndex;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode;
+import com.checkmarx.intellij.common.window.actions.filter.Filterable;
+import com.intellij.openapi.project.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks for building the AST results tree and the per-file result index from a full scan.
+ * <p>
+ * {@link ResultsTreeFactory#buildEngineNodes} is the grouping/filtering part of
+ * {@link ResultsTreeFactory#buildResultsTree} without the Swing {@code Tree}, and
+ * {@link ProjectResultsService#buildIndex} is the work done by {@code indexResults} off the EDT.
+ * {@code regroupIndexedByFile} is a regroup or refilter of results already indexed by
+ * {@link ResultsTreeFactory#indexResults}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResultsTreeBenchmark {
+
+    @Param({"1000", "10000", "100000", "500000"})
+    public int size;
+
+    private Results results;
+    private Project project;
+    private Set<Filterable> allFilters;
+    private ResultsTreeIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        results = BenchmarkFixtures.fromJson(BenchmarkFixtures.astResultsJson(size), Results.class);
+        BenchmarkFixtures.requireNonEmpty(results.getResults(), "AST results");
+        project = BenchmarkFixtures.project("/workspace", Collections.emptyMap());
+        allFilters = Stream.concat(Arrays.stream(BenchmarkFixtures.SEVERITIES), Arrays.stream(BenchmarkFixtures.STATES))
+                .map(ResultsTreeBenchmark::filter)
+                .collect(Collectors.toSet());
+        index = ResultsTreeFactory.indexResults(results);
+    }
+
+    @Benchmark
+    public Collection<NonLeafNode> buildEngineNodesDefaultGrouping() {
+        return ResultsTreeFactory.buildEngineNodes("scan-id", results, project,
+                new ArrayList<>(GroupBy.DEFAULT_GROUP_BY), allFilters);
+    }
+
+    @Benchmark
+    public Collection<NonLeafNode> buildEngineNodesGroupedByFile() {
+        return ResultsTreeFactory.buildEngineNodes("scan-id", results, project,
+                new ArrayList<>(List.of(GroupBy.SEVERITY, GroupBy.STATE, GroupBy.FILE)), allFilters);
+    }
+
+    @Benchmark
+    public Collection<NonLeafNode> regroupIndexedByFile() {
+        return ResultsTreeFactory.buildEngineNodes("scan-id", index, project,
+                new ArrayList<>(List.of(GroupBy.SEVERITY, GroupBy.STATE, GroupBy.FILE)), allFilters);
+    }
+
+    @Benchmark
+    public ResultsTreeIndex indexTreeResults() {
+        return ResultsTreeFactory.indexResults(results);
+    }
+
+    @Benchmark
+    public ProjectResultsService.ResultsIndex indexResults() {
+        return ProjectResultsService.buildIndex(results.getResults());
+    }
+
+    private static Filterable filter(String value) {
+        return new Filterable() {
+            @Override
+            public Supplier<String> tooltipSupplier() {
+                return () -> value;
+            }
+
+            @Override
+            public String getFilterValue() {
+                return value;
+            }
+        };
+    }
+}
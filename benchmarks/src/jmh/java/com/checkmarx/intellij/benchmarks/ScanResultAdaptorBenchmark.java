@@ -0,0 +1,91 @@
+package com.checkmarx.intellij.benchmarks;
+
+import com.checkmarx.ast.asca.ScanResult;
+import com.checkmarx.ast.containersrealtime.ContainersRealtimeResults;
+import com.checkmarx.ast.iacrealtime.IacRealtimeResults;
+import com.checkmarx.ast.ossrealtime.OssRealtimeResults;
+import com.checkmarx.ast.secretsrealtime.SecretsRealtimeResults;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.scanners.asca.AscaScanResultAdaptor;
+import com.checkmarx.intellij.devassist.scanners.containers.ContainerScanResultAdaptor;
+import com.checkmarx.intellij.devassist.scanners.iac.IacScanResultAdaptor;
+import com.checkmarx.intellij.devassist.scanners.oss.OssScanResultAdaptor;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsScanResultAdaptor;
+import com.intellij.openapi.project.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for converting realtime CLI results into {@link ScanIssue}s.
+ * <p>
+ * ASCA is measured both with and without ignore filtering, since the filtered path consults the ignore
+ * file for every line group.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScanResultAdaptorBenchmark {
+
+    private static final int IGNORE_ENTRIES = 200;
+
+    @Param({"1000", "10000", "100000", "500000"})
+    public int size;
+
+    private OssRealtimeResults ossResults;
+    private SecretsRealtimeResults secretsResults;
+    private IacRealtimeResults iacResults;
+    private ContainersRealtimeResults containersResults;
+    private ScanResult ascaResults;
+    private Project ignoreProject;
+    private String ascaFilePath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ossResults = BenchmarkFixtures.fromJson(BenchmarkFixtures.ossJson(size), OssRealtimeResults.class);
+        secretsResults = BenchmarkFixtures.fromJson(BenchmarkFixtures.secretsJson(size), SecretsRealtimeResults.class);
+        iacResults = BenchmarkFixtures.fromJson(BenchmarkFixtures.iacJson(size), IacRealtimeResults.class);
+        containersResults = BenchmarkFixtures.fromJson(BenchmarkFixtures.containersJson(size), ContainersRealtimeResults.class);
+        ascaResults = BenchmarkFixtures.fromJson(BenchmarkFixtures.ascaJson(size), ScanResult.class);
+
+        ignoreProject = BenchmarkFixtures.ignoreProject(BenchmarkFixtures.ascaIgnoreEntries(IGNORE_ENTRIES, "src/Main.java"));
+        ascaFilePath = ignoreProject.getBasePath() + "/src/Main.java";
+
+        BenchmarkFixtures.requireNonEmpty(oss(), "OSS issues");
+        BenchmarkFixtures.requireNonEmpty(secrets(), "secrets issues");
+        BenchmarkFixtures.requireNonEmpty(iac(), "IaC issues");
+        BenchmarkFixtures.requireNonEmpty(containers(), "container issues");
+        BenchmarkFixtures.requireNonEmpty(asca(), "ASCA issues");
+    }
+
+    @Benchmark
+    public List<ScanIssue> oss() {
+        return new OssScanResultAdaptor(ossResults, "/workspace/package.json").getIssues();
+    }
+
+    @Benchmark
+    public List<ScanIssue> secrets() {
+        return new SecretsScanResultAdaptor(secretsResults, "/workspace/config.properties").getIssues();
+    }
+
+    @Benchmark
+    public List<ScanIssue> iac() {
+        return new IacScanResultAdaptor(iacResults, "tf", "/workspace/main.tf").getIssues();
+    }
+
+    @Benchmark
+    public List<ScanIssue> containers() {
+        return new ContainerScanResultAdaptor(containersResults, "dockerfile", "/workspace/Dockerfile").getIssues();
+    }
+
+    @Benchmark
+    public List<ScanIssue> asca() {
+        return new AscaScanResultAdaptor(ascaResults, ascaFilePath, ignoreProject, false).getIssues();
+    }
+
+    @Benchmark
+    public List<ScanIssue> ascaWithIgnoreFiltering() {
+        return new AscaScanResultAdaptor(ascaResults, ascaFilePath, ignoreProject, true).getIssues();
+    }
+}
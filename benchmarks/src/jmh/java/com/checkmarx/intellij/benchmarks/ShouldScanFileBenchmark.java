@@ -0,0 +1,77 @@
+package com.checkmarx.intellij.benchmarks;
+
+import com.checkmarx.intellij.devassist.basescanner.ScannerService;
+import com.checkmarx.intellij.devassist.scanners.asca.AscaScannerService;
+import com.checkmarx.intellij.devassist.scanners.containers.ContainerScannerService;
+import com.checkmarx.intellij.devassist.scanners.iac.IacScannerService;
+import com.checkmarx.intellij.devassist.scanners.oss.OssScannerService;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsScannerService;
+import com.intellij.psi.PsiFile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the per-engine {@code shouldScanFile} predicates, evaluated over a synthetic workspace of
+ * {@code size} files. These run for every file the inspection visits, so their cost scales with project size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ShouldScanFileBenchmark {
+
+    @Param({"1000", "10000", "100000", "500000"})
+    public int size;
+
+    private List<String> paths;
+    private List<PsiFile> psiFiles;
+
+    private final OssScannerService oss = new OssScannerService();
+    private final SecretsScannerService secrets = new SecretsScannerService();
+    private final IacScannerService iac = new IacScannerService();
+    private final ContainerScannerService containers = new ContainerScannerService();
+    private final AscaScannerService asca = new AscaScannerService();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        paths = BenchmarkFixtures.filePaths(size);
+        psiFiles = new ArrayList<>(size);
+        for (String path : paths) {
+            psiFiles.add(BenchmarkFixtures.psiFile(path));
+        }
+    }
+
+    @Benchmark
+    public void oss(Blackhole blackhole) {
+        evaluate(oss, blackhole);
+    }
+
+    @Benchmark
+    public void secrets(Blackhole blackhole) {
+        evaluate(secrets, blackhole);
+    }
+
+    @Benchmark
+    public void iac(Blackhole blackhole) {
+        evaluate(iac, blackhole);
+    }
+
+    @Benchmark
+    public void containers(Blackhole blackhole) {
+        evaluate(containers, blackhole);
+    }
+
+    @Benchmark
+    public void asca(Blackhole blackhole) {
+        evaluate(asca, blackhole);
+    }
+
+    private void evaluate(ScannerService<?> scanner, Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(scanner.shouldScanFile(paths.get(i), psiFiles.get(i)));
+        }
+    }
+}
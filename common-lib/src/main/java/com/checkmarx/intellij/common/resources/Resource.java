@@ -121,6 +121,10 @@ public enum Resource {
     CXONE_ASSIST_MCP_DISABLED_MESSAGE,
     SECRETS_REALTIME_TITLE,
     SECRETS_REALTIME_CHECKBOX,
+    SECRETS_SWEEP_ON_STARTUP_CHECKBOX,
+    SECRETS_CHUNK_THRESHOLD_LABEL,
+    SECRETS_SAVE_ONLY_THRESHOLD_LABEL,
+    CONTAINERS_IMAGE_CACHE_TTL_LABEL,
     CONTAINERS_REALTIME_TITLE,
     CONTAINERS_REALTIME_CHECKBOX,
     IAC_REALTIME_TITLE,
@@ -211,5 +215,57 @@ public enum Resource {
     DEVASSIST_PLUGIN_REALTIME_SCANNERS_IAC_PREFIX,
     DEVASSIST_PLUGIN_WELCOME_TITLE,
     DEVASSIST_PLUGIN_WELCOME_SUBTITLE,
-    DEVASSIST_PLUGIN_WELCOME_CHECK_TITLE
+    DEVASSIST_PLUGIN_WELCOME_CHECK_TITLE,
+    DIAGNOSTICS_REFRESH,
+    DIAGNOSTICS_RESET,
+    DIAGNOSTICS_EXPORT,
+    DIAGNOSTICS_TRACE_RECORD,
+    DIAGNOSTICS_TRACE_EXPORT,
+    DIAGNOSTICS_TRACE_WINDOW_TITLE,
+    DIAGNOSTICS_TRACE_WINDOW_MESSAGE,
+    DIAGNOSTICS_TRACE_EXPORT_TITLE,
+    DIAGNOSTICS_TRACE_EXPORT_DESCRIPTION,
+    DIAGNOSTICS_TRACE_EXPORT_SUCCESS,
+    DIAGNOSTICS_TRACE_EXPORT_FAILED,
+    DIAGNOSTICS_EXPORT_TITLE,
+    DIAGNOSTICS_EXPORT_DESCRIPTION,
+    DIAGNOSTICS_EXPORT_SUCCESS,
+    DIAGNOSTICS_EXPORT_FAILED,
+    DIAGNOSTICS_SUMMARY,
+    DIAGNOSTICS_COLUMN_ENGINE,
+    DIAGNOSTICS_COLUMN_STAGE,
+    DIAGNOSTICS_COLUMN_COUNT,
+    DIAGNOSTICS_COLUMN_MEAN,
+    DIAGNOSTICS_COLUMN_P50,
+    DIAGNOSTICS_COLUMN_P90,
+    DIAGNOSTICS_COLUMN_P99,
+    DIAGNOSTICS_COLUMN_MAX,
+    SECRETS_SWEEP_ACTION,
+    SECRETS_SWEEP_ACTION_DESCRIPTION,
+    SECRETS_SWEEP_TITLE,
+    SECRETS_SWEEP_COLLECTING,
+    SECRETS_SWEEP_PROGRESS,
+    INFRA_SWEEP_ACTION,
+    INFRA_SWEEP_ACTION_DESCRIPTION,
+    INFRA_SWEEP_TITLE,
+    INFRA_SWEEP_COLLECTING,
+    INFRA_SWEEP_PROGRESS,
+    CHANGED_FILES_SCAN_ACTION,
+    CHANGED_FILES_SCAN_ACTION_DESCRIPTION,
+    CHANGED_FILES_SCAN_CHOOSE_BASE,
+    CHANGED_FILES_SCAN_TITLE,
+    CHANGED_FILES_SCAN_COLLECTING,
+    CHANGED_FILES_SCAN_PROGRESS,
+    CHANGED_FILES_BASE_BRANCH,
+    CHANGED_FILES_BASE_STAGED,
+    CHANGED_FILES_BASE_WORKING_TREE,
+    PRE_COMMIT_SCAN_TITLE,
+    PRE_COMMIT_SCAN_OPTION,
+    PRE_COMMIT_DIALOG_TITLE,
+    PRE_COMMIT_ISSUES_FOUND,
+    PRE_COMMIT_NO_ISSUES,
+    PRE_COMMIT_PARTIAL,
+    PRE_COMMIT_COMMIT_ANYWAY,
+    PRE_COMMIT_REVIEW,
+    RESULTS_TREE_LOAD_MORE
 }
\ No newline at end of file
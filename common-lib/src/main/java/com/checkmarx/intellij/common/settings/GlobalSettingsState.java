@@ -99,6 +99,11 @@ public class GlobalSettingsState implements PersistentStateComponent<GlobalSetti
     private boolean containersRealtime = false;
     private boolean iacRealtime = false;
     private String containersTool = "docker";
+    private boolean secretsSweepOnStartup = false;
+    private boolean scanBeforeCommit = true;
+    private int secretsChunkThresholdKb = 1024;
+    private int secretsSaveOnlyThresholdKb = 10 * 1024;
+    private int containersImageCacheTtlMinutes = 60;
     @Attribute("mcpEnabled")
     private boolean mcpEnabled = false;
     @Attribute("mcpStatusChecked")
@@ -16,10 +16,34 @@ import java.io.IOException;
  */
 public class CxWrapperFactory {
 
+    /**
+     * Supplies wrapper instances in place of the configured CLI.
+     */
+    @FunctionalInterface
+    public interface WrapperProvider {
+        CxWrapper build() throws CxException, IOException;
+    }
+
+    private static volatile WrapperProvider wrapperProvider;
+
     public static CxWrapper build() throws CxException, IOException {
+        WrapperProvider provider = wrapperProvider;
+        if (provider != null) {
+            return provider.build();
+        }
         return build(GlobalSettingsState.getInstance(), GlobalSettingsSensitiveState.getInstance());
     }
 
+    /**
+     * Replaces the wrapper returned by {@link #build()}, e.g. with a fake CLI for offline load tests.
+     * Pass {@code null} to go back to building wrappers from the current settings.
+     *
+     * @param provider provider to use, or {@code null} to restore the default behaviour
+     */
+    public static void setWrapperProvider(WrapperProvider provider) {
+        wrapperProvider = provider;
+    }
+
     public static CxWrapper build(GlobalSettingsState state, GlobalSettingsSensitiveState sensitiveState)
             throws CxException, IOException {
         final CxConfig.CxConfigBuilder builder = CxConfig.builder();
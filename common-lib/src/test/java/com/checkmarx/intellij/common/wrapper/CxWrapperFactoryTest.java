@@ -102,6 +102,16 @@ class CxWrapperFactoryTest {
         if (mockedPluginVersionProvider != null) {
             mockedPluginVersionProvider.close();
         }
+        CxWrapperFactory.setWrapperProvider(null);
+    }
+
+    @Test
+    void testBuild_WithWrapperProvider_ReturnsProvidedWrapperWithoutReadingSettings() throws CxException, IOException {
+        CxWrapperFactory.setWrapperProvider(() -> mockCxWrapper);
+
+        assertSame(mockCxWrapper, CxWrapperFactory.build());
+        mockedGlobalSettingsState.verify(GlobalSettingsState::getInstance, never());
+        verify(mockCxConfigBuilder, never()).build();
     }
 
     @Test
@@ -1,8 +1,15 @@
 package com.checkmarx.intellij.devassist.basescanner;
 
+import com.checkmarx.ast.wrapper.CxException;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.devassist.common.ScanResult;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
 import com.checkmarx.intellij.devassist.configuration.ScannerConfig;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.psi.PsiFile;
 import lombok.Getter;
@@ -12,7 +19,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 /**
@@ -112,4 +127,113 @@ public class BaseScannerService<T> implements ScannerService<T> {
             LOGGER.warn("Failed to delete temporary folder:" + tempFolder);
         }
     }
+
+    /**
+     * Scans a group of related files, e.g. one directory or one Helm chart, with a single CLI invocation.
+     * <p>
+     * The files are written below a fresh scratch directory at their path relative to {@code groupRoot}, inside a
+     * folder named like the group root, so the CLI sees the same layout as in the project. A group holding a single
+     * file is scanned as that file. If the CLI rejects a multi-file group, its files are scanned one by one instead.
+     *
+     * @param engine        the scanned engine, used for metrics and the circuit breaker
+     * @param baseDir       name of the engine temp folder under {@code java.io.tmpdir}
+     * @param groupRoot     directory all files of the group are located in
+     * @param contentByPath file content keyed by the original file path
+     * @param groupScanner  runs the CLI on the scan source and adapts its results
+     * @return issues keyed by original file path; files without issues map to an empty list and files that could
+     * not be scanned are absent
+     */
+    protected Map<String, List<ScanIssue>> scanGroup(@NotNull ScanEngine engine, @NotNull String baseDir, @NotNull String groupRoot,
+                                                     @NotNull Map<String, String> contentByPath, @NotNull GroupScanner groupScanner) {
+        Map<String, List<ScanIssue>> issuesByFile = new LinkedHashMap<>();
+        if (contentByPath.isEmpty()) {
+            return issuesByFile;
+        }
+        Path scratchDir = Paths.get(getTempSubFolderPath(baseDir), "sweep-" + UUID.randomUUID());
+        Path rootPath = Paths.get(groupRoot);
+        Path groupDir = scratchDir.resolve(Objects.isNull(rootPath.getFileName()) ? "root" : rootPath.getFileName().toString());
+        boolean fallbackToSingleFiles = false;
+        try {
+            long ioStart = System.nanoTime();
+            Map<String, String> originalPathByTempPath = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : contentByPath.entrySet()) {
+                if (Objects.isNull(entry.getValue()) || entry.getValue().isBlank()) {
+                    continue;
+                }
+                Path tempFilePath = groupDir.resolve(rootPath.relativize(Paths.get(entry.getKey())).toString()).normalize();
+                if (!tempFilePath.startsWith(groupDir)) {
+                    continue;
+                }
+                Files.createDirectories(tempFilePath.getParent());
+                ScanTempFileWriter.write(engine, entry.getValue(), tempFilePath);
+                originalPathByTempPath.put(tempFilePath.toAbsolutePath().normalize().toString(), entry.getKey());
+            }
+            ScanMetrics.recordStage(engine, ScanStage.TEMP_FILE_IO, ioStart);
+            if (originalPathByTempPath.isEmpty()) {
+                return issuesByFile;
+            }
+            String scanSource = originalPathByTempPath.size() == 1
+                    ? originalPathByTempPath.keySet().iterator().next() : groupDir.toString();
+            UnaryOperator<String> originalPathResolver = reportedPath -> {
+                if (originalPathByTempPath.size() == 1) {
+                    return originalPathByTempPath.values().iterator().next();
+                }
+                if (Objects.isNull(reportedPath) || reportedPath.isBlank()) {
+                    return null;
+                }
+                Path tempPath = Paths.get(reportedPath);
+                return originalPathByTempPath.get((tempPath.isAbsolute() ? tempPath : groupDir.resolve(tempPath))
+                        .toAbsolutePath().normalize().toString());
+            };
+
+            long cliStart = System.nanoTime();
+            ScanMetrics.recordCliSpawn(engine);
+            List<ScanIssue> scanIssues = groupScanner.scan(scanSource, originalPathResolver);
+            ScanMetrics.recordStage(engine, ScanStage.CLI_EXECUTION, cliStart);
+            ScannerCircuitBreaker.success(engine);
+
+            originalPathByTempPath.values().forEach(originalPath -> issuesByFile.put(originalPath, new ArrayList<>()));
+            for (ScanIssue scanIssue : scanIssues) {
+                List<ScanIssue> fileIssues = issuesByFile.get(scanIssue.getFilePath());
+                if (Objects.nonNull(fileIssues)) {
+                    fileIssues.add(scanIssue);
+                }
+            }
+        } catch (CxException e) {
+            ScannerCircuitBreaker.failure(engine, e);
+            fallbackToSingleFiles = contentByPath.size() > 1;
+            LOGGER.debug(engine.name() + ": group scan error for " + groupRoot, e);
+        } catch (IOException | InterruptedException e) {
+            ScannerCircuitBreaker.failure(engine, e);
+            LOGGER.debug(engine.name() + ": group scan error for " + groupRoot, e);
+        } finally {
+            deleteTempFolder(scratchDir);
+        }
+        if (fallbackToSingleFiles) {
+            LOGGER.debug(engine.name() + ": group rejected by the CLI, scanning " + contentByPath.size() + " file(s) one by one");
+            for (Map.Entry<String, String> entry : contentByPath.entrySet()) {
+                if (ScannerCircuitBreaker.forEngine(engine).getStatus().getState() == ScannerCircuitBreaker.State.OPEN) {
+                    break;
+                }
+                issuesByFile.putAll(scanGroup(engine, baseDir, groupRoot,
+                        Collections.singletonMap(entry.getKey(), entry.getValue()), groupScanner));
+            }
+        }
+        return issuesByFile;
+    }
+
+    /**
+     * Runs the CLI on the scan source of a {@link #scanGroup group scan} and adapts the results.
+     */
+    @FunctionalInterface
+    protected interface GroupScanner {
+        /**
+         * @param scanSource           the temp file or directory to pass to the CLI
+         * @param originalPathResolver maps a file path reported by the CLI to the original file path, or to
+         *                             {@code null} if the path is unknown
+         * @return the adapted issues, each carrying its original file path
+         */
+        List<ScanIssue> scan(String scanSource, UnaryOperator<String> originalPathResolver)
+                throws IOException, CxException, InterruptedException;
+    }
 }
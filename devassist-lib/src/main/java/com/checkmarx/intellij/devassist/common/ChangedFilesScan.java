@@ -0,0 +1,423 @@
+package com.checkmarx.intellij.devassist.common;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.basescanner.ScannerService;
+import com.checkmarx.intellij.devassist.inspection.ScanLoadGovernor;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
+import com.checkmarx.intellij.devassist.scanners.containers.ContainerScannerService;
+import com.checkmarx.intellij.devassist.scanners.iac.IacScannerService;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsScannerService;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsSweep;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.newvfs.RefreshQueue;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Scan of the files changed against a git base ({@link GitChangedFiles.Base}) with all realtime engines.
+ * <p>
+ * The changed files are classified through each engine's {@link ScannerService#shouldScanFile} and packed into
+ * batches per engine: secrets files into multi-file CLI calls ({@link SecretsScannerService#scanBatch}), IaC and
+ * container files into directory groups ({@link InfraSweep#groupByDirectory}), and manifests and ASCA sources one
+ * file per batch. The batches run on a small bounded pool, each holding a slot of the application-wide realtime
+ * scan limit ({@link ScanLoadGovernor#acquireScanSlot}) while its CLI runs, and the findings of all engines are
+ * published to {@link ProblemHolderService} in one update once the scan finishes or is cancelled.
+ * <p>
+ * Files whose content was already scanned by an engine, in any open project, reuse the issues of the
+ * {@link SharedScanResultCache} instead of being batched. The scan can also run synchronously within a time
+ * budget ({@link #scanFiles}), e.g. before a commit, returning whatever completed in time.
+ */
+public final class ChangedFilesScan {
+
+    private static final Logger LOGGER = Utils.getLogger(ChangedFilesScan.class);
+
+    public static final long MAX_FILE_BYTES = 1024L * 1024;
+    /**
+     * The realtime engines a changed files scan runs, when enabled.
+     */
+    public static final List<ScanEngine> ENGINES = List.of(ScanEngine.OSS, ScanEngine.SECRETS, ScanEngine.CONTAINERS,
+            ScanEngine.IAC, ScanEngine.ASCA);
+    private static final int MAX_WORKERS = 4;
+
+    // Projects with a changed files scan in progress, so repeated triggers do not stack up
+    private static final Set<Project> RUNNING_SCANS = ConcurrentHashMap.newKeySet();
+
+    private final Project project;
+    private final int workers;
+    // Whether batches take a slot of the application-wide realtime scan limit
+    private final boolean throttled;
+    private final ScannerFactory scannerFactory = new ScannerFactory();
+    private final ScanManager scanManager = new ScanManager();
+    private final SecretsScannerService secretsScannerService = new SecretsScannerService();
+    private final IacScannerService iacScannerService = new IacScannerService();
+    private final ContainerScannerService containerScannerService = new ContainerScannerService();
+
+    private ChangedFilesScan(@NotNull Project project, int workers, boolean throttled) {
+        this.project = project;
+        this.workers = workers;
+        this.throttled = throttled;
+    }
+
+    /**
+     * Starts a scan of the files changed against the base in the background, unless one is already running for
+     * the project.
+     *
+     * @param project - The IntelliJ Project instance
+     * @param base    what the files are compared with
+     */
+    public static void start(@NotNull Project project, @NotNull GitChangedFiles.Base base) {
+        if (!RUNNING_SCANS.add(project)) {
+            LOGGER.info(format("RTS: Changed files scan already running for project: %s", project.getName()));
+            return;
+        }
+        new Task.Backgroundable(project, Bundle.message(Resource.CHANGED_FILES_SCAN_TITLE), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                indicator.setIndeterminate(true);
+                indicator.setText(Bundle.message(Resource.CHANGED_FILES_SCAN_COLLECTING));
+                List<String> filePaths = GitChangedFiles.collect(project, base, indicator);
+                LOGGER.info(format("RTS: Changed files scan against %s found %d changed file(s).", base, filePaths.size()));
+                Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine = new EnumMap<>(ScanEngine.class);
+                try {
+                    new ChangedFilesScan(project, defaultWorkers(), true).scan(filePaths, indicator, issuesByEngine, Long.MAX_VALUE);
+                } finally {
+                    // Publish whatever was scanned, also when cancelled, in a single update
+                    if (!project.isDisposed()) {
+                        ProblemHolderService.getInstance(project).replaceScanIssues(issuesByEngine);
+                    }
+                }
+            }
+
+            @Override
+            public void onFinished() {
+                RUNNING_SCANS.remove(project);
+            }
+        }.queue();
+    }
+
+    /**
+     * Returns whether a changed files scan of the given project is in progress.
+     */
+    public static boolean isRunning(@NotNull Project project) {
+        return RUNNING_SCANS.contains(project);
+    }
+
+    /**
+     * Scans the files synchronously with every active engine accepting them, without publishing the issues. Once
+     * the time budget is spent, the batches still running are cancelled and the issues of the completed ones are
+     * returned.
+     *
+     * @param project          - The IntelliJ Project instance
+     * @param filePaths        the files to scan
+     * @param indicator        progress of the caller; cancellation stops the scan
+     * @param timeBudgetMillis the time the scan may take, {@code 0} for no limit
+     * @return the issues of the scanned files and whether every file was scanned
+     */
+    public static Outcome scanFiles(@NotNull Project project, @NotNull List<String> filePaths, @NotNull ProgressIndicator indicator,
+                                    long timeBudgetMillis) {
+        return scanFiles(project, filePaths, indicator, timeBudgetMillis, defaultWorkers(), true);
+    }
+
+    /**
+     * Same as {@link #scanFiles(Project, List, ProgressIndicator, long)}, running the batches on the given number
+     * of workers.
+     *
+     * @param workers   number of batches scanned in parallel, at least one
+     * @param throttled whether the batches share the application-wide realtime scan limit with the editor scans;
+     *                  unthrottled scans are meant for runs without an editor, such as {@code cx-devassist-scan}
+     */
+    public static Outcome scanFiles(@NotNull Project project, @NotNull List<String> filePaths, @NotNull ProgressIndicator indicator,
+                                    long timeBudgetMillis, int workers, boolean throttled) {
+        long deadlineNanos = timeBudgetMillis <= 0 ? Long.MAX_VALUE : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine = new EnumMap<>(ScanEngine.class);
+        boolean complete = new ChangedFilesScan(project, Math.max(1, workers), throttled).scan(filePaths, indicator, issuesByEngine, deadlineNanos);
+        // Batches cancelled at the deadline may still report late, the outcome only holds what completed in time
+        Map<ScanEngine, Map<String, List<ScanIssue>>> completedIssues = new EnumMap<>(ScanEngine.class);
+        issuesByEngine.forEach((engine, issuesByFile) -> completedIssues.put(engine, new LinkedHashMap<>(issuesByFile)));
+        return new Outcome(completedIssues, complete);
+    }
+
+    /**
+     * Splits the files of every engine into the batches they are scanned in: secrets files into batches of
+     * {@link SecretsSweep#MAX_FILES_PER_BATCH} files and {@link SecretsSweep#MAX_BATCH_BYTES} bytes, IaC and
+     * container files into directory groups, and the files of the other engines into single file batches.
+     *
+     * @param filesByEngine the files every engine accepts
+     * @param sizeByPath    file size in bytes
+     * @return the batches, ordered by engine
+     */
+    public static List<Batch> plan(@NotNull Map<ScanEngine, List<String>> filesByEngine, @NotNull Map<String, Long> sizeByPath) {
+        List<Batch> batches = new ArrayList<>();
+        filesByEngine.forEach((engine, filePaths) -> {
+            switch (engine) {
+                case SECRETS:
+                    SecretsSweep.partition(filePaths, filePath -> sizeByPath.getOrDefault(filePath, 0L),
+                                    SecretsSweep.MAX_FILES_PER_BATCH, SecretsSweep.MAX_BATCH_BYTES)
+                            .forEach(batch -> batches.add(new Batch(engine, batch)));
+                    break;
+                case IAC:
+                case CONTAINERS:
+                    InfraSweep.groupByDirectory(filePaths).values()
+                            .forEach(group -> batches.add(new Batch(engine, group)));
+                    break;
+                default:
+                    filePaths.forEach(filePath -> batches.add(new Batch(engine, List.of(filePath))));
+            }
+        });
+        return batches;
+    }
+
+    /**
+     * Scans the files with every active engine accepting them, adding the issues of each scanned batch to
+     * {@code issuesByEngine} as soon as it completes.
+     *
+     * @return whether every batch completed before the deadline
+     */
+    private boolean scan(@NotNull List<String> filePaths, @NotNull ProgressIndicator indicator,
+                         @NotNull Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine, long deadlineNanos) {
+        long start = System.nanoTime();
+        Map<String, Long> sizeByPath = new LinkedHashMap<>();
+        Map<ScanEngine, List<String>> filesByEngine = new EnumMap<>(ScanEngine.class);
+        boolean classified = classify(filePaths, filesByEngine, sizeByPath, issuesByEngine, indicator, deadlineNanos);
+        if (!classified) {
+            LOGGER.info(format("RTS: Changed files scan ran out of time classifying %d file(s), scanning %d of them.",
+                    filePaths.size(), sizeByPath.size()));
+        }
+        List<Batch> batches = plan(filesByEngine, sizeByPath);
+        LOGGER.info(format("RTS: Changed files scan started for %d file(s) in %d batch(es), %d cached file scan(s) reused.",
+                sizeByPath.size(), batches.size(), issuesByEngine.values().stream().mapToInt(Map::size).sum()));
+
+        AtomicInteger scannedBatches = new AtomicInteger();
+        indicator.setIndeterminate(false);
+        indicator.setFraction(0.0);
+        ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("CxChangedFilesScan", workers);
+        List<Future<?>> futures = new ArrayList<>();
+        boolean complete;
+        try {
+            for (Batch batch : batches) {
+                futures.add(executor.submit(() -> {
+                    if (indicator.isCanceled()) {
+                        return null;
+                    }
+                    scanBatch(batch, indicator, issuesByEngine.get(batch.getEngine()));
+                    int done = scannedBatches.incrementAndGet();
+                    indicator.setFraction((double) done / batches.size());
+                    indicator.setText(Bundle.message(Resource.CHANGED_FILES_SCAN_PROGRESS, done, batches.size()));
+                    return null;
+                }));
+            }
+            complete = SweepUtils.awaitAll(futures, indicator, deadlineNanos, "RTS: Changed files scan batch failed.");
+            if (!complete) {
+                futures.forEach(future -> future.cancel(true));
+                LOGGER.info(format("RTS: Changed files scan ran out of time after %d of %d batch(es).", scannedBatches.get(), batches.size()));
+            }
+        } catch (ProcessCanceledException e) {
+            futures.forEach(future -> future.cancel(true));
+            LOGGER.info(format("RTS: Changed files scan cancelled after %d of %d batch(es).", scannedBatches.get(), batches.size()));
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.info(format("RTS: Changed files scan scanned %d batch(es) in %d ms.",
+                scannedBatches.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        return classified && complete;
+    }
+
+    /**
+     * Groups the files by the active engines accepting them into {@code filesByEngine}; files that are missing,
+     * binary or larger than {@link #MAX_FILE_BYTES} are left out. Files with cached issues for an engine get them
+     * added to {@code issuesByEngine} right away instead. Once the deadline passes, the files classified so far
+     * are kept and the others are left out.
+     *
+     * @return whether every file was classified before the deadline
+     */
+    private boolean classify(@NotNull List<String> filePaths, @NotNull Map<ScanEngine, List<String>> filesByEngine,
+                             @NotNull Map<String, Long> sizeByPath,
+                             @NotNull Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine,
+                             @NotNull ProgressIndicator indicator, long deadlineNanos) {
+        List<ScanEngine> activeEngines = getActiveEngines();
+        activeEngines.forEach(engine -> issuesByEngine.put(engine, new ConcurrentHashMap<>()));
+        if (activeEngines.isEmpty()) {
+            LOGGER.debug("RTS: No realtime scanner is active, skipping changed files scan.");
+            return true;
+        }
+        refresh(filePaths);
+        for (String filePath : filePaths) {
+            indicator.checkCanceled();
+            if (deadlineNanos != Long.MAX_VALUE && System.nanoTime() - deadlineNanos >= 0) {
+                return false;
+            }
+            VirtualFile file = LocalFileSystem.getInstance().findFileByPath(filePath);
+            if (Objects.isNull(file)) {
+                continue;
+            }
+            ReadAction.run(() -> {
+                if (file.isDirectory() || !file.isValid() || file.getFileType().isBinary() || file.getLength() > MAX_FILE_BYTES) {
+                    return;
+                }
+                PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+                if (Objects.isNull(psiFile)) {
+                    return;
+                }
+                for (ScannerService<?> scannerService : scannerFactory.getAllSupportedScanners(file.getPath(), psiFile)) {
+                    ScanEngine engine = ScanManager.toScanEngine(scannerService);
+                    if (!activeEngines.contains(engine)) {
+                        continue;
+                    }
+                    List<ScanIssue> cachedIssues = SharedScanResultCache.getInstance()
+                            .getIfPresent(SharedScanResultCache.cacheKey(engine, psiFile, file.getPath()), file.getPath());
+                    if (Objects.nonNull(cachedIssues)) {
+                        issuesByEngine.get(engine).put(file.getPath(), cachedIssues);
+                        continue;
+                    }
+                    filesByEngine.computeIfAbsent(engine, key -> new ArrayList<>()).add(file.getPath());
+                    sizeByPath.put(file.getPath(), file.getLength());
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Files changed or created outside the IDE, e.g. by a checkout, may not be known to the VFS yet. Refreshes the
+     * known files and, for unknown ones, their closest known directory in a single synchronous refresh session.
+     */
+    private static void refresh(@NotNull List<String> filePaths) {
+        LocalFileSystem fileSystem = LocalFileSystem.getInstance();
+        Set<VirtualFile> filesToRefresh = new LinkedHashSet<>();
+        for (String filePath : filePaths) {
+            Path path = Paths.get(filePath);
+            VirtualFile file = null;
+            while (Objects.nonNull(path) && Objects.isNull(file = fileSystem.findFileByPath(path.toString()))) {
+                path = path.getParent();
+            }
+            if (Objects.nonNull(file)) {
+                filesToRefresh.add(file);
+            }
+        }
+        if (!filesToRefresh.isEmpty()) {
+            RefreshQueue.getInstance().refresh(false, false, null, filesToRefresh);
+        }
+    }
+
+    /**
+     * Scans one batch, holding a realtime scan slot while throttled.
+     */
+    private void scanBatch(@NotNull Batch batch, @NotNull ProgressIndicator indicator, @NotNull Map<String, List<ScanIssue>> issuesByFile)
+            throws InterruptedException {
+        if (throttled) {
+            ScanLoadGovernor.acquireScanSlot(indicator);
+        }
+        try {
+            switch (batch.getEngine()) {
+                case SECRETS:
+                    issuesByFile.putAll(secretsScannerService.scanBatch(project, SweepUtils.readContents(batch.getFilePaths())));
+                    break;
+                case IAC:
+                    issuesByFile.putAll(iacScannerService.scanGroup(project,
+                            InfraSweep.groupRoot(batch.getFilePaths().get(0)), SweepUtils.readContents(batch.getFilePaths())));
+                    break;
+                case CONTAINERS:
+                    issuesByFile.putAll(containerScannerService.scanGroup(project,
+                            InfraSweep.groupRoot(batch.getFilePaths().get(0)), SweepUtils.readContents(batch.getFilePaths())));
+                    break;
+                default:
+                    for (String filePath : batch.getFilePaths()) {
+                        PsiFile psiFile = ReadAction.compute(() -> findPsiFile(filePath));
+                        if (Objects.nonNull(psiFile)) {
+                            issuesByFile.put(filePath, scanManager.scanFile(filePath, psiFile, batch.getEngine()));
+                        }
+                    }
+            }
+        } finally {
+            if (throttled) {
+                ScanLoadGovernor.releaseScanSlot();
+            }
+        }
+    }
+
+    private PsiFile findPsiFile(@NotNull String filePath) {
+        VirtualFile file = LocalFileSystem.getInstance().findFileByPath(filePath);
+        return Objects.isNull(file) || !file.isValid() ? null : PsiManager.getInstance(project).findFile(file);
+    }
+
+    /**
+     * Number of batches scanned in parallel by default: half the processors, at most {@value #MAX_WORKERS}.
+     */
+    public static int defaultWorkers() {
+        return Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Whether any of the {@link #ENGINES} is enabled in the settings.
+     */
+    public static boolean hasEnabledEngine() {
+        return ENGINES.stream().anyMatch(engine -> DevAssistUtils.isScannerActive(engine.name()));
+    }
+
+    private static List<ScanEngine> getActiveEngines() {
+        return ENGINES.stream()
+                .filter(engine -> DevAssistUtils.isScannerActive(engine.name()))
+                .filter(engine -> ScannerCircuitBreaker.forEngine(engine).getStatus().getState() != ScannerCircuitBreaker.State.OPEN)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The issues of a synchronous scan, see {@link #scanFiles}.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Outcome {
+        /**
+         * Issues per engine and file path; files that were not scanned in time are absent.
+         */
+        private final Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine;
+        private final boolean complete;
+    }
+
+    /**
+     * Files of one engine that are scanned together.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Batch {
+        private final ScanEngine engine;
+        private final List<String> filePaths;
+    }
+}
@@ -0,0 +1,176 @@
+package com.checkmarx.intellij.devassist.common;
+
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.configurations.GeneralCommandLine;
+import com.intellij.execution.process.CapturingProcessHandler;
+import com.intellij.execution.process.ProcessOutput;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vcs.FilePath;
+import com.intellij.openapi.vcs.ProjectLevelVcsManager;
+import com.intellij.openapi.vcs.VcsRoot;
+import com.intellij.openapi.vcs.changes.ChangeListManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Lists the files of a project that changed against a chosen base, see {@link Base}.
+ * <p>
+ * Uncommitted changes come from the IDE's change list manager. Staged changes and the changes of the current
+ * branch are asked from git for every git root of the project, by running the {@code git} executable found on the
+ * {@code PATH}; the plugin does not depend on the IDE's Git integration, so a git executable configured only in the
+ * IDE settings is not used. Deleted files are not listed.
+ */
+public final class GitChangedFiles {
+
+    private static final Logger LOGGER = Utils.getLogger(GitChangedFiles.class);
+
+    private static final String GIT_VCS_NAME = "Git";
+    private static final int GIT_TIMEOUT_MS = 30_000;
+    // Branches the current branch is compared with, the first one that exists wins
+    private static final List<String> BASE_BRANCHES = List.of("origin/main", "main", "origin/master", "master");
+
+    private GitChangedFiles() {
+        throw new IllegalStateException("Can't instantiate GitChangedFiles class");
+    }
+
+    /**
+     * What the changed files are compared with.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Base {
+        /**
+         * Committed and uncommitted changes since the merge-base of {@code HEAD} and the main branch, and new
+         * untracked files.
+         */
+        BRANCH(Resource.CHANGED_FILES_BASE_BRANCH),
+        /**
+         * Changes staged for the next commit.
+         */
+        STAGED(Resource.CHANGED_FILES_BASE_STAGED),
+        /**
+         * Uncommitted changes of the working tree, including unversioned files.
+         */
+        WORKING_TREE(Resource.CHANGED_FILES_BASE_WORKING_TREE);
+
+        private final Resource label;
+    }
+
+    /**
+     * Lists the absolute paths of the files that changed against the base.
+     *
+     * @param project   the project
+     * @param base      what the files are compared with
+     * @param indicator progress of the caller; cancellation stops the git commands
+     * @return the changed files, sorted by path, without duplicates
+     */
+    public static List<String> collect(@NotNull Project project, @NotNull Base base, @NotNull ProgressIndicator indicator) {
+        Set<String> filePaths = new LinkedHashSet<>();
+        if (base == Base.WORKING_TREE) {
+            ChangeListManager changeListManager = ChangeListManager.getInstance(project);
+            changeListManager.getAffectedFiles().stream().map(VirtualFile::getPath).forEach(filePaths::add);
+            changeListManager.getUnversionedFilesPaths().stream().map(FilePath::getPath).forEach(filePaths::add);
+        } else {
+            for (String rootPath : getGitRoots(project)) {
+                indicator.checkCanceled();
+                filePaths.addAll(base == Base.STAGED
+                        ? collectStaged(rootPath, indicator)
+                        : collectBranch(rootPath, indicator));
+            }
+        }
+        return filePaths.stream().sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * Resolves the {@code git diff --name-only -z} style output of a root to absolute paths.
+     *
+     * @param output   NUL separated paths relative to the root
+     * @param rootPath the root directory
+     * @return the absolute paths, in output order
+     */
+    public static List<String> parseNameOnly(@NotNull String output, @NotNull String rootPath) {
+        String root = rootPath.endsWith("/") ? rootPath : rootPath + "/";
+        return Arrays.stream(output.split("\0"))
+                .map(String::strip)
+                .filter(relativePath -> !relativePath.isEmpty())
+                .map(relativePath -> root + relativePath)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getGitRoots(@NotNull Project project) {
+        return Arrays.stream(ProjectLevelVcsManager.getInstance(project).getAllVcsRoots())
+                .filter(root -> Objects.nonNull(root.getVcs()) && GIT_VCS_NAME.equals(root.getVcs().getName()))
+                .map(VcsRoot::getPath)
+                .map(VirtualFile::getPath)
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> collectStaged(String rootPath, ProgressIndicator indicator) {
+        String output = git(rootPath, indicator, "diff", "--cached", "--name-only", "-z", "--diff-filter=d");
+        return Objects.isNull(output) ? List.of() : parseNameOnly(output, rootPath);
+    }
+
+    private static List<String> collectBranch(String rootPath, ProgressIndicator indicator) {
+        String mergeBase = null;
+        for (String branch : BASE_BRANCHES) {
+            if (Objects.nonNull(git(rootPath, indicator, "rev-parse", "--verify", "--quiet", branch))) {
+                mergeBase = git(rootPath, indicator, "merge-base", "HEAD", branch);
+                break;
+            }
+        }
+        if (Objects.isNull(mergeBase) || mergeBase.isBlank()) {
+            LOGGER.info(format("RTS: No main branch found for git root %s, skipping its branch changes.", rootPath));
+            return List.of();
+        }
+        List<String> filePaths = new ArrayList<>();
+        String changed = git(rootPath, indicator, "diff", "--name-only", "-z", "--diff-filter=d", mergeBase.strip());
+        if (Objects.nonNull(changed)) {
+            filePaths.addAll(parseNameOnly(changed, rootPath));
+        }
+        String untracked = git(rootPath, indicator, "ls-files", "--others", "--exclude-standard", "-z");
+        if (Objects.nonNull(untracked)) {
+            filePaths.addAll(parseNameOnly(untracked, rootPath));
+        }
+        return filePaths;
+    }
+
+    /**
+     * Runs a git command in the root directory.
+     *
+     * @return the standard output, or {@code null} if the command failed
+     */
+    private static String git(String rootPath, ProgressIndicator indicator, String... arguments) {
+        GeneralCommandLine commandLine = new GeneralCommandLine("git")
+                .withParameters(arguments)
+                .withWorkDirectory(rootPath)
+                .withCharset(StandardCharsets.UTF_8);
+        try {
+            ProcessOutput output = new CapturingProcessHandler(commandLine).runProcessWithProgressIndicator(indicator, GIT_TIMEOUT_MS);
+            if (output.isTimeout() || output.isCancelled() || output.getExitCode() != 0) {
+                LOGGER.debug(format("RTS: git %s failed in %s: %s", String.join(" ", arguments), rootPath, output.getStderr()));
+                return null;
+            }
+            return output.getStdout();
+        } catch (ExecutionException e) {
+            LOGGER.warn(format("RTS: Failed to run git in %s.", rootPath), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.checkmarx.intellij.devassist.common;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
+import com.checkmarx.intellij.devassist.scanners.containers.ContainerScannerService;
+import com.checkmarx.intellij.devassist.scanners.iac.IacScannerService;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.checkmarx.intellij.devassist.utils.DevAssistConstants.Keys.INFRA_SWEEP_INSTANCE_KEY;
+import static java.lang.String.format;
+
+/**
+ * Project-wide sweep of infrastructure files for the IaC and container scanners.
+ * <p>
+ * Candidate files are discovered through the project file index and grouped by directory, so the files of one
+ * folder - e.g. the {@code values.yaml} and {@code templates} of a Helm chart - are scanned together with a single
+ * CLI invocation ({@link IacScannerService#scanGroup}, {@link ContainerScannerService#scanGroup}). Groups run on a
+ * small bounded pool and all findings of an engine are published to {@link ProblemHolderService} in one update.
+ * <p>
+ * Every scanned group is remembered with a fingerprint of its files' stamps. Subsequent sweeps only rescan groups
+ * whose fingerprint changed and clear the findings of groups that disappeared. After the first sweep, changes to
+ * infrastructure files on disk trigger such an incremental re-sweep automatically.
+ */
+public final class InfraSweep {
+
+    private static final Logger LOGGER = Utils.getLogger(InfraSweep.class);
+
+    public static final long MAX_FILE_BYTES = 1024L * 1024;
+    private static final int MAX_WORKERS = 4;
+    private static final int RESWEEP_DELAY_MS = 3000;
+    private static final String HELM_CHART_FILE = "Chart.yaml";
+    private static final List<ScanEngine> ENGINES = List.of(ScanEngine.IAC, ScanEngine.CONTAINERS);
+
+    private final Project project;
+    private final IacScannerService iacScannerService = new IacScannerService();
+    private final ContainerScannerService containerScannerService = new ContainerScannerService();
+    // Fingerprint and files of every group scanned so far, per engine and group root
+    private final Map<ScanEngine, Map<String, Long>> fingerprints = new ConcurrentHashMap<>();
+    private final Map<ScanEngine, Map<String, Set<String>>> groupFiles = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean listening = new AtomicBoolean();
+    private final Alarm resweepAlarm;
+
+    private InfraSweep(@NotNull Project project) {
+        this.project = project;
+        this.resweepAlarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, project);
+    }
+
+    /**
+     * Returns the sweep of the given project, creating it on first use.
+     *
+     * @param project - The IntelliJ Project instance
+     * @return the project sweep
+     */
+    public static synchronized InfraSweep getInstance(@NotNull Project project) {
+        InfraSweep existingSweep = project.getUserData(INFRA_SWEEP_INSTANCE_KEY);
+        if (existingSweep != null) return existingSweep;
+        InfraSweep newSweep = new InfraSweep(project);
+        project.putUserData(INFRA_SWEEP_INSTANCE_KEY, newSweep);
+        return newSweep;
+    }
+
+    /**
+     * Starts an incremental sweep in the background, unless one is already running or no infrastructure
+     * scanner is active. The first sweep of a project scans every group.
+     */
+    public void start() {
+        if (project.isDisposed()) {
+            return;
+        }
+        List<ScanEngine> engines = getSweepableEngines();
+        if (engines.isEmpty()) {
+            LOGGER.debug("RTS: IaC and containers scanners are not available, skipping infrastructure sweep.");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            LOGGER.debug(format("RTS: Infrastructure sweep already running for project: %s", project.getName()));
+            return;
+        }
+        new Task.Backgroundable(project, Bundle.message(Resource.INFRA_SWEEP_TITLE), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                InfraSweep.this.run(engines, indicator);
+            }
+
+            @Override
+            public void onFinished() {
+                running.set(false);
+            }
+        }.queue();
+    }
+
+    /**
+     * Returns whether a sweep of the project is in progress.
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Returns the group a file is scanned with: its directory, or the chart directory for files in the
+     * {@code templates} folder of a Helm chart (a directory holding a {@code Chart.yaml}) so they are scanned
+     * together with the chart values.
+     *
+     * @param filePath the absolute file path
+     * @return the group root directory
+     */
+    public static String groupRoot(@NotNull String filePath) {
+        Path parent = Paths.get(filePath).getParent();
+        if (Objects.isNull(parent)) {
+            return filePath;
+        }
+        Path folderName = parent.getFileName();
+        if (Objects.nonNull(folderName) && "templates".equalsIgnoreCase(folderName.toString())
+                && Objects.nonNull(parent.getParent())
+                && Files.isRegularFile(parent.getParent().resolve(HELM_CHART_FILE))) {
+            parent = parent.getParent();
+        }
+        return parent.toString().replace('\\', '/');
+    }
+
+    /**
+     * Groups the file paths by {@link #groupRoot(String) group root}.
+     *
+     * @param filePaths the file paths
+     * @return the files of every group, both sorted by path
+     */
+    public static Map<String, List<String>> groupByDirectory(@NotNull Collection<String> filePaths) {
+        Map<String, List<String>> groups = new TreeMap<>();
+        filePaths.stream().sorted().forEach(filePath ->
+                groups.computeIfAbsent(groupRoot(filePath), key -> new ArrayList<>()).add(filePath));
+        return groups;
+    }
+
+    /**
+     * Computes the fingerprint of a group from the stamps of its files. Adding, removing or modifying any file
+     * changes the fingerprint.
+     *
+     * @param filePaths   the files of the group
+     * @param stampByPath stamp of every file, see {@link #stampOf(VirtualFile)}
+     * @return the group fingerprint
+     */
+    public static long fingerprint(@NotNull List<String> filePaths, @NotNull Map<String, Long> stampByPath) {
+        long fingerprint = 1;
+        for (String filePath : filePaths) {
+            fingerprint = 31 * fingerprint + filePath.hashCode();
+            fingerprint = 31 * fingerprint + stampByPath.getOrDefault(filePath, 0L);
+        }
+        return fingerprint;
+    }
+
+    private void run(@NotNull List<ScanEngine> engines, @NotNull ProgressIndicator indicator) {
+        long start = System.nanoTime();
+        indicator.setIndeterminate(true);
+        indicator.setText(Bundle.message(Resource.INFRA_SWEEP_COLLECTING));
+        // A non-blocking read action yields to write actions during the walk and restarts it afterwards
+        Map<String, Long> stampByPath = ReadAction.nonBlocking(this::collectCandidates)
+                .expireWith(project)
+                .wrapProgress(indicator)
+                .executeSynchronously();
+
+        List<GroupTask> tasks = new ArrayList<>();
+        Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine = new HashMap<>();
+        for (ScanEngine engine : engines) {
+            Map<String, List<ScanIssue>> issuesByFile = new ConcurrentHashMap<>();
+            issuesByEngine.put(engine, issuesByFile);
+            planEngine(engine, stampByPath, issuesByFile, tasks);
+        }
+        LOGGER.info(format("RTS: Infrastructure sweep started for %d candidate file(s), %d changed folder(s).",
+                stampByPath.size(), tasks.size()));
+
+        AtomicInteger scannedGroups = new AtomicInteger();
+        indicator.setIndeterminate(false);
+        indicator.setFraction(0.0);
+        int workers = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() / 2));
+        ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("CxInfraSweep", workers);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (GroupTask task : tasks) {
+                futures.add(executor.submit(() -> {
+                    if (indicator.isCanceled()) {
+                        return;
+                    }
+                    scanGroup(task, issuesByEngine.get(task.engine));
+                    int done = scannedGroups.incrementAndGet();
+                    indicator.setFraction((double) done / tasks.size());
+                    indicator.setText(Bundle.message(Resource.INFRA_SWEEP_PROGRESS, done, tasks.size()));
+                }));
+            }
+            SweepUtils.awaitAll(futures, indicator, Long.MAX_VALUE, "RTS: Infrastructure sweep folder failed.");
+        } catch (ProcessCanceledException e) {
+            futures.forEach(future -> future.cancel(true));
+            LOGGER.info(format("RTS: Infrastructure sweep cancelled after %d of %d folder(s).", scannedGroups.get(), tasks.size()));
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            // Publish whatever was scanned, also when cancelled, in one update per engine
+            if (!project.isDisposed()) {
+                issuesByEngine.forEach((engine, issuesByFile) ->
+                        ProblemHolderService.getInstance(project).replaceScanIssuesOfType(engine, issuesByFile));
+            }
+            listenForChanges();
+        }
+        LOGGER.info(format("RTS: Infrastructure sweep scanned %d folder(s) in %d ms.",
+                scannedGroups.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    /**
+     * Adds a task for every new or changed group of the engine and clears the findings of files that are no
+     * longer part of a scanned group.
+     */
+    private void planEngine(@NotNull ScanEngine engine, @NotNull Map<String, Long> stampByPath,
+                            @NotNull Map<String, List<ScanIssue>> issuesByFile, @NotNull List<GroupTask> tasks) {
+        List<String> engineFiles = stampByPath.keySet().stream().filter(filePath -> accepts(engine, filePath)).collect(Collectors.toList());
+        Map<String, List<String>> groups = groupByDirectory(engineFiles);
+        Map<String, Long> engineFingerprints = fingerprints.computeIfAbsent(engine, key -> new ConcurrentHashMap<>());
+        Map<String, Set<String>> engineGroupFiles = groupFiles.computeIfAbsent(engine, key -> new ConcurrentHashMap<>());
+
+        for (String removedGroup : new ArrayList<>(engineFingerprints.keySet())) {
+            if (!groups.containsKey(removedGroup)) {
+                engineFingerprints.remove(removedGroup);
+                Set<String> previousFiles = engineGroupFiles.remove(removedGroup);
+                if (Objects.nonNull(previousFiles)) {
+                    previousFiles.forEach(filePath -> issuesByFile.put(filePath, new ArrayList<>()));
+                }
+            }
+        }
+        groups.forEach((root, files) -> {
+            long fingerprint = fingerprint(files, stampByPath);
+            if (!Objects.equals(engineFingerprints.get(root), fingerprint)) {
+                tasks.add(new GroupTask(engine, root, files, fingerprint));
+            }
+        });
+    }
+
+    /**
+     * Scans one group and records its fingerprint once every file of it was scanned.
+     */
+    private void scanGroup(@NotNull GroupTask task, @NotNull Map<String, List<ScanIssue>> issuesByFile) {
+        Map<String, String> contentByPath = SweepUtils.readContents(task.files);
+        Map<String, List<ScanIssue>> groupIssues = task.engine == ScanEngine.IAC
+                ? iacScannerService.scanGroup(project, task.root, contentByPath)
+                : containerScannerService.scanGroup(project, task.root, contentByPath);
+
+        Set<String> previousFiles = groupFiles.get(task.engine).getOrDefault(task.root, Set.of());
+        previousFiles.stream()
+                .filter(filePath -> !task.files.contains(filePath))
+                .forEach(filePath -> issuesByFile.put(filePath, new ArrayList<>()));
+        issuesByFile.putAll(groupIssues);
+        if (groupIssues.keySet().containsAll(contentByPath.keySet())) {
+            fingerprints.get(task.engine).put(task.root, task.fingerprint);
+            groupFiles.get(task.engine).put(task.root, new HashSet<>(task.files));
+        }
+    }
+
+    /**
+     * Lists the stamp of every project content file one of the infrastructure scanners accepts; must be called
+     * inside a read action, which may cancel and restart the walk.
+     */
+    private Map<String, Long> collectCandidates() {
+        Map<String, Long> stampByPath = new LinkedHashMap<>();
+        ProjectFileIndex.getInstance(project).iterateContent(file -> {
+            // Cancelled by the sweep indicator and by write actions waiting for the read action
+            ProgressManager.checkCanceled();
+            if (!file.isDirectory() && file.isValid() && !file.getFileType().isBinary()
+                    && file.getLength() <= MAX_FILE_BYTES
+                    && (IacScannerService.isIacFilePath(file.getPath()) || ContainerScannerService.isContainerFilePath(file.getPath()))) {
+                stampByPath.put(file.getPath(), stampOf(file));
+            }
+            return true;
+        });
+        return stampByPath;
+    }
+
+    /**
+     * Stamp of a file that changes with every modification on disk and with unsaved editor changes.
+     */
+    private static long stampOf(@NotNull VirtualFile file) {
+        Document document = FileDocumentManager.getInstance().getCachedDocument(file);
+        long modificationStamp = Objects.nonNull(document) ? document.getModificationStamp() : file.getModificationStamp();
+        return Objects.hash(file.getTimeStamp(), file.getLength(), modificationStamp);
+    }
+
+    /**
+     * Subscribes once to file system changes; changes to infrastructure files schedule an incremental re-sweep.
+     */
+    private void listenForChanges() {
+        if (project.isDisposed() || !listening.compareAndSet(false, true)) {
+            return;
+        }
+        project.getMessageBus().connect(project).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                boolean infraFileChanged = events.stream().map(VFileEvent::getPath)
+                        .anyMatch(filePath -> IacScannerService.isIacFilePath(filePath)
+                                || ContainerScannerService.isContainerFilePath(filePath));
+                if (infraFileChanged && !project.isDisposed()) {
+                    resweepAlarm.cancelAllRequests();
+                    resweepAlarm.addRequest(InfraSweep.this::start, RESWEEP_DELAY_MS);
+                }
+            }
+        });
+    }
+
+    private static List<ScanEngine> getSweepableEngines() {
+        return ENGINES.stream()
+                .filter(engine -> DevAssistUtils.isScannerActive(engine.name()))
+                .filter(engine -> ScannerCircuitBreaker.forEngine(engine).getStatus().getState() != ScannerCircuitBreaker.State.OPEN)
+                .collect(Collectors.toList());
+    }
+
+    private static boolean accepts(@NotNull ScanEngine engine, @NotNull String filePath) {
+        return engine == ScanEngine.IAC
+                ? IacScannerService.isIacFilePath(filePath)
+                : ContainerScannerService.isContainerFilePath(filePath);
+    }
+
+    /**
+     * A group of files of one engine that needs to be scanned.
+     */
+    private static final class GroupTask {
+        private final ScanEngine engine;
+        private final String root;
+        private final List<String> files;
+        private final long fingerprint;
+
+        private GroupTask(ScanEngine engine, String root, List<String> files, long fingerprint) {
+            this.engine = engine;
+            this.root = root;
+            this.files = files;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.checkmarx.intellij.devassist.common;
 
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.devassist.basescanner.ScannerService;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
+import com.checkmarx.intellij.devassist.diagnostics.ScanTracer;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
@@ -73,7 +76,8 @@ public class ScanManager {
 
     /**
      * Scans the given PSI file at the specified path using an appropriate real-time scanner,
-     * if available and active.
+     * if available and active. Identical files scanned by any open project are served from the
+     * {@link SharedScanResultCache}.
      *
      * @param scannerService - ScannerService object of found scan engine
      * @param file           the PsiFile representing the file to be scanned; must not be null
@@ -82,7 +86,25 @@ public class ScanManager {
      * active and suitable scanner is found
      */
     private ScanResult<?> initiateScan(ScannerService<?> scannerService, @NotNull PsiFile file, @NotNull String path) {
-        try {
+        ScanEngine scanEngine = toScanEngine(scannerService);
+        String cacheKey = SharedScanResultCache.cacheKey(scanEngine, file, path);
+        if (Objects.isNull(cacheKey)) {
+            return runScan(scannerService, scanEngine, file, path);
+        }
+        return SharedScanResultCache.getInstance().scan(cacheKey, path, () -> runScan(scannerService, scanEngine, file, path));
+    }
+
+    /**
+     * Runs the scan of the given file unless the circuit breaker of the engine is open.
+     */
+    private ScanResult<?> runScan(ScannerService<?> scannerService, ScanEngine scanEngine, @NotNull PsiFile file, @NotNull String path) {
+        ScannerCircuitBreaker circuitBreaker = ScannerCircuitBreaker.forEngine(scanEngine);
+        if (!circuitBreaker.tryAcquire()) {
+            LOGGER.debug(format("RTS: %s scanner is paused after repeated failures, skipping file: %s.", scanEngine.name(), path));
+            return null;
+        }
+        long startNanos = System.nanoTime();
+        try (ScanTracer.Span ignored = ScanTracer.span("ScanManager.initiateScan: " + scannerService.getConfig().getEngineName(), path)) {
             LOGGER.info(format("RTS: Scan initiated using engine: %s for file: %s.", scannerService.getConfig().getEngineName(), path));
             ScanResult<?> scanResult = scannerService.scan(file, path);
             LOGGER.info(format("RTS: Scan completed using engine: %s for file: %s.", scannerService.getConfig().getEngineName(), path));
@@ -90,6 +112,20 @@ public class ScanManager {
         } catch (Exception e) {
             LOGGER.warn(format("RTS: Exception occurred while scanning file: %s ", path), e);
             return null;
+        } finally {
+            circuitBreaker.release();
+            ScanMetrics.recordStage(scanEngine, ScanStage.ENGINE_TOTAL, startNanos);
+        }
+    }
+
+    /**
+     * Resolves the {@link ScanEngine} of the given scanner service, falling back to {@link ScanEngine#ALL} if unknown.
+     */
+    static ScanEngine toScanEngine(ScannerService<?> scannerService) {
+        try {
+            return ScanEngine.valueOf(scannerService.getConfig().getEngineName().toUpperCase());
+        } catch (Exception e) {
+            return ScanEngine.ALL;
         }
     }
 
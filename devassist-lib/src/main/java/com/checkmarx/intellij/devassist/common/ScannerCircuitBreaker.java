@@ -0,0 +1,236 @@
+package com.checkmarx.intellij.devassist.common;
+
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.openapi.diagnostic.Logger;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static java.lang.String.format;
+
+/**
+ * Per-engine circuit breaker for realtime scanners.
+ * <p>
+ * When an engine keeps failing (missing container tool, expired credentials, crashing CLI), every edit would
+ * otherwise still pay for the temp files and the CLI process. After {@value #FAILURE_THRESHOLD} consecutive
+ * failures the circuit opens and {@link ScanManager} skips the engine for a cool-down that doubles with every
+ * further trip, up to {@link #MAX_COOL_DOWN}. Once the cool-down elapses a single probe scan is let through:
+ * success closes the circuit, failure opens it again.
+ * <p>
+ * Breakers are application-wide as the CLI and its configuration are shared by all projects. They are reset
+ * whenever the global settings are applied, so fixing the configuration takes effect immediately.
+ */
+public final class ScannerCircuitBreaker {
+
+    private static final Logger LOGGER = Utils.getLogger(ScannerCircuitBreaker.class);
+
+    public static final int FAILURE_THRESHOLD = 3;
+    public static final Duration BASE_COOL_DOWN = Duration.ofSeconds(30);
+    public static final Duration MAX_COOL_DOWN = Duration.ofMinutes(15);
+
+    private static final Map<ScanEngine, ScannerCircuitBreaker> BREAKERS = new ConcurrentHashMap<>();
+
+    private final ScanEngine engine;
+    private final int failureThreshold;
+    private final long baseCoolDownNanos;
+    private final long maxCoolDownNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int trips;
+    private long openUntilNanos;
+    private boolean probeInFlight;
+    private String lastError;
+
+    /**
+     * Creates a breaker; use {@link #forEngine(ScanEngine)} to obtain the shared instance of an engine.
+     *
+     * @param engine           the engine guarded by this breaker
+     * @param failureThreshold consecutive failures that open the circuit
+     * @param baseCoolDown     cool-down after the first trip
+     * @param maxCoolDown      upper bound of the exponentially growing cool-down
+     * @param nanoClock        time source, {@link System#nanoTime()} in production
+     */
+    public ScannerCircuitBreaker(ScanEngine engine, int failureThreshold, Duration baseCoolDown, Duration maxCoolDown,
+                                 LongSupplier nanoClock) {
+        this.engine = engine;
+        this.failureThreshold = failureThreshold;
+        this.baseCoolDownNanos = baseCoolDown.toNanos();
+        this.maxCoolDownNanos = maxCoolDown.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the shared breaker of the given engine, creating it on first use.
+     */
+    public static ScannerCircuitBreaker forEngine(ScanEngine engine) {
+        return BREAKERS.computeIfAbsent(Objects.isNull(engine) ? ScanEngine.ALL : engine,
+                key -> new ScannerCircuitBreaker(key, FAILURE_THRESHOLD, BASE_COOL_DOWN, MAX_COOL_DOWN, System::nanoTime));
+    }
+
+    /**
+     * Shorthand for {@code forEngine(engine).recordSuccess()}.
+     */
+    public static void success(ScanEngine engine) {
+        forEngine(engine).recordSuccess();
+    }
+
+    /**
+     * Shorthand for {@code forEngine(engine).recordFailure(error)}.
+     */
+    public static void failure(ScanEngine engine, Throwable error) {
+        forEngine(engine).recordFailure(error);
+    }
+
+    /**
+     * Returns the status of every breaker created so far, keyed by engine name.
+     */
+    public static Map<String, Status> snapshotAll() {
+        Map<String, Status> statuses = new TreeMap<>();
+        BREAKERS.forEach((engine, breaker) -> statuses.put(engine.name(), breaker.getStatus()));
+        return statuses;
+    }
+
+    /**
+     * Closes all circuits, e.g. after the user changed the scanner configuration.
+     */
+    public static void resetAll() {
+        BREAKERS.values().forEach(ScannerCircuitBreaker::reset);
+    }
+
+    /**
+     * Decides whether a scan may run now. When the cool-down of an open circuit has elapsed, the first caller is
+     * admitted as the probe and all others are rejected until the probe reports its outcome or is
+     * {@link #release() released}.
+     *
+     * @return {@code true} if the scan may run
+     */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nanoClock.getAsLong() - openUntilNanos < 0) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                probeInFlight = true;
+                LOGGER.info(format("RTS: %s scanner cool-down elapsed, running a probe scan.", engine.name()));
+                return true;
+            case HALF_OPEN:
+            default:
+                if (probeInFlight) {
+                    return false;
+                }
+                probeInFlight = true;
+                return true;
+        }
+    }
+
+    /**
+     * Ends a scan admitted by {@link #tryAcquire()}. A probe that finished without reporting an outcome (e.g. the
+     * file was not eligible) frees the probe slot so the next scan can probe instead.
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * Records a successful CLI call and closes the circuit.
+     */
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            LOGGER.info(format("RTS: %s scanner recovered, resuming realtime scans.", engine.name()));
+        }
+        reset();
+    }
+
+    /**
+     * Records a failed CLI call. Interruptions are cancellations, not engine failures, and are ignored.
+     *
+     * @param error the failure cause
+     */
+    public synchronized void recordFailure(Throwable error) {
+        if (error instanceof InterruptedException) {
+            return;
+        }
+        lastError = Objects.isNull(error) ? null : error.getMessage();
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            open();
+        }
+    }
+
+    /**
+     * Returns a point-in-time view of this breaker.
+     */
+    public synchronized Status getStatus() {
+        long retryInMillis = state == State.OPEN
+                ? Math.max(0L, TimeUnit.NANOSECONDS.toMillis(openUntilNanos - nanoClock.getAsLong())) : 0L;
+        return new Status(state, consecutiveFailures, trips, retryInMillis, lastError);
+    }
+
+    private void open() {
+        long coolDown = baseCoolDownNanos;
+        for (int i = 0; i < trips && coolDown < maxCoolDownNanos; i++) {
+            coolDown *= 2;
+        }
+        coolDown = Math.min(coolDown, maxCoolDownNanos);
+        trips++;
+        state = State.OPEN;
+        probeInFlight = false;
+        openUntilNanos = nanoClock.getAsLong() + coolDown;
+        LOGGER.warn(format("RTS: %s scanner failed %d times in a row, pausing realtime scans for %d s. Last error: %s",
+                engine.name(), consecutiveFailures, TimeUnit.NANOSECONDS.toSeconds(coolDown), lastError));
+    }
+
+    private synchronized void reset() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trips = 0;
+        probeInFlight = false;
+        lastError = null;
+    }
+
+    /**
+     * Circuit states.
+     */
+    public enum State {
+        /**
+         * Scans run normally.
+         */
+        CLOSED,
+        /**
+         * Scans are skipped until the cool-down elapses.
+         */
+        OPEN,
+        /**
+         * A single probe scan decides whether the circuit closes or opens again.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Serializable view of a breaker.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Status {
+        private final State state;
+        private final int consecutiveFailures;
+        private final int trips;
+        private final long retryInMillis;
+        private final String lastError;
+    }
+}
@@ -0,0 +1,387 @@
+package com.checkmarx.intellij.devassist.common;
+
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.model.Vulnerability;
+import com.checkmarx.intellij.devassist.scanners.containers.ContainerScannerService;
+import com.checkmarx.intellij.devassist.scanners.oss.LockFileFingerprint;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsChunkedScan;
+import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.psi.PsiFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Application-wide cache of realtime scan issues, shared by all open projects.
+ * <p>
+ * Developers often keep several projects open that contain identical files: shared libraries, lock files and
+ * manifests, Dockerfiles built from the same base images. Results are keyed by the scan engine, the file name,
+ * the settings the engine depends on and a hash of the content (plus the lock files for OSS manifests), so a file
+ * scanned in one project is served from the cache in every other project. Identical scans requested concurrently
+ * are collapsed into a single CLI call, and the cache is bounded by an approximate memory budget with least
+ * recently used eviction. Entries expire after {@link #TTL_MINUTES} minutes, like the OSS package and container
+ * image caches, so new vulnerabilities are picked up for unchanged files. A scan waiting for the same scan of
+ * another project gives up after {@link #FLIGHT_TIMEOUT_SECONDS} seconds and scans by itself.
+ * <p>
+ * Files of projects with ignored entries for the engine are not cached, since their results depend on the
+ * project ignore file, nor Helm charts, whose results depend on other files of the chart, nor files too large
+ * for realtime secrets scans, whose results depend on whether they are saved, nor container files while the
+ * container image cache is disabled. The cache is cleared whenever the global settings are applied.
+ */
+public final class SharedScanResultCache {
+
+    private static final Logger LOGGER = Utils.getLogger(SharedScanResultCache.class);
+
+    public static final long MEMORY_BUDGET_BYTES = 32L * 1024 * 1024;
+    public static final long TTL_MINUTES = 60;
+    public static final long FLIGHT_TIMEOUT_SECONDS = 60;
+
+    private static final SharedScanResultCache INSTANCE = new SharedScanResultCache(MEMORY_BUDGET_BYTES);
+
+    private final long memoryBudgetBytes;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final long flightTimeoutMillis;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Entry>> inFlight = new HashMap<>();
+    private long usedBytes;
+    private long generation;
+
+    /**
+     * Creates a cache; use {@link #getInstance()} to obtain the shared instance.
+     *
+     * @param memoryBudgetBytes approximate number of bytes above which least recently used entries are evicted
+     */
+    public SharedScanResultCache(long memoryBudgetBytes) {
+        this(memoryBudgetBytes, TimeUnit.MINUTES.toNanos(TTL_MINUTES), System::nanoTime,
+                TimeUnit.SECONDS.toMillis(FLIGHT_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Creates a cache; use {@link #getInstance()} to obtain the shared instance.
+     *
+     * @param memoryBudgetBytes   approximate number of bytes above which least recently used entries are evicted
+     * @param ttlNanos            time to live of an entry
+     * @param nanoClock           time source, {@link System#nanoTime()} in production
+     * @param flightTimeoutMillis longest wait for the same scan started by another caller
+     */
+    public SharedScanResultCache(long memoryBudgetBytes, long ttlNanos, LongSupplier nanoClock, long flightTimeoutMillis) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.flightTimeoutMillis = flightTimeoutMillis;
+    }
+
+    public static SharedScanResultCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Builds the cache key of a realtime scan.
+     *
+     * @param scanEngine the engine scanning the file
+     * @param psiFile    the file to scan
+     * @param filePath   the file path
+     * @return the key, or {@code null} if the scan must not be served from the shared cache
+     */
+    public static String cacheKey(ScanEngine scanEngine, PsiFile psiFile, String filePath) {
+        if (Objects.isNull(scanEngine) || scanEngine == ScanEngine.ALL || Objects.isNull(filePath)) {
+            return null;
+        }
+        if (scanEngine == ScanEngine.CONTAINERS && (DevAssistConstants.HELM.equals(ContainerScannerService.getFileType(filePath))
+                || GlobalSettingsState.getInstance().getContainersImageCacheTtlMinutes() <= 0)) {
+            return null;
+        }
+        // The document snapshot is hashed in chunks, so neither the text nor its bytes are copied
+        CharSequence content = DevAssistUtils.getFileCharSequence(psiFile);
+        if (Objects.isNull(content)) {
+            return null;
+        }
+        if (scanEngine == ScanEngine.SECRETS && SecretsChunkedScan.isSaveOnly(content.length())) {
+            // Until saved, the scan returns the previous results of the file instead of scanning the content
+            return null;
+        }
+        if (new IgnoreManager(psiFile.getProject()).hasIgnoredEntries(scanEngine)) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ScanTempFileWriter.digest(digest, content);
+            Path path = Paths.get(filePath);
+            String fileName = Objects.isNull(path.getFileName()) ? filePath : path.getFileName().toString();
+            if (scanEngine == ScanEngine.OSS) {
+                // Declared versions are resolved against the lock files next to the manifest
+                digest.update(LockFileFingerprint.of(path).getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder key = new StringBuilder(scanEngine.name()).append('|').append(fileName).append('|')
+                    .append(settingsFingerprint(scanEngine)).append('|');
+            for (byte b : digest.digest()) {
+                key.append(format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            LOGGER.debug("RTS: Scan of file is not cacheable: " + filePath, e);
+            return null;
+        }
+    }
+
+    /**
+     * The settings the results of an engine depend on, besides the file itself.
+     */
+    private static String settingsFingerprint(ScanEngine scanEngine) {
+        GlobalSettingsState state = GlobalSettingsState.getInstance();
+        String fingerprint = state.getBaseUrl() + "/" + state.getTenant();
+        return scanEngine == ScanEngine.CONTAINERS ? fingerprint + "/" + state.getContainersTool() : fingerprint;
+    }
+
+    /**
+     * Returns the cached issues for the key or runs the scan. When the same key is already being scanned, by any
+     * project, waits for that scan instead of starting another one.
+     *
+     * @param cacheKey the {@link #cacheKey(ScanEngine, PsiFile, String) cache key} of the scan
+     * @param filePath the path of the requesting file, set on the returned issues
+     * @param scanner  runs the scan; a {@code null} result is not cached
+     * @return the scan result, or {@code null} if the scan produced none
+     */
+    public ScanResult<?> scan(String cacheKey, String filePath, Supplier<ScanResult<?>> scanner) {
+        CompletableFuture<Entry> flight;
+        long scanGeneration;
+        synchronized (this) {
+            Entry entry = liveEntry(cacheKey);
+            if (Objects.nonNull(entry)) {
+                return new CachedScanResult(entry.issuesFor(filePath));
+            }
+            CompletableFuture<Entry> existingFlight = inFlight.get(cacheKey);
+            if (Objects.nonNull(existingFlight)) {
+                flight = existingFlight;
+                scanGeneration = -1;
+            } else {
+                flight = new CompletableFuture<>();
+                inFlight.put(cacheKey, flight);
+                scanGeneration = generation;
+            }
+        }
+        if (scanGeneration < 0) {
+            return awaitFlight(flight, filePath, scanner);
+        }
+        Entry entry = null;
+        try {
+            ScanResult<?> scanResult = scanner.get();
+            if (Objects.nonNull(scanResult) && Objects.nonNull(scanResult.getIssues())) {
+                entry = new Entry(scanResult.getIssues().stream().map(issue -> copyOf(issue, issue.getFilePath()))
+                        .collect(Collectors.toList()), nanoClock.getAsLong());
+                put(cacheKey, entry, scanGeneration);
+            }
+            return scanResult;
+        } finally {
+            synchronized (this) {
+                inFlight.remove(cacheKey, flight);
+            }
+            flight.complete(entry);
+        }
+    }
+
+    /**
+     * Returns the cached issues for the key without scanning.
+     *
+     * @param cacheKey the {@link #cacheKey(ScanEngine, PsiFile, String) cache key} of the scan; may be null
+     * @param filePath the path of the requesting file, set on the returned issues
+     * @return the cached issues, or {@code null} if the key is not cached
+     */
+    public synchronized List<ScanIssue> getIfPresent(String cacheKey, String filePath) {
+        Entry entry = Objects.isNull(cacheKey) ? null : liveEntry(cacheKey);
+        return Objects.isNull(entry) ? null : entry.issuesFor(filePath);
+    }
+
+    /**
+     * Returns the entry of the key, dropping it if expired. Must be called while holding the lock.
+     */
+    private Entry liveEntry(String cacheKey) {
+        Entry entry = entries.get(cacheKey);
+        if (Objects.nonNull(entry) && nanoClock.getAsLong() - entry.storedAtNanos >= ttlNanos) {
+            entries.remove(cacheKey);
+            usedBytes -= entry.weightBytes;
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Waits for the same scan started by another caller; if it does not complete in time, scans without caching
+     * instead of blocking on a hung scan.
+     */
+    private ScanResult<?> awaitFlight(CompletableFuture<Entry> flight, String filePath, Supplier<ScanResult<?>> scanner) {
+        try {
+            Entry entry = flight.get(flightTimeoutMillis, TimeUnit.MILLISECONDS);
+            return Objects.isNull(entry) ? null : new CachedScanResult(entry.issuesFor(filePath));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (TimeoutException e) {
+            LOGGER.debug("RTS: Timed out waiting for a shared scan, scanning without the cache: " + filePath);
+            return scanner.get();
+        }
+    }
+
+    private synchronized void put(String cacheKey, Entry entry, long scanGeneration) {
+        if (scanGeneration != generation || entry.weightBytes > memoryBudgetBytes) {
+            return;
+        }
+        Entry previous = entries.put(cacheKey, entry);
+        usedBytes += entry.weightBytes - (Objects.isNull(previous) ? 0 : previous.weightBytes);
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (usedBytes > memoryBudgetBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().weightBytes;
+            eldest.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Drops all entries. Scans in flight still complete, but their results are not cached.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+        generation++;
+    }
+
+    /**
+     * Copies an issue for another file; locations are copied as they may be adjusted per file.
+     */
+    private static ScanIssue copyOf(ScanIssue issue, String filePath) {
+        ScanIssue copy = new ScanIssue();
+        copy.setScanIssueId(issue.getScanIssueId());
+        copy.setSeverity(issue.getSeverity());
+        copy.setTitle(issue.getTitle());
+        copy.setDescription(issue.getDescription());
+        copy.setRemediationAdvise(issue.getRemediationAdvise());
+        copy.setPackageVersion(issue.getPackageVersion());
+        copy.setPackageManager(issue.getPackageManager());
+        copy.setCve(issue.getCve());
+        copy.setScanEngine(issue.getScanEngine());
+        copy.setFilePath(filePath);
+        copy.setImageTag(issue.getImageTag());
+        copy.setFileType(issue.getFileType());
+        copy.setSecretValue(issue.getSecretValue());
+        copy.setSimilarityId(issue.getSimilarityId());
+        copy.setRuleId(issue.getRuleId());
+        copy.setProblematicLineNumber(issue.getProblematicLineNumber());
+        if (Objects.nonNull(issue.getLocations())) {
+            issue.getLocations().forEach(location -> copy.getLocations().add(
+                    new Location(location.getLine(), location.getStartIndex(), location.getEndIndex())));
+        }
+        if (Objects.nonNull(issue.getVulnerabilities())) {
+            copy.getVulnerabilities().addAll(issue.getVulnerabilities());
+        }
+        return copy;
+    }
+
+    /**
+     * Approximates the heap size of an issue: two bytes per character plus a fixed overhead per object.
+     */
+    private static long weightOf(ScanIssue issue) {
+        long weight = 256 + 32L * issue.getLocations().size()
+                + chars(issue.getScanIssueId(), issue.getSeverity(), issue.getTitle(), issue.getDescription(),
+                issue.getRemediationAdvise(), issue.getPackageVersion(), issue.getPackageManager(), issue.getCve(),
+                issue.getImageTag(), issue.getFileType(), issue.getSecretValue(), issue.getSimilarityId());
+        for (Vulnerability vulnerability : issue.getVulnerabilities()) {
+            weight += 128 + chars(vulnerability.getVulnerabilityId(), vulnerability.getCve(), vulnerability.getDescription(),
+                    vulnerability.getSeverity(), vulnerability.getRemediationAdvise(), vulnerability.getFixVersion(),
+                    vulnerability.getActualValue(), vulnerability.getExpectedValue(), vulnerability.getTitle(),
+                    vulnerability.getProblematicLine());
+        }
+        return weight;
+    }
+
+    private static long chars(String... values) {
+        long length = 0;
+        for (String value : values) {
+            length += Objects.isNull(value) ? 0 : 2L * value.length();
+        }
+        return length;
+    }
+
+    /**
+     * The issues of a scan, stored independently of the file they were reported for.
+     */
+    private static final class Entry {
+        private final List<ScanIssue> issues;
+        private final long weightBytes;
+        private final long storedAtNanos;
+
+        private Entry(List<ScanIssue> issues, long storedAtNanos) {
+            this.issues = issues;
+            this.storedAtNanos = storedAtNanos;
+            this.weightBytes = 512 + issues.stream().mapToLong(SharedScanResultCache::weightOf).sum();
+        }
+
+        private List<ScanIssue> issuesFor(String filePath) {
+            if (issues.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<ScanIssue> copies = new ArrayList<>(issues.size());
+            issues.forEach(issue -> copies.add(copyOf(issue, filePath)));
+            return copies;
+        }
+    }
+
+    /**
+     * A scan result served from the cache; the raw engine results are not retained.
+     */
+    private static final class CachedScanResult implements ScanResult<Object> {
+        private final List<ScanIssue> issues;
+
+        private CachedScanResult(List<ScanIssue> issues) {
+            this.issues = issues;
+        }
+
+        @Override
+        public Object getResults() {
+            return null;
+        }
+
+        @Override
+        public List<ScanIssue> getIssues() {
+            return issues;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.checkmarx.intellij.devassist.common;
+
+import com.checkmarx.intellij.common.utils.Utils;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Helpers shared by the background scans of many files: the secrets and infrastructure sweeps and the changed
+ * files scan.
+ */
+public final class SweepUtils {
+
+    private static final Logger LOGGER = Utils.getLogger(SweepUtils.class);
+
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private SweepUtils() {
+        throw new IllegalStateException("Can't instantiate SweepUtils class");
+    }
+
+    /**
+     * Reads the contents of the given files, preferring unsaved editor content over the file on disk. Missing and
+     * blank files are skipped.
+     *
+     * @param filePaths the paths of the files to read
+     * @return the contents by file path, in the order of the given paths
+     */
+    public static Map<String, String> readContents(@NotNull Collection<String> filePaths) {
+        return ReadAction.compute(() -> {
+            Map<String, String> contentByPath = new LinkedHashMap<>();
+            FileDocumentManager documentManager = FileDocumentManager.getInstance();
+            for (String filePath : filePaths) {
+                VirtualFile file = LocalFileSystem.getInstance().findFileByPath(filePath);
+                if (Objects.isNull(file) || !file.isValid()) {
+                    continue;
+                }
+                Document document = documentManager.getCachedDocument(file);
+                try {
+                    String content = Objects.nonNull(document) ? document.getText() : VfsUtilCore.loadText(file);
+                    if (!content.isBlank()) {
+                        contentByPath.put(filePath, content);
+                    }
+                } catch (IOException e) {
+                    LOGGER.debug("RTS: Failed to read file - " + filePath, e);
+                }
+            }
+            return contentByPath;
+        });
+    }
+
+    /**
+     * Waits for the given tasks, polling the indicator so a cancellation is noticed promptly. A failed task is
+     * logged and does not stop the wait for the others.
+     *
+     * @param futures        the tasks to wait for
+     * @param indicator      the progress indicator of the scan
+     * @param deadlineNanos  the {@link System#nanoTime()} to stop waiting at, or {@link Long#MAX_VALUE} to wait
+     *                       until every task completed
+     * @param failureMessage the message logged for a failed task
+     * @return whether every task completed before the deadline
+     * @throws ProcessCanceledException if the indicator was canceled or the waiting thread interrupted
+     */
+    public static boolean awaitAll(@NotNull List<Future<?>> futures, @NotNull ProgressIndicator indicator,
+                                   long deadlineNanos, @NotNull String failureMessage) {
+        for (Future<?> future : futures) {
+            while (true) {
+                indicator.checkCanceled();
+                long remainingMillis = deadlineNanos == Long.MAX_VALUE ? POLL_INTERVAL_MS
+                        : TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return false;
+                }
+                try {
+                    future.get(Math.min(POLL_INTERVAL_MS, remainingMillis), TimeUnit.MILLISECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    // keep polling so cancellation is noticed promptly
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ProcessCanceledException(e);
+                } catch (ExecutionException e) {
+                    LOGGER.warn(failureMessage, e.getCause());
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -2,6 +2,11 @@ package com.checkmarx.intellij.devassist.configuration;
 
 import com.checkmarx.intellij.common.settings.GlobalSettingsState;
 import com.checkmarx.intellij.common.settings.SettingsListener;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
+import com.checkmarx.intellij.devassist.common.SharedScanResultCache;
+import com.checkmarx.intellij.devassist.scanners.asca.AscaIncrementalScan;
+import com.checkmarx.intellij.devassist.scanners.containers.ContainerImageCache;
+import com.checkmarx.intellij.devassist.scanners.oss.OssPackageCache;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.Service;
@@ -69,6 +74,13 @@ public final class GlobalScannerController implements SettingsListener {
         synchronized (this) {
             updateScannerState(state);
         }
+        // A configuration change may have fixed whatever made a scanner fail, so give paused scanners a new chance
+        ScannerCircuitBreaker.resetAll();
+        // The container tool, TTL or tenant may have changed, so cached image, package and file results are no longer trusted
+        ContainerImageCache.getInstance().clear();
+        OssPackageCache.getInstance().clear();
+        SharedScanResultCache.getInstance().clear();
+        AscaIncrementalScan.clear();
         this.syncAll(state);
     }
 
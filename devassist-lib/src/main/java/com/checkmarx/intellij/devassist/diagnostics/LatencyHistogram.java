@@ -0,0 +1,155 @@
+package com.checkmarx.intellij.devassist.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets.
+ * <p>
+ * Values are recorded in microseconds. Every power of two is split into {@value #SUB_BUCKETS} linear
+ * sub-buckets, which keeps the relative error of reported percentiles below ~12.5% while using a fixed,
+ * small amount of memory regardless of how many samples are recorded. Recording is a handful of atomic
+ * increments, so it is safe to call from scan threads and the EDT alike.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Highest tracked magnitude is 2^40 microseconds (~12.7 days); anything above is clamped into the last bucket.
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration measured from the given {@link System#nanoTime()} start.
+     *
+     * @param startNanos value of {@link System#nanoTime()} taken when the measured operation started
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a single duration.
+     *
+     * @param duration the duration; negative values are treated as zero
+     * @param unit     the unit of the duration
+     */
+    public void record(long duration, TimeUnit unit) {
+        long micros = Math.max(0L, unit.toMicros(duration));
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.incrementAndGet();
+        sum.addAndGet(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded samples.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the value (in microseconds) at or below which the given percentage of samples fall.
+     *
+     * @param percentile percentile in the range [0, 100]
+     * @return the upper bound of the bucket containing the percentile, or 0 when nothing is recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0L;
+        }
+        long target = Math.max(1L, (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += buckets.get(index);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears all recorded samples.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            buckets.set(index, 0L);
+        }
+        count.set(0L);
+        sum.set(0L);
+        max.set(0L);
+    }
+
+    /**
+     * Takes a point-in-time summary of this histogram. Concurrent recordings may or may not be included.
+     *
+     * @return the summary with all values expressed in milliseconds
+     */
+    public Snapshot snapshot() {
+        long samples = count.get();
+        double meanMicros = samples == 0 ? 0.0 : (double) sum.get() / samples;
+        return new Snapshot(samples,
+                toMillis(meanMicros),
+                toMillis(getValueAtPercentile(50)),
+                toMillis(getValueAtPercentile(90)),
+                toMillis(getValueAtPercentile(99)),
+                toMillis(getValueAtPercentile(99.9)),
+                toMillis(max.get()));
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long highestEquivalentValue(int index) {
+        return index + 1 < BUCKET_COUNT ? lowestEquivalentValue(index + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+
+    /**
+     * Immutable summary of a {@link LatencyHistogram}; all durations are in milliseconds.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Snapshot {
+        private final long count;
+        private final double mean;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+    }
+}
@@ -0,0 +1,212 @@
+package com.checkmarx.intellij.devassist.diagnostics;
+
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intellij.openapi.diagnostic.Logger;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application-wide registry of realtime scanning diagnostics.
+ * <p>
+ * Records per-engine, per-stage latencies in {@link LatencyHistogram}s together with scan queue depth,
+ * cache hit/miss counters, CLI spawn counts and bytes written to scan temp files; snapshots also include the
+ * {@link ScannerCircuitBreaker} states. All methods are static, thread-safe and cheap enough to be called on
+ * every scan; the collected data is rendered by the Diagnostics tool window tab and can be exported as JSON for
+ * support tickets.
+ */
+public final class ScanMetrics {
+
+    private static final Logger LOGGER = Utils.getLogger(ScanMetrics.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final Map<ScanEngine, Map<ScanStage, LatencyHistogram>> STAGE_HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<ScanEngine, LongAdder> CLI_SPAWNS = new ConcurrentHashMap<>();
+    private static final Map<ScanEngine, LongAdder> TEMP_FILE_BYTES = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> CACHE_HITS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> CACHE_MISSES = new ConcurrentHashMap<>();
+    private static final AtomicInteger QUEUE_DEPTH = new AtomicInteger();
+    private static final AtomicInteger PEAK_QUEUE_DEPTH = new AtomicInteger();
+
+    // Private constructor to prevent instantiation - using static methods
+    private ScanMetrics() {
+    }
+
+    /**
+     * Records the duration of a stage measured from the given start time.
+     *
+     * @param engine     the scan engine, or {@link ScanEngine#ALL} for stages shared by all engines
+     * @param stage      the pipeline stage
+     * @param startNanos value of {@link System#nanoTime()} taken when the stage started
+     */
+    public static void recordStage(ScanEngine engine, ScanStage stage, long startNanos) {
+        histogram(engine, stage).recordSince(startNanos);
+    }
+
+    /**
+     * Returns the histogram for the given engine and stage, creating it on first use.
+     */
+    public static LatencyHistogram histogram(ScanEngine engine, ScanStage stage) {
+        ScanEngine key = Objects.isNull(engine) ? ScanEngine.ALL : engine;
+        return STAGE_HISTOGRAMS
+                .computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(stage, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Records that a CLI process was spawned for the given engine.
+     */
+    public static void recordCliSpawn(ScanEngine engine) {
+        CLI_SPAWNS.computeIfAbsent(engine, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records the bytes written to a scan temp file for the given engine.
+     */
+    public static void recordTempFileWrite(ScanEngine engine, long bytes) {
+        TEMP_FILE_BYTES.computeIfAbsent(Objects.isNull(engine) ? ScanEngine.ALL : engine, k -> new LongAdder()).add(bytes);
+    }
+
+    /**
+     * Records a hit for the named cache.
+     */
+    public static void recordCacheHit(String cacheName) {
+        CACHE_HITS.computeIfAbsent(cacheName, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a miss for the named cache.
+     */
+    public static void recordCacheMiss(String cacheName) {
+        CACHE_MISSES.computeIfAbsent(cacheName, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Marks a scan as queued (waiting for debounce or a background thread).
+     */
+    public static void scanQueued() {
+        int depth = QUEUE_DEPTH.incrementAndGet();
+        PEAK_QUEUE_DEPTH.accumulateAndGet(depth, Math::max);
+    }
+
+    /**
+     * Marks a previously queued scan as started, canceled or dropped.
+     */
+    public static void scanDequeued() {
+        QUEUE_DEPTH.updateAndGet(depth -> Math.max(0, depth - 1));
+    }
+
+    /**
+     * Returns the number of scans currently waiting to run.
+     */
+    public static int getQueueDepth() {
+        return QUEUE_DEPTH.get();
+    }
+
+    /**
+     * Clears all collected metrics. The current queue depth is preserved as it reflects live state.
+     */
+    public static void reset() {
+        STAGE_HISTOGRAMS.values().forEach(stages -> stages.values().forEach(LatencyHistogram::reset));
+        CLI_SPAWNS.clear();
+        TEMP_FILE_BYTES.clear();
+        CACHE_HITS.clear();
+        CACHE_MISSES.clear();
+        PEAK_QUEUE_DEPTH.set(QUEUE_DEPTH.get());
+    }
+
+    /**
+     * Takes a point-in-time snapshot of all metrics.
+     */
+    public static DiagnosticsSnapshot snapshot() {
+        Map<String, Map<String, LatencyHistogram.Snapshot>> stages = new TreeMap<>();
+        STAGE_HISTOGRAMS.forEach((engine, histograms) -> {
+            Map<ScanStage, LatencyHistogram.Snapshot> ordered = new EnumMap<>(ScanStage.class);
+            histograms.forEach((stage, histogram) -> {
+                if (histogram.getCount() > 0) {
+                    ordered.put(stage, histogram.snapshot());
+                }
+            });
+            if (!ordered.isEmpty()) {
+                Map<String, LatencyHistogram.Snapshot> byName = new LinkedHashMap<>();
+                ordered.forEach((stage, snapshot) -> byName.put(stage.name(), snapshot));
+                stages.put(engine.name(), byName);
+            }
+        });
+        Map<String, Long> cliSpawns = new TreeMap<>();
+        CLI_SPAWNS.forEach((engine, adder) -> cliSpawns.put(engine.name(), adder.sum()));
+        Map<String, Long> tempFileBytes = new TreeMap<>();
+        TEMP_FILE_BYTES.forEach((engine, adder) -> tempFileBytes.put(engine.name(), adder.sum()));
+
+        Map<String, CacheStats> caches = new TreeMap<>();
+        CACHE_HITS.keySet().forEach(name -> caches.put(name, cacheStats(name)));
+        CACHE_MISSES.keySet().forEach(name -> caches.putIfAbsent(name, cacheStats(name)));
+
+        return new DiagnosticsSnapshot(Instant.now().toString(), QUEUE_DEPTH.get(), PEAK_QUEUE_DEPTH.get(),
+                cliSpawns, tempFileBytes, caches, ScannerCircuitBreaker.snapshotAll(), stages);
+    }
+
+    /**
+     * Serializes the current snapshot as pretty-printed JSON.
+     *
+     * @return the JSON document, or an empty JSON object if serialization fails
+     */
+    public static String toJson() {
+        try {
+            return MAPPER.writeValueAsString(snapshot());
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("RTS-Diagnostics: Failed to serialize scan metrics snapshot.", e);
+            return "{}";
+        }
+    }
+
+    private static CacheStats cacheStats(String cacheName) {
+        LongAdder hits = CACHE_HITS.get(cacheName);
+        LongAdder misses = CACHE_MISSES.get(cacheName);
+        long hitCount = Objects.isNull(hits) ? 0L : hits.sum();
+        long missCount = Objects.isNull(misses) ? 0L : misses.sum();
+        long total = hitCount + missCount;
+        return new CacheStats(hitCount, missCount, total == 0 ? 0.0 : (double) hitCount / total);
+    }
+
+    /**
+     * Hit/miss counters of a single cache.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final double hitRate;
+    }
+
+    /**
+     * Serializable, point-in-time view of all {@link ScanMetrics}.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class DiagnosticsSnapshot {
+        private final String capturedAt;
+        private final int queueDepth;
+        private final int peakQueueDepth;
+        private final Map<String, Long> cliSpawns;
+        private final Map<String, Long> tempFileBytes;
+        private final Map<String, CacheStats> caches;
+        private final Map<String, ScannerCircuitBreaker.Status> circuitBreakers;
+        private final Map<String, Map<String, LatencyHistogram.Snapshot>> stages;
+    }
+}
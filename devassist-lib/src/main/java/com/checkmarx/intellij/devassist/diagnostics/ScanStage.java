@@ -0,0 +1,45 @@
+package com.checkmarx.intellij.devassist.diagnostics;
+
+import lombok.Getter;
+
+/**
+ * Stages of a realtime scan pipeline for which latency is tracked by {@link ScanMetrics}.
+ */
+@Getter
+public enum ScanStage {
+
+    /**
+     * Time between a scan request and the moment the debounced scan actually starts.
+     */
+    DEBOUNCE("Debounce"),
+    /**
+     * Writing the file content (and companion files) into the scanner temp folder.
+     */
+    TEMP_FILE_IO("Temp file I/O"),
+    /**
+     * Spawning the CLI process and waiting for its realtime scan output.
+     */
+    CLI_EXECUTION("CLI execution"),
+    /**
+     * Converting CLI results into {@code ScanIssue} instances.
+     */
+    RESULT_ADAPTATION("Result adaptation"),
+    /**
+     * End-to-end duration of a single engine scan, including all of the above.
+     */
+    ENGINE_TOTAL("Engine total"),
+    /**
+     * Building inspection problem descriptors from scan issues.
+     */
+    DESCRIPTOR_CREATION("Problem descriptors"),
+    /**
+     * Highlighting and gutter icon decoration in the editor.
+     */
+    UI_DECORATION("UI decoration");
+
+    private final String displayName;
+
+    ScanStage(String displayName) {
+        this.displayName = displayName;
+    }
+}
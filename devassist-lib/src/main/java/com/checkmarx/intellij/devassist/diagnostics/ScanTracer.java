@@ -0,0 +1,232 @@
+package com.checkmarx.intellij.devassist.diagnostics;
+
+import com.checkmarx.intellij.common.utils.Utils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.intellij.openapi.diagnostic.Logger;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Application-wide timeline tracer for the realtime scanning pipeline.
+ * <p>
+ * Where {@link ScanMetrics} aggregates latencies, the tracer keeps the individual spans of the most recent
+ * interactions (inspection pass, scheduling, debounce, per-engine scans, descriptor creation, daemon restart and
+ * decoration) in a fixed-size, lock-free ring buffer, so a single slow interaction can be inspected after the fact.
+ * Recorded spans can be exported in the Chrome trace event format and opened in {@code chrome://tracing} or
+ * Perfetto.
+ * <p>
+ * Tracing is disabled by default and can be switched on from the Diagnostics tab or with the
+ * {@code -Dcx.devassist.trace=true} system property. While disabled, {@link #span(String)} returns a shared no-op
+ * span, so instrumented code pays a single volatile read.
+ */
+public final class ScanTracer {
+
+    private static final Logger LOGGER = Utils.getLogger(ScanTracer.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CATEGORY = "devassist";
+    private static final int PROCESS_ID = 1;
+    private static final int CAPACITY = 1 << 14;
+    private static final int INDEX_MASK = CAPACITY - 1;
+
+    private static final AtomicReferenceArray<TraceEvent> EVENTS = new AtomicReferenceArray<>(CAPACITY);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final Span NOOP_SPAN = new Span(null, null, 0L);
+    private static volatile boolean enabled = Boolean.getBoolean("cx.devassist.trace");
+
+    // Private constructor to prevent instantiation - using static methods
+    private ScanTracer() {
+    }
+
+    /**
+     * Returns whether spans are currently being recorded.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts or stops recording. Already recorded spans are kept until overwritten or {@link #clear() cleared}.
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * Opens a span that ends when the returned {@link Span} is closed; intended for try-with-resources.
+     *
+     * @param name the span name shown on the timeline
+     * @return the open span, or a no-op span when tracing is disabled
+     */
+    public static Span span(String name) {
+        return span(name, null);
+    }
+
+    /**
+     * Opens a span that ends when the returned {@link Span} is closed; intended for try-with-resources.
+     *
+     * @param name   the span name shown on the timeline
+     * @param detail optional detail (e.g. the file path or engine) attached to the span arguments
+     * @return the open span, or a no-op span when tracing is disabled
+     */
+    public static Span span(String name, String detail) {
+        if (!enabled) {
+            return NOOP_SPAN;
+        }
+        return new Span(name, detail, System.nanoTime());
+    }
+
+    /**
+     * Records a span whose start and end were measured elsewhere, e.g. a debounce delay that began on another
+     * thread.
+     *
+     * @param name       the span name shown on the timeline
+     * @param detail     optional detail attached to the span arguments
+     * @param startNanos value of {@link System#nanoTime()} when the span started
+     * @param endNanos   value of {@link System#nanoTime()} when the span ended
+     */
+    public static void complete(String name, String detail, long startNanos, long endNanos) {
+        if (enabled) {
+            record(name, detail, startNanos, Math.max(0L, endNanos - startNanos));
+        }
+    }
+
+    /**
+     * Records a zero-length marker on the current thread.
+     *
+     * @param name   the marker name shown on the timeline
+     * @param detail optional detail attached to the marker arguments
+     */
+    public static void instant(String name, String detail) {
+        if (enabled) {
+            record(name, detail, System.nanoTime(), -1L);
+        }
+    }
+
+    /**
+     * Drops all recorded spans.
+     */
+    public static void clear() {
+        for (int index = 0; index < CAPACITY; index++) {
+            EVENTS.set(index, null);
+        }
+    }
+
+    /**
+     * Returns the recorded events that ended within the given window before now, ordered by start time.
+     *
+     * @param window how far back to look
+     * @param unit   the unit of {@code window}
+     * @return the recorded events, oldest first
+     */
+    public static List<TraceEvent> getEvents(long window, TimeUnit unit) {
+        long cutoff = System.nanoTime() - unit.toNanos(window);
+        List<TraceEvent> events = new ArrayList<>();
+        for (int index = 0; index < CAPACITY; index++) {
+            TraceEvent event = EVENTS.get(index);
+            if (Objects.nonNull(event) && event.getStartNanos() + Math.max(0L, event.getDurationNanos()) - cutoff >= 0) {
+                events.add(event);
+            }
+        }
+        events.sort(Comparator.comparingLong(TraceEvent::getStartNanos));
+        return events;
+    }
+
+    /**
+     * Serializes the events of the given window in the Chrome trace event format.
+     *
+     * @param window how far back to look
+     * @param unit   the unit of {@code window}
+     * @return the JSON document, or an empty trace if serialization fails
+     */
+    public static String toChromeTraceJson(long window, TimeUnit unit) {
+        List<TraceEvent> events = getEvents(window, unit);
+        ObjectNode root = MAPPER.createObjectNode();
+        ArrayNode traceEvents = root.putArray("traceEvents");
+        Map<Long, String> threads = new LinkedHashMap<>();
+        for (TraceEvent event : events) {
+            threads.putIfAbsent(event.getThreadId(), event.getThreadName());
+            ObjectNode node = traceEvents.addObject()
+                    .put("name", event.getName())
+                    .put("cat", CATEGORY)
+                    .put("ts", TimeUnit.NANOSECONDS.toMicros(event.getStartNanos()))
+                    .put("pid", PROCESS_ID)
+                    .put("tid", event.getThreadId());
+            if (event.getDurationNanos() < 0) {
+                node.put("ph", "i").put("s", "t");
+            } else {
+                node.put("ph", "X").put("dur", TimeUnit.NANOSECONDS.toMicros(event.getDurationNanos()));
+            }
+            if (Objects.nonNull(event.getDetail())) {
+                node.putObject("args").put("detail", event.getDetail());
+            }
+        }
+        threads.forEach((threadId, threadName) -> traceEvents.addObject()
+                .put("name", "thread_name")
+                .put("ph", "M")
+                .put("pid", PROCESS_ID)
+                .put("tid", threadId)
+                .putObject("args").put("name", threadName));
+        root.put("displayTimeUnit", "ms");
+        try {
+            return MAPPER.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            LOGGER.warn("RTS-Diagnostics: Failed to serialize scan trace.", e);
+            return "{\"traceEvents\":[]}";
+        }
+    }
+
+    private static void record(String name, String detail, long startNanos, long durationNanos) {
+        Thread thread = Thread.currentThread();
+        TraceEvent event = new TraceEvent(name, detail, startNanos, durationNanos, thread.getId(), thread.getName());
+        EVENTS.set((int) (SEQUENCE.getAndIncrement() & INDEX_MASK), event);
+    }
+
+    /**
+     * An open span; closing it records the span on the thread that closes it.
+     */
+    public static final class Span implements AutoCloseable {
+        private final String name;
+        private final String detail;
+        private final long startNanos;
+
+        private Span(String name, String detail, long startNanos) {
+            this.name = name;
+            this.detail = detail;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (Objects.nonNull(name)) {
+                record(name, detail, startNanos, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    /**
+     * A single recorded span or marker; markers have a negative duration.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class TraceEvent {
+        private final String name;
+        private final String detail;
+        private final long startNanos;
+        private final long durationNanos;
+        private final long threadId;
+        private final String threadName;
+    }
+}
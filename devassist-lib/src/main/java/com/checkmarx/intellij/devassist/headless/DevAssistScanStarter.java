@@ -0,0 +1,229 @@
+package com.checkmarx.intellij.devassist.headless;
+
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.common.ChangedFilesScan;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Headless batch runner of the realtime engines, started as {@code idea cx-devassist-scan <path>}.
+ * <p>
+ * Opens the directory as a project, waits for indexing and scans every project content file with the engines
+ * the editor uses, through the same classification and batching as the changed files scan
+ * ({@link ChangedFilesScan#scanFiles}). The batches run on the requested number of workers without the editor's
+ * load-dependent scan limit. The findings and the run timings, including the {@link ScanMetrics} stage
+ * latencies, are written as JSON or SARIF ({@link HeadlessScanReport}).
+ * <p>
+ * The engines and credentials are taken from the IDE settings, so the IDE must be signed in with the realtime
+ * scanners enabled.
+ */
+public class DevAssistScanStarter implements ApplicationStarter {
+
+    private static final Logger LOGGER = Utils.getLogger(DevAssistScanStarter.class);
+
+    public static final String COMMAND_NAME = "cx-devassist-scan";
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_FAILURE = 1;
+    public static final int EXIT_USAGE = 2;
+    private static final String USAGE = "Usage: " + COMMAND_NAME
+            + " <path> [--workers <count>] [--format json|sarif] [--output <file>]";
+
+    @Override
+    public String getCommandName() {
+        return COMMAND_NAME;
+    }
+
+    @Override
+    public int getRequiredModality() {
+        return NOT_IN_EDT;
+    }
+
+    @Override
+    public void main(@NotNull List<String> args) {
+        int exitCode;
+        try {
+            exitCode = run(Options.parse(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            exitCode = EXIT_USAGE;
+        } catch (Exception e) {
+            LOGGER.warn("RTS: Headless scan failed.", e);
+            System.err.println("Scan failed: " + e.getMessage());
+            exitCode = EXIT_FAILURE;
+        }
+        System.exit(exitCode);
+    }
+
+    private int run(@NotNull Options options) throws IOException {
+        if (!ChangedFilesScan.hasEnabledEngine()) {
+            System.err.println("No realtime scanner is enabled, sign in and enable them in the IDE settings first.");
+            return EXIT_FAILURE;
+        }
+        Project project = ProjectUtil.openOrImport(options.getPath(), null, false);
+        if (Objects.isNull(project)) {
+            System.err.println("Failed to open project: " + options.getPath());
+            return EXIT_FAILURE;
+        }
+        try {
+            DumbService.getInstance(project).waitForSmartMode();
+            ScanMetrics.reset();
+
+            long walkStart = System.nanoTime();
+            List<String> filePaths = collectContentFiles(project);
+            long walkMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - walkStart);
+
+            long scanStart = System.nanoTime();
+            ProgressIndicator indicator = new EmptyProgressIndicator();
+            ChangedFilesScan.Outcome outcome = ProgressManager.getInstance().runProcess(
+                    () -> ChangedFilesScan.scanFiles(project, filePaths, indicator, 0, options.getWorkers(), false), indicator);
+            long scanMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scanStart);
+
+            HeadlessScanReport report = new HeadlessScanReport(options.getPath(), outcome.getIssuesByEngine(),
+                    new HeadlessScanReport.Statistics(outcome.isComplete(), options.getWorkers(), filePaths.size(),
+                            walkMillis, scanMillis, ScanMetrics.snapshot()));
+            String content = options.getFormat() == Format.SARIF ? report.toSarif() : report.toJson();
+            if (Objects.isNull(options.getOutput())) {
+                System.out.println(content);
+            } else {
+                Files.writeString(options.getOutput(), content, StandardCharsets.UTF_8);
+            }
+            System.err.println(format("Scanned %d file(s) in %d ms with %d worker(s), %d issue(s) found.",
+                    filePaths.size(), walkMillis + scanMillis, options.getWorkers(), report.getIssueCount()));
+            return EXIT_OK;
+        } finally {
+            ApplicationManager.getApplication().invokeAndWait(() -> ProjectManager.getInstance().closeAndDispose(project));
+        }
+    }
+
+    /**
+     * Lists the project content files, leaving out excluded and ignored files as the editor does.
+     */
+    private static List<String> collectContentFiles(@NotNull Project project) {
+        return ReadAction.compute(() -> {
+            List<String> filePaths = new ArrayList<>();
+            ProjectFileIndex.getInstance(project).iterateContent(file -> {
+                if (!file.isDirectory()) {
+                    filePaths.add(file.getPath());
+                }
+                return true;
+            });
+            filePaths.sort(null);
+            return filePaths;
+        });
+    }
+
+    /**
+     * Output format of the report.
+     */
+    public enum Format {
+        JSON,
+        SARIF
+    }
+
+    /**
+     * Command line of the runner.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Options {
+        private final Path path;
+        private final int workers;
+        private final Format format;
+        /**
+         * File the report is written to, {@code null} for standard output.
+         */
+        private final Path output;
+
+        /**
+         * Parses the command line arguments; the command name itself may come first.
+         *
+         * @param args the arguments
+         * @return the options
+         * @throws IllegalArgumentException if the arguments are invalid
+         */
+        public static Options parse(@NotNull List<String> args) {
+            Path path = null;
+            int workers = ChangedFilesScan.defaultWorkers();
+            Format format = Format.JSON;
+            Path output = null;
+            int start = !args.isEmpty() && COMMAND_NAME.equals(args.get(0)) ? 1 : 0;
+            for (int i = start; i < args.size(); i++) {
+                String arg = args.get(i);
+                switch (arg) {
+                    case "--workers":
+                        String count = value(args, ++i, arg);
+                        try {
+                            workers = Integer.parseInt(count);
+                        } catch (NumberFormatException e) {
+                            workers = 0;
+                        }
+                        if (workers < 1) {
+                            throw new IllegalArgumentException("Invalid worker count: " + count);
+                        }
+                        break;
+                    case "--format":
+                        String name = value(args, ++i, arg);
+                        try {
+                            format = Format.valueOf(name.toUpperCase(Locale.ROOT));
+                        } catch (IllegalArgumentException e) {
+                            throw new IllegalArgumentException("Unknown format: " + name);
+                        }
+                        break;
+                    case "--output":
+                        output = Path.of(value(args, ++i, arg)).toAbsolutePath();
+                        break;
+                    default:
+                        if (arg.startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option: " + arg);
+                        }
+                        if (Objects.nonNull(path)) {
+                            throw new IllegalArgumentException("Only one path can be scanned: " + arg);
+                        }
+                        path = Path.of(arg).toAbsolutePath().normalize();
+                }
+            }
+            if (Objects.isNull(path)) {
+                throw new IllegalArgumentException("Missing path to scan.");
+            }
+            if (!Files.isDirectory(path)) {
+                throw new IllegalArgumentException("Not a directory: " + path);
+            }
+            return new Options(path, workers, format, output);
+        }
+
+        private static String value(List<String> args, int index, String option) {
+            if (index >= args.size()) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            return args.get(index);
+        }
+    }
+}
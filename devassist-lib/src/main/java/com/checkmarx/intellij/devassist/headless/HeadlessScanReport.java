@@ -0,0 +1,228 @@
+package com.checkmarx.intellij.devassist.headless;
+
+import com.checkmarx.intellij.common.utils.SeverityLevel;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Machine-readable report of a {@code cx-devassist-scan} run, rendered as plain JSON or as SARIF 2.1.0.
+ * <p>
+ * Only reportable issues are included, OK, unknown and ignored results are left out. File paths are written
+ * relative to the scanned root, with forward slashes.
+ */
+public final class HeadlessScanReport {
+
+    public static final String SARIF_SCHEMA = "https://json.schemastore.org/sarif-2.1.0.json";
+    public static final String SARIF_VERSION = "2.1.0";
+    private static final String TOOL_NAME = "Checkmarx One Assist";
+    private static final String TOOL_URI = "https://checkmarx.com";
+    private static final String ROOT_BASE_ID = "SRCROOT";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Path root;
+    private final Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine;
+    private final Statistics statistics;
+
+    public HeadlessScanReport(@NotNull Path root, @NotNull Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine,
+                              @NotNull Statistics statistics) {
+        this.root = root;
+        this.issuesByEngine = issuesByEngine;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Renders the report as plain JSON: the run statistics and one entry per issue.
+     */
+    public String toJson() throws JsonProcessingException {
+        ObjectNode report = MAPPER.createObjectNode();
+        report.put("tool", TOOL_NAME);
+        report.put("root", root.toString());
+        report.set("statistics", statisticsNode());
+        ArrayNode results = report.putArray("results");
+        forEachIssue((engine, relativePath, scanIssue) -> {
+            ObjectNode result = results.addObject();
+            result.put("engine", engine.name());
+            result.put("file", relativePath);
+            result.put("line", firstLine(scanIssue));
+            result.put("severity", scanIssue.getSeverity());
+            result.put("ruleId", ruleId(engine, scanIssue));
+            result.put("title", scanIssue.getTitle());
+            result.put("description", scanIssue.getDescription());
+            if (Objects.nonNull(scanIssue.getPackageVersion())) {
+                result.put("packageVersion", scanIssue.getPackageVersion());
+            }
+            if (Objects.nonNull(scanIssue.getCve())) {
+                result.put("cve", scanIssue.getCve());
+            }
+        });
+        return MAPPER.writeValueAsString(report);
+    }
+
+    /**
+     * Renders the report as a SARIF 2.1.0 log with a single run; the statistics go to the run properties.
+     */
+    public String toSarif() throws JsonProcessingException {
+        ObjectNode log = MAPPER.createObjectNode();
+        log.put("$schema", SARIF_SCHEMA);
+        log.put("version", SARIF_VERSION);
+        ObjectNode run = log.putArray("runs").addObject();
+        ObjectNode driver = run.putObject("tool").putObject("driver");
+        driver.put("name", TOOL_NAME);
+        driver.put("informationUri", TOOL_URI);
+        ArrayNode rules = driver.putArray("rules");
+        run.putObject("originalUriBaseIds").putObject(ROOT_BASE_ID).put("uri", root.toUri().toString());
+        run.putArray("invocations").addObject().put("executionSuccessful", statistics.isComplete());
+
+        Map<String, Integer> ruleIndexes = new LinkedHashMap<>();
+        ArrayNode results = run.putArray("results");
+        forEachIssue((engine, relativePath, scanIssue) -> {
+            String ruleId = ruleId(engine, scanIssue);
+            Integer ruleIndex = ruleIndexes.get(ruleId);
+            if (Objects.isNull(ruleIndex)) {
+                ruleIndex = ruleIndexes.size();
+                ruleIndexes.put(ruleId, ruleIndex);
+                ObjectNode rule = rules.addObject();
+                rule.put("id", ruleId);
+                rule.put("name", Objects.toString(scanIssue.getTitle(), ruleId));
+                rule.putObject("shortDescription").put("text", Objects.toString(scanIssue.getTitle(), ruleId));
+            }
+            ObjectNode result = results.addObject();
+            result.put("ruleId", ruleId);
+            result.put("ruleIndex", ruleIndex);
+            result.put("level", toSarifLevel(SeverityLevel.fromValue(scanIssue.getSeverity())));
+            result.putObject("message").put("text", Objects.nonNull(scanIssue.getDescription())
+                    ? scanIssue.getDescription() : Objects.toString(scanIssue.getTitle(), ruleId));
+            ArrayNode locations = result.putArray("locations");
+            List<Location> issueLocations = scanIssue.getLocations().isEmpty()
+                    ? List.of(new Location(firstLine(scanIssue), 0, 0)) : scanIssue.getLocations();
+            for (Location location : issueLocations) {
+                ObjectNode physicalLocation = locations.addObject().putObject("physicalLocation");
+                ObjectNode artifactLocation = physicalLocation.putObject("artifactLocation");
+                artifactLocation.put("uri", relativePath);
+                artifactLocation.put("uriBaseId", ROOT_BASE_ID);
+                ObjectNode region = physicalLocation.putObject("region");
+                region.put("startLine", Math.max(1, location.getLine()));
+                if (location.getEndIndex() > location.getStartIndex()) {
+                    region.put("startColumn", location.getStartIndex() + 1);
+                    region.put("endColumn", location.getEndIndex() + 1);
+                }
+            }
+            result.putObject("properties").put("engine", engine.name()).put("severity", scanIssue.getSeverity());
+        });
+        run.set("properties", statisticsNode());
+        return MAPPER.writeValueAsString(log);
+    }
+
+    /**
+     * Maps a severity to a SARIF result level: malicious, critical and high are errors, medium is a warning,
+     * low a note.
+     */
+    public static String toSarifLevel(@NotNull SeverityLevel severity) {
+        switch (severity) {
+            case MALICIOUS:
+            case CRITICAL:
+            case HIGH:
+                return "error";
+            case MEDIUM:
+                return "warning";
+            case LOW:
+                return "note";
+            default:
+                return "none";
+        }
+    }
+
+    /**
+     * Returns the number of reportable issues in the report.
+     */
+    public int getIssueCount() {
+        int[] count = {0};
+        forEachIssue((engine, relativePath, scanIssue) -> count[0]++);
+        return count[0];
+    }
+
+    private ObjectNode statisticsNode() {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("complete", statistics.isComplete());
+        node.put("workers", statistics.getWorkers());
+        node.put("filesWalked", statistics.getFilesWalked());
+        node.put("fileScans", issuesByEngine.values().stream().mapToInt(Map::size).sum());
+        node.put("issues", getIssueCount());
+        node.put("walkTimeMs", statistics.getWalkMillis());
+        node.put("scanTimeMs", statistics.getScanMillis());
+        node.set("metrics", MAPPER.valueToTree(statistics.getMetrics()));
+        return node;
+    }
+
+    private void forEachIssue(IssueVisitor visitor) {
+        issuesByEngine.forEach((engine, issuesByFile) -> new ArrayList<>(issuesByFile.keySet()).stream().sorted()
+                .forEach(filePath -> {
+                    String relativePath = relativize(filePath);
+                    issuesByFile.get(filePath).stream()
+                            .filter(HeadlessScanReport::isReportable)
+                            .forEach(scanIssue -> visitor.visit(engine, relativePath, scanIssue));
+                }));
+    }
+
+    private String relativize(String filePath) {
+        Path path = Path.of(filePath);
+        return (path.startsWith(root) ? root.relativize(path) : path).toString().replace('\\', '/');
+    }
+
+    private static boolean isReportable(ScanIssue scanIssue) {
+        return SeverityLevel.fromValue(scanIssue.getSeverity()).getPrecedence() <= SeverityLevel.LOW.getPrecedence();
+    }
+
+    private static int firstLine(ScanIssue scanIssue) {
+        if (!scanIssue.getLocations().isEmpty()) {
+            return scanIssue.getLocations().get(0).getLine();
+        }
+        return Objects.requireNonNullElse(scanIssue.getProblematicLineNumber(), 1);
+    }
+
+    /**
+     * Stable rule identifier: the engine rule id when there is one, otherwise the issue title.
+     */
+    private static String ruleId(ScanEngine engine, ScanIssue scanIssue) {
+        String id = Objects.nonNull(scanIssue.getRuleId()) ? String.valueOf(scanIssue.getRuleId())
+                : Objects.toString(scanIssue.getTitle(), "unknown");
+        return engine.name().toLowerCase() + "/" + id;
+    }
+
+    @FunctionalInterface
+    private interface IssueVisitor {
+        void visit(ScanEngine engine, String relativePath, ScanIssue scanIssue);
+    }
+
+    /**
+     * Timing and size figures of a run.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Statistics {
+        private final boolean complete;
+        private final int workers;
+        private final int filesWalked;
+        private final long walkMillis;
+        private final long scanMillis;
+        private final ScanMetrics.DiagnosticsSnapshot metrics;
+    }
+}
@@ -2,12 +2,15 @@ package com.checkmarx.intellij.devassist.inspection;
 
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.devassist.basescanner.ScannerService;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanTracer;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.problems.ProblemDecorator;
 import com.checkmarx.intellij.devassist.problems.ProblemHelper;
 import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
 import com.intellij.codeInspection.InspectionManager;
 import com.intellij.codeInspection.LocalInspectionTool;
 import com.intellij.codeInspection.ProblemDescriptor;
@@ -19,6 +22,8 @@ import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiFile;
 import org.jetbrains.annotations.NotNull;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,6 +44,7 @@ import static java.lang.String.format;
 public class DevAssistInspection extends LocalInspectionTool {
 
     private static final Logger LOGGER = Utils.getLogger(DevAssistInspection.class);
+    private static final String INSPECTION_CACHE = "inspection-results";
     private final DevAssistInspectionMgr devAssistInspectionMgr = new DevAssistInspectionMgr();
     private final ProblemDecorator problemDecorator = new ProblemDecorator();
 
@@ -53,6 +59,15 @@ public class DevAssistInspection extends LocalInspectionTool {
      */
     @Override
     public ProblemDescriptor[] checkFile(@NotNull PsiFile file, @NotNull InspectionManager manager, boolean isOnTheFly) {
+        try (ScanTracer.Span ignored = ScanTracer.span("DevAssistInspection.checkFile", file.getName())) {
+            return inspectFile(file, manager, isOnTheFly);
+        }
+    }
+
+    /**
+     * Performs the actual inspection for {@link #checkFile(PsiFile, InspectionManager, boolean)}.
+     */
+    private ProblemDescriptor[] inspectFile(@NotNull PsiFile file, @NotNull InspectionManager manager, boolean isOnTheFly) {
         VirtualFile virtualFile = file.getVirtualFile();
         if (Objects.isNull(virtualFile)) {
             LOGGER.warn(format("RTS: VirtualFile object not found for file: %s.", file.getName()));
@@ -93,10 +108,24 @@ public class DevAssistInspection extends LocalInspectionTool {
         Long cachedStamp = scanStateHolder.getTimeStamp(filePath); // This value present means a file is already scanned.
         Long compositeStamp = getCompositeTimeStamp(file, virtualFile, document);
         if (Objects.nonNull(cachedStamp) && cachedStamp.longValue() == compositeStamp.longValue()) {
+            ScanMetrics.recordCacheHit(INSPECTION_CACHE);
             LOGGER.info(format("RTS: File: %s is already scanned and retrieving existing results.", file.getName()));
             return getExistingProblemDescriptors(problemHolderService, filePath, document, file, supportedScanners, manager);
         }
+        // Issue locations follow the edits through range markers; unless an edit touched an issue line,
+        // a file whose content equals the last scanned content (e.g. after undo or save) is not rescanned
+        boolean issueLinesIntact = problemHolderService.refreshIssueLocations(filePath, document);
+        String contentHash = getContentHash(document);
+        if (Objects.nonNull(cachedStamp) && issueLinesIntact && Objects.nonNull(contentHash)
+                && contentHash.equals(scanStateHolder.getContentHash(filePath))) {
+            ScanMetrics.recordCacheHit(INSPECTION_CACHE);
+            scanStateHolder.updateTimeStamp(filePath, compositeStamp);
+            LOGGER.info(format("RTS: File: %s content is unchanged since the last scan, retrieving existing results.", file.getName()));
+            return getExistingProblemDescriptors(problemHolderService, filePath, document, file, supportedScanners, manager);
+        }
+        ScanMetrics.recordCacheMiss(INSPECTION_CACHE);
         scanStateHolder.updateTimeStamp(filePath, compositeStamp);
+        scanStateHolder.updateContentHash(filePath, contentHash);
         file.putUserData(THEME_KEY, DevAssistUtils.isDarkTheme());
         return scanFileAndCreateProblemDescriptors(file, manager, isOnTheFly, supportedScanners, document, problemHolderService, filePath);
     }
@@ -193,6 +222,29 @@ public class DevAssistInspection extends LocalInspectionTool {
                 .problemDecorator(this.problemDecorator);
     }
 
+    /**
+     * Hashes the document content with SHA-256, the digest the shared scan result cache keys on, so distinct
+     * contents are practically never taken for the last scanned one.
+     */
+    private String getContentHash(Document document) {
+        CharSequence content = document.getImmutableCharSequence();
+        if (Objects.isNull(content)) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ScanTempFileWriter.digest(digest, content);
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            LOGGER.debug("RTS: Content hash is not available: " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Builds a single “composite” stamp by XORing three stamps: PSI modificationStamp, Document modificationStamp, and VFS timeStamp.
      * By combining the modification information from the PSI (), in-memory content (), and the physical file ()
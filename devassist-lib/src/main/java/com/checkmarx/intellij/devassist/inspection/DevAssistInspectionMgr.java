@@ -3,6 +3,8 @@ package com.checkmarx.intellij.devassist.inspection;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.devassist.basescanner.ScannerService;
 import com.checkmarx.intellij.devassist.common.ScanManager;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.problems.ProblemDecorator;
 import com.checkmarx.intellij.devassist.problems.ProblemHelper;
@@ -13,6 +15,7 @@ import com.checkmarx.intellij.devassist.ui.ProblemDescription;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
@@ -27,7 +30,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -64,6 +69,7 @@ public final class DevAssistInspectionMgr extends ScanManager {
         problemHelperBuilder.scanIssueList(allScanIssues);
         //Caching all the issues in the problem holder service
         problemHelper.getProblemHolderService().addScanIssues(problemHelper.getFilePath(), allScanIssues);
+        problemHelper.getProblemHolderService().trackIssueLocations(problemHelper.getFilePath(), problemHelper.getDocument());
 
         //Creating problems
         List<ProblemDescriptor> allProblems = new ArrayList<>(createProblemDescriptorsWithDecoration(problemHelperBuilder.build()));
@@ -119,19 +125,49 @@ public final class DevAssistInspectionMgr extends ScanManager {
      * @return a {@link List} of {@link ProblemDescriptor} instances representing the detected issues, or an empty list if no issues are found.
      */
     private List<ProblemDescriptor> createProblemDescriptors(ProblemHelper problemHelper, boolean isDecoratorEnabled) {
+        long startNanos = System.nanoTime();
         List<ProblemDescriptor> problems = new ArrayList<>();
         ScanIssueProcessor processor = new ScanIssueProcessor(problemHelper);
+        Map<ScanIssue, ProblemDescriptor> previousDescriptors = isDecoratorEnabled
+                ? Collections.emptyMap()
+                : getPreviousProblemDescriptors(problemHelper);
+        int reused = 0;
 
         for (ScanIssue scanIssue : problemHelper.getScanIssueList()) {
-            ProblemDescriptor descriptor = processor.processScanIssue(scanIssue, isDecoratorEnabled);
+            ProblemDescriptor descriptor = processor.reuseProblemDescriptor(scanIssue, previousDescriptors.get(scanIssue));
+            if (descriptor != null) {
+                reused++;
+            } else {
+                descriptor = processor.processScanIssue(scanIssue, isDecoratorEnabled);
+            }
             if (descriptor != null) {
                 problems.add(descriptor);
             }
         }
-        LOGGER.info(format("RTS: Problem descriptors created: %s for file: %s", problems.size(), problemHelper.getFile().getName()));
+        ScanMetrics.recordStage(ScanEngine.ALL, ScanStage.DESCRIPTOR_CREATION, startNanos);
+        LOGGER.info(format("RTS: Problem descriptors created: %s (%s reused) for file: %s", problems.size(), reused,
+                problemHelper.getFile().getName()));
         return problems;
     }
 
+    /**
+     * Returns the current problem descriptors of the file by the issue instance they were created for. Issues
+     * recognized as unchanged by {@link ProblemHolderService#diffScanIssues} are the same instances after a rescan.
+     */
+    private Map<ScanIssue, ProblemDescriptor> getPreviousProblemDescriptors(ProblemHelper problemHelper) {
+        if (Objects.isNull(problemHelper.getProblemHolderService()) || Objects.isNull(problemHelper.getFilePath())) {
+            return Collections.emptyMap();
+        }
+        Map<ScanIssue, ProblemDescriptor> previousDescriptors = new IdentityHashMap<>();
+        for (ProblemDescriptor descriptor : problemHelper.getProblemHolderService().getProblemDescriptors(problemHelper.getFilePath())) {
+            LocalQuickFix[] fixes = descriptor.getFixes();
+            if (Objects.nonNull(fixes) && fixes.length > 0 && fixes[0] instanceof DevAssistFix) {
+                previousDescriptors.put(((DevAssistFix) fixes[0]).getScanIssue(), descriptor);
+            }
+        }
+        return previousDescriptors;
+    }
+
     /**
      * Gets all supported and enabled scanners for the given file path.
      *
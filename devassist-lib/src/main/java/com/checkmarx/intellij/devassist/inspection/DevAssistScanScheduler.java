@@ -2,19 +2,27 @@ package com.checkmarx.intellij.devassist.inspection;
 
 import com.checkmarx.intellij.common.resources.Bundle;
 import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
+import com.checkmarx.intellij.devassist.diagnostics.ScanTracer;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.problems.ProblemHelper;
 import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
+import com.checkmarx.intellij.devassist.problems.ScanIssueIdentity;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
 import com.intellij.codeInspection.ProblemDescriptor;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.progress.ProcessCanceledException;
 import com.intellij.openapi.progress.ProgressIndicator;
 import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
@@ -22,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static com.checkmarx.intellij.devassist.utils.DevAssistConstants.Keys.SCHEDULER_INSTANCE_KEY;
@@ -32,6 +41,9 @@ import static java.lang.String.format;
  * If multiple scan requests are made for the same file within a short period,
  * only the latest request will be executed after a delay. This helps to avoid
  * redundant scans and improves performance.
+ * <p>
+ * Before a debounced scan is dispatched the {@link ScanLoadGovernor} is consulted, which defers scans while the
+ * IDE is indexing or in power-save mode and limits how many scans run at once under high load.
  */
 public class DevAssistScanScheduler {
 
@@ -100,6 +112,8 @@ public class DevAssistScanScheduler {
                 scanRequestTimeMap.put(filePath, requestTime);
                 // Use per-file Alarm for debouncing
                 Alarm alarm = fileAlarms.computeIfAbsent(filePath, k -> new Alarm(Alarm.ThreadToUse.POOLED_THREAD, project));
+                ScanMetrics.scanQueued();
+                ScanTracer.instant("DevAssistScanScheduler.scheduleScan", filePath);
                 alarm.addRequest(() -> executeBackgroundScan(filePath, problemHelper, requestTime, scanEngine), SCHEDULED_DELAY);
             } finally {
                 lock.unlock();
@@ -119,9 +133,24 @@ public class DevAssistScanScheduler {
      * @param requestTime   scan request time
      */
     private void executeBackgroundScan(@NotNull String filePath, @NotNull ProblemHelper problemHelper, long requestTime, ScanEngine scanEngine) {
+        ScanMetrics.scanDequeued();
         if (isRequestOutdated(filePath, requestTime)) {
             return;
         }
+        long debounceMillis = System.currentTimeMillis() - requestTime;
+        ScanMetrics.histogram(ScanEngine.ALL, ScanStage.DEBOUNCE).record(debounceMillis, TimeUnit.MILLISECONDS);
+        long now = System.nanoTime();
+        ScanTracer.complete("Debounce", filePath, now - TimeUnit.MILLISECONDS.toNanos(debounceMillis), now);
+        ScanLoadGovernor loadGovernor = ScanLoadGovernor.getInstance(project);
+        if (loadGovernor.shouldDefer()) {
+            // Coalesced per file: a single full catch-up scan runs once indexing or power-save mode ends
+            loadGovernor.defer(filePath, () -> {
+                if (problemHelper.getFile().isValid()) {
+                    scheduleScan(filePath, problemHelper, ScanEngine.ALL);
+                }
+            });
+            return;
+        }
         // Submit the task to execute with a progress bar
         new Task.Backgroundable(project, Bundle.message(Resource.STARTING_CHECKMARX_SCAN), true) {
             @Override
@@ -129,11 +158,20 @@ public class DevAssistScanScheduler {
                 indicator.setText("Checkmarx is Scanning File : " + problemHelper.getFile().getName());
                 indicator.setIndeterminate(true);
                 scanIndicators.put(filePath, indicator); // Track this scan
+                boolean slotAcquired = false;
                 try {
+                    // Wait for a free slot under the load-dependent concurrency limit
+                    ScanLoadGovernor.acquireScanSlot(indicator);
+                    slotAcquired = true;
                     runScan(filePath, problemHelper, scanEngine);
+                } catch (ProcessCanceledException e) {
+                    throw e;
                 } catch (Exception e) {
                     LOGGER.warn(format("RTS: Error occurred while executing scan for file: %s", filePath), e);
                 } finally {
+                    if (slotAcquired) {
+                        ScanLoadGovernor.releaseScanSlot();
+                    }
                     removeProgressIndicator(filePath);
                 }
             }
@@ -153,8 +191,11 @@ public class DevAssistScanScheduler {
      * @param problemHelper a {@link ProblemHelper} instance containing context for creating problem descriptors, cannot be null
      */
     private void runScan(@NotNull String filePath, @NotNull ProblemHelper problemHelper, ScanEngine scanEngine) {
-        try {
+        boolean publishing = false;
+        try (ScanTracer.Span ignored = ScanTracer.span("DevAssistScanScheduler.runScan", filePath)) {
             LOGGER.info(format("RTS: Scheduled scan started for file: %s", filePath));
+            Document document = problemHelper.getDocument();
+            long documentStamp = Objects.isNull(document) ? 0L : document.getModificationStamp();
             List<ScanIssue> scanIssues = cxOneAssistInspectionMgr.scanFile(
                     problemHelper.getFilePath(), problemHelper.getFile(), scanEngine);
 
@@ -162,12 +203,8 @@ public class DevAssistScanScheduler {
                 LOGGER.info(format("RTS: Scheduled scan completed with no issues for file: %s", filePath));
                 resetCachedData(problemHelper, scanEngine);
             } else {
-                ApplicationManager.getApplication().invokeLater(() -> {
-                    List<ProblemDescriptor> descriptors = cxOneAssistInspectionMgr.createProblemDescriptorsWithoutDecoration(
-                            problemHelper.toBuilder(problemHelper).scanIssueList(scanIssues).build());
-
-                    cacheScanResults(problemHelper, filePath, scanIssues, descriptors, scanEngine);
-                }, ModalityState.NON_MODAL);
+                publishScanResults(filePath, problemHelper, scanIssues, scanEngine, documentStamp);
+                publishing = true;
             }
             ApplicationManager.getApplication().runReadAction(() ->
                     cxOneAssistInspectionMgr.updateScanSourceFlag(problemHelper.getFile(), Boolean.TRUE)); // To identify the scan source
@@ -175,7 +212,53 @@ public class DevAssistScanScheduler {
         } catch (Exception e) {
             LOGGER.warn(format("RTS: Exception occurred while running scheduled scan for the file: %s", filePath), e);
         } finally {
-            restartFileAfterScan(problemHelper);
+            if (!publishing) {
+                restartFileAfterScan(problemHelper);
+            }
+        }
+    }
+
+    /**
+     * Prepares the problem descriptors of the scan issues in a non-blocking read action and publishes them on the
+     * EDT in one step, then restarts the file. The preparation does not modify any published issue, so it can be
+     * restarted safely. It is canceled when the document changes again, the file becomes invalid or a newer scan
+     * result of the file is prepared; the newer scan publishes instead, and the file is restarted either way.
+     *
+     * @param documentStamp the document modification stamp when the scan started
+     */
+    private void publishScanResults(@NotNull String filePath, @NotNull ProblemHelper problemHelper, @NotNull List<ScanIssue> scanIssues,
+                                    ScanEngine scanEngine, long documentStamp) {
+        Document document = problemHelper.getDocument();
+        ReadAction.nonBlocking(() -> prepareScanResults(filePath, problemHelper, scanIssues, scanEngine))
+                .expireWhen(() -> project.isDisposed() || !problemHelper.getFile().isValid()
+                        || (Objects.nonNull(document) && document.getModificationStamp() != documentStamp))
+                .coalesceBy(this, filePath)
+                .finishOnUiThread(ModalityState.NON_MODAL, preparedResults -> {
+                    try (ScanTracer.Span ignored = ScanTracer.span("Publish scan results", filePath)) {
+                        cacheScanResults(problemHelper, filePath, preparedResults.diff.apply(), preparedResults.descriptors,
+                                scanEngine, preparedResults.diff.isUnchanged());
+                    }
+                    restartFileAfterScan(problemHelper);
+                })
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .onError(error -> restartFileAfterScan(problemHelper));
+    }
+
+    /**
+     * Matches the scan issues against the current issues of the file and creates their problem descriptors.
+     * Runs in a read action.
+     */
+    private PreparedScanResults prepareScanResults(@NotNull String filePath, @NotNull ProblemHelper problemHelper,
+                                                   @NotNull List<ScanIssue> scanIssues, ScanEngine scanEngine) {
+        try (ScanTracer.Span ignored = ScanTracer.span("Create problem descriptors", filePath)) {
+            // Unchanged issues keep their instances, so their problem descriptors are reused
+            ScanIssueIdentity.Diff diff = problemHelper.getProblemHolderService()
+                    .diffScanIssues(filePath, scanIssues, problemHelper.getDocument(), scanEngine);
+            LOGGER.info(format("RTS: Scheduled scan issues for file: %s, added: %s, removed: %s, moved: %s",
+                    filePath, diff.getAdded(), diff.getRemoved(), diff.getMoved()));
+            List<ProblemDescriptor> descriptors = cxOneAssistInspectionMgr.createProblemDescriptorsWithoutDecoration(
+                    problemHelper.toBuilder(problemHelper).scanIssueList(diff.getIssues()).build());
+            return new PreparedScanResults(diff, descriptors);
         }
     }
 
@@ -189,7 +272,10 @@ public class DevAssistScanScheduler {
         try {
             Alarm alarm = fileAlarms.get(filePath);
             if (alarm != null) {
-                alarm.cancelAllRequests();
+                int canceledRequests = alarm.cancelAllRequests();
+                for (int i = 0; i < canceledRequests; i++) {
+                    ScanMetrics.scanDequeued();
+                }
                 removeProgressIndicator(filePath);
             }
         } catch (Exception e) {
@@ -234,13 +320,18 @@ public class DevAssistScanScheduler {
     }
 
     /**
-     * Caches the scan results for future use.
+     * Caches the scan results for future use. Subscribers are not notified when the rescan reported the same issues.
      */
-    private void cacheScanResults(@NotNull ProblemHelper problemHelper, @NotNull String filePath,
-                                  @NotNull List<ScanIssue> scanIssues, @NotNull List<ProblemDescriptor> problems, ScanEngine scanEngine) {
+    private void cacheScanResults(@NotNull ProblemHelper problemHelper, @NotNull String filePath, @NotNull List<ScanIssue> scanIssues,
+                                  @NotNull List<ProblemDescriptor> problems, ScanEngine scanEngine, boolean unchanged) {
         ProblemHolderService holderService = problemHelper.getProblemHolderService();
         if (scanEngine == ScanEngine.ALL) {
-            holderService.addScanIssues(filePath, scanIssues);
+            if (unchanged) {
+                // Subscribers such as the findings tree already show the same issues
+                holderService.addScanIssues(filePath, scanIssues, false);
+            } else {
+                holderService.addScanIssues(filePath, scanIssues);
+            }
             holderService.addProblemDescriptors(filePath, problems);
         } else {
             holderService.removeScanIssuesByFileAndScanner(scanEngine.name(), filePath);
@@ -248,6 +339,7 @@ public class DevAssistScanScheduler {
             holderService.removeProblemDescriptorsForFileByScanner(problemHelper.getFilePath(), scanEngine);
             holderService.mergeProblemDescriptors(filePath, problems);
         }
+        holderService.trackIssueLocations(filePath, problemHelper.getDocument());
     }
 
     /**
@@ -283,7 +375,9 @@ public class DevAssistScanScheduler {
         ApplicationManager.getApplication().invokeLater(() -> {
             if (!isProjectDisposed("restarting file after scan", filePath)
                     && problemHelper.getFile().isValid()) {
-                DaemonCodeAnalyzer.getInstance(project).restart(problemHelper.getFile());
+                try (ScanTracer.Span ignored = ScanTracer.span("DaemonCodeAnalyzer.restart", filePath)) {
+                    DaemonCodeAnalyzer.getInstance(project).restart(problemHelper.getFile());
+                }
                 LOGGER.warn(format("RTS: DaemonCodeAnalyzer restarted for file: %s", problemHelper.getFile().getName()));
             }
         }, ModalityState.NON_MODAL); // Ensure the UI writing is safe in a non-modal state
@@ -302,4 +396,17 @@ public class DevAssistScanScheduler {
         }
         return false;
     }
+
+    /**
+     * Scan issues and problem descriptors ready to be published.
+     */
+    private static final class PreparedScanResults {
+        private final ScanIssueIdentity.Diff diff;
+        private final List<ProblemDescriptor> descriptors;
+
+        private PreparedScanResults(ScanIssueIdentity.Diff diff, List<ProblemDescriptor> descriptors) {
+            this.diff = diff;
+            this.descriptors = descriptors;
+        }
+    }
 }
@@ -8,12 +8,14 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * A service that maintains a map of file paths to their corresponding modification timestamps.
+ * A service that maintains a map of file paths to their corresponding modification timestamps
+ * and to the content hash of their last scan.
  */
 @Service(Service.Level.PROJECT)
 public final class DevAssistScanStateHolder {
 
     private final Map<String, Long> fileModifiedTimeStamp = new ConcurrentHashMap<>();
+    private final Map<String, String> fileScannedContentHash = new ConcurrentHashMap<>();
 
     /**
      * Returns the instance of this service for the given project.
@@ -31,4 +33,18 @@ public final class DevAssistScanStateHolder {
     public void updateTimeStamp(String filePath, Long compositeStamp) {
         fileModifiedTimeStamp.put(filePath, compositeStamp);
     }
+
+    // Utility method to get the content hash of the last scan of a file
+    public String getContentHash(String filePath) {
+        return fileScannedContentHash.get(filePath);
+    }
+
+    // Utility method to update the content hash of the last scan of a file; a null hash removes it
+    public void updateContentHash(String filePath, String contentHash) {
+        if (contentHash == null) {
+            fileScannedContentHash.remove(filePath);
+        } else {
+            fileScannedContentHash.put(filePath, contentHash);
+        }
+    }
 }
@@ -0,0 +1,223 @@
+package com.checkmarx.intellij.devassist.inspection;
+
+import com.checkmarx.intellij.common.utils.Utils;
+import com.intellij.ide.PowerSaveMode;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.messages.MessageBusConnection;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.checkmarx.intellij.devassist.utils.DevAssistConstants.Keys.LOAD_GOVERNOR_INSTANCE_KEY;
+import static java.lang.String.format;
+
+/**
+ * Load-aware gate consulted by {@link DevAssistScanScheduler} before a debounced scan is dispatched.
+ * <p>
+ * While the project is indexing (dumb mode) or power-save mode is on, scans are not dispatched but deferred.
+ * Deferred scans are coalesced per file, so once the IDE becomes idle again every dirty file gets exactly one
+ * catch-up scan, no matter how often it was edited in between.
+ * <p>
+ * Dispatched scans additionally share an application-wide concurrency limit that shrinks when the system load
+ * average or the IDE process CPU usage is high, so realtime scans do not compete with builds and syncs.
+ */
+public class ScanLoadGovernor {
+
+    private static final Logger LOGGER = Utils.getLogger(ScanLoadGovernor.class);
+
+    /**
+     * Upper bound of concurrently running file scans when the machine is idle.
+     */
+    public static final int MAX_CONCURRENT_SCANS = 4;
+    private static final long LOAD_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final long SLOT_POLL_INTERVAL_MS = 100;
+
+    private static final Object SLOT_LOCK = new Object();
+    private static int runningScans;
+    private static int concurrencyLimit = MAX_CONCURRENT_SCANS;
+    private static long lastLoadSampleNanos;
+
+    private final Project project;
+    // Latest catch-up scan per file, in the order files became dirty
+    private final Map<String, Runnable> deferredScans = new LinkedHashMap<>();
+    private final AtomicBoolean resumeScheduled = new AtomicBoolean();
+
+    private ScanLoadGovernor(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Returns the governor of the given project, creating it on first use.
+     *
+     * @param project - The IntelliJ Project instance
+     * @return the project governor
+     */
+    public static synchronized ScanLoadGovernor getInstance(@NotNull Project project) {
+        ScanLoadGovernor existingGovernor = project.getUserData(LOAD_GOVERNOR_INSTANCE_KEY);
+        if (existingGovernor != null) return existingGovernor;
+        ScanLoadGovernor newGovernor = new ScanLoadGovernor(project);
+        project.putUserData(LOAD_GOVERNOR_INSTANCE_KEY, newGovernor);
+        return newGovernor;
+    }
+
+    /**
+     * Checks whether scans should currently be deferred instead of dispatched.
+     *
+     * @return true while the project is in dumb mode or power-save mode is enabled
+     */
+    public boolean shouldDefer() {
+        return PowerSaveMode.isEnabled() || DumbService.isDumb(project);
+    }
+
+    /**
+     * Defers the scan of a file until the IDE is idle again. A later deferral of the same file replaces the
+     * earlier one, so each dirty file is scanned once on resume.
+     *
+     * @param filePath the file to catch up on
+     * @param catchUp  re-schedules the scan of the file; invoked once the IDE is idle
+     */
+    public void defer(@NotNull String filePath, @NotNull Runnable catchUp) {
+        synchronized (deferredScans) {
+            deferredScans.remove(filePath);
+            deferredScans.put(filePath, catchUp);
+        }
+        LOGGER.debug(format("RTS: IDE is busy (indexing or power save), deferring scan for file: %s", filePath));
+        scheduleResume();
+    }
+
+    /**
+     * Returns the number of files waiting for a catch-up scan.
+     */
+    public int getDeferredCount() {
+        synchronized (deferredScans) {
+            return deferredScans.size();
+        }
+    }
+
+    /**
+     * Runs the catch-up scans if the IDE is idle; otherwise waits for the next idle moment again.
+     */
+    public void resume() {
+        resumeScheduled.set(false);
+        if (project.isDisposed()) {
+            return;
+        }
+        if (shouldDefer()) {
+            scheduleResume();
+            return;
+        }
+        List<Runnable> catchUps;
+        synchronized (deferredScans) {
+            catchUps = new ArrayList<>(deferredScans.values());
+            deferredScans.clear();
+        }
+        if (!catchUps.isEmpty()) {
+            LOGGER.info(format("RTS: IDE is idle again, running catch-up scans for %d deferred file(s).", catchUps.size()));
+        }
+        catchUps.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers a one-shot trigger that calls {@link #resume()} when the current busy state ends.
+     */
+    private void scheduleResume() {
+        if (!resumeScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        if (PowerSaveMode.isEnabled()) {
+            MessageBusConnection connection = ApplicationManager.getApplication().getMessageBus().connect(project);
+            AtomicBoolean fired = new AtomicBoolean();
+            Runnable resumeOnce = () -> {
+                if (fired.compareAndSet(false, true)) {
+                    connection.disconnect();
+                    resume();
+                }
+            };
+            connection.subscribe(PowerSaveMode.TOPIC, (PowerSaveMode.Listener) () -> {
+                if (!PowerSaveMode.isEnabled()) {
+                    resumeOnce.run();
+                }
+            });
+            // Power save mode may have been turned off before the listener was subscribed
+            if (!PowerSaveMode.isEnabled()) {
+                resumeOnce.run();
+            }
+        } else {
+            DumbService.getInstance(project).runWhenSmart(this::resume);
+        }
+    }
+
+    /**
+     * Blocks until a scan slot is free under the current load-dependent concurrency limit.
+     *
+     * @param indicator the progress indicator of the waiting scan; cancellation aborts the wait
+     */
+    public static void acquireScanSlot(@NotNull ProgressIndicator indicator) throws InterruptedException {
+        synchronized (SLOT_LOCK) {
+            while (runningScans >= currentConcurrencyLimit()) {
+                indicator.checkCanceled();
+                SLOT_LOCK.wait(SLOT_POLL_INTERVAL_MS);
+            }
+            runningScans++;
+        }
+    }
+
+    /**
+     * Frees a slot taken by {@link #acquireScanSlot(ProgressIndicator)}.
+     */
+    public static void releaseScanSlot() {
+        synchronized (SLOT_LOCK) {
+            runningScans = Math.max(0, runningScans - 1);
+            SLOT_LOCK.notifyAll();
+        }
+    }
+
+    /**
+     * Computes how many file scans may run at once for the given load.
+     *
+     * @param processors        available processors
+     * @param systemLoadAverage one-minute system load average, negative if unavailable
+     * @param processCpuLoad    recent CPU usage of the IDE process in [0, 1], negative if unavailable
+     * @return the concurrency limit, at least 1
+     */
+    public static int computeConcurrencyLimit(int processors, double systemLoadAverage, double processCpuLoad) {
+        int cores = Math.max(1, processors);
+        int idleLimit = Math.max(1, Math.min(MAX_CONCURRENT_SCANS, cores / 2));
+        double loadPerCore = systemLoadAverage < 0 ? 0.0 : systemLoadAverage / cores;
+        if (loadPerCore >= 1.0 || processCpuLoad >= 0.8) {
+            return 1;
+        }
+        if (loadPerCore >= 0.7 || processCpuLoad >= 0.5) {
+            return Math.max(1, idleLimit / 2);
+        }
+        return idleLimit;
+    }
+
+    private static int currentConcurrencyLimit() {
+        long now = System.nanoTime();
+        if (lastLoadSampleNanos == 0 || now - lastLoadSampleNanos >= LOAD_SAMPLE_INTERVAL_NANOS) {
+            lastLoadSampleNanos = now;
+            OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            double processCpuLoad = os instanceof com.sun.management.OperatingSystemMXBean
+                    ? ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuLoad() : -1.0;
+            int limit = computeConcurrencyLimit(os.getAvailableProcessors(), os.getSystemLoadAverage(), processCpuLoad);
+            if (limit != concurrencyLimit) {
+                LOGGER.info(format("RTS: Adjusting realtime scan concurrency from %d to %d (load average: %.2f, IDE CPU: %.2f).",
+                        concurrencyLimit, limit, os.getSystemLoadAverage(), processCpuLoad));
+                concurrencyLimit = limit;
+            }
+        }
+        return concurrencyLimit;
+    }
+}
@@ -0,0 +1,162 @@
+package com.checkmarx.intellij.devassist.listeners;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
+import com.checkmarx.intellij.common.utils.SeverityLevel;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.common.ChangedFilesScan;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vcs.CheckinProjectPanel;
+import com.intellij.openapi.vcs.changes.CommitContext;
+import com.intellij.openapi.vcs.checkin.CheckinHandler;
+import com.intellij.openapi.vcs.checkin.CheckinHandlerFactory;
+import com.intellij.openapi.vcs.ui.RefreshableOnComponent;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.ui.components.JBCheckBox;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Scans the files of a commit with the enabled realtime engines before the commit is made, see
+ * {@link ChangedFilesScan#scanFiles}.
+ * <p>
+ * The scan runs under a modal progress within a fixed time budget, so it never holds the commit dialog for
+ * long; files not scanned in time are reported as a partial result. When issues are found the developer can
+ * commit anyway or go back to review them; the issues are published to the findings window either way.
+ * <p>
+ * The scan can be turned off with an option of the commit dialog, stored in
+ * {@link GlobalSettingsState#isScanBeforeCommit()}.
+ */
+public class DevAssistCheckinHandlerFactory extends CheckinHandlerFactory {
+
+    private static final Logger LOGGER = Utils.getLogger(DevAssistCheckinHandlerFactory.class);
+
+    public static final long TIME_BUDGET_MS = 5000;
+
+    @Override
+    public @NotNull CheckinHandler createHandler(@NotNull CheckinProjectPanel panel, @NotNull CommitContext commitContext) {
+        return new DevAssistCheckinHandler(panel);
+    }
+
+    /**
+     * Counts the reportable issues by severity, most severe first; OK, unknown and ignored results are left out.
+     *
+     * @param scanIssues the issues
+     * @return the number of issues per severity, only severities with issues
+     */
+    public static Map<SeverityLevel, Long> countBySeverity(@NotNull Collection<ScanIssue> scanIssues) {
+        return scanIssues.stream()
+                .map(scanIssue -> SeverityLevel.fromValue(scanIssue.getSeverity()))
+                .filter(severity -> severity.getPrecedence() <= SeverityLevel.LOW.getPrecedence())
+                .collect(Collectors.groupingBy(severity -> severity, () -> new EnumMap<>(SeverityLevel.class), Collectors.counting()));
+    }
+
+    private static final class DevAssistCheckinHandler extends CheckinHandler {
+
+        private final CheckinProjectPanel panel;
+
+        private DevAssistCheckinHandler(@NotNull CheckinProjectPanel panel) {
+            this.panel = panel;
+        }
+
+        @Override
+        public RefreshableOnComponent getBeforeCheckinConfigurationPanel() {
+            JBCheckBox checkBox = new JBCheckBox(Bundle.message(Resource.PRE_COMMIT_SCAN_OPTION));
+            return new RefreshableOnComponent() {
+                @Override
+                public JComponent getComponent() {
+                    return checkBox;
+                }
+
+                @Override
+                public void saveState() {
+                    GlobalSettingsState.getInstance().setScanBeforeCommit(checkBox.isSelected());
+                }
+
+                @Override
+                public void restoreState() {
+                    checkBox.setSelected(GlobalSettingsState.getInstance().isScanBeforeCommit());
+                }
+            };
+        }
+
+        @Override
+        public ReturnResult beforeCheckin() {
+            Project project = panel.getProject();
+            if (!GlobalSettingsState.getInstance().isScanBeforeCommit() || !ChangedFilesScan.hasEnabledEngine()) {
+                return ReturnResult.COMMIT;
+            }
+            List<String> filePaths = panel.getVirtualFiles().stream()
+                    .filter(VirtualFile::isValid)
+                    .map(VirtualFile::getPath)
+                    .sorted()
+                    .collect(Collectors.toList());
+            if (filePaths.isEmpty()) {
+                return ReturnResult.COMMIT;
+            }
+            ChangedFilesScan.Outcome outcome;
+            try {
+                outcome = ProgressManager.getInstance().runProcessWithProgressSynchronously(
+                        () -> ChangedFilesScan.scanFiles(project, filePaths, ProgressManager.getInstance().getProgressIndicator(), TIME_BUDGET_MS),
+                        Bundle.message(Resource.PRE_COMMIT_SCAN_TITLE), true, project);
+            } catch (ProcessCanceledException e) {
+                LOGGER.info("RTS: Pre-commit scan cancelled, committing without results.");
+                return ReturnResult.COMMIT;
+            }
+            if (project.isDisposed()) {
+                return ReturnResult.COMMIT;
+            }
+            ProblemHolderService.getInstance(project).replaceScanIssues(outcome.getIssuesByEngine());
+            return report(project, outcome);
+        }
+
+        /**
+         * Asks whether to commit when issues were found, and notifies when the scan was partial.
+         */
+        private ReturnResult report(@NotNull Project project, @NotNull ChangedFilesScan.Outcome outcome) {
+            List<ScanIssue> scanIssues = outcome.getIssuesByEngine().values().stream()
+                    .flatMap(issuesByFile -> issuesByFile.values().stream())
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            Map<SeverityLevel, Long> countBySeverity = countBySeverity(scanIssues);
+            long total = countBySeverity.values().stream().mapToLong(Long::longValue).sum();
+            String partial = outcome.isComplete() ? ""
+                    : " " + Bundle.message(Resource.PRE_COMMIT_PARTIAL, TimeUnit.MILLISECONDS.toSeconds(TIME_BUDGET_MS));
+            LOGGER.info(format("RTS: Pre-commit scan found %d issue(s) in %d file(s), complete: %s.",
+                    total, panel.getVirtualFiles().size(), outcome.isComplete()));
+            if (total == 0) {
+                if (!outcome.isComplete()) {
+                    Utils.notify(project, Bundle.message(Resource.PRE_COMMIT_NO_ISSUES) + partial, NotificationType.WARNING);
+                }
+                return ReturnResult.COMMIT;
+            }
+            String counts = countBySeverity.entrySet().stream()
+                    .map(entry -> entry.getValue() + " " + entry.getKey().getSeverity())
+                    .collect(Collectors.joining(", "));
+            int answer = Messages.showOkCancelDialog(project,
+                    Bundle.message(Resource.PRE_COMMIT_ISSUES_FOUND, total, counts) + partial,
+                    Bundle.message(Resource.PRE_COMMIT_DIALOG_TITLE),
+                    Bundle.message(Resource.PRE_COMMIT_COMMIT_ANYWAY),
+                    Bundle.message(Resource.PRE_COMMIT_REVIEW),
+                    Messages.getWarningIcon());
+            return answer == Messages.OK ? ReturnResult.COMMIT : ReturnResult.CANCEL;
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.checkmarx.intellij.devassist.listeners;
 
 import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.inspection.DevAssistScanStateHolder;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.problems.ProblemDecorator;
 import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsChunkedScan;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.AppTopics;
+import com.intellij.codeInsight.daemon.DaemonCodeAnalyzer;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.fileEditor.FileDocumentManagerListener;
 import com.intellij.openapi.fileEditor.FileEditorManager;
 import com.intellij.openapi.fileEditor.FileEditorManagerListener;
 import com.intellij.openapi.project.Project;
@@ -56,8 +64,44 @@ public class DevAssistFileListener {
             @Override
             public void fileClosed(@NotNull FileEditorManager source, @NotNull VirtualFile file) {
                 //removeProblemDescriptor(source.getProject(), file.getPath());
+                if (source.isFileOpen(file)) return;
+                // The range markers would otherwise keep the document of the closed file alive
+                ProblemHolderService.getInstance(source.getProject()).untrackIssueLocations(file.getPath());
             }
         });
+        connection.subscribe(AppTopics.FILE_DOCUMENT_SYNC, new FileDocumentManagerListener() {
+            @Override
+            public void beforeDocumentSaving(@NotNull Document document) {
+                rescanSavedLargeFile(project, document);
+            }
+        });
+    }
+
+    /**
+     * Files too large for realtime secrets scans keep their previous secrets until saved (see
+     * {@link SecretsChunkedScan#isSaveOnly(long)}), so a save of such a file scanned in this project triggers a
+     * rescan of the saved content.
+     *
+     * @param project  the project
+     * @param document the document being saved
+     */
+    private static void rescanSavedLargeFile(Project project, Document document) {
+        if (project.isDisposed() || !SecretsChunkedScan.isSaveOnly(document.getTextLength())) return;
+        VirtualFile file = FileDocumentManager.getInstance().getFile(document);
+        if (file == null) return;
+        DevAssistScanStateHolder scanStateHolder = DevAssistScanStateHolder.getInstance(project);
+        if (scanStateHolder.getTimeStamp(file.getPath()) == null) return;
+
+        // Runs after the save completed, so the scan sees the file without unsaved changes
+        ApplicationManager.getApplication().invokeLater(() -> {
+            if (project.isDisposed() || !file.isValid()) return;
+            PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+            if (psiFile == null) return;
+            // The content was already inspected while it was being edited; forget it so it is scanned again
+            scanStateHolder.updateContentHash(file.getPath(), null);
+            DaemonCodeAnalyzer.getInstance(project).restart(psiFile);
+            LOGGER.info(format("RTS-Listener: Large file saved, rescanning file: %s", file.getName()));
+        }, ModalityState.NON_MODAL);
     }
 
     /**
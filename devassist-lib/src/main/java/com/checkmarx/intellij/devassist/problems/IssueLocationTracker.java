@@ -0,0 +1,93 @@
+package com.checkmarx.intellij.devassist.problems;
+
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.RangeMarker;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Tracks the locations of the realtime findings of one file with {@link RangeMarker}s, so they follow the edits
+ * made between two scans.
+ * <p>
+ * Each location line is backed by a marker covering the line text at scan time. {@link #refresh()} moves the
+ * locations to the current lines of their markers and reports whether an edit touched one of the finding lines,
+ * in which case the file has to be rescanned.
+ */
+public final class IssueLocationTracker {
+
+    @Getter
+    private final Document document;
+    private final List<TrackedLocation> trackedLocations = new ArrayList<>();
+
+    /**
+     * Creates markers for all locations of the given issues.
+     *
+     * @param document the document of the scanned file
+     * @param issues   the issues of the file, their locations at the lines of the current document content
+     */
+    public IssueLocationTracker(Document document, List<ScanIssue> issues) {
+        this.document = document;
+        for (ScanIssue issue : issues) {
+            if (Objects.isNull(issue.getLocations())) {
+                continue;
+            }
+            for (Location location : issue.getLocations()) {
+                if (DevAssistUtils.isLineOutOfRange(location.getLine(), document)) {
+                    continue;
+                }
+                int startOffset = document.getLineStartOffset(location.getLine() - 1);
+                int endOffset = document.getLineEndOffset(location.getLine() - 1);
+                RangeMarker marker = document.createRangeMarker(startOffset, endOffset);
+                trackedLocations.add(new TrackedLocation(location, marker,
+                        document.getImmutableCharSequence().subSequence(startOffset, endOffset).toString()));
+            }
+        }
+    }
+
+    /**
+     * Moves every tracked location to the current line of its marker.
+     *
+     * @return {@code true} if all finding lines are unchanged, {@code false} if an edit modified or removed one
+     */
+    public boolean refresh() {
+        boolean intact = true;
+        for (TrackedLocation trackedLocation : trackedLocations) {
+            RangeMarker marker = trackedLocation.marker;
+            if (!marker.isValid()) {
+                intact = false;
+                continue;
+            }
+            trackedLocation.location.setLine(document.getLineNumber(marker.getStartOffset()) + 1);
+            if (!trackedLocation.lineText.contentEquals(
+                    document.getImmutableCharSequence().subSequence(marker.getStartOffset(), marker.getEndOffset()))) {
+                intact = false;
+            }
+        }
+        return intact;
+    }
+
+    /**
+     * Releases the markers; the tracker must not be used afterwards.
+     */
+    public void dispose() {
+        trackedLocations.forEach(trackedLocation -> trackedLocation.marker.dispose());
+        trackedLocations.clear();
+    }
+
+    /**
+     * A location with the marker of its line and the line text at scan time.
+     */
+    @AllArgsConstructor
+    private static final class TrackedLocation {
+        private final Location location;
+        private final RangeMarker marker;
+        private final String lineText;
+    }
+}
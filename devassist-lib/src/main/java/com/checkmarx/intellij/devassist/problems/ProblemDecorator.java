@@ -3,13 +3,18 @@ package com.checkmarx.intellij.devassist.problems;
 import com.checkmarx.intellij.common.resources.CxIcons;
 import com.checkmarx.intellij.common.utils.SeverityLevel;
 import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
+import com.checkmarx.intellij.devassist.diagnostics.ScanTracer;
 import com.checkmarx.intellij.devassist.ignore.IgnoreEntry;
 import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
 import com.checkmarx.intellij.devassist.model.Location;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
@@ -24,12 +29,14 @@ import com.intellij.openapi.vfs.VfsUtilCore;
 import com.intellij.psi.PsiDocumentManager;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import lombok.Getter;
 import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -266,6 +273,10 @@ public class ProblemDecorator {
 
     /**
      * Decorating the UI for the given file.
+     * <p>
+     * The PSI lookups for the issue lines run in a non-blocking read action off the EDT; only the highlighters are
+     * added on the EDT. The decoration is dropped when the document changes before it is applied, as the
+     * following inspection pass decorates the file again.
      *
      * @param project       the project
      * @param psiFile       the psi file
@@ -273,37 +284,62 @@ public class ProblemDecorator {
      */
     public void decorateUI(Project project, PsiFile psiFile, List<ScanIssue> scanIssueList, Document document) {
         try {
-            ApplicationManager.getApplication().invokeLater(() -> {
-                // Update UI, highlight, or trigger inspection
-                removeAllHighlighters(project);
-                ProblemHelper problemHelper = ProblemHelper.builder(psiFile, project)
-                        .scanIssueList(scanIssueList)
-                        .document(document)
-                        .build();
-                for (ScanIssue scanIssue : scanIssueList) {
-                    try {
-                        int problemLineNumber = scanIssue.getLocations().get(0).getLine();
-                        PsiElement elementAtLine = DevAssistUtils.getPsiElement(psiFile, document, problemLineNumber);
-                        if (Objects.isNull(elementAtLine)) {
-                            LOGGER.warn(format("RTS-Decorator: Skipping to add gutter icon, Failed to find PSI element for line : %s , Issue: %s",
-                                    problemLineNumber, scanIssue.getTitle()));
-                            continue;
+            long documentStamp = document.getModificationStamp();
+            ReadAction.nonBlocking(() -> findIssuesToDecorate(psiFile, document, scanIssueList))
+                    .expireWhen(() -> project.isDisposed() || !psiFile.isValid() || document.getModificationStamp() != documentStamp)
+                    .coalesceBy(ProblemDecorator.class, psiFile)
+                    .finishOnUiThread(ModalityState.NON_MODAL, issuesToDecorate -> {
+                        long startNanos = System.nanoTime();
+                        try (ScanTracer.Span ignored = ScanTracer.span("ProblemDecorator.decorateUI", psiFile.getName())) {
+                            // Update UI, highlight, or trigger inspection
+                            removeAllHighlighters(project);
+                            ProblemHelper problemHelper = ProblemHelper.builder(psiFile, project)
+                                    .scanIssueList(scanIssueList)
+                                    .document(document)
+                                    .build();
+                            for (ScanIssue scanIssue : issuesToDecorate) {
+                                try {
+                                    int problemLineNumber = scanIssue.getLocations().get(0).getLine();
+                                    boolean isProblem = DevAssistUtils.isProblem(scanIssue.getSeverity().toLowerCase());
+                                    highlightLineAddGutterIconForProblem(problemHelper, scanIssue, isProblem, problemLineNumber);
+                                } catch (Exception e) {
+                                    LOGGER.debug("RTS-Decorator: Exception occurred while restoring gutter icons for: {} ",
+                                            psiFile.getName(), scanIssue.getTitle(), e.getMessage());
+                                }
+                            }
+                            decorateUIForIgnoredVulnerability(project, psiFile, scanIssueList);
+                            ScanMetrics.recordStage(ScanEngine.ALL, ScanStage.UI_DECORATION, startNanos);
                         }
-                        boolean isProblem = DevAssistUtils.isProblem(scanIssue.getSeverity().toLowerCase());
-                        highlightLineAddGutterIconForProblem(problemHelper, scanIssue, isProblem, problemLineNumber);
-                    } catch (Exception e) {
-                        LOGGER.debug("RTS-Decorator: Exception occurred while restoring gutter icons for: {} ",
-                                psiFile.getName(), scanIssue.getTitle(), e.getMessage());
-                    }
-                }
-                decorateUIForIgnoredVulnerability(project, psiFile, scanIssueList);
-            }, ModalityState.NON_MODAL);
-
+                    })
+                    .submit(AppExecutorUtil.getAppExecutorService());
         } catch (Exception e) {
             LOGGER.warn(format("RTS-Decorator: Exception occurred while removing all highlighters for file: %s", psiFile.getName()), e);
         }
     }
 
+    /**
+     * Returns the issues whose line has a PSI element to attach the gutter icon to. Runs in a read action.
+     */
+    private List<ScanIssue> findIssuesToDecorate(PsiFile psiFile, Document document, List<ScanIssue> scanIssueList) {
+        List<ScanIssue> issuesToDecorate = new ArrayList<>();
+        for (ScanIssue scanIssue : scanIssueList) {
+            try {
+                int problemLineNumber = scanIssue.getLocations().get(0).getLine();
+                PsiElement elementAtLine = DevAssistUtils.getPsiElement(psiFile, document, problemLineNumber);
+                if (Objects.isNull(elementAtLine)) {
+                    LOGGER.warn(format("RTS-Decorator: Skipping to add gutter icon, Failed to find PSI element for line : %s , Issue: %s",
+                            problemLineNumber, scanIssue.getTitle()));
+                    continue;
+                }
+                issuesToDecorate.add(scanIssue);
+            } catch (Exception e) {
+                LOGGER.debug("RTS-Decorator: Exception occurred while restoring gutter icons for: {} ",
+                        psiFile.getName(), scanIssue.getTitle(), e.getMessage());
+            }
+        }
+        return issuesToDecorate;
+    }
+
     /**
      * Decorates the UI to visually indicate vulnerabilities that have been marked as ignored
      * within a given file. Adds appropriate icons or highlights in the editor to signify these ignored issues.
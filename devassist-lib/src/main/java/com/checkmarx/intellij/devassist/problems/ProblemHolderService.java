@@ -4,6 +4,7 @@ import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.remediation.DevAssistFix;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.components.Service;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
@@ -11,6 +12,7 @@ import com.intellij.util.messages.Topic;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * A service that manages scan issues and problem descriptors for files within a project.
@@ -23,6 +25,8 @@ public final class ProblemHolderService {
     // Scan issues and problem descriptors for each file
     private final Map<String, List<ScanIssue>> fileToIssues = new ConcurrentHashMap<>();
     private final Map<String, List<ProblemDescriptor>> fileProblemDescriptor = new ConcurrentHashMap<>();
+    // Markers keeping the issue locations of each file in sync with edits made after the scan
+    private final Map<String, IssueLocationTracker> fileLocationTrackers = new ConcurrentHashMap<>();
 
     public static final Topic<IssueListener> ISSUE_TOPIC = new Topic<>("ISSUES_UPDATED", IssueListener.class);
 
@@ -54,9 +58,39 @@ public final class ProblemHolderService {
      * @param scanIssues the scan issues.
      */
     public void addScanIssues(String filePath, List<ScanIssue> scanIssues) {
+        addScanIssues(filePath, scanIssues, true);
+    }
+
+    /**
+     * Adds problems for the given file.
+     *
+     * @param filePath          the file path.
+     * @param scanIssues        the scan issues.
+     * @param notifySubscribers false to skip the notification, e.g. when a rescan reported the same issues.
+     */
+    public void addScanIssues(String filePath, List<ScanIssue> scanIssues, boolean notifySubscribers) {
+        untrackIssueLocations(filePath);
         fileToIssues.put(filePath, new ArrayList<>(scanIssues));
-        // Notify subscribers immediately
-        syncWithCxOneFindings();
+        if (notifySubscribers) {
+            // Notify subscribers immediately
+            syncWithCxOneFindings();
+        }
+    }
+
+    /**
+     * Matches the issues of a rescan against the current issues of the given file, see {@link ScanIssueIdentity#diff}.
+     *
+     * @param filePath   the file path.
+     * @param newIssues  the issues of the rescan.
+     * @param document   the current document of the file.
+     * @param scanEngine the rescanned engine, or {@link ScanEngine#ALL}.
+     * @return the issues of the rescan, with the current instances of unchanged issues.
+     */
+    public ScanIssueIdentity.Diff diffScanIssues(String filePath, List<ScanIssue> newIssues, Document document, ScanEngine scanEngine) {
+        List<ScanIssue> previousIssues = fileToIssues.getOrDefault(filePath, List.of()).stream()
+                .filter(scanIssue -> scanEngine == ScanEngine.ALL || scanIssue.getScanEngine() == scanEngine)
+                .collect(Collectors.toList());
+        return ScanIssueIdentity.diff(previousIssues, newIssues, document);
     }
 
     /**
@@ -84,6 +118,7 @@ public final class ProblemHolderService {
     public void removeScanIssues(String filePath) {
         if (Objects.nonNull(filePath) && !filePath.isEmpty() && fileToIssues.containsKey(filePath)) {
             fileToIssues.remove(filePath);
+            untrackIssueLocations(filePath);
             syncWithCxOneFindings();
         }
     }
@@ -115,6 +150,7 @@ public final class ProblemHolderService {
             return;
         }
         scanIssuesList.removeIf(scanIssue -> scannerType.equalsIgnoreCase(scanIssue.getScanEngine().name()));
+        untrackIssueLocations(filePath);
         syncWithCxOneFindings();
     }
 
@@ -125,6 +161,7 @@ public final class ProblemHolderService {
      * @param newIssues the new issues to add.
      */
     public void mergeScanIssues(String filePath, List<ScanIssue> newIssues) {
+        untrackIssueLocations(filePath);
         fileToIssues.compute(filePath, (key, existingIssues) -> {
             List<ScanIssue> updatedList = (Objects.isNull(existingIssues) || existingIssues.isEmpty())
                     ? new ArrayList<>()
@@ -135,6 +172,93 @@ public final class ProblemHolderService {
         syncWithCxOneFindings();
     }
 
+    /**
+     * Replaces the issues of one scanner for many files at once and notifies subscribers a single time.
+     * Issues of other scanners are kept; files left without any issue are removed.
+     *
+     * @param scanEngine   the scanner whose issues are replaced
+     * @param issuesByFile new issues per file path; an empty list clears the scanner's issues of that file
+     */
+    public void replaceScanIssuesOfType(ScanEngine scanEngine, Map<String, List<ScanIssue>> issuesByFile) {
+        if (Objects.isNull(scanEngine) || Objects.isNull(issuesByFile) || issuesByFile.isEmpty()) {
+            return;
+        }
+        replaceScanIssues(Map.of(scanEngine, issuesByFile));
+    }
+
+    /**
+     * Replaces the issues of several scanners for many files at once and notifies subscribers a single time.
+     * Issues of scanners that are not part of the update are kept; files left without any issue are removed.
+     *
+     * @param issuesByEngine new issues per scanner and file path; an empty list clears the scanner's issues of
+     *                       that file
+     */
+    public void replaceScanIssues(Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine) {
+        if (Objects.isNull(issuesByEngine) || issuesByEngine.values().stream().allMatch(Map::isEmpty)) {
+            return;
+        }
+        issuesByEngine.forEach((scanEngine, issuesByFile) -> {
+            issuesByFile.keySet().forEach(this::untrackIssueLocations);
+            issuesByFile.forEach((filePath, newIssues) -> fileToIssues.compute(filePath, (key, existingIssues) -> {
+                List<ScanIssue> updatedList = new ArrayList<>();
+                if (Objects.nonNull(existingIssues)) {
+                    existingIssues.stream()
+                            .filter(scanIssue -> scanIssue.getScanEngine() != scanEngine)
+                            .forEach(updatedList::add);
+                }
+                if (Objects.nonNull(newIssues)) {
+                    updatedList.addAll(newIssues);
+                }
+                return updatedList.isEmpty() ? null : updatedList;
+            }));
+        });
+        syncWithCxOneFindings();
+    }
+
+    /**
+     * Backs the locations of the current issues of the given file with range markers, so they follow later edits
+     * of the document. Replaces the markers of a previous scan.
+     *
+     * @param filePath the file path.
+     * @param document the document of the file, with the content the issues were reported for.
+     */
+    public void trackIssueLocations(String filePath, Document document) {
+        untrackIssueLocations(filePath);
+        List<ScanIssue> scanIssues = fileToIssues.get(filePath);
+        if (Objects.isNull(document) || Objects.isNull(scanIssues) || scanIssues.isEmpty()) {
+            return;
+        }
+        fileLocationTrackers.put(filePath, new IssueLocationTracker(document, scanIssues));
+    }
+
+    /**
+     * Moves the issue locations of the given file to the current lines of their range markers.
+     *
+     * @param filePath the file path.
+     * @param document the current document of the file.
+     * @return true if the issue lines are still valid, false if an edit touched an issue line or the issues are not tracked.
+     */
+    public boolean refreshIssueLocations(String filePath, Document document) {
+        IssueLocationTracker tracker = fileLocationTrackers.get(filePath);
+        if (Objects.isNull(tracker)) {
+            return fileToIssues.getOrDefault(filePath, List.of()).isEmpty();
+        }
+        return tracker.getDocument() == document && tracker.refresh();
+    }
+
+    /**
+     * Disposes the range markers of the given file and releases its document. The issue locations keep their last
+     * refreshed lines, and the next inspection of the file rescans it.
+     *
+     * @param filePath the file path.
+     */
+    public void untrackIssueLocations(String filePath) {
+        IssueLocationTracker tracker = fileLocationTrackers.remove(filePath);
+        if (Objects.nonNull(tracker)) {
+            tracker.dispose();
+        }
+    }
+
     /**
      * Returns the problem descriptors for the given file.
      *
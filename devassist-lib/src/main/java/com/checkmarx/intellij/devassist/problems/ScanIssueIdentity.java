@@ -0,0 +1,172 @@
+package com.checkmarx.intellij.devassist.problems;
+
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.intellij.openapi.editor.Document;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Line independent identity of realtime scan issues, used to recognize the issues of a rescan that were already
+ * reported by the previous scan of the file.
+ * <p>
+ * Unlike {@link ScanIssue#getScanIssueId()}, which is derived from the line, the identity is built from the
+ * engine, the rule, the package, image or secret fingerprint, the reported severity and description, and the
+ * normalized text of the issue lines. An issue keeps its identity when lines are added or removed above it,
+ * and loses it when its own code changes.
+ */
+public final class ScanIssueIdentity {
+
+    private ScanIssueIdentity() {
+    }
+
+    /**
+     * Computes the identity of an issue.
+     *
+     * @param scanIssue the issue
+     * @param document  the document of the file, with the content the issue locations refer to; may be null
+     * @return the identity
+     */
+    public static String of(ScanIssue scanIssue, Document document) {
+        StringBuilder input = new StringBuilder();
+        append(input, scanIssue.getScanEngine());
+        append(input, scanIssue.getRuleId());
+        append(input, scanIssue.getTitle());
+        append(input, scanIssue.getSeverity());
+        append(input, scanIssue.getDescription());
+        append(input, scanIssue.getPackageManager());
+        append(input, scanIssue.getPackageVersion());
+        append(input, scanIssue.getImageTag());
+        append(input, scanIssue.getSimilarityId());
+        append(input, scanIssue.getSecretValue());
+        if (Objects.nonNull(document) && Objects.nonNull(scanIssue.getLocations())) {
+            CharSequence content = document.getImmutableCharSequence();
+            for (Location location : scanIssue.getLocations()) {
+                if (DevAssistUtils.isLineOutOfRange(location.getLine(), document)) {
+                    append(input, null);
+                    continue;
+                }
+                CharSequence lineText = content.subSequence(document.getLineStartOffset(location.getLine() - 1),
+                        document.getLineEndOffset(location.getLine() - 1));
+                // Indentation and spacing changes do not change the identity
+                append(input, lineText.toString().replaceAll("\\s+", ""));
+            }
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(input.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            return input.toString();
+        }
+    }
+
+    /**
+     * Matches the issues of a rescan against the previous issues of the file. A new issue with the identity of a
+     * previous issue at the same lines is replaced by that previous instance, so everything holding the previous
+     * instance (problem descriptors, fixes, tree nodes) keeps working with it; a matched issue at other lines keeps
+     * its new instance, as the descriptors of the previous instance no longer fit it.
+     * <p>
+     * The match does not modify any issue, so it may run in a read action that is canceled and restarted; the
+     * new ids and details are copied onto the previous instances by {@link Diff#apply()} when publishing.
+     *
+     * @param previousIssues the issues of the previous scan, locations at their current lines
+     * @param newIssues      the issues of the rescan
+     * @param document       the current document of the file
+     * @return the outcome of the match
+     */
+    public static Diff diff(List<ScanIssue> previousIssues, List<ScanIssue> newIssues, Document document) {
+        Map<String, Deque<ScanIssue>> previousByIdentity = new HashMap<>();
+        for (ScanIssue previousIssue : previousIssues) {
+            previousByIdentity.computeIfAbsent(of(previousIssue, document), key -> new ArrayDeque<>()).add(previousIssue);
+        }
+        List<ScanIssue> issues = new ArrayList<>(newIssues.size());
+        Map<ScanIssue, ScanIssue> updates = new IdentityHashMap<>();
+        int added = 0;
+        int moved = 0;
+        for (ScanIssue newIssue : newIssues) {
+            Deque<ScanIssue> candidates = previousByIdentity.get(of(newIssue, document));
+            ScanIssue previousIssue = Objects.isNull(candidates) ? null : candidates.poll();
+            if (Objects.isNull(previousIssue)) {
+                issues.add(newIssue);
+                added++;
+            } else if (!sameLines(previousIssue.getLocations(), newIssue.getLocations())) {
+                issues.add(newIssue);
+                moved++;
+            } else {
+                updates.put(previousIssue, newIssue);
+                issues.add(previousIssue);
+            }
+        }
+        int removed = previousByIdentity.values().stream().mapToInt(Deque::size).sum();
+        return new Diff(issues, updates, added, removed, moved);
+    }
+
+    private static boolean sameLines(List<Location> previous, List<Location> current) {
+        if (Objects.isNull(previous) || Objects.isNull(current) || previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            Location previousLocation = previous.get(i);
+            Location currentLocation = current.get(i);
+            if (previousLocation.getLine() != currentLocation.getLine()
+                    || previousLocation.getStartIndex() != currentLocation.getStartIndex()
+                    || previousLocation.getEndIndex() != currentLocation.getEndIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void append(StringBuilder input, Object value) {
+        input.append(Objects.isNull(value) ? "" : value.toString().replace("|", "||")).append('|');
+    }
+
+    /**
+     * The issues of a rescan after matching them against the previous issues.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Diff {
+        /**
+         * The issues of the rescan, previous instances in place of unchanged issues.
+         */
+        private final List<ScanIssue> issues;
+        /**
+         * The new issue of each reused previous instance.
+         */
+        private final Map<ScanIssue, ScanIssue> updates;
+        private final int added;
+        private final int removed;
+        private final int moved;
+
+        /**
+         * Whether the rescan reported exactly the previous issues at the previous locations.
+         */
+        public boolean isUnchanged() {
+            return added == 0 && removed == 0 && moved == 0;
+        }
+
+        /**
+         * Copies the ids and details of the new issues onto the reused previous instances. Must be called once the
+         * issues are published, on the EDT; applying again has no further effect.
+         *
+         * @return the issues of the rescan
+         */
+        public List<ScanIssue> apply() {
+            updates.forEach((previousIssue, newIssue) -> {
+                previousIssue.setScanIssueId(newIssue.getScanIssueId());
+                previousIssue.setProblematicLineNumber(newIssue.getProblematicLineNumber());
+                previousIssue.setLocations(newIssue.getLocations());
+                previousIssue.setVulnerabilities(newIssue.getVulnerabilities());
+            });
+            return issues;
+        }
+    }
+}
@@ -56,6 +56,31 @@ public class ScanIssueProcessor {
         }
     }
 
+    /**
+     * Returns the problem descriptor created for the issue by a previous scan if it still covers the issue line,
+     * so an unchanged issue keeps its descriptor instead of getting a new one.
+     *
+     * @param scanIssue          the scan issue, the same instance the previous descriptor was created for
+     * @param previousDescriptor the descriptor of the previous scan, may be null
+     * @return the previous descriptor if it can be reused, null otherwise
+     */
+    public ProblemDescriptor reuseProblemDescriptor(@NotNull ScanIssue scanIssue, ProblemDescriptor previousDescriptor) {
+        if (Objects.isNull(previousDescriptor) || !isValidLocation(scanIssue)) {
+            return null;
+        }
+        int problemLineNumber = scanIssue.getLocations().get(0).getLine();
+        if (!isValidLineAndSeverity(problemLineNumber, scanIssue) || !DevAssistUtils.isProblem(scanIssue.getSeverity().toLowerCase())) {
+            return null;
+        }
+        PsiElement element = previousDescriptor.getPsiElement();
+        if (!Objects.equals(element, file) || !element.isValid()) {
+            return null;
+        }
+        return Objects.equals(previousDescriptor.getTextRangeInElement(), DevAssistUtils.getTextRangeForLine(document, problemLineNumber))
+                ? previousDescriptor
+                : null;
+    }
+
     /**
      * Validates that the scan issue has valid locations.
      */
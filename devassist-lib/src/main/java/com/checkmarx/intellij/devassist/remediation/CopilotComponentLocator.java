@@ -0,0 +1,254 @@
+package com.checkmarx.intellij.devassist.remediation;
+
+import com.checkmarx.intellij.common.utils.Utils;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowManager;
+import com.intellij.openapi.wm.ex.ToolWindowManagerListener;
+import com.intellij.ui.content.Content;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.AWTEventListener;
+import java.awt.event.ContainerEvent;
+import java.awt.event.HierarchyEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.checkmarx.intellij.devassist.utils.DevAssistConstants.Keys.COPILOT_LOCATOR_INSTANCE_KEY;
+
+/**
+ * Event-driven discovery of the Copilot chat components (mode selector, input field, send control).
+ * <p>
+ * Located components are cached per project as weak references, so once a component is found, later lookups
+ * only re-check the cached component instead of searching the whole tool window hierarchy again. While an
+ * automation is running ({@link #start()}), component additions and showing changes inside the Copilot tool
+ * window, enablement changes of cached components and tool window state events are observed: added subtrees
+ * are searched for the components still missing, and waiting callers are woken up through {@link #awaitChange}
+ * instead of re-checking on a fixed interval.
+ * <p>
+ * All lookups and event handling happen on the EDT.
+ */
+public final class CopilotComponentLocator {
+
+    private static final Logger LOGGER = Utils.getLogger(CopilotComponentLocator.class);
+
+    private static final long UI_EVENT_MASK = AWTEvent.CONTAINER_EVENT_MASK | AWTEvent.HIERARCHY_EVENT_MASK;
+
+    // Signalled on every relevant UI change; at most one pending permit, so waiters re-check once per burst
+    private static final Semaphore UI_CHANGED = new Semaphore(0);
+    private static final PropertyChangeListener ENABLED_LISTENER = event -> signalChange();
+
+    /**
+     * Copilot chat components located by {@link #locate}.
+     */
+    public enum Kind {
+        MODE_COMBO_BOX,
+        MODE_BUTTON,
+        INPUT_FIELD,
+        SEND_BUTTON,
+        SEND_ACTION_BUTTON
+    }
+
+    private final Project project;
+    private final Map<Kind, WeakReference<Component>> located = new ConcurrentHashMap<>();
+    private final Map<Kind, Function<Component, ? extends Component>> finders = new ConcurrentHashMap<>();
+    private final AWTEventListener uiListener = this::onUiEvent;
+    private volatile WeakReference<ToolWindow> toolWindowRef = new WeakReference<>(null);
+    private int sessions;
+    private @Nullable Disposable sessionDisposable;
+
+    private CopilotComponentLocator(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Returns the locator of the given project, creating it on first use.
+     *
+     * @param project - The IntelliJ Project instance
+     * @return the project locator
+     */
+    public static synchronized CopilotComponentLocator getInstance(@NotNull Project project) {
+        CopilotComponentLocator existingLocator = project.getUserData(COPILOT_LOCATOR_INSTANCE_KEY);
+        if (existingLocator != null) return existingLocator;
+        CopilotComponentLocator newLocator = new CopilotComponentLocator(project);
+        project.putUserData(COPILOT_LOCATOR_INSTANCE_KEY, newLocator);
+        return newLocator;
+    }
+
+    /**
+     * Starts observing UI events for a running automation; every call must be paired with {@link #stop()}.
+     */
+    public synchronized void start() {
+        if (sessions++ > 0) {
+            return;
+        }
+        Toolkit.getDefaultToolkit().addAWTEventListener(uiListener, UI_EVENT_MASK);
+        sessionDisposable = Disposer.newDisposable("CxCopilotComponentLocator");
+        if (!project.isDisposed()) {
+            Disposer.register(project, sessionDisposable);
+            project.getMessageBus().connect(sessionDisposable).subscribe(ToolWindowManagerListener.TOPIC, new ToolWindowManagerListener() {
+                @Override
+                public void stateChanged(@NotNull ToolWindowManager toolWindowManager) {
+                    signalChange();
+                }
+
+                @Override
+                public void toolWindowShown(@NotNull ToolWindow toolWindow) {
+                    signalChange();
+                }
+            });
+        }
+        LOGGER.debug("CxFix: Started observing Copilot UI events");
+    }
+
+    /**
+     * Stops observing UI events once the last running automation ends. Located components stay cached.
+     */
+    public synchronized void stop() {
+        if (sessions == 0 || --sessions > 0) {
+            return;
+        }
+        Toolkit.getDefaultToolkit().removeAWTEventListener(uiListener);
+        if (Objects.nonNull(sessionDisposable)) {
+            Disposer.dispose(sessionDisposable);
+            sessionDisposable = null;
+        }
+        LOGGER.debug("CxFix: Stopped observing Copilot UI events");
+    }
+
+    /**
+     * Returns the component of the given kind in the tool window. The cached component is returned while it is
+     * still showing in the tool window and still matches; otherwise the tool window contents are searched once
+     * and the result is cached.
+     *
+     * @param toolWindow the Copilot tool window
+     * @param kind       the component kind, the cache slot
+     * @param finder     searches a component subtree for the component, returning {@code null} if absent; it
+     *                   must return the component itself when given a matching component
+     * @return the component, or {@code null} if it does not exist yet
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Component> @Nullable T locate(@NotNull ToolWindow toolWindow, @NotNull Kind kind,
+                                                    @NotNull Function<Component, T> finder) {
+        toolWindowRef = new WeakReference<>(toolWindow);
+        finders.put(kind, finder);
+        WeakReference<Component> reference = located.get(kind);
+        Component cached = Objects.isNull(reference) ? null : reference.get();
+        if (Objects.nonNull(cached)) {
+            if (cached.isShowing() && isInside(toolWindow, cached) && finder.apply(cached) == cached) {
+                return (T) cached;
+            }
+            located.remove(kind);
+        }
+        for (Content content : toolWindow.getContentManager().getContents()) {
+            JComponent component = content.getComponent();
+            if (Objects.nonNull(component)) {
+                T found = finder.apply(component);
+                if (Objects.nonNull(found)) {
+                    remember(kind, found);
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Discards pending change signals, so a following {@link #awaitChange} only returns on a newer change.
+     */
+    public static void drainChanges() {
+        UI_CHANGED.drainPermits();
+    }
+
+    /**
+     * Waits until the Copilot UI changed or the timeout elapsed. Must not be called on the EDT.
+     *
+     * @param timeoutMs the longest time to wait
+     * @return whether a change was signalled
+     */
+    public static boolean awaitChange(long timeoutMs) throws InterruptedException {
+        return timeoutMs > 0 && UI_CHANGED.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Signals a UI change to the waiting automation; repeated signals before a wake-up are coalesced.
+     */
+    public static void signalChange() {
+        if (UI_CHANGED.availablePermits() == 0) {
+            UI_CHANGED.release();
+        }
+    }
+
+    private void remember(@NotNull Kind kind, @NotNull Component component) {
+        WeakReference<Component> previous = located.put(kind, new WeakReference<>(component));
+        if (Objects.isNull(previous) || previous.get() != component) {
+            // Send controls are enabled asynchronously after the prompt is set, which no hierarchy event reports
+            component.removePropertyChangeListener("enabled", ENABLED_LISTENER);
+            component.addPropertyChangeListener("enabled", ENABLED_LISTENER);
+            LOGGER.debug("CxFix: Located " + kind + ": " + component.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Handles container and hierarchy events of the whole IDE, keeping only those inside the Copilot tool window.
+     */
+    private void onUiEvent(AWTEvent event) {
+        ToolWindow toolWindow = toolWindowRef.get();
+        if (Objects.isNull(toolWindow) || project.isDisposed()) {
+            return;
+        }
+        if (event instanceof ContainerEvent) {
+            ContainerEvent containerEvent = (ContainerEvent) event;
+            if (!isInside(toolWindow, containerEvent.getContainer())) {
+                return;
+            }
+            if (containerEvent.getID() == ContainerEvent.COMPONENT_ADDED) {
+                indexAddedSubtree(containerEvent.getChild());
+            }
+            signalChange();
+        } else if (event instanceof HierarchyEvent) {
+            HierarchyEvent hierarchyEvent = (HierarchyEvent) event;
+            if ((hierarchyEvent.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0
+                    && isInside(toolWindow, hierarchyEvent.getComponent())) {
+                signalChange();
+            }
+        }
+    }
+
+    /**
+     * Searches only the added subtree for the components not located yet.
+     */
+    private void indexAddedSubtree(@Nullable Component child) {
+        if (Objects.isNull(child)) {
+            return;
+        }
+        finders.forEach((kind, finder) -> {
+            WeakReference<Component> reference = located.get(kind);
+            Component cached = Objects.isNull(reference) ? null : reference.get();
+            if (Objects.nonNull(cached) && cached.isShowing()) {
+                return;
+            }
+            Component found = finder.apply(child);
+            if (Objects.nonNull(found)) {
+                remember(kind, found);
+            }
+        });
+    }
+
+    private static boolean isInside(@NotNull ToolWindow toolWindow, @Nullable Component component) {
+        JComponent root = toolWindow.getComponent();
+        return Objects.nonNull(component) && Objects.nonNull(root) && SwingUtilities.isDescendingFrom(component, root);
+    }
+}
@@ -26,7 +26,6 @@ import java.awt.event.KeyEvent;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
@@ -89,7 +88,8 @@ public final class CopilotIntegration {
      */
     private static final class Timing {
         /**
-         * Delay after opening Copilot to allow UI to fully render (default: 1200ms)
+         * Maximum time to wait for the Copilot tool window to show its chat content
+         * after opening it (default: 1200ms)
          */
         static final int COPILOT_OPEN_DELAY_MS = Integer.getInteger("cx.copilot.delay.open", 1200);
 
@@ -118,11 +118,13 @@ public final class CopilotIntegration {
         static final int POPUP_CLOSE_DELAY_MS = Integer.getInteger("cx.copilot.delay.popup.close", 200);
 
         /**
-         * Interval between polling attempts while waiting for asynchronous
-         * Copilot UI state (mode list population, panel recreation, input field
-         * creation, send control enablement) to settle (default: 150ms).
+         * Longest wait for a UI event before re-checking anyway while waiting for
+         * asynchronous Copilot UI state (mode list population, panel recreation,
+         * input field creation, send control enablement) to settle (default: 500ms).
+         * Re-checks are normally triggered by {@link CopilotComponentLocator} UI
+         * events; this interval is only the fallback for changes no event reports.
          */
-        static final int POLL_INTERVAL_MS = Integer.getInteger("cx.copilot.delay.poll.interval", 150);
+        static final int POLL_INTERVAL_MS = Integer.getInteger("cx.copilot.delay.poll.interval", 500);
 
         /**
          * Maximum time to poll for the chat input field to appear after a mode
@@ -396,13 +398,18 @@ public final class CopilotIntegration {
 
         CompletableFuture.runAsync(() -> {
             IntegrationResult result;
+            CopilotComponentLocator locator = CopilotComponentLocator.getInstance(project);
             try {
-                // Wait for Copilot to open and UI to stabilize
+                locator.start();
+
+                // Wait for Copilot to open; tool window events end the wait early
                 LOGGER.debug("CxFix: Waiting for Copilot chat to initialize...");
-                TimeUnit.MILLISECONDS.sleep(Timing.COPILOT_OPEN_DELAY_MS);
+                if (!pollUntilTrue(Timing.COPILOT_OPEN_DELAY_MS, () -> isCopilotChatShown(project))) {
+                    LOGGER.debug("CxFix: Copilot chat not shown yet, continuing with automation");
+                }
 
                 // Attempt component-based automation (direct UI interaction)
-                boolean success = tryComponentBasedAutomation(project, prompt);
+                boolean success = tryComponentBasedAutomation(project, locator, prompt);
 
                 if (success) {
                     LOGGER.debug("CxFix: Automation completed successfully");
@@ -424,6 +431,8 @@ public final class CopilotIntegration {
                 LOGGER.warn("CxFix: Automation error: " + e.getMessage());
                 result = IntegrationResult.partialSuccess(
                         "Automation encountered an error. The fix prompt is in your clipboard - please paste manually.");
+            } finally {
+                locator.stop();
             }
 
             notifyCallback(callback, result);
@@ -444,14 +453,16 @@ public final class CopilotIntegration {
      * </ol>
      *
      * @param project The current project context
+     * @param locator Locator of the Copilot components of the project
      * @param prompt  The fix prompt to send
      * @return true if automation completed successfully, false otherwise
      */
-    private static boolean tryComponentBasedAutomation(@NotNull Project project, @NotNull String prompt) {
+    private static boolean tryComponentBasedAutomation(@NotNull Project project, @NotNull CopilotComponentLocator locator,
+                                                       @NotNull String prompt) {
         // Phase 1: Switch to Agent mode (must run on EDT).
         // Copilot populates the ChatModeComboBox asynchronously (coroutines backed
         // by a separate agent process), so a single fixed-delay attempt can race
-        // an empty combo box. Poll instead of sleeping-then-trying-once.
+        // an empty combo box. Re-try on UI changes instead of sleeping-then-trying-once.
         boolean modeSwitchSuccess;
         try {
             modeSwitchSuccess = pollUntilTrue(Timing.AGENT_MODE_DELAY_MS, () -> {
@@ -466,7 +477,7 @@ public final class CopilotIntegration {
 
                 // Switch to Agent mode using the ChatModeComboBox
                 LOGGER.debug("CxFix: Switching to Agent mode...");
-                boolean agentModeSet = trySetAgentModeFromDropdown(copilotWindow);
+                boolean agentModeSet = trySetAgentModeFromDropdown(copilotWindow, locator);
                 if (agentModeSet) {
                     LOGGER.debug("CxFix: Agent mode activated successfully");
                 } else {
@@ -485,7 +496,7 @@ public final class CopilotIntegration {
         }
 
         // Phase 2: Find the input field (must run on EDT).
-        // Switching modes recreates the chat panel asynchronously, so poll for the
+        // Switching modes recreates the chat panel asynchronously, so wait for the
         // newly created input field rather than assuming a fixed delay is enough.
         LOGGER.debug("CxFix: Waiting for Agent mode UI to initialize...");
         JTextComponent inputField;
@@ -496,7 +507,7 @@ public final class CopilotIntegration {
                     return null;
                 }
                 LOGGER.debug("CxFix: Finding input field...");
-                return findCopilotInputField(copilotWindow);
+                return findCopilotInputField(copilotWindow, locator);
             });
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -520,7 +531,7 @@ public final class CopilotIntegration {
             }
         });
 
-        // Phase 4: Poll for the real send control (button or action) to appear and
+        // Phase 4: Wait for the real send control (button or action) to appear and
         // become enabled. Copilot creates/enables its send control reactively in
         // response to the text change on its own async dispatch, so searching for
         // it in the same EDT frame as setText() can race it — this is what was
@@ -531,7 +542,7 @@ public final class CopilotIntegration {
         try {
             sentViaRealControl = pollUntilTrue(Timing.SEND_CONTROL_MAX_WAIT_MS, () -> {
                 ToolWindow copilotWindow = findCopilotToolWindow(project);
-                return copilotWindow != null && tryClickRealSendControl(copilotWindow);
+                return copilotWindow != null && tryClickRealSendControl(copilotWindow, locator);
             });
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -571,39 +582,45 @@ public final class CopilotIntegration {
     }
 
     /**
-     * Repeatedly runs {@code attempt} on the EDT until it returns {@code true} or
-     * {@code maxWaitMs} elapses. Sleeps between attempts happen on the calling
-     * (background) thread, never on the EDT.
+     * Runs {@code attempt} on the EDT until it returns {@code true} or
+     * {@code maxWaitMs} elapses, see {@link #pollForResult}.
      */
     private static boolean pollUntilTrue(int maxWaitMs, @NotNull BooleanSupplier attempt) throws InterruptedException {
-        long deadline = System.currentTimeMillis() + maxWaitMs;
-        AtomicBoolean result = new AtomicBoolean(false);
-        do {
-            ApplicationManager.getApplication().invokeAndWait(() -> result.set(attempt.getAsBoolean()));
-            if (result.get()) {
-                return true;
-            }
-            TimeUnit.MILLISECONDS.sleep(Timing.POLL_INTERVAL_MS);
-        } while (System.currentTimeMillis() < deadline);
-        return false;
+        return pollForResult(maxWaitMs, () -> attempt.getAsBoolean() ? Boolean.TRUE : null) != null;
     }
 
     /**
-     * Repeatedly runs {@code attempt} on the EDT until it returns a non-null
-     * result or {@code maxWaitMs} elapses. Sleeps between attempts happen on the
-     * calling (background) thread, never on the EDT.
+     * Runs {@code attempt} on the EDT until it returns a non-null result or
+     * {@code maxWaitMs} elapses. After a failed attempt the calling (background)
+     * thread waits for the next Copilot UI change reported by
+     * {@link CopilotComponentLocator}, re-checking after
+     * {@link Timing#POLL_INTERVAL_MS} at the latest when no event arrives.
      */
     private static <T> @Nullable T pollForResult(int maxWaitMs, @NotNull Supplier<T> attempt) throws InterruptedException {
         long deadline = System.currentTimeMillis() + maxWaitMs;
         AtomicReference<T> result = new AtomicReference<>();
-        do {
+        while (true) {
+            // Changes before this attempt are covered by it
+            CopilotComponentLocator.drainChanges();
             ApplicationManager.getApplication().invokeAndWait(() -> result.set(attempt.get()));
             if (result.get() != null) {
                 return result.get();
             }
-            TimeUnit.MILLISECONDS.sleep(Timing.POLL_INTERVAL_MS);
-        } while (System.currentTimeMillis() < deadline);
-        return result.get();
+            long remainingMs = deadline - System.currentTimeMillis();
+            if (remainingMs <= 0) {
+                return null;
+            }
+            CopilotComponentLocator.awaitChange(Math.min(remainingMs, Timing.POLL_INTERVAL_MS));
+        }
+    }
+
+    /**
+     * Checks whether the Copilot tool window is visible with its chat content.
+     */
+    private static boolean isCopilotChatShown(@NotNull Project project) {
+        ToolWindow copilotWindow = findCopilotToolWindow(project);
+        return copilotWindow != null && copilotWindow.isVisible()
+                && copilotWindow.getContentManager().getContentCount() > 0;
     }
 
     /**
@@ -622,10 +639,12 @@ public final class CopilotIntegration {
      * method rather than treating one {@code false} as final.
      *
      * @param toolWindow The Copilot tool window
+     * @param locator    Locator of the Copilot components
      * @return true if the real send control was found, enabled, and clicked
      */
-    private static boolean tryClickRealSendControl(@NotNull ToolWindow toolWindow) {
-        AbstractButton sendButton = findSendButton(toolWindow);
+    private static boolean tryClickRealSendControl(@NotNull ToolWindow toolWindow, @NotNull CopilotComponentLocator locator) {
+        AbstractButton sendButton = locator.locate(toolWindow, CopilotComponentLocator.Kind.SEND_BUTTON,
+                CopilotIntegration::findSendButtonRecursively);
         if (sendButton != null && sendButton.isEnabled()) {
             if (!sendButton.isShowing()) {
                 // Found and enabled, but not yet attached/laid out on screen - the
@@ -639,7 +658,8 @@ public final class CopilotIntegration {
             return true;
         }
 
-        ActionButton sendActionButton = findSendActionButton(toolWindow);
+        ActionButton sendActionButton = locator.locate(toolWindow, CopilotComponentLocator.Kind.SEND_ACTION_BUTTON,
+                CopilotIntegration::findSendActionButtonRecursively);
         if (sendActionButton != null && sendActionButton.isEnabled()) {
             if (!sendActionButton.isShowing()) {
                 // IntelliJ's ActionButton.click() silently no-ops (with only a
@@ -687,29 +707,6 @@ public final class CopilotIntegration {
         return simulateEnterKey(inputField);
     }
 
-    /**
-     * Finds Copilot's action-system-based send button ({@code ActionButton},
-     * e.g. {@code IconActionButton}) in the tool window.
-     *
-     * <p>
-     * Unlike a legacy Swing {@code AbstractButton}, an {@code ActionButton} is a
-     * plain {@code JComponent} bound to an {@code AnAction} and must be invoked
-     * via its {@link ActionButton#click()} method rather than {@code doClick()}.
-     */
-    private static @Nullable ActionButton findSendActionButton(@NotNull ToolWindow toolWindow) {
-        Content[] contents = toolWindow.getContentManager().getContents();
-        for (Content content : contents) {
-            JComponent component = content.getComponent();
-            if (component != null) {
-                ActionButton button = findSendActionButtonRecursively(component);
-                if (button != null) {
-                    return button;
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * Recursively searches for an {@code ActionButton} whose bound action or
      * tooltip identifies it as the send control.
@@ -754,24 +751,6 @@ public final class CopilotIntegration {
         return tooltip != null && (tooltip.toLowerCase().contains("send") || tooltip.toLowerCase().contains("submit"));
     }
 
-    /**
-     * Finds a send button in the tool window.
-     * Looks for buttons with send-related text, tooltip, or icon.
-     */
-    private static @Nullable AbstractButton findSendButton(@NotNull ToolWindow toolWindow) {
-        Content[] contents = toolWindow.getContentManager().getContents();
-        for (Content content : contents) {
-            JComponent component = content.getComponent();
-            if (component != null) {
-                AbstractButton button = findSendButtonRecursively(component);
-                if (button != null) {
-                    return button;
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * Recursively searches for a send button.
      */
@@ -1043,25 +1022,22 @@ public final class CopilotIntegration {
      * </ol>
      *
      * @param toolWindow The Copilot tool window
+     * @param locator    Locator of the Copilot components
      * @return true if Agent mode was successfully activated, false otherwise
      */
-    private static boolean trySetAgentModeFromDropdown(@NotNull ToolWindow toolWindow) {
-        Content[] contents = toolWindow.getContentManager().getContents();
-        for (Content content : contents) {
-            JComponent component = content.getComponent();
-            if (component != null) {
-                // Primary: Find ChatModeComboBox
-                JComboBox<?> comboBox = findChatModeComboBox(component);
-                if (comboBox != null) {
-                    return selectAgentInComboBox(comboBox);
-                }
+    private static boolean trySetAgentModeFromDropdown(@NotNull ToolWindow toolWindow, @NotNull CopilotComponentLocator locator) {
+        // Primary: Find ChatModeComboBox
+        JComboBox<?> comboBox = locator.locate(toolWindow, CopilotComponentLocator.Kind.MODE_COMBO_BOX,
+                CopilotIntegration::findChatModeComboBox);
+        if (comboBox != null) {
+            return selectAgentInComboBox(comboBox);
+        }
 
-                // Fallback: Find mode button (for alternative UI layouts)
-                AbstractButton modeButton = findModeButton(component);
-                if (modeButton != null) {
-                    return clickAgentModeButton(modeButton, component);
-                }
-            }
+        // Fallback: Find mode button (for alternative UI layouts)
+        AbstractButton modeButton = locator.locate(toolWindow, CopilotComponentLocator.Kind.MODE_BUTTON,
+                CopilotIntegration::findModeButton);
+        if (modeButton != null) {
+            return clickAgentModeButton(modeButton);
         }
         return false;
     }
@@ -1363,7 +1339,7 @@ public final class CopilotIntegration {
      * Clicks a mode button to open dropdown and selects Agent (fallback method).
      * Used when ChatModeComboBox is not found but a mode button exists.
      */
-    private static boolean clickAgentModeButton(@NotNull AbstractButton modeButton, @NotNull Component rootComponent) {
+    private static boolean clickAgentModeButton(@NotNull AbstractButton modeButton) {
         String currentMode = modeButton.getText();
         LOGGER.debug("CxFix: Mode button text: '" + currentMode + "'");
 
@@ -1467,21 +1443,12 @@ public final class CopilotIntegration {
     }
 
     /**
-     * Recursively searches for a text input component in the Copilot tool window.
+     * Finds the chat input field in the Copilot tool window.
      */
-    private static @Nullable JTextComponent findCopilotInputField(@NotNull ToolWindow toolWindow) {
-        Content[] contents = toolWindow.getContentManager().getContents();
-        for (Content content : contents) {
-            JComponent component = content.getComponent();
-            if (component != null) {
-                JTextComponent textField = findTextComponentRecursively(component);
-                // get dropdown component
-                if (textField != null) {
-                    return textField;
-                }
-            }
-        }
-        return null;
+    private static @Nullable JTextComponent findCopilotInputField(@NotNull ToolWindow toolWindow,
+                                                                  @NotNull CopilotComponentLocator locator) {
+        return locator.locate(toolWindow, CopilotComponentLocator.Kind.INPUT_FIELD,
+                CopilotIntegration::findTextComponentRecursively);
     }
 
     /**
@@ -0,0 +1,262 @@
+package com.checkmarx.intellij.devassist.scanners.asca;
+
+import com.checkmarx.ast.asca.ScanDetail;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Line based bookkeeping for incremental ASCA scans.
+ * <p>
+ * After every scan the content and findings of the file are remembered. When the file is edited, only the
+ * declaration (method, function or class member) enclosing the changed lines is scanned again: the other
+ * declarations of the file are blanked out line by line, so the scanned content keeps the line numbers, imports
+ * and enclosing type headers of the original file. The findings reported inside the declaration replace the
+ * previous findings there, and previous findings outside of it are kept, shifted by the number of lines the edit
+ * added or removed.
+ * <p>
+ * Contents are the documents' immutable char sequences and are compared and sliced by line offsets, so neither
+ * the remembered nor the current text is copied.
+ */
+public final class AscaIncrementalScan {
+
+    /**
+     * Files with fewer lines are always scanned as a whole; the gain would not outweigh the bookkeeping.
+     */
+    public static final int MIN_LINES = 400;
+    private static final int MAX_FILES = 32;
+
+    private static final Map<String, Snapshot> SNAPSHOTS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+            return size() > MAX_FILES;
+        }
+    };
+
+    private AscaIncrementalScan() {
+        throw new IllegalStateException("Can't instantiate AscaIncrementalScan class");
+    }
+
+    /**
+     * Returns the last scan of a file, or {@code null} if the file has not been scanned yet.
+     */
+    public static Snapshot lastScan(String filePath) {
+        synchronized (SNAPSHOTS) {
+            return SNAPSHOTS.get(filePath);
+        }
+    }
+
+    /**
+     * Remembers the scan of a file. Files with fewer than {@link #MIN_LINES} lines are not remembered.
+     *
+     * @param filePath the original file path
+     * @param content  the scanned content
+     * @param findings the findings of the whole file, at their lines in the content
+     */
+    public static void remember(String filePath, CharSequence content, List<Finding> findings) {
+        synchronized (SNAPSHOTS) {
+            if (lineCount(content) < MIN_LINES) {
+                SNAPSHOTS.remove(filePath);
+                return;
+            }
+            SNAPSHOTS.put(filePath, new Snapshot(content, List.copyOf(findings)));
+        }
+    }
+
+    public static void forget(String filePath) {
+        synchronized (SNAPSHOTS) {
+            SNAPSHOTS.remove(filePath);
+        }
+    }
+
+    public static void clear() {
+        synchronized (SNAPSHOTS) {
+            SNAPSHOTS.clear();
+        }
+    }
+
+    /**
+     * Wraps the details reported by a scan of the whole file as findings at their reported lines.
+     */
+    public static List<Finding> findingsOf(List<ScanDetail> scanDetails) {
+        if (Objects.isNull(scanDetails)) {
+            return Collections.emptyList();
+        }
+        return scanDetails.stream().filter(Objects::nonNull)
+                .map(detail -> new Finding(detail, detail.getLine()))
+                .collect(Collectors.toList());
+    }
+
+    private static int lineCount(CharSequence content) {
+        int lines = 1;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Computes the lines changed between two versions of a file by trimming their common leading and trailing
+     * lines.
+     *
+     * @return the changed region, or {@code null} if the contents are identical
+     */
+    public static ChangedRegion changedRegion(CharSequence previousContent, CharSequence content) {
+        int[] previousLines = lineStarts(previousContent);
+        int[] lines = lineStarts(content);
+        int prefix = 0;
+        int maxPrefix = Math.min(previousLines.length, lines.length);
+        while (prefix < maxPrefix && sameLine(previousContent, previousLines, prefix, content, lines, prefix)) {
+            prefix++;
+        }
+        if (prefix == previousLines.length && prefix == lines.length) {
+            return null;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && sameLine(previousContent, previousLines, previousLines.length - 1 - suffix,
+                content, lines, lines.length - 1 - suffix)) {
+            suffix++;
+        }
+        return new ChangedRegion(prefix + 1, lines.length - suffix, previousLines.length - suffix,
+                lines.length - previousLines.length);
+    }
+
+    /**
+     * Replaces the given lines with empty lines, keeping the line count and separators.
+     *
+     * @param content     the file content
+     * @param blankRanges one-based inclusive line ranges, as {@code [first, last]} pairs
+     * @return the content with the lines blanked out
+     */
+    public static String blankLines(CharSequence content, List<int[]> blankRanges) {
+        int[] lines = lineStarts(content);
+        boolean[] blank = new boolean[lines.length];
+        for (int[] range : blankRanges) {
+            for (int line = Math.max(1, range[0]); line <= Math.min(lines.length, range[1]); line++) {
+                blank[line - 1] = true;
+            }
+        }
+        StringBuilder blanked = new StringBuilder();
+        for (int i = 0; i < lines.length; i++) {
+            if (i > 0) {
+                blanked.append('\n');
+            }
+            int end = lineEnd(content, lines, i);
+            if (!blank[i]) {
+                blanked.append(content, lines[i], end);
+            } else if (end > lines[i] && content.charAt(end - 1) == '\r') {
+                blanked.append('\r');
+            }
+        }
+        return blanked.toString();
+    }
+
+    /**
+     * The offsets at which the lines of the content start, lines being separated by {@code \n}.
+     */
+    private static int[] lineStarts(CharSequence content) {
+        int[] starts = new int[lineCount(content)];
+        int line = 1;
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == '\n') {
+                starts[line++] = i + 1;
+            }
+        }
+        return starts;
+    }
+
+    /**
+     * The offset at which a line ends, excluding its {@code \n} separator.
+     */
+    private static int lineEnd(CharSequence content, int[] lineStarts, int line) {
+        return line + 1 < lineStarts.length ? lineStarts[line + 1] - 1 : content.length();
+    }
+
+    private static boolean sameLine(CharSequence first, int[] firstStarts, int firstLine,
+                                    CharSequence second, int[] secondStarts, int secondLine) {
+        int firstStart = firstStarts[firstLine];
+        int secondStart = secondStarts[secondLine];
+        int length = lineEnd(first, firstStarts, firstLine) - firstStart;
+        if (length != lineEnd(second, secondStarts, secondLine) - secondStart) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (first.charAt(firstStart + i) != second.charAt(secondStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges the findings of a declaration scan into the findings of the previous scan.
+     *
+     * @param previous      the findings of the previous scan, at their lines in the previous content
+     * @param memberStart   first line of the rescanned declaration in the current content
+     * @param memberEnd     last line of the rescanned declaration in the current content
+     * @param lineDelta     number of lines the edit added, negative if it removed lines
+     * @param regionDetails the details reported for the synthesized content, at their lines in the current content
+     * @return the findings of the whole file, at their lines in the current content
+     */
+    public static List<Finding> merge(List<Finding> previous, int memberStart, int memberEnd, int lineDelta,
+                                      List<ScanDetail> regionDetails) {
+        int previousMemberEnd = memberEnd - lineDelta;
+        List<Finding> merged = new ArrayList<>();
+        for (Finding finding : previous) {
+            if (finding.getLine() < memberStart) {
+                merged.add(finding);
+            } else if (finding.getLine() > previousMemberEnd) {
+                merged.add(new Finding(finding.getDetail(), finding.getLine() + lineDelta));
+            }
+        }
+        if (Objects.nonNull(regionDetails)) {
+            regionDetails.stream()
+                    .filter(detail -> Objects.nonNull(detail) && detail.getLine() >= memberStart && detail.getLine() <= memberEnd)
+                    .forEach(detail -> merged.add(new Finding(detail, detail.getLine())));
+        }
+        return merged;
+    }
+
+    /**
+     * The content and findings of the last scan of a file.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Snapshot {
+        private final CharSequence content;
+        private final List<Finding> findings;
+    }
+
+    /**
+     * A detail reported by ASCA together with its current one-based line, which differs from the reported line
+     * once later edits moved it.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Finding {
+        private final ScanDetail detail;
+        private final int line;
+    }
+
+    /**
+     * The lines changed by an edit, one-based and inclusive. A pure deletion has a last line before its first line.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class ChangedRegion {
+        private final int firstLine;
+        private final int lastLine;
+        private final int previousLastLine;
+        private final int lineDelta;
+    }
+}
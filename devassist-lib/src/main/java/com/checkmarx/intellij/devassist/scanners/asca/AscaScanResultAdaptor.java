@@ -18,6 +18,7 @@ import com.intellij.openapi.project.Project;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +30,8 @@ import java.util.stream.Collectors;
 public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.common.ScanResult<ScanResult> {
     private static final Logger LOGGER = Utils.getLogger(AscaScanResultAdaptor.class);
     private final ScanResult ascaScanResult;
+    private final List<ScanDetail> scanDetails;
+    private final ToIntFunction<ScanDetail> lineOf;
     private final String filePath;
     private final List<ScanIssue> scanIssues;
     private final Project project;
@@ -57,11 +60,37 @@ public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.c
      */
     public AscaScanResultAdaptor(ScanResult ascaScanResult, String filePath, Project project, boolean filterIgnored) {
         this.ascaScanResult = ascaScanResult;
+        this.scanDetails = ascaScanResult == null ? null : ascaScanResult.getScanDetails();
+        this.lineOf = ScanDetail::getLine;
         this.filePath = filePath;
         this.project = project;
         this.scanIssues = filterIgnored ? buildIssues() : buildIssuesUnfiltered();
     }
 
+    private AscaScanResultAdaptor(List<AscaIncrementalScan.Finding> findings, String filePath, Project project) {
+        Map<ScanDetail, Integer> lines = new IdentityHashMap<>();
+        findings.forEach(finding -> lines.put(finding.getDetail(), finding.getLine()));
+        this.ascaScanResult = null;
+        this.scanDetails = findings.stream().map(AscaIncrementalScan.Finding::getDetail).collect(Collectors.toList());
+        this.lineOf = lines::get;
+        this.filePath = filePath;
+        this.project = project;
+        this.scanIssues = buildIssues();
+    }
+
+    /**
+     * Creates an adaptor for the merged findings of an incremental scan, see {@link AscaIncrementalScan}. Every
+     * finding is reported at its current line; {@link #getResults()} is {@code null}.
+     *
+     * @param findings the findings of the whole file
+     * @param filePath the path of the file being scanned
+     * @param project  the IntelliJ project instance (used for accessing ignore manager)
+     * @return the adaptor
+     */
+    public static AscaScanResultAdaptor fromFindings(List<AscaIncrementalScan.Finding> findings, String filePath, Project project) {
+        return new AscaScanResultAdaptor(findings, filePath, project);
+    }
+
     /**
      * Retrieves the ASCA scan results wrapped by this adapter.
      *
@@ -114,13 +143,12 @@ public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.c
      * @return a list of ScanIssue objects
      */
     private List<ScanIssue> buildIssuesInternal(boolean applyFilter) {
-        if (ascaScanResult == null || ascaScanResult.getScanDetails() == null) {
+        if (scanDetails == null) {
             String logMsg = applyFilter ? "filtered" : "unfiltered";
             LOGGER.debug("ASCA adaptor (" + logMsg + "): No scan results or scan details available");
             return Collections.emptyList();
         }
 
-        List<ScanDetail> scanDetails = ascaScanResult.getScanDetails();
         if (scanDetails.isEmpty()) {
             return Collections.emptyList();
         }
@@ -129,7 +157,7 @@ public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.c
         Map<Integer, List<ScanDetail>> groupedIssues = scanDetails.stream()
                 .filter(Objects::nonNull)
                 .collect(Collectors.groupingBy(
-                        ScanDetail::getLine,
+                        detail -> lineOf.applyAsInt(detail),
                         Collectors.collectingAndThen(Collectors.toList(), detailsList -> {
                             detailsList.sort(Comparator.comparingInt(detail ->
                                     SeverityLevel.fromValue(mapSeverity(detail.getSeverity())).getPrecedence()));
@@ -178,7 +206,7 @@ public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.c
                     Vulnerability tempVuln = createVulnerability(ascaScanDetails.get(0), null);
                     if (ignoreManager.isAscaVulnerabilityIgnored(tempVuln, ignoreEntries, filePath)) {
                         LOGGER.debug("ASCA adaptor: Skipping single ignored vulnerability on line " +
-                                   ascaScanDetails.get(0).getLine());
+                                   lineOf.applyAsInt(ascaScanDetails.get(0)));
                         return null;
                     }
                 }
@@ -201,7 +229,7 @@ public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.c
             // If filtering and all vulnerabilities were ignored, skip this ScanIssue
             if (applyFilter && scanIssue.getVulnerabilities().isEmpty()) {
                 LOGGER.debug("ASCA adaptor: All vulnerabilities on line " +
-                           ascaScanDetails.get(0).getLine() + " are ignored");
+                           lineOf.applyAsInt(ascaScanDetails.get(0)) + " are ignored");
                 return null;
             }
 
@@ -231,7 +259,7 @@ public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.c
 
         // Add location information
         Location location = new Location();
-        location.setLine(ascaScanDetails.get(0).getLine());
+        location.setLine(lineOf.applyAsInt(ascaScanDetails.get(0)));
         scanIssue.getLocations().add(location);
         scanIssue.setProblematicLineNumber(location.getLine());
     }
@@ -323,7 +351,7 @@ public class AscaScanResultAdaptor implements com.checkmarx.intellij.devassist.c
      */
     private String getUniqueId(ScanDetail scanIssue) {
         if (Objects.nonNull(scanIssue)) {
-            return DevAssistUtils.generateUniqueId(scanIssue.getLine(),
+            return DevAssistUtils.generateUniqueId(lineOf.applyAsInt(scanIssue),
                     scanIssue.getRuleID() + scanIssue.getRuleName(), scanIssue.getFileName());
         }
         return ScanEngine.ASCA.name();
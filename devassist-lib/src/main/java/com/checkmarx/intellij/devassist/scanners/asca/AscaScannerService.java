@@ -6,12 +6,16 @@ import com.checkmarx.intellij.common.utils.Constants;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
 import com.checkmarx.intellij.devassist.basescanner.BaseScannerService;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
 import com.checkmarx.intellij.devassist.configuration.ScannerConfig;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
 import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
 import com.checkmarx.intellij.devassist.telemetry.TelemetryService;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.editor.Document;
@@ -20,7 +24,12 @@ import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.util.text.Strings;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiNameIdentifierOwner;
+import com.intellij.psi.util.PsiTreeUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,6 +37,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Realtime ASCA scanner service that integrates with the realtime scanner system.
@@ -135,6 +146,11 @@ public class AscaScannerService extends BaseScannerService<ScanResult> {
         LOGGER.debug("ASCA scanner: starting scan - " + uri);
 
         try {
+            AscaScanResultAdaptor incrementalResult = scanChangedDeclaration(psiFile, psiFile.getProject(), true, "JetBrains", uri);
+            if (incrementalResult != null) {
+                TelemetryService.logScanResults(incrementalResult, ScanEngine.ASCA);
+                return incrementalResult;
+            }
             ScanResult ascaResult = runAscaScan(psiFile, psiFile.getProject(), true, "JetBrains", uri);
 
             if (ascaResult == null) {
@@ -146,7 +162,9 @@ public class AscaScannerService extends BaseScannerService<ScanResult> {
             LOGGER.debug("ASCA scanner: scan completed - " + uri + " (" + issueCount + " issues found)");
 
             // Create adaptor with filtering applied during issue creation
+            long adaptStart = System.nanoTime();
             AscaScanResultAdaptor scanResultAdaptor = new AscaScanResultAdaptor(ascaResult, uri, psiFile.getProject());
+            ScanMetrics.recordStage(ScanEngine.ASCA, ScanStage.RESULT_ADAPTATION, adaptStart);
 
             TelemetryService.logScanResults(scanResultAdaptor, ScanEngine.ASCA);
             return scanResultAdaptor;
@@ -179,13 +197,15 @@ public class AscaScannerService extends BaseScannerService<ScanResult> {
             return null;
         }
 
-        String fileContent = getFileContent(file, project);
+        CharSequence fileContent = DevAssistUtils.getFileCharSequence(file);
         if (fileContent == null) {
             return null;
         }
 
         synchronized (SCAN_LOCK) {
+            long ioStart = System.nanoTime();
             String tempFilePath = saveTempFile(file.getName(), fileContent);
+            ScanMetrics.recordStage(ScanEngine.ASCA, ScanStage.TEMP_FILE_IO, ioStart);
             if (tempFilePath == null) {
                 LOGGER.warn("Failed to create temporary file for ASCA scan.");
                 return null;
@@ -196,6 +216,11 @@ public class AscaScannerService extends BaseScannerService<ScanResult> {
                 // Update line numbers for ignored ASCA issues if any exist
                 updateIgnoredFileDataOnLatestResult(tempFilePath, project, uri, agent, ascLatestVersion);
                 handleScanResult(file, scanResult);
+                if (scanResult != null && scanResult.getError() == null) {
+                    AscaIncrementalScan.remember(uri, fileContent, AscaIncrementalScan.findingsOf(scanResult.getScanDetails()));
+                } else {
+                    AscaIncrementalScan.forget(uri);
+                }
                 return scanResult;
             } catch (Exception e) {
                 LOGGER.warn("Error during ASCA scan:", e);
@@ -207,37 +232,175 @@ public class AscaScannerService extends BaseScannerService<ScanResult> {
     }
 
     /**
-     * Calls the ASCA CLI to scan a file.
-     * Consolidated from ASCA command class.
+     * Scans only the declaration enclosing the lines changed since the previous scan of the file, see
+     * {@link AscaIncrementalScan}, and merges its findings with the previous findings of the rest of the file.
+     * <p>
+     * Returns {@code null}, so the whole file is scanned, when the file was not scanned before, is small, has
+     * uncommitted PSI, or the edit is structural: it touches the first or last line of the enclosing declaration,
+     * spans several declarations or is not inside a declaration at all. Projects with ignored ASCA entries are
+     * always scanned as a whole, since the ignore entries track the lines of a full scan.
      */
-    private ScanResult scanAscaFile(String path, boolean ascaLatestVersion, String agent, String ignoreFilePath)
-            throws IOException, CxException, InterruptedException {
-        return CxWrapperFactory.build().ScanAsca(path, ascaLatestVersion, agent, null);
+    @Nullable
+    private AscaScanResultAdaptor scanChangedDeclaration(PsiFile file, Project project, boolean ascLatestVersion, String agent, String uri) {
+        AscaIncrementalScan.Snapshot previous = AscaIncrementalScan.lastScan(uri);
+        if (previous == null || ignoreFiles(file.getVirtualFile()) || new IgnoreManager(project).hasIgnoredEntries(ScanEngine.ASCA)) {
+            return null;
+        }
+        RegionPlan plan = ApplicationManager.getApplication().runReadAction(
+                (Computable<RegionPlan>) () -> planRegionScan(file, project, previous.getContent()));
+        if (plan == null) {
+            return null;
+        }
+        if (plan.getScanContent() == null) {
+            LOGGER.debug("ASCA scanner: content unchanged since the last scan, reusing findings - " + uri);
+            return AscaScanResultAdaptor.fromFindings(previous.getFindings(), uri, project);
+        }
+        synchronized (SCAN_LOCK) {
+            long ioStart = System.nanoTime();
+            String tempFilePath = saveTempFile(file.getName(), plan.getScanContent());
+            ScanMetrics.recordStage(ScanEngine.ASCA, ScanStage.TEMP_FILE_IO, ioStart);
+            if (tempFilePath == null) {
+                return null;
+            }
+            try {
+                LOGGER.info(Strings.join("Starting ASCA scan of lines ", String.valueOf(plan.getMemberStart()), "-",
+                        String.valueOf(plan.getMemberEnd()), " of file: ", uri));
+                ScanResult regionResult = scanAscaFile(tempFilePath, ascLatestVersion, agent, DevAssistUtils.getIgnoreFilePath(project));
+                handleScanResult(file, regionResult);
+                if (regionResult == null || regionResult.getError() != null) {
+                    AscaIncrementalScan.forget(uri);
+                    return null;
+                }
+                List<AscaIncrementalScan.Finding> findings = AscaIncrementalScan.merge(previous.getFindings(),
+                        plan.getMemberStart(), plan.getMemberEnd(), plan.getLineDelta(), regionResult.getScanDetails());
+                AscaIncrementalScan.remember(uri, plan.getContent(), findings);
+                long adaptStart = System.nanoTime();
+                AscaScanResultAdaptor scanResultAdaptor = AscaScanResultAdaptor.fromFindings(findings, uri, project);
+                ScanMetrics.recordStage(ScanEngine.ASCA, ScanStage.RESULT_ADAPTATION, adaptStart);
+                return scanResultAdaptor;
+            } catch (Exception e) {
+                LOGGER.warn("Error during incremental ASCA scan, scanning the whole file:", e);
+                AscaIncrementalScan.forget(uri);
+                return null;
+            } finally {
+                deleteFile(tempFilePath);
+            }
+        }
     }
 
     /**
-     * Gets the file content, either from in-memory document or from disk.
+     * Locates the declaration enclosing the lines changed since the previous scan and builds the content to scan
+     * for it. Must be called in a read action.
+     *
+     * @return the plan, one without scan content if nothing changed, or {@code null} if the whole file must be scanned
      */
-    private String getFileContent(PsiFile file, Project project) {
-        return ApplicationManager.getApplication().runReadAction((Computable<String>) () -> {
-            Document document = PsiDocumentManager.getInstance(project).getDocument(file);
-            if (document != null) {
-                return document.getText();
+    @Nullable
+    private RegionPlan planRegionScan(PsiFile file, Project project, String previousContent) {
+        PsiDocumentManager documentManager = PsiDocumentManager.getInstance(project);
+        Document document = documentManager.getDocument(file);
+        if (document == null || !documentManager.isCommitted(document) || document.getLineCount() < AscaIncrementalScan.MIN_LINES) {
+            return null;
+        }
+        CharSequence content = document.getImmutableCharSequence();
+        AscaIncrementalScan.ChangedRegion region = AscaIncrementalScan.changedRegion(previousContent, content);
+        if (region == null) {
+            return new RegionPlan(content, null, 0, 0, 0);
+        }
+        int lineCount = document.getLineCount();
+        int probeStart = document.getLineStartOffset(Math.min(region.getFirstLine(), lineCount) - 1);
+        int probeEnd = document.getLineEndOffset(Math.min(Math.max(region.getFirstLine(), region.getLastLine()), lineCount) - 1);
+        while (probeStart < probeEnd && Character.isWhitespace(content.charAt(probeStart))) {
+            probeStart++;
+        }
+        while (probeEnd > probeStart && Character.isWhitespace(content.charAt(probeEnd - 1))) {
+            probeEnd--;
+        }
+        PsiElement first = file.findElementAt(probeStart);
+        PsiElement last = file.findElementAt(Math.max(probeStart, probeEnd - 1));
+        PsiElement common = first == null || last == null ? null : PsiTreeUtil.findCommonParent(first, last);
+        if (common == null) {
+            return null;
+        }
+        // The outermost declaration spanning less than half of the file: a method rather than its class
+        PsiElement member = null;
+        for (PsiElement element = common; element != null && !(element instanceof PsiFile); element = element.getParent()) {
+            if (element instanceof PsiNameIdentifierOwner && lineSpan(document, element) < lineCount / 2) {
+                member = element;
             }
-
-            VirtualFile virtualFile = file.getVirtualFile();
-            if (virtualFile == null) {
-                LOGGER.warn("Virtual file is null for the given PsiFile.");
-                return null;
+        }
+        if (member == null) {
+            return null;
+        }
+        int memberStart = document.getLineNumber(member.getTextRange().getStartOffset()) + 1;
+        int memberEnd = document.getLineNumber(member.getTextRange().getEndOffset()) + 1;
+        if (region.getFirstLine() <= memberStart || Math.max(region.getLastLine(), region.getFirstLine() - 1) >= memberEnd) {
+            return null;
+        }
+        List<int[]> blankRanges = new ArrayList<>();
+        for (PsiElement element = member; !(element instanceof PsiFile) && element.getParent() != null; element = element.getParent()) {
+            PsiElement parent = element.getParent();
+            int keptStart = document.getLineNumber(element.getTextRange().getStartOffset()) + 1;
+            int keptEnd = document.getLineNumber(element.getTextRange().getEndOffset()) + 1;
+            for (PsiElement sibling = parent.getFirstChild(); sibling != null; sibling = sibling.getNextSibling()) {
+                if (sibling == element || !(sibling instanceof PsiNameIdentifierOwner)) {
+                    continue;
+                }
+                int siblingStart = document.getLineNumber(sibling.getTextRange().getStartOffset()) + 1;
+                int siblingEnd = document.getLineNumber(sibling.getTextRange().getEndOffset()) + 1;
+                if (siblingEnd <= siblingStart) {
+                    continue;
+                }
+                if (siblingStart <= keptEnd && siblingEnd >= keptStart) {
+                    // Declarations sharing a line cannot be separated by blanking lines
+                    return null;
+                }
+                blankRanges.add(new int[]{siblingStart, siblingEnd});
             }
+        }
+        return new RegionPlan(content, AscaIncrementalScan.blankLines(content, blankRanges), memberStart, memberEnd, region.getLineDelta());
+    }
 
-            try {
-                return new String(virtualFile.contentsToByteArray());
-            } catch (IOException e) {
-                LOGGER.warn("Failed to retrieve file content from virtual file:", e);
-                return null;
-            }
-        });
+    private static int lineSpan(Document document, PsiElement element) {
+        return document.getLineNumber(element.getTextRange().getEndOffset()) - document.getLineNumber(element.getTextRange().getStartOffset()) + 1;
+    }
+
+    /**
+     * The content to scan for the declaration enclosing an edit.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class RegionPlan {
+        /**
+         * The current file content, the document's immutable snapshot.
+         */
+        private final CharSequence content;
+        /**
+         * The content to scan, or {@code null} if the file is unchanged since the previous scan.
+         */
+        private final String scanContent;
+        private final int memberStart;
+        private final int memberEnd;
+        private final int lineDelta;
+    }
+
+    /**
+     * Calls the ASCA CLI to scan a file.
+     * Consolidated from ASCA command class.
+     */
+    private ScanResult scanAscaFile(String path, boolean ascaLatestVersion, String agent, String ignoreFilePath)
+            throws IOException, CxException, InterruptedException {
+        long cliStart = System.nanoTime();
+        ScanMetrics.recordCliSpawn(ScanEngine.ASCA);
+        try {
+            ScanResult scanResult = CxWrapperFactory.build().ScanAsca(path, ascaLatestVersion, agent, null);
+            ScannerCircuitBreaker.success(ScanEngine.ASCA);
+            return scanResult;
+        } catch (IOException | CxException e) {
+            ScannerCircuitBreaker.failure(ScanEngine.ASCA, e);
+            throw e;
+        } finally {
+            ScanMetrics.recordStage(ScanEngine.ASCA, ScanStage.CLI_EXECUTION, cliStart);
+        }
     }
 
     /**
@@ -299,7 +462,7 @@ public class AscaScannerService extends BaseScannerService<ScanResult> {
     /**
      * Saves the file content to a temporary file for ASCA scanning.
      */
-    private String saveTempFile(String fileName, String fileContent) {
+    private String saveTempFile(String fileName, CharSequence fileContent) {
         try {
             // Get secure temp directory
             Path tempDir = getSecureTempDirectory();
@@ -317,7 +480,7 @@ public class AscaScannerService extends BaseScannerService<ScanResult> {
                 return null;
             }
 
-            Files.write(tempFilePath, fileContent.getBytes());
+            ScanTempFileWriter.write(ScanEngine.ASCA, fileContent, tempFilePath);
 
             LOGGER.debug("Temporary file created: " + tempFilePath.toAbsolutePath());
             return tempFilePath.toAbsolutePath().toString();
@@ -0,0 +1,128 @@
+package com.checkmarx.intellij.devassist.scanners.containers;
+
+import com.checkmarx.ast.containersrealtime.ContainersRealtimeImage;
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Application-wide cache of container image scan results, keyed by {@link ImageReference#getCacheKey() fully
+ * qualified image reference}.
+ * <p>
+ * The same base images are referenced from many Dockerfiles and compose files, and editing such a file rarely
+ * changes its images. With the cache, a file scan only queries the CLI for references that are not cached yet and
+ * maps the cached results onto the current line positions. Entries expire after the TTL configured in the
+ * settings ({@link GlobalSettingsState#getContainersImageCacheTtlMinutes()}, {@code 0} disables the cache) and the
+ * cache is cleared whenever the global settings are applied.
+ */
+public final class ContainerImageCache {
+
+    public static final int MAX_ENTRIES = 2000;
+
+    private static final ContainerImageCache INSTANCE = new ContainerImageCache(
+            () -> TimeUnit.MINUTES.toNanos(GlobalSettingsState.getInstance().getContainersImageCacheTtlMinutes()),
+            System::nanoTime, MAX_ENTRIES);
+
+    private final LongSupplier ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Creates a cache; use {@link #getInstance()} to obtain the shared instance.
+     *
+     * @param ttlNanos   time to live of an entry, evaluated on every lookup; {@code 0} disables the cache
+     * @param nanoClock  time source, {@link System#nanoTime()} in production
+     * @param maxEntries number of entries above which the least recently used entry is evicted
+     */
+    public ContainerImageCache(LongSupplier ttlNanos, LongSupplier nanoClock, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static ContainerImageCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether cached results may currently be used.
+     */
+    public boolean isEnabled() {
+        return ttlNanos.getAsLong() > 0;
+    }
+
+    /**
+     * Looks up an image reference.
+     *
+     * @param cacheKey the {@link ImageReference#getCacheKey() cache key} of the reference
+     * @return the cached entry, or {@code null} if the reference is not cached, the entry expired or the cache is
+     * disabled
+     */
+    public synchronized Entry get(String cacheKey) {
+        Entry entry = entries.get(cacheKey);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        long ttl = ttlNanos.getAsLong();
+        if (ttl <= 0 || nanoClock.getAsLong() - entry.storedAtNanos >= ttl) {
+            entries.remove(cacheKey);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the scan result of an image.
+     *
+     * @param cacheKey the {@link ImageReference#getCacheKey() cache key} of the reference
+     * @param image    the image as reported by the CLI, or {@code null} if the CLI reported nothing for it
+     */
+    public synchronized void put(String cacheKey, ContainersRealtimeImage image) {
+        if (isEnabled()) {
+            entries.put(cacheKey, new Entry(image, nanoClock.getAsLong()));
+        }
+    }
+
+    /**
+     * Caches every image reported by a scan under the key derived from its name and tag.
+     *
+     * @param image the image as reported by the CLI
+     */
+    public void putReported(ContainersRealtimeImage image) {
+        if (Objects.nonNull(image) && Objects.nonNull(image.getImageName())) {
+            put(ImageReference.cacheKey(image.getImageName(), image.getImageTag()), image);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * A cached image result.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Entry {
+        /**
+         * The image as reported by the CLI; {@code null} if the CLI reported nothing for the reference.
+         */
+        private final ContainersRealtimeImage image;
+        private final long storedAtNanos;
+    }
+}
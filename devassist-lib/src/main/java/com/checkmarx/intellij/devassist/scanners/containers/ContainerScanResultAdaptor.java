@@ -12,10 +12,12 @@ import com.checkmarx.intellij.devassist.model.Vulnerability;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -29,7 +31,7 @@ public class ContainerScanResultAdaptor implements ScanResult<ContainersRealtime
 
     private final ContainersRealtimeResults containersRealtimeResults;
     private final String fileType;
-    private final String filePath;
+    private final UnaryOperator<String> filePathResolver;
     private final List<ScanIssue> scanIssues;
 
     /**
@@ -40,12 +42,56 @@ public class ContainerScanResultAdaptor implements ScanResult<ContainersRealtime
      */
 
     public ContainerScanResultAdaptor(ContainersRealtimeResults containersRealtimeResults, String fileType, String filePath) {
+        this(containersRealtimeResults, fileType, reportedPath -> filePath);
+    }
+
+    private ContainerScanResultAdaptor(ContainersRealtimeResults containersRealtimeResults, String fileType, UnaryOperator<String> filePathResolver) {
         this.containersRealtimeResults = containersRealtimeResults;
         this.fileType = fileType;
-        this.filePath = filePath;
+        this.filePathResolver = filePathResolver;
         this.scanIssues = buildIssues();
     }
 
+    private ContainerScanResultAdaptor(String fileType, String filePath, List<Pair<ImageReference, ContainersRealtimeImage>> cachedImages) {
+        this.containersRealtimeResults = null;
+        this.fileType = fileType;
+        this.filePathResolver = reportedPath -> filePath;
+        this.scanIssues = cachedImages.stream()
+                .filter(cachedImage -> Objects.nonNull(cachedImage.getRight()))
+                .map(cachedImage -> createScanIssue(cachedImage.getRight(), filePath, List.of(new Location(
+                        cachedImage.getLeft().getLine() + 1, cachedImage.getLeft().getStartIndex(), cachedImage.getLeft().getEndIndex()))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates an adaptor for the results of a group scan, which span several files. Every image is attributed to
+     * the original file resolved from the path reported by the CLI, and the file type is derived from that file;
+     * images of files that cannot be resolved are skipped.
+     *
+     * @param containersRealtimeResults the results of the group scan
+     * @param originalPathResolver      maps a reported file path to the original file path, or to {@code null}
+     * @return the adaptor
+     */
+    public static ContainerScanResultAdaptor forGroupScan(ContainersRealtimeResults containersRealtimeResults,
+                                                          UnaryOperator<String> originalPathResolver) {
+        return new ContainerScanResultAdaptor(containersRealtimeResults, null, originalPathResolver);
+    }
+
+    /**
+     * Creates an adaptor from cached image results, see {@link ContainerImageCache}. Every image is reported at the
+     * position of its reference in the current file content; {@link #getResults()} is {@code null}.
+     *
+     * @param cachedImages the image references of the file, each with its cached image or {@code null} if the CLI
+     *                     reported nothing for it
+     * @param fileType     the container file type
+     * @param filePath     the original file path
+     * @return the adaptor
+     */
+    public static ContainerScanResultAdaptor fromCachedImages(List<Pair<ImageReference, ContainersRealtimeImage>> cachedImages,
+                                                              String fileType, String filePath) {
+        return new ContainerScanResultAdaptor(fileType, filePath, cachedImages);
+    }
+
     /**
      * Retrieves the container real-time scan results wrapped by this adapter.
      *
@@ -81,7 +127,8 @@ public class ContainerScanResultAdaptor implements ScanResult<ContainersRealtime
             return Collections.emptyList();
         }
         return images.stream()
-                .map(this::createScanIssue)
+                .filter(image -> Objects.nonNull(filePathResolver.apply(image.getFilePath())))
+                .map(image -> createScanIssue(image, filePathResolver.apply(image.getFilePath()), locationsOf(image)))
                 .collect(Collectors.toList());
 
     }
@@ -92,23 +139,22 @@ public class ContainerScanResultAdaptor implements ScanResult<ContainersRealtime
      * represent a scan issue.
      *
      * @param containersImageObj the {@code ContainersRealtimeResults} containing information about the scanned images,
-     *                           including its name, version, vulnerabilities, and locations.
+     *                           including its name, version and vulnerabilities.
+     * @param originalPath       the original file path the image is referenced from
+     * @param locations          the locations of the image reference in the file
      * @return a {@code ScanIssue} object encapsulating the details such as title, package version, scan engine,
      * severity, and vulnerability locations derived from the provided image.
      */
 
-    private ScanIssue createScanIssue(ContainersRealtimeImage containersImageObj) {
+    private ScanIssue createScanIssue(ContainersRealtimeImage containersImageObj, String originalPath, List<Location> locations) {
         ScanIssue scanIssue = new ScanIssue();
         scanIssue.setScanEngine(ScanEngine.CONTAINERS);
         scanIssue.setTitle(containersImageObj.getImageName());
         scanIssue.setImageTag(containersImageObj.getImageTag());
         scanIssue.setSeverity(containersImageObj.getStatus());
-        scanIssue.setFileType(this.fileType);
-        scanIssue.setFilePath(this.filePath);
-
-        if (!Objects.isNull(containersImageObj.getLocations()) && !containersImageObj.getLocations().isEmpty()) {
-            containersImageObj.getLocations().forEach(location -> scanIssue.getLocations().add(createLocation(location)));
-        }
+        scanIssue.setFileType(Objects.nonNull(this.fileType) ? this.fileType : ContainerScannerService.getFileType(originalPath));
+        scanIssue.setFilePath(originalPath);
+        scanIssue.getLocations().addAll(locations);
 
         if (!Objects.isNull(containersImageObj.getVulnerabilities()) && !containersImageObj.getVulnerabilities().isEmpty()) {
             containersImageObj.getVulnerabilities().forEach(vulnerability -> scanIssue.getVulnerabilities().add(createVulnerability(vulnerability)));
@@ -163,6 +209,13 @@ public class ContainerScanResultAdaptor implements ScanResult<ContainersRealtime
         }
     }
 
+    private List<Location> locationsOf(ContainersRealtimeImage containersImageObj) {
+        if (Objects.isNull(containersImageObj.getLocations()) || containersImageObj.getLocations().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return containersImageObj.getLocations().stream().map(this::createLocation).collect(Collectors.toList());
+    }
+
     /**
      * Creates a {@code Location} object based on the provided {@code RealtimeLocation}.
      * This method extracts the line, start index, and end index from the given
@@ -1,18 +1,25 @@
 package com.checkmarx.intellij.devassist.scanners.containers;
 
+import com.checkmarx.ast.containersrealtime.ContainersRealtimeImage;
 import com.checkmarx.ast.containersrealtime.ContainersRealtimeResults;
 import com.checkmarx.ast.wrapper.CxException;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
 import com.checkmarx.intellij.devassist.basescanner.BaseScannerService;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
 import com.checkmarx.intellij.devassist.common.ScanResult;
 import com.checkmarx.intellij.devassist.configuration.ScannerConfig;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
 import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiFile;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
@@ -23,11 +30,18 @@ import java.nio.file.*;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+
 
 /**
  * Realtime ContainerScannerService  scanner Class that does temporary file handling,
@@ -139,14 +153,14 @@ public class ContainerScannerService extends BaseScannerService<ContainersRealti
      * @throws IOException if writing the file fails
      */
     private Pair<Path, Path> createSubFolderAndSaveFile(Path tempSubFolder, String relativePath, PsiFile psiFile) throws IOException {
-        String fileText = DevAssistUtils.getFileContent(psiFile);
-        if (fileText == null || fileText.isBlank()) {
+        CharSequence fileText = DevAssistUtils.getFileCharSequence(psiFile);
+        if (StringUtil.isEmptyOrSpaces(fileText)) {
             LOGGER.warn("No content found in file");
             return null;
         }
         this.createTempFolder(tempSubFolder);
         Path fullTargetPath = Paths.get(tempSubFolder.toString(), relativePath);
-        Files.writeString(fullTargetPath, fileText, StandardCharsets.UTF_8);
+        ScanTempFileWriter.write(ScanEngine.CONTAINERS, fileText, fullTargetPath);
         return Pair.of(fullTargetPath, tempSubFolder);
     }
 
@@ -191,6 +205,67 @@ public class ContainerScannerService extends BaseScannerService<ContainersRealti
         return false;
     }
 
+    /**
+     * Path-only variant of {@link #shouldScanFile(String, PsiFile)} for files that are not loaded as PSI, used by
+     * the workspace sweep.
+     *
+     * @param filePath the absolute path of the file
+     * @return {@code true} if the file is a Dockerfile, a docker-compose file or a Helm chart file
+     */
+    public static boolean isContainerFilePath(@NotNull String filePath) {
+        return !filePath.contains("/node_modules/") && Objects.nonNull(getFileType(filePath));
+    }
+
+    /**
+     * Derives the container file type reported on issues from a file path.
+     *
+     * @param filePath the path of the file
+     * @return {@code docker-compose}, {@code dockerfile} or {@code helm}, or {@code null} for other files
+     */
+    public static String getFileType(String filePath) {
+        if (Objects.isNull(filePath) || filePath.isBlank()) {
+            return null;
+        }
+        String lowerCasePath = filePath.toLowerCase();
+        Path path = Paths.get(lowerCasePath);
+        for (String pattern : DevAssistConstants.CONTAINERS_FILE_PATTERNS) {
+            if (FileSystems.getDefault().getPathMatcher("glob:" + pattern).matches(path)) {
+                if (DevAssistUtils.isDockerComposeFile(lowerCasePath)) {
+                    return DevAssistConstants.DOCKER_COMPOSE;
+                }
+                return DevAssistUtils.isDockerFile(lowerCasePath) ? DevAssistConstants.DOCKERFILE : null;
+            }
+        }
+        String fileName = path.getFileName().toString();
+        String extension = fileName.contains(".") ? fileName.substring(fileName.lastIndexOf('.') + 1) : "";
+        if (DevAssistConstants.CONTAINER_HELM_EXTENSION.contains(extension)
+                && !DevAssistConstants.CONTAINER_HELM_EXCLUDED_FILES.contains(fileName)
+                && lowerCasePath.contains("/helm/")) {
+            return DevAssistConstants.HELM;
+        }
+        return null;
+    }
+
+    /**
+     * Scans a directory group of container files with a single CLI invocation, e.g. all templates and values of
+     * a Helm chart, see {@link #scanGroup(ScanEngine, String, String, Map, GroupScanner)}.
+     *
+     * @param project       the project whose ignore file is applied
+     * @param groupRoot     directory all files of the group are located in
+     * @param contentByPath file content keyed by the original file path
+     * @return issues keyed by original file path; files that could not be scanned are absent
+     */
+    public Map<String, List<ScanIssue>> scanGroup(@NotNull Project project, @NotNull String groupRoot, @NotNull Map<String, String> contentByPath) {
+        LOGGER.debug("Containers: starting group scan of " + contentByPath.size() + " file(s) in " + groupRoot);
+        return scanGroup(ScanEngine.CONTAINERS, DevAssistConstants.CONTAINER_REALTIME_SCANNER_DIRECTORY, groupRoot, contentByPath,
+                (scanSource, originalPathResolver) -> {
+                    ContainersRealtimeResults scanResults = CxWrapperFactory.build().containersRealtimeScan(scanSource,
+                            DevAssistUtils.getIgnoreFilePath(project));
+                    cacheReportedImages(scanResults);
+                    return ContainerScanResultAdaptor.forGroupScan(scanResults, originalPathResolver).getIssues();
+                });
+    }
+
     /**
      * Scans the given Psi file using OssScanner wrapper method.
      *
@@ -206,6 +281,11 @@ public class ContainerScannerService extends BaseScannerService<ContainersRealti
         String tempFolder = super.getTempSubFolderPath(DevAssistConstants.CONTAINER_REALTIME_SCANNER_DIRECTORY);
         Pair<Path, Path> saveResult = null;
         try {
+            ContainerScanResultAdaptor cachedResult = scanWithImageCache(psiFile, uri);
+            if (Objects.nonNull(cachedResult)) {
+                return cachedResult;
+            }
+            long ioStart = System.nanoTime();
             Path tempFolderPath = Paths.get(tempFolder);
             this.createTempFolder(tempFolderPath);
             String tempFilePath;
@@ -214,16 +294,26 @@ public class ContainerScannerService extends BaseScannerService<ContainersRealti
             } else {
                 saveResult = this.saveOtherFiles(tempFolderPath, psiFile);
             }
+            ScanMetrics.recordStage(ScanEngine.CONTAINERS, ScanStage.TEMP_FILE_IO, ioStart);
             if (Objects.nonNull(saveResult)) {
                 tempFilePath = saveResult.getLeft().toString();
                 LOGGER.info("Start Container Realtime Scan On File: " + uri);
+                long cliStart = System.nanoTime();
+                ScanMetrics.recordCliSpawn(ScanEngine.CONTAINERS);
                 ContainersRealtimeResults scanResults = CxWrapperFactory.build().containersRealtimeScan(tempFilePath, DevAssistUtils.getIgnoreFilePath(psiFile.getProject()));
+                ScanMetrics.recordStage(ScanEngine.CONTAINERS, ScanStage.CLI_EXECUTION, cliStart);
+                ScannerCircuitBreaker.success(ScanEngine.CONTAINERS);
+                cacheReportedImages(scanResults);
                 // Update line numbers for ignored container images if any exist
                 updateIgnoredFileDataOnLatestResult(tempFilePath, psiFile.getProject(), uri);
-                return new ContainerScanResultAdaptor(scanResults, fileType, uri);
+                long adaptStart = System.nanoTime();
+                ContainerScanResultAdaptor scanResultAdaptor = new ContainerScanResultAdaptor(scanResults, fileType, uri);
+                ScanMetrics.recordStage(ScanEngine.CONTAINERS, ScanStage.RESULT_ADAPTATION, adaptStart);
+                return scanResultAdaptor;
             }
 
         } catch (IOException | CxException | InterruptedException e) {
+            ScannerCircuitBreaker.failure(ScanEngine.CONTAINERS, e);
             LOGGER.warn(this.config.getErrorMessage(), e);
         } finally {
             LOGGER.info("Deleting temporary folder");
@@ -234,6 +324,114 @@ public class ContainerScannerService extends BaseScannerService<ContainersRealti
         return null;
     }
 
+    /**
+     * Serves the scan of a Dockerfile or docker-compose file from the {@link ContainerImageCache}: only image
+     * references that are not cached are sent to the CLI, as a generated Dockerfile holding one {@code FROM} per
+     * reference, and all results are reported at the current positions of the references.
+     * <p>
+     * Helm files, files whose references cannot be resolved statically and projects with ignored container
+     * findings (which depend on the file being scanned as a whole) are not served from the cache.
+     *
+     * @param psiFile - the file to scan
+     * @param uri     - the file path
+     * @return the scan result, or {@code null} if the file has to be scanned as a whole
+     */
+    private ContainerScanResultAdaptor scanWithImageCache(PsiFile psiFile, String uri) throws IOException, CxException, InterruptedException {
+        String containerFileType = getFileType(uri);
+        if (DevAssistConstants.HELM.equals(containerFileType)) {
+            return null;
+        }
+        List<ImageReference> references = ImageReference.extract(DevAssistUtils.getFileCharSequence(psiFile), containerFileType);
+        ContainerImageCache imageCache = ContainerImageCache.getInstance();
+        if (Objects.isNull(references) || references.isEmpty() || !imageCache.isEnabled()
+                || new IgnoreManager(psiFile.getProject()).hasIgnoredEntries(ScanEngine.CONTAINERS)) {
+            return null;
+        }
+        Map<String, ContainersRealtimeImage> imagesByKey = new HashMap<>();
+        Map<String, ImageReference> missingReferences = new LinkedHashMap<>();
+        for (ImageReference reference : references) {
+            ContainerImageCache.Entry entry = imageCache.get(reference.getCacheKey());
+            if (Objects.nonNull(entry)) {
+                imagesByKey.put(reference.getCacheKey(), entry.getImage());
+            } else {
+                missingReferences.putIfAbsent(reference.getCacheKey(), reference);
+            }
+        }
+        if (!missingReferences.isEmpty()) {
+            Map<String, ContainersRealtimeImage> scannedImages = scanImageReferences(missingReferences.values(), psiFile.getProject());
+            missingReferences.keySet().forEach(cacheKey -> {
+                ContainersRealtimeImage image = scannedImages.get(cacheKey);
+                imageCache.put(cacheKey, image);
+                imagesByKey.put(cacheKey, image);
+            });
+        }
+        LOGGER.debug(format("Containers: %d of %d image reference(s) served from cache for file: %s",
+                references.size() - missingReferences.size(), references.size(), uri));
+        long adaptStart = System.nanoTime();
+        List<Pair<ImageReference, ContainersRealtimeImage>> cachedImages = new ArrayList<>();
+        references.forEach(reference -> cachedImages.add(Pair.of(reference, imagesByKey.get(reference.getCacheKey()))));
+        ContainerScanResultAdaptor scanResultAdaptor = ContainerScanResultAdaptor.fromCachedImages(cachedImages, containerFileType, uri);
+        ScanMetrics.recordStage(ScanEngine.CONTAINERS, ScanStage.RESULT_ADAPTATION, adaptStart);
+        return scanResultAdaptor;
+    }
+
+    /**
+     * Scans the given image references with a single CLI call on a generated Dockerfile.
+     *
+     * @param references - the references to scan
+     * @param project    - the project whose ignore file is applied
+     * @return the reported images keyed by the cache key of the matching reference
+     */
+    private Map<String, ContainersRealtimeImage> scanImageReferences(Collection<ImageReference> references, Project project)
+            throws IOException, CxException, InterruptedException {
+        Path tempSubFolder = Paths.get(getTempSubFolderPath(DevAssistConstants.CONTAINER_REALTIME_SCANNER_DIRECTORY),
+                "images-" + UUID.randomUUID());
+        try {
+            long ioStart = System.nanoTime();
+            this.createTempFolder(tempSubFolder);
+            StringBuilder dockerfile = new StringBuilder();
+            references.forEach(reference -> dockerfile.append("FROM ").append(reference.getReference()).append('\n'));
+            Path dockerfilePath = tempSubFolder.resolve("Dockerfile");
+            ScanTempFileWriter.write(ScanEngine.CONTAINERS, dockerfile, dockerfilePath);
+            ScanMetrics.recordStage(ScanEngine.CONTAINERS, ScanStage.TEMP_FILE_IO, ioStart);
+
+            LOGGER.info(format("Start Container Realtime Scan for %d uncached image reference(s)", references.size()));
+            long cliStart = System.nanoTime();
+            ScanMetrics.recordCliSpawn(ScanEngine.CONTAINERS);
+            ContainersRealtimeResults scanResults = CxWrapperFactory.build().containersRealtimeScan(dockerfilePath.toString(),
+                    DevAssistUtils.getIgnoreFilePath(project));
+            ScanMetrics.recordStage(ScanEngine.CONTAINERS, ScanStage.CLI_EXECUTION, cliStart);
+            ScannerCircuitBreaker.success(ScanEngine.CONTAINERS);
+
+            Map<String, ContainersRealtimeImage> reportedImages = new HashMap<>();
+            if (Objects.nonNull(scanResults) && Objects.nonNull(scanResults.getImages())) {
+                scanResults.getImages().stream().filter(Objects::nonNull).forEach(image ->
+                        reportedImages.put(ImageReference.cacheKey(image.getImageName(), image.getImageTag()), image));
+            }
+            Map<String, ContainersRealtimeImage> imagesByKey = new HashMap<>();
+            for (ImageReference reference : references) {
+                ContainersRealtimeImage image = reportedImages.get(ImageReference.cacheKey(reference.getImageName(), reference.getImageTag()));
+                if (Objects.nonNull(image)) {
+                    imagesByKey.put(reference.getCacheKey(), image);
+                }
+            }
+            return imagesByKey;
+        } finally {
+            deleteTempFolder(tempSubFolder);
+        }
+    }
+
+    /**
+     * Adds the images reported by a file scan to the {@link ContainerImageCache}, so other files referencing them
+     * are served from the cache.
+     */
+    private static void cacheReportedImages(ContainersRealtimeResults scanResults) {
+        ContainerImageCache imageCache = ContainerImageCache.getInstance();
+        if (Objects.nonNull(scanResults) && Objects.nonNull(scanResults.getImages()) && imageCache.isEnabled()) {
+            scanResults.getImages().forEach(imageCache::putReported);
+        }
+    }
+
     /**
      * This method will scan the original file without considering the ignored issue file path (.checkmarxIgnoredTempFile).
      * And based on the original result that contains an updated line number for a scan.
@@ -250,6 +448,7 @@ public class ContainerScannerService extends BaseScannerService<ContainersRealti
             IgnoreManager ignoreManager = new IgnoreManager(project);
             if (ignoreManager.hasIgnoredEntries(ScanEngine.CONTAINERS)) {
                 LOGGER.debug("IaC: Performing full scan to update line numbers for ignored packages");
+                ScanMetrics.recordCliSpawn(ScanEngine.CONTAINERS);
                 ContainersRealtimeResults fullScanResults = CxWrapperFactory.build().containersRealtimeScan(tempFilePath, "");
                 if (fullScanResults != null) {
                     ContainerScanResultAdaptor fullScanResultAdaptor = new ContainerScanResultAdaptor(fullScanResults, fileType, filePath);
@@ -0,0 +1,152 @@
+package com.checkmarx.intellij.devassist.scanners.containers;
+
+import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A container image referenced from a Dockerfile {@code FROM} instruction or a docker-compose {@code image:} key,
+ * together with its position in the file.
+ * <p>
+ * References are keyed by their fully qualified name, e.g. {@code nginx:1.25} and
+ * {@code docker.io/library/nginx:1.25} share the key {@code docker.io/library/nginx:1.25}; a pinned digest is part
+ * of the key.
+ */
+@Getter
+public final class ImageReference {
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\n");
+    private static final Pattern DOCKERFILE_FROM = Pattern.compile(
+            "^\\s*FROM\\s+(?:--\\S+\\s+)*(\\S+)(?:\\s+AS\\s+(\\S+))?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern COMPOSE_IMAGE = Pattern.compile("^\\s*-?\\s*image\\s*:\\s*[\"']?([^\"'\\s#]+)");
+    private static final String DEFAULT_REGISTRY = "docker.io";
+    private static final String DEFAULT_TAG = "latest";
+
+    private final String reference;
+    private final String imageName;
+    private final String imageTag;
+    private final String digest;
+    /**
+     * Zero-based line of the reference, like the locations reported by the CLI.
+     */
+    private final int line;
+    private final int startIndex;
+    private final int endIndex;
+
+    private ImageReference(String reference, String imageName, String imageTag, String digest, int line, int startIndex, int endIndex) {
+        this.reference = reference;
+        this.imageName = imageName;
+        this.imageTag = imageTag;
+        this.digest = digest;
+        this.line = line;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+    }
+
+    /**
+     * Parses an image reference such as {@code registry:5000/team/app:1.0@sha256:abc}.
+     *
+     * @param reference the reference as written in the file
+     * @param line      zero-based line of the reference
+     * @param startIndex start offset of the reference within the line
+     * @return the parsed reference
+     */
+    public static ImageReference parse(String reference, int line, int startIndex) {
+        String nameAndTag = reference;
+        String digest = null;
+        int digestStart = reference.indexOf('@');
+        if (digestStart >= 0) {
+            nameAndTag = reference.substring(0, digestStart);
+            digest = reference.substring(digestStart + 1);
+        }
+        String imageName = nameAndTag;
+        String imageTag = DEFAULT_TAG;
+        int tagStart = nameAndTag.lastIndexOf(':');
+        if (tagStart > nameAndTag.lastIndexOf('/')) {
+            imageName = nameAndTag.substring(0, tagStart);
+            imageTag = nameAndTag.substring(tagStart + 1);
+        }
+        return new ImageReference(reference, imageName, imageTag, digest, line, startIndex, startIndex + reference.length());
+    }
+
+    /**
+     * Returns the cache key of this reference: the fully qualified image name and tag, plus the digest when pinned.
+     */
+    public String getCacheKey() {
+        String key = cacheKey(imageName, imageTag);
+        return Objects.isNull(digest) ? key : key + "@" + digest.toLowerCase();
+    }
+
+    /**
+     * Returns the cache key of an image as reported by the CLI, see {@link #getCacheKey()}.
+     */
+    public static String cacheKey(String imageName, String imageTag) {
+        String tag = Objects.isNull(imageTag) || imageTag.isBlank() ? DEFAULT_TAG : imageTag;
+        return qualify(imageName) + ":" + tag.toLowerCase();
+    }
+
+    /**
+     * Expands an image name to its fully qualified form, e.g. {@code nginx} to {@code docker.io/library/nginx}.
+     */
+    static String qualify(String imageName) {
+        String name = Objects.isNull(imageName) ? "" : imageName.toLowerCase();
+        int slash = name.indexOf('/');
+        if (slash < 0) {
+            return DEFAULT_REGISTRY + "/library/" + name;
+        }
+        String firstSegment = name.substring(0, slash);
+        if (!firstSegment.contains(".") && !firstSegment.contains(":") && !"localhost".equals(firstSegment)) {
+            return DEFAULT_REGISTRY + "/" + name;
+        }
+        return name;
+    }
+
+    /**
+     * Extracts the image references of a Dockerfile or docker-compose file.
+     *
+     * @param content  the file content
+     * @param fileType {@link DevAssistConstants#DOCKERFILE} or {@link DevAssistConstants#DOCKER_COMPOSE}
+     * @return the references in file order, or {@code null} if the file type is not supported or a reference
+     * cannot be resolved statically, e.g. because it uses a build argument or environment variable
+     */
+    public static List<ImageReference> extract(CharSequence content, String fileType) {
+        if (Objects.isNull(content)) {
+            return null;
+        }
+        boolean dockerfile = DevAssistConstants.DOCKERFILE.equals(fileType);
+        if (!dockerfile && !DevAssistConstants.DOCKER_COMPOSE.equals(fileType)) {
+            return null;
+        }
+        List<ImageReference> references = new ArrayList<>();
+        Set<String> stageNames = new HashSet<>();
+        String[] lines = LINE_BREAK.split(content, -1);
+        for (int line = 0; line < lines.length; line++) {
+            Matcher matcher = (dockerfile ? DOCKERFILE_FROM : COMPOSE_IMAGE).matcher(lines[line]);
+            if (!matcher.find()) {
+                continue;
+            }
+            String reference = matcher.group(1);
+            if (dockerfile) {
+                if (Objects.nonNull(matcher.group(2))) {
+                    stageNames.add(matcher.group(2).toLowerCase());
+                }
+                // Build stages and the empty image are not scanned
+                if (stageNames.contains(reference.toLowerCase()) || "scratch".equalsIgnoreCase(reference)) {
+                    continue;
+                }
+            }
+            if (reference.contains("$")) {
+                return null;
+            }
+            references.add(parse(reference, line, matcher.start(1)));
+        }
+        return references;
+    }
+}
@@ -13,6 +13,7 @@ import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -26,16 +27,33 @@ public class IacScanResultAdaptor implements ScanResult<IacRealtimeResults> {
 
     private final IacRealtimeResults iacRealtimeResults;
     private final String fileType;
-    private final String filePath;
+    private final UnaryOperator<String> filePathResolver;
     private final List<ScanIssue> scanIssues;
 
     public IacScanResultAdaptor(IacRealtimeResults iacRealtimeResults, String fileType, String filePath) {
+        this(iacRealtimeResults, fileType, reportedPath -> filePath);
+    }
+
+    private IacScanResultAdaptor(IacRealtimeResults iacRealtimeResults, String fileType, UnaryOperator<String> filePathResolver) {
         this.iacRealtimeResults = iacRealtimeResults;
         this.fileType = fileType;
-        this.filePath = filePath;
+        this.filePathResolver = filePathResolver;
         this.scanIssues = buildIssues();
     }
 
+    /**
+     * Creates an adaptor for the results of a group scan, which span several files. Every issue is attributed to
+     * the original file resolved from the path reported by the CLI, and the file type is derived from that file;
+     * issues of files that cannot be resolved are skipped.
+     *
+     * @param iacRealtimeResults   the results of the group scan
+     * @param originalPathResolver maps a reported file path to the original file path, or to {@code null}
+     * @return the adaptor
+     */
+    public static IacScanResultAdaptor forGroupScan(IacRealtimeResults iacRealtimeResults, UnaryOperator<String> originalPathResolver) {
+        return new IacScanResultAdaptor(iacRealtimeResults, null, originalPathResolver);
+    }
+
 
     /**
      * Represents an entry containing an issue and its associated real-time location
@@ -95,6 +113,7 @@ public class IacScanResultAdaptor implements ScanResult<IacRealtimeResults> {
         }
         Map<String, List<IssueLocationEntry>> groupedIssues = iacIssuesList.stream()
                 .filter(Objects::nonNull)
+                .filter(issue -> Objects.nonNull(filePathResolver.apply(issue.getFilePath())))
                 .flatMap(issue -> issue.getLocations().stream()
                         .filter(Objects::nonNull)
                         .map(location -> new IssueLocationEntry(issue, location)))
@@ -180,9 +199,10 @@ public class IacScanResultAdaptor implements ScanResult<IacRealtimeResults> {
         }
         scanIssue.setDescription(iacScanIssue.get(0).issue.getDescription());
         scanIssue.setSeverity(iacScanIssue.get(0).issue.getSeverity());
-        scanIssue.setFilePath(this.filePath);
+        String originalPath = filePathResolver.apply(iacScanIssue.get(0).issue.getFilePath());
+        scanIssue.setFilePath(originalPath);
         scanIssue.setScanEngine(ScanEngine.IAC);
-        scanIssue.setFileType(this.fileType);
+        scanIssue.setFileType(Objects.nonNull(this.fileType) ? this.fileType : IacScannerService.getFileType(originalPath));
         scanIssue.setSimilarityId(iacScanIssue.get(0).issue.getSimilarityId());
         scanIssue.setScanIssueId(getUniqueId(iacScanIssue.get(0).issue));
         return scanIssue;
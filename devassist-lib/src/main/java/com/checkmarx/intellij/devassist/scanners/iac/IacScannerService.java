@@ -5,15 +5,21 @@ import com.checkmarx.ast.wrapper.CxException;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
 import com.checkmarx.intellij.devassist.basescanner.BaseScannerService;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
 import com.checkmarx.intellij.devassist.common.ScanResult;
 import com.checkmarx.intellij.devassist.configuration.ScannerConfig;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
 import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.telemetry.TelemetryService;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import org.apache.commons.lang3.tuple.Pair;
@@ -26,6 +32,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -93,6 +100,66 @@ public class IacScannerService extends BaseScannerService<IacRealtimeResults> {
         return DevAssistConstants.IAC_FILE_EXTENSIONS.contains(extension);
     }
 
+    /**
+     * Path-only variant of {@link #shouldScanFile(String, PsiFile)} for files that are not loaded as PSI, used by
+     * the workspace sweep.
+     *
+     * @param filePath the absolute path of the file
+     * @return {@code true} if the file matches the IaC patterns or supported extensions
+     */
+    public static boolean isIacFilePath(@NotNull String filePath) {
+        if (filePath.contains("/node_modules/")) {
+            return false;
+        }
+        Path lowerCasePath = Paths.get(filePath.toLowerCase());
+        for (String pattern : DevAssistConstants.IAC_SUPPORTED_PATTERNS) {
+            if (FileSystems.getDefault().getPathMatcher("glob:" + pattern).matches(lowerCasePath)) {
+                return true;
+            }
+        }
+        String fileType = getFileType(filePath);
+        return Objects.nonNull(fileType) && DevAssistConstants.IAC_FILE_EXTENSIONS.contains(fileType);
+    }
+
+    /**
+     * Derives the IaC file type reported on issues from a file path: {@code dockerfile} for Dockerfiles,
+     * otherwise the lower-case file extension.
+     *
+     * @param filePath the path of the file
+     * @return the file type, or {@code null} if the file has no extension
+     */
+    public static String getFileType(String filePath) {
+        if (Objects.isNull(filePath) || filePath.isBlank()) {
+            return null;
+        }
+        String lowerCasePath = filePath.toLowerCase();
+        if (DevAssistUtils.isDockerFile(lowerCasePath)) {
+            return DevAssistConstants.DOCKERFILE;
+        }
+        String fileName = Paths.get(lowerCasePath).getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart < 0 ? null : fileName.substring(extensionStart + 1);
+    }
+
+    /**
+     * Scans a directory group of IaC files (e.g. a Terraform module or a Kubernetes manifest folder) with a single
+     * CLI invocation, see {@link #scanGroup(ScanEngine, String, String, Map, GroupScanner)}.
+     *
+     * @param project       the project whose ignore file is applied
+     * @param groupRoot     directory all files of the group are located in
+     * @param contentByPath file content keyed by the original file path
+     * @return issues keyed by original file path; files that could not be scanned are absent
+     */
+    public Map<String, List<ScanIssue>> scanGroup(@NotNull Project project, @NotNull String groupRoot, @NotNull Map<String, String> contentByPath) {
+        LOGGER.debug("IaC: starting group scan of " + contentByPath.size() + " file(s) in " + groupRoot);
+        return scanGroup(ScanEngine.IAC, DevAssistConstants.IAC_REALTIME_SCANNER_DIRECTORY, groupRoot, contentByPath,
+                (scanSource, originalPathResolver) -> {
+                    IacRealtimeResults scanResults = CxWrapperFactory.build().iacRealtimeScan(scanSource,
+                            DevAssistUtils.getContainerTool(), DevAssistUtils.getIgnoreFilePath(project));
+                    return IacScanResultAdaptor.forGroupScan(scanResults, originalPathResolver).getIssues();
+                });
+    }
+
     /**
      * Creates a subfolder under the specified temporary folder, saves the content of the file
      * into it, and returns the paths for both the newly created file and its parent folder.
@@ -106,14 +173,14 @@ public class IacScannerService extends BaseScannerService<IacRealtimeResults> {
      * @throws IOException if an error occurs while creating the folder or writing the file
      */
     private Pair<Path, Path> createSubFolderAndSaveFile(Path tempSubFolder, String relativePath, PsiFile psiFile) throws IOException {
-        String fileText = DevAssistUtils.getFileContent(psiFile);
-        if (fileText == null || fileText.isBlank()) {
+        CharSequence fileText = DevAssistUtils.getFileCharSequence(psiFile);
+        if (StringUtil.isEmptyOrSpaces(fileText)) {
             LOGGER.warn("No content found in file: " + psiFile.getVirtualFile().getPath());
             return null;
         }
         this.createTempFolder(tempSubFolder);
         Path fullTargetPath = Paths.get(tempSubFolder.toString(), relativePath);
-        Files.writeString(fullTargetPath, fileText, StandardCharsets.UTF_8);
+        ScanTempFileWriter.write(ScanEngine.IAC, fileText, fullTargetPath);
         return Pair.of(fullTargetPath, tempSubFolder);
     }
 
@@ -188,19 +255,28 @@ public class IacScannerService extends BaseScannerService<IacRealtimeResults> {
                 return null;
             }
             String tempFilePath;
+            long ioStart = System.nanoTime();
             saveResult = this.saveTempFiles(tempFolderPath, psiFile);
+            ScanMetrics.recordStage(ScanEngine.IAC, ScanStage.TEMP_FILE_IO, ioStart);
             if (Objects.nonNull(saveResult)) {
                 tempFilePath = saveResult.getLeft().toString();
                 LOGGER.info("Start IAC Realtime Scan On File: " + uri);
                 // Re-key ignore entries first (IaC simIds include line info and change when lines shift),
                 // so the subsequent scan with the ignore file uses up-to-date simIds and properly suppresses ignored findings.
                 updateIgnoredFileDataOnLatestResult(tempFilePath, psiFile.getProject(), uri);
+                long cliStart = System.nanoTime();
+                ScanMetrics.recordCliSpawn(ScanEngine.IAC);
                 IacRealtimeResults scanResults = CxWrapperFactory.build().iacRealtimeScan(tempFilePath, DevAssistUtils.getContainerTool(), DevAssistUtils.getIgnoreFilePath(psiFile.getProject()));
+                ScanMetrics.recordStage(ScanEngine.IAC, ScanStage.CLI_EXECUTION, cliStart);
+                ScannerCircuitBreaker.success(ScanEngine.IAC);
+                long adaptStart = System.nanoTime();
                 IacScanResultAdaptor scanResultAdaptor = new IacScanResultAdaptor(scanResults, fileType, uri);
+                ScanMetrics.recordStage(ScanEngine.IAC, ScanStage.RESULT_ADAPTATION, adaptStart);
                 TelemetryService.logScanResults(scanResultAdaptor, ScanEngine.IAC);
                 return scanResultAdaptor;
             }
         } catch (IOException | CxException | InterruptedException e) {
+            ScannerCircuitBreaker.failure(ScanEngine.IAC, e);
             LOGGER.warn(this.config.getErrorMessage(), e);
         } finally {
             LOGGER.debug("Deleting temporary folder");
@@ -227,6 +303,7 @@ public class IacScannerService extends BaseScannerService<IacRealtimeResults> {
             IgnoreManager ignoreManager = new IgnoreManager(project);
             if (ignoreManager.hasIgnoredEntries(ScanEngine.IAC)) {
                 LOGGER.debug("IaC: Performing full scan without passing ignore file to update .checkmarxIgnored file");
+                ScanMetrics.recordCliSpawn(ScanEngine.IAC);
                 IacRealtimeResults fullScanResults = CxWrapperFactory.build().iacRealtimeScan(tempFilePath, DevAssistUtils.getContainerTool(), "");
                 if (fullScanResults != null) {
                     IacScanResultAdaptor fullScanResultAdaptor = new IacScanResultAdaptor(fullScanResults, fileType, filePath);
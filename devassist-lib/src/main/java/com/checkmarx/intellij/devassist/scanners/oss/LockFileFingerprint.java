@@ -0,0 +1,126 @@
+package com.checkmarx.intellij.devassist.scanners.oss;
+
+import com.checkmarx.intellij.devassist.utils.PackageManagerMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Fingerprints the companion lock files of OSS manifests, which pin the versions a declared range resolves to.
+ * <p>
+ * Lock files are often several megabytes and rarely change while their manifest is edited, so the digest of each
+ * lock file is memoized by path, size and modification time and a file is only read again once it changed on
+ * disk. The same fingerprint keys both the shared scan result cache and the {@link OssPackageCache}, so a manifest
+ * scan reads its lock files at most once.
+ */
+public final class LockFileFingerprint {
+
+    public static final int MAX_ENTRIES = 256;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Map<Path, Digest> DIGESTS = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, Digest> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private LockFileFingerprint() {
+        throw new IllegalStateException("Can't instantiate LockFileFingerprint class");
+    }
+
+    /**
+     * Fingerprints the companion lock files next to a manifest.
+     *
+     * @param manifestPath the path of the manifest
+     * @return a hex digest of the names and contents of the lock files, or an empty string when there are none
+     * @throws IOException if a lock file cannot be read
+     */
+    public static String of(Path manifestPath) throws IOException {
+        Path parent = manifestPath.getParent();
+        if (Objects.isNull(parent) || Objects.isNull(manifestPath.getFileName())) {
+            return "";
+        }
+        MessageDigest fingerprint = null;
+        for (String companionFileName : PackageManagerMapper.getCompanionFileNames(manifestPath.getFileName().toString())) {
+            Path companionPath = parent.resolve(companionFileName);
+            if (!Files.isRegularFile(companionPath)) {
+                continue;
+            }
+            if (Objects.isNull(fingerprint)) {
+                fingerprint = newDigest();
+            }
+            fingerprint.update(companionFileName.getBytes(StandardCharsets.UTF_8));
+            fingerprint.update(digestOf(companionPath));
+        }
+        return Objects.isNull(fingerprint) ? "" : toHex(fingerprint.digest());
+    }
+
+    private static byte[] digestOf(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+        synchronized (DIGESTS) {
+            Digest digest = DIGESTS.get(file);
+            if (Objects.nonNull(digest) && digest.size == size && digest.modified == modified) {
+                return digest.bytes;
+            }
+        }
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        byte[] bytes = digest.digest();
+        synchronized (DIGESTS) {
+            DIGESTS.put(file, new Digest(size, modified, bytes));
+        }
+        return bytes;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The digest of a lock file, valid while its size and modification time are unchanged.
+     */
+    private static final class Digest {
+        private final long size;
+        private final long modified;
+        private final byte[] bytes;
+
+        private Digest(long size, long modified, byte[] bytes) {
+            this.size = size;
+            this.modified = modified;
+            this.bytes = bytes;
+        }
+    }
+}
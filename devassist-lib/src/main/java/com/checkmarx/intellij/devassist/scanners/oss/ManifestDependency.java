@@ -0,0 +1,77 @@
+package com.checkmarx.intellij.devassist.scanners.oss;
+
+import com.checkmarx.intellij.devassist.model.Location;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A dependency declared in a manifest, identified by its package coordinate (ecosystem, name, version) and
+ * located by the lines of its declaration.
+ */
+@Getter
+@AllArgsConstructor
+public final class ManifestDependency {
+
+    public static final String NPM = "npm";
+    public static final String MAVEN = "maven";
+    public static final String PYPI = "pypi";
+    public static final String GO = "go";
+
+    private final String ecosystem;
+    /**
+     * Package name; {@code groupId:artifactId} for Maven.
+     */
+    private final String name;
+    /**
+     * Declared version or version range, with Maven properties of the same file resolved.
+     */
+    private final String version;
+    /**
+     * One-based locations of the declaration, one per line.
+     */
+    private final List<Location> locations;
+    /**
+     * Whether the dependency is declared in the Maven {@code dependencyManagement} section.
+     */
+    private final boolean managed;
+
+    /**
+     * Returns the cache key of the coordinate.
+     *
+     * @param lockFingerprint fingerprint of the lock files the declared version is resolved against, or an empty
+     *                        string for manifests without lock file
+     */
+    public String getCacheKey(String lockFingerprint) {
+        return ecosystem + ":" + normalizeName(ecosystem, name) + "@" + version
+                + (Objects.isNull(lockFingerprint) || lockFingerprint.isEmpty() ? "" : "#" + lockFingerprint);
+    }
+
+    /**
+     * Checks whether a package reported by the CLI is this dependency.
+     *
+     * @param reportedName the package name reported by the CLI
+     */
+    public boolean matchesPackage(String reportedName) {
+        if (Objects.isNull(reportedName)) {
+            return false;
+        }
+        String normalizedName = normalizeName(ecosystem, reportedName);
+        if (normalizedName.equals(normalizeName(ecosystem, name))) {
+            return true;
+        }
+        // Maven packages may be reported by artifact id only
+        return MAVEN.equals(ecosystem) && normalizedName.equals(normalizeName(ecosystem, name.substring(name.indexOf(':') + 1)));
+    }
+
+    /**
+     * Normalizes a package name for comparison; Python names are case-insensitive and treat {@code -}, {@code _}
+     * and {@code .} alike.
+     */
+    static String normalizeName(String ecosystem, String packageName) {
+        String lowerCaseName = packageName.trim().toLowerCase();
+        return PYPI.equals(ecosystem) ? lowerCaseName.replaceAll("[-_.]+", "-") : lowerCaseName;
+    }
+}
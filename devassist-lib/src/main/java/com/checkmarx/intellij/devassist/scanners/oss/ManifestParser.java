@@ -0,0 +1,383 @@
+package com.checkmarx.intellij.devassist.scanners.oss;
+
+import com.checkmarx.intellij.devassist.model.Location;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Line based parser for the declared dependencies of common manifests: {@code package.json}, {@code pom.xml},
+ * {@code requirements*.txt} and {@code go.mod}.
+ * <p>
+ * The parser is deliberately conservative: whenever a manifest uses a layout it does not fully understand it
+ * returns {@code null}, and the manifest is scanned as a whole. It can also render a minimal manifest of the same
+ * kind holding only some of the dependencies, so the CLI can be asked about those alone.
+ */
+public final class ManifestParser {
+
+    private static final Pattern LINE_BREAK = Pattern.compile("\n");
+    private static final Pattern JSON_SECTION_KEY = Pattern.compile(
+            "\"(dependencies|devDependencies|peerDependencies|optionalDependencies)\"\\s*:");
+    private static final Pattern JSON_SECTION_START = Pattern.compile(
+            "^\\s*\"(dependencies|devDependencies|peerDependencies|optionalDependencies)\"\\s*:\\s*\\{\\s*(}\\s*,?\\s*)?$");
+    private static final Pattern JSON_ENTRY = Pattern.compile("^(\\s*)(\"([^\"]+)\"\\s*:\\s*\"([^\"]*)\")\\s*,?\\s*$");
+
+    private static final Pattern XML_PROPERTIES = Pattern.compile("<properties>(.*?)</properties>", Pattern.DOTALL);
+    private static final Pattern XML_PROPERTY = Pattern.compile("<([\\w.\\-]+)>([^<]*)</\\1>");
+    private static final Pattern XML_PROPERTY_REFERENCE = Pattern.compile("\\$\\{([^}]+)}");
+    private static final Pattern XML_GROUP_ID = Pattern.compile("<groupId>\\s*([^<]+?)\\s*</groupId>");
+    private static final Pattern XML_ARTIFACT_ID = Pattern.compile("<artifactId>\\s*([^<]+?)\\s*</artifactId>");
+    private static final Pattern XML_VERSION = Pattern.compile("<version>\\s*([^<]+?)\\s*</version>");
+
+    private static final Pattern REQUIREMENT = Pattern.compile(
+            "^\\s*([A-Za-z0-9][A-Za-z0-9._\\-]*)(\\[[^\\]]*])?\\s*([^#]*?)\\s*(?:#.*)?$");
+
+    private static final Pattern GO_REQUIRE_BLOCK_START = Pattern.compile("^\\s*require\\s*\\(\\s*(//.*)?$");
+    private static final Pattern GO_REQUIRE = Pattern.compile("^(\\s*(?:require\\s+)?)((\\S+)\\s+(v\\S+))\\s*(//.*)?$");
+
+    private ManifestParser() {
+        throw new IllegalStateException("Can't instantiate ManifestParser class");
+    }
+
+    /**
+     * Returns whether dependencies of the given manifest can be parsed.
+     *
+     * @param fileName the manifest file name
+     */
+    public static boolean isSupported(String fileName) {
+        return Objects.nonNull(ecosystemOf(fileName));
+    }
+
+    /**
+     * Parses the declared dependencies of a manifest.
+     *
+     * @param fileName the manifest file name, which selects the format
+     * @param content  the manifest content
+     * @return the dependencies in file order, or {@code null} if the format is not supported or the manifest
+     * cannot be parsed reliably
+     */
+    public static List<ManifestDependency> parse(String fileName, CharSequence content) {
+        String ecosystem = ecosystemOf(fileName);
+        if (Objects.isNull(ecosystem) || Objects.isNull(content)) {
+            return null;
+        }
+        String[] lines = LINE_BREAK.split(content, -1);
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = lines[i].endsWith("\r") ? lines[i].substring(0, lines[i].length() - 1) : lines[i];
+        }
+        switch (ecosystem) {
+            case ManifestDependency.NPM:
+                return parsePackageJson(lines);
+            case ManifestDependency.MAVEN:
+                return parsePom(content, lines);
+            case ManifestDependency.PYPI:
+                return parseRequirements(lines);
+            default:
+                return parseGoMod(lines);
+        }
+    }
+
+    /**
+     * Renders a minimal manifest of the given kind that declares only the given dependencies.
+     *
+     * @param fileName        the manifest file name, which selects the format
+     * @param originalContent the original manifest content, used to carry over Maven properties
+     * @param dependencies    the dependencies to declare
+     * @return the manifest content
+     */
+    public static String render(String fileName, CharSequence originalContent, List<ManifestDependency> dependencies) {
+        String ecosystem = ecosystemOf(fileName);
+        StringBuilder manifest = new StringBuilder();
+        if (ManifestDependency.NPM.equals(ecosystem)) {
+            manifest.append("{\n  \"dependencies\": {\n");
+            for (int i = 0; i < dependencies.size(); i++) {
+                ManifestDependency dependency = dependencies.get(i);
+                manifest.append("    \"").append(jsonEscape(dependency.getName())).append("\": \"")
+                        .append(jsonEscape(dependency.getVersion())).append('"')
+                        .append(i < dependencies.size() - 1 ? ",\n" : "\n");
+            }
+            manifest.append("  }\n}\n");
+        } else if (ManifestDependency.MAVEN.equals(ecosystem)) {
+            manifest.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                    .append("  <modelVersion>4.0.0</modelVersion>\n")
+                    .append("  <groupId>cx.realtime</groupId>\n  <artifactId>manifest</artifactId>\n  <version>1.0.0</version>\n");
+            Matcher properties = XML_PROPERTIES.matcher(Objects.isNull(originalContent) ? "" : originalContent);
+            if (properties.find()) {
+                manifest.append("  ").append(properties.group()).append('\n');
+            }
+            List<ManifestDependency> managed = new ArrayList<>();
+            List<ManifestDependency> direct = new ArrayList<>();
+            dependencies.forEach(dependency -> (dependency.isManaged() ? managed : direct).add(dependency));
+            if (!managed.isEmpty()) {
+                manifest.append("  <dependencyManagement>\n");
+                appendPomDependencies(manifest, managed);
+                manifest.append("  </dependencyManagement>\n");
+            }
+            appendPomDependencies(manifest, direct);
+            manifest.append("</project>\n");
+        } else if (ManifestDependency.PYPI.equals(ecosystem)) {
+            dependencies.forEach(dependency -> manifest.append(dependency.getName()).append(dependency.getVersion()).append('\n'));
+        } else {
+            manifest.append("module cx.realtime/manifest\n\nrequire (\n");
+            dependencies.forEach(dependency ->
+                    manifest.append('\t').append(dependency.getName()).append(' ').append(dependency.getVersion()).append('\n'));
+            manifest.append(")\n");
+        }
+        return manifest.toString();
+    }
+
+    private static String ecosystemOf(String fileName) {
+        if (Objects.isNull(fileName)) {
+            return null;
+        }
+        String lowerCaseName = fileName.toLowerCase();
+        if ("package.json".equals(lowerCaseName)) {
+            return ManifestDependency.NPM;
+        }
+        if ("pom.xml".equals(lowerCaseName)) {
+            return ManifestDependency.MAVEN;
+        }
+        if (lowerCaseName.startsWith("requirement") && lowerCaseName.endsWith(".txt")) {
+            return ManifestDependency.PYPI;
+        }
+        return "go.mod".equals(lowerCaseName) ? ManifestDependency.GO : null;
+    }
+
+    private static List<ManifestDependency> parsePackageJson(String[] lines) {
+        List<ManifestDependency> dependencies = new ArrayList<>();
+        boolean inSection = false;
+        for (int line = 0; line < lines.length; line++) {
+            String text = lines[line];
+            if (!inSection) {
+                if (JSON_SECTION_KEY.matcher(text).find()) {
+                    Matcher section = JSON_SECTION_START.matcher(text);
+                    if (!section.matches()) {
+                        return null;
+                    }
+                    inSection = Objects.isNull(section.group(2));
+                }
+                continue;
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (text.trim().startsWith("}")) {
+                inSection = false;
+                continue;
+            }
+            Matcher entry = JSON_ENTRY.matcher(text);
+            if (!entry.matches()) {
+                return null;
+            }
+            int startIndex = entry.group(1).length();
+            dependencies.add(new ManifestDependency(ManifestDependency.NPM, entry.group(3), entry.group(4),
+                    List.of(new Location(line + 1, startIndex, startIndex + entry.group(2).length())), false));
+        }
+        return inSection ? null : dependencies;
+    }
+
+    private static List<ManifestDependency> parsePom(CharSequence content, String[] lines) {
+        Map<String, String> properties = new HashMap<>();
+        Matcher propertiesBlock = XML_PROPERTIES.matcher(content);
+        if (propertiesBlock.find()) {
+            Matcher property = XML_PROPERTY.matcher(propertiesBlock.group(1));
+            while (property.find()) {
+                properties.put(property.group(1), property.group(2).trim());
+            }
+        }
+        List<ManifestDependency> dependencies = new ArrayList<>();
+        boolean managedSection = false;
+        boolean skippedSection = false;
+        int blockStart = -1;
+        StringBuilder block = new StringBuilder();
+        for (int line = 0; line < lines.length; line++) {
+            String text = lines[line];
+            // Build plugin and profile dependencies are not declared dependencies of the project; if the CLI
+            // reports them, they cannot be attributed and the whole pom is scanned
+            if (text.contains("<build>") || text.contains("<profiles>")) {
+                skippedSection = true;
+            }
+            if (text.contains("</build>") || text.contains("</profiles>")) {
+                skippedSection = false;
+                continue;
+            }
+            if (skippedSection) {
+                continue;
+            }
+            if (text.contains("<parent>")) {
+                // Versions may be inherited from a parent that is not available to a partial scan
+                return null;
+            }
+            if (text.contains("<dependencyManagement>")) {
+                managedSection = true;
+            }
+            if (text.contains("</dependencyManagement>")) {
+                managedSection = false;
+            }
+            if (blockStart < 0 && text.contains("<dependency>")) {
+                blockStart = line;
+                block.setLength(0);
+            }
+            if (blockStart >= 0) {
+                block.append(text).append('\n');
+                if (text.contains("</dependency>")) {
+                    ManifestDependency dependency = toPomDependency(block.toString(), properties, lines, blockStart, line, managedSection);
+                    if (Objects.isNull(dependency)) {
+                        return null;
+                    }
+                    dependencies.add(dependency);
+                    blockStart = -1;
+                }
+            }
+        }
+        return blockStart >= 0 ? null : withManagedVersions(dependencies);
+    }
+
+    /**
+     * Fills in the versions of dependencies declared without version from the {@code dependencyManagement}
+     * section, so the version is part of the coordinate and of a rendered manifest. Managed entries of dependencies
+     * that are also declared directly are dropped, as the direct declaration stands for both.
+     *
+     * @return the dependencies, or {@code null} if a version cannot be resolved within the pom
+     */
+    private static List<ManifestDependency> withManagedVersions(List<ManifestDependency> dependencies) {
+        Map<String, String> managedVersions = new HashMap<>();
+        Set<String> directNames = new HashSet<>();
+        dependencies.forEach(dependency -> {
+            if (dependency.isManaged()) {
+                managedVersions.putIfAbsent(dependency.getName(), dependency.getVersion());
+            } else {
+                directNames.add(dependency.getName());
+            }
+        });
+        List<ManifestDependency> resolved = new ArrayList<>();
+        for (ManifestDependency dependency : dependencies) {
+            if (dependency.isManaged() && directNames.contains(dependency.getName())) {
+                continue;
+            }
+            String version = dependency.getVersion().isEmpty()
+                    ? managedVersions.getOrDefault(dependency.getName(), "") : dependency.getVersion();
+            if (version.isEmpty() || version.contains("${")) {
+                return null;
+            }
+            resolved.add(new ManifestDependency(dependency.getEcosystem(), dependency.getName(), version,
+                    dependency.getLocations(), dependency.isManaged()));
+        }
+        return resolved;
+    }
+
+    private static ManifestDependency toPomDependency(String block, Map<String, String> properties, String[] lines,
+                                                      int firstLine, int lastLine, boolean managed) {
+        Matcher groupId = XML_GROUP_ID.matcher(block);
+        Matcher artifactId = XML_ARTIFACT_ID.matcher(block);
+        if (!groupId.find() || !artifactId.find()) {
+            return null;
+        }
+        Matcher version = XML_VERSION.matcher(block);
+        String resolvedVersion = version.find() ? resolveProperties(version.group(1), properties) : "";
+        List<Location> locations = new ArrayList<>();
+        for (int line = firstLine; line <= lastLine; line++) {
+            locations.add(spanOf(lines[line], line));
+        }
+        return new ManifestDependency(ManifestDependency.MAVEN,
+                resolveProperties(groupId.group(1), properties) + ":" + resolveProperties(artifactId.group(1), properties),
+                resolvedVersion, locations, managed);
+    }
+
+    private static String resolveProperties(String value, Map<String, String> properties) {
+        Matcher reference = XML_PROPERTY_REFERENCE.matcher(value);
+        StringBuilder resolved = new StringBuilder();
+        while (reference.find()) {
+            String propertyValue = properties.getOrDefault(reference.group(1), reference.group());
+            reference.appendReplacement(resolved, Matcher.quoteReplacement(propertyValue));
+        }
+        reference.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    private static List<ManifestDependency> parseRequirements(String[] lines) {
+        List<ManifestDependency> dependencies = new ArrayList<>();
+        for (int line = 0; line < lines.length; line++) {
+            String text = lines[line];
+            String trimmed = text.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            Matcher requirement = REQUIREMENT.matcher(text);
+            if (trimmed.startsWith("-") || trimmed.endsWith("\\") || !requirement.matches()) {
+                // Options, includes, line continuations and direct references are left to the CLI
+                return null;
+            }
+            int startIndex = requirement.start(1);
+            int endIndex = requirement.group(3).isEmpty() ? Math.max(requirement.end(1), requirement.end(2)) : requirement.end(3);
+            dependencies.add(new ManifestDependency(ManifestDependency.PYPI, requirement.group(1), requirement.group(3),
+                    List.of(new Location(line + 1, startIndex, endIndex)), false));
+        }
+        return dependencies;
+    }
+
+    private static List<ManifestDependency> parseGoMod(String[] lines) {
+        List<ManifestDependency> dependencies = new ArrayList<>();
+        boolean inRequireBlock = false;
+        for (int line = 0; line < lines.length; line++) {
+            String text = lines[line];
+            String trimmed = text.trim();
+            if (inRequireBlock) {
+                if (trimmed.startsWith(")")) {
+                    inRequireBlock = false;
+                    continue;
+                }
+                if (trimmed.isEmpty() || trimmed.startsWith("//")) {
+                    continue;
+                }
+            } else if (GO_REQUIRE_BLOCK_START.matcher(text).matches()) {
+                inRequireBlock = true;
+                continue;
+            } else if (trimmed.startsWith("replace")) {
+                // Replaced modules resolve elsewhere than their declared coordinate
+                return null;
+            } else if (!trimmed.startsWith("require ")) {
+                continue;
+            }
+            Matcher require = GO_REQUIRE.matcher(text);
+            if (!require.matches()) {
+                return null;
+            }
+            int startIndex = require.group(1).length();
+            dependencies.add(new ManifestDependency(ManifestDependency.GO, require.group(3), require.group(4),
+                    List.of(new Location(line + 1, startIndex, startIndex + require.group(2).length())), false));
+        }
+        return inRequireBlock ? null : dependencies;
+    }
+
+    private static void appendPomDependencies(StringBuilder manifest, List<ManifestDependency> dependencies) {
+        manifest.append("  <dependencies>\n");
+        for (ManifestDependency dependency : dependencies) {
+            String[] coordinates = dependency.getName().split(":", 2);
+            manifest.append("    <dependency>\n")
+                    .append("      <groupId>").append(coordinates[0]).append("</groupId>\n")
+                    .append("      <artifactId>").append(coordinates[1]).append("</artifactId>\n");
+            if (!dependency.getVersion().isEmpty()) {
+                manifest.append("      <version>").append(dependency.getVersion()).append("</version>\n");
+            }
+            manifest.append("    </dependency>\n");
+        }
+        manifest.append("  </dependencies>\n");
+    }
+
+    private static Location spanOf(String text, int line) {
+        int startIndex = text.length() - text.stripLeading().length();
+        return new Location(line + 1, startIndex, text.stripTrailing().length());
+    }
+
+    private static String jsonEscape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
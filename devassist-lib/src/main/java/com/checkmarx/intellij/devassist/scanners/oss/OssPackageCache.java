@@ -0,0 +1,104 @@
+package com.checkmarx.intellij.devassist.scanners.oss;
+
+import com.checkmarx.ast.ossrealtime.OssRealtimeScanPackage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Application-wide cache of OSS package results, keyed by {@link ManifestDependency#getCacheKey(String) package
+ * coordinate}.
+ * <p>
+ * Editing a manifest usually touches one or two dependencies. With the cache, a manifest scan parses the declared
+ * dependencies locally and only queries the CLI for coordinates that are not cached yet; the remaining packages
+ * are served from the cache at their current line positions. Vulnerability data changes slowly, so entries expire
+ * after {@link #TTL_MINUTES} minutes, and the cache is cleared whenever the global settings are applied.
+ */
+public final class OssPackageCache {
+
+    public static final int MAX_ENTRIES = 5000;
+    public static final long TTL_MINUTES = 60;
+
+    private static final OssPackageCache INSTANCE = new OssPackageCache(TimeUnit.MINUTES.toNanos(TTL_MINUTES),
+            System::nanoTime, MAX_ENTRIES);
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Creates a cache; use {@link #getInstance()} to obtain the shared instance.
+     *
+     * @param ttlNanos   time to live of an entry
+     * @param nanoClock  time source, {@link System#nanoTime()} in production
+     * @param maxEntries number of entries above which the least recently used entry is evicted
+     */
+    public OssPackageCache(long ttlNanos, LongSupplier nanoClock, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static OssPackageCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Looks up a package coordinate.
+     *
+     * @param cacheKey the {@link ManifestDependency#getCacheKey(String) cache key} of the coordinate
+     * @return the cached entry, or {@code null} if the coordinate is not cached or the entry expired
+     */
+    public synchronized Entry get(String cacheKey) {
+        Entry entry = entries.get(cacheKey);
+        if (Objects.isNull(entry)) {
+            return null;
+        }
+        if (nanoClock.getAsLong() - entry.storedAtNanos >= ttlNanos) {
+            entries.remove(cacheKey);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the scan result of a package coordinate.
+     *
+     * @param cacheKey the {@link ManifestDependency#getCacheKey(String) cache key} of the coordinate
+     * @param scanPackage the package as reported by the CLI, or {@code null} if the CLI reported nothing for it
+     */
+    public synchronized void put(String cacheKey, OssRealtimeScanPackage scanPackage) {
+        entries.put(cacheKey, new Entry(scanPackage, nanoClock.getAsLong()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * A cached package result.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Entry {
+        /**
+         * The package as reported by the CLI; {@code null} if the CLI reported nothing for the coordinate.
+         */
+        private final OssRealtimeScanPackage scanPackage;
+        private final long storedAtNanos;
+    }
+}
@@ -10,6 +10,7 @@ import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.model.Vulnerability;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +40,29 @@ public class OssScanResultAdaptor implements ScanResult<OssRealtimeResults> {
         this.scanIssues = buildIssues();
     }
 
+    private OssScanResultAdaptor(String filePath, List<Pair<ManifestDependency, OssRealtimeScanPackage>> cachedPackages) {
+        this.ossRealtimeResults = null;
+        this.filePath = filePath;
+        this.scanIssues = cachedPackages.stream()
+                .filter(cachedPackage -> Objects.nonNull(cachedPackage.getRight()))
+                .map(cachedPackage -> createScanIssue(cachedPackage.getRight(), cachedPackage.getLeft().getLocations()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates an adaptor from cached package results, see {@link OssPackageCache}. Every package is reported at the
+     * lines of its declaration in the current manifest content; {@link #getResults()} is {@code null}.
+     *
+     * @param cachedPackages the declared dependencies of the manifest, each with its cached package or {@code null}
+     *                       if the CLI reported nothing for it
+     * @param filePath       the original file path
+     * @return the adaptor
+     */
+    public static OssScanResultAdaptor fromCachedPackages(List<Pair<ManifestDependency, OssRealtimeScanPackage>> cachedPackages,
+                                                          String filePath) {
+        return new OssScanResultAdaptor(filePath, cachedPackages);
+    }
+
     /**
      * Retrieves the OSS real-time scan results wrapped by this adapter.
      *
@@ -75,7 +99,7 @@ public class OssScanResultAdaptor implements ScanResult<OssRealtimeResults> {
             return Collections.emptyList();
         }
         return packages.stream()
-                .map(this::createScanIssue)
+                .map(packageObj -> createScanIssue(packageObj, locationsOf(packageObj)))
                 .collect(Collectors.toList());
     }
 
@@ -86,10 +110,11 @@ public class OssScanResultAdaptor implements ScanResult<OssRealtimeResults> {
      *
      * @param packageObj the {@code OssRealtimeScanPackage} containing information about the scanned package,
      *                   including its name, version, vulnerabilities, and locations.
+     * @param locations  the one-based locations to report the package at
      * @return a {@code ScanIssue} object encapsulating the details such as title, package version, scan engine,
      * severity, and vulnerability locations derived from the provided package.
      */
-    private ScanIssue createScanIssue(OssRealtimeScanPackage packageObj) {
+    private ScanIssue createScanIssue(OssRealtimeScanPackage packageObj, List<Location> locations) {
         ScanIssue scanIssue = new ScanIssue();
 
         scanIssue.setPackageManager(packageObj.getPackageManager());
@@ -99,10 +124,8 @@ public class OssScanResultAdaptor implements ScanResult<OssRealtimeResults> {
         scanIssue.setSeverity(packageObj.getStatus());
         scanIssue.setFilePath(this.filePath);
 
-        if (Objects.nonNull(packageObj.getLocations()) && !packageObj.getLocations().isEmpty()) {
-            packageObj.getLocations().forEach(location ->
-                    scanIssue.getLocations().add(createLocation(location)));
-        }
+        locations.forEach(location -> scanIssue.getLocations().add(new Location(location.getLine(),
+                location.getStartIndex(), location.getEndIndex())));
         if (packageObj.getVulnerabilities() != null && !packageObj.getVulnerabilities().isEmpty()) {
             packageObj.getVulnerabilities().forEach(vulnerability ->
                     scanIssue.getVulnerabilities().add(createVulnerability(vulnerability)));
@@ -111,6 +134,16 @@ public class OssScanResultAdaptor implements ScanResult<OssRealtimeResults> {
         return scanIssue;
     }
 
+    /**
+     * Converts the locations reported by the CLI for a package into one-based locations.
+     */
+    private List<Location> locationsOf(OssRealtimeScanPackage packageObj) {
+        if (Objects.isNull(packageObj.getLocations()) || packageObj.getLocations().isEmpty()) {
+            return Collections.emptyList();
+        }
+        return packageObj.getLocations().stream().map(this::createLocation).collect(Collectors.toList());
+    }
+
     /**
      * Creates a {@code Vulnerability} instance based on the provided {@code OssRealtimeVulnerability}.
      * This method extracts relevant information such as the ID, description, severity, and fix version
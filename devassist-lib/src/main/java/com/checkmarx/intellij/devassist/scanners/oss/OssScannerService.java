@@ -1,21 +1,28 @@
 package com.checkmarx.intellij.devassist.scanners.oss;
 
 import com.checkmarx.ast.ossrealtime.OssRealtimeResults;
+import com.checkmarx.ast.ossrealtime.OssRealtimeScanPackage;
 import com.checkmarx.ast.wrapper.CxException;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
 import com.checkmarx.intellij.devassist.basescanner.BaseScannerService;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
 import com.checkmarx.intellij.devassist.common.ScanResult;
 import com.checkmarx.intellij.devassist.configuration.ScannerConfig;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
 import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
 import com.checkmarx.intellij.devassist.telemetry.TelemetryService;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.PackageManagerMapper;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiFile;
+import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -24,12 +31,21 @@ import java.nio.file.*;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+
 /**
  * Realtime OSS manifest scanner Class that does temporary file handling,
  * and invocation of the Checkmarx OSS realtime scanning engine.
@@ -148,21 +164,19 @@ public class OssScannerService extends BaseScannerService<OssRealtimeResults> {
      *
      * @param tempSubFolder    destination temp directory
      * @param originalFilePath original manifest path (used for logging and file naming)
-     * @param file             PSI file containing the manifest contents
+     * @param fileText         the manifest contents
      * @return optional containing the path to the temp manifest file when saved successfully
      * @throws IOException if writing the file fails
      */
-    private Optional<String> saveMainManifestFile(Path tempSubFolder, @NotNull String originalFilePath, PsiFile file) throws IOException {
-        String fileText = DevAssistUtils.getFileContent(file);
-
-        if (fileText == null || fileText.isBlank()) {
+    private Optional<String> saveMainManifestFile(Path tempSubFolder, @NotNull String originalFilePath, CharSequence fileText) throws IOException {
+        if (StringUtil.isEmptyOrSpaces(fileText)) {
             LOGGER.warn("No content found in file" + originalFilePath);
             return Optional.empty();
         }
         Path originalPath = Paths.get(originalFilePath);
         String fileName = originalPath.getFileName().toString();
         Path tempFilePath = Paths.get(tempSubFolder.toString(), fileName);
-        Files.writeString(tempFilePath, fileText, StandardCharsets.UTF_8);
+        ScanTempFileWriter.write(ScanEngine.OSS, fileText, tempFilePath);
         return Optional.of(tempFilePath.toString());
     }
 
@@ -223,20 +237,43 @@ public class OssScannerService extends BaseScannerService<OssRealtimeResults> {
         }
         Path tempSubFolder = this.getTempSubFolderPath(file);
         try {
+            String manifestFileName = getPath(uri).getFileName().toString();
+            CharSequence manifestContent = DevAssistUtils.getFileCharSequence(file);
+            List<ManifestDependency> dependencies = ManifestParser.parse(manifestFileName, manifestContent);
+            if (Objects.nonNull(dependencies) && !dependencies.isEmpty()
+                    && new IgnoreManager(file.getProject()).hasIgnoredEntries(ScanEngine.OSS)) {
+                // Ignored packages are filtered from the results and tracked by full scans, so bypass the cache
+                dependencies = null;
+            }
+            String lockFingerprint = lockFingerprint(uri);
+            OssScanResultAdaptor cachedResult = scanWithPackageCache(file, uri, manifestContent, dependencies, lockFingerprint);
+            if (Objects.nonNull(cachedResult)) {
+                return cachedResult;
+            }
+            long ioStart = System.nanoTime();
             this.createTempFolder(tempSubFolder);
-            Optional<String> mainTempPath = this.saveMainManifestFile(tempSubFolder, uri, file);
+            Optional<String> mainTempPath = this.saveMainManifestFile(tempSubFolder, uri, manifestContent);
             if (mainTempPath.isEmpty()) {
                 return null;
             }
             this.saveCompanionFile(tempSubFolder, uri);
+            ScanMetrics.recordStage(ScanEngine.OSS, ScanStage.TEMP_FILE_IO, ioStart);
             LOGGER.info("Start Realtime Scan On File: " + uri);
+            long cliStart = System.nanoTime();
+            ScanMetrics.recordCliSpawn(ScanEngine.OSS);
             OssRealtimeResults scanResults = CxWrapperFactory.build().ossRealtimeScan(mainTempPath.get(), DevAssistUtils.getIgnoreFilePath(file.getProject()));
+            ScanMetrics.recordStage(ScanEngine.OSS, ScanStage.CLI_EXECUTION, cliStart);
+            ScannerCircuitBreaker.success(ScanEngine.OSS);
+            cacheScannedPackages(dependencies, lockFingerprint, scanResults);
+            long adaptStart = System.nanoTime();
             OssScanResultAdaptor scanResultAdaptor = new OssScanResultAdaptor(scanResults, uri);
+            ScanMetrics.recordStage(ScanEngine.OSS, ScanStage.RESULT_ADAPTATION, adaptStart);
             TelemetryService.logScanResults(scanResultAdaptor, ScanEngine.OSS);
             // Update line numbers for ignored packages if any exist
             updateIgnoredFileDataOnLatestResult(mainTempPath.get(), file.getProject(), uri);
             return scanResultAdaptor;
         } catch (IOException | CxException | InterruptedException e) {
+            ScannerCircuitBreaker.failure(ScanEngine.OSS, e);
             LOGGER.warn(this.config.getErrorMessage(), e);
         } finally {
             LOGGER.info("Deleting temporary folder");
@@ -246,6 +283,156 @@ public class OssScannerService extends BaseScannerService<OssRealtimeResults> {
     }
 
 
+    /**
+     * Serves the scan of a manifest from the {@link OssPackageCache}: only dependencies whose coordinate is not cached
+     * are sent to the CLI, in a minimal manifest of the same kind, and the cached packages are mapped onto the
+     * current declaration lines.
+     * <p>
+     * Returns {@code null}, so the whole manifest is scanned, when the manifest could not be parsed, none of its
+     * dependencies is cached yet or the CLI reports packages that cannot be attributed to a single requested
+     * dependency.
+     */
+    private OssScanResultAdaptor scanWithPackageCache(PsiFile file, String uri, CharSequence manifestContent,
+                                                      List<ManifestDependency> dependencies, String lockFingerprint)
+            throws IOException, CxException, InterruptedException {
+        if (Objects.isNull(dependencies) || dependencies.isEmpty()) {
+            return null;
+        }
+        OssPackageCache packageCache = OssPackageCache.getInstance();
+        Map<String, OssRealtimeScanPackage> packagesByKey = new HashMap<>();
+        Map<String, ManifestDependency> missingDependencies = new LinkedHashMap<>();
+        for (ManifestDependency dependency : dependencies) {
+            String cacheKey = dependency.getCacheKey(lockFingerprint);
+            OssPackageCache.Entry entry = packageCache.get(cacheKey);
+            if (Objects.nonNull(entry)) {
+                packagesByKey.put(cacheKey, entry.getScanPackage());
+            } else {
+                missingDependencies.putIfAbsent(cacheKey, dependency);
+            }
+        }
+        if (missingDependencies.size() == dependencies.size()) {
+            return null;
+        }
+        if (!missingDependencies.isEmpty()) {
+            Map<String, OssRealtimeScanPackage> scannedPackages = scanDependencies(missingDependencies.values(), file, uri,
+                    manifestContent, lockFingerprint);
+            if (Objects.isNull(scannedPackages)) {
+                return null;
+            }
+            missingDependencies.keySet().forEach(cacheKey -> {
+                OssRealtimeScanPackage scanPackage = scannedPackages.get(cacheKey);
+                packageCache.put(cacheKey, scanPackage);
+                packagesByKey.put(cacheKey, scanPackage);
+            });
+        }
+        LOGGER.debug(format("OSS: %d of %d dependencies served from cache for file: %s",
+                dependencies.size() - missingDependencies.size(), dependencies.size(), uri));
+        long adaptStart = System.nanoTime();
+        List<Pair<ManifestDependency, OssRealtimeScanPackage>> cachedPackages = new ArrayList<>();
+        dependencies.forEach(dependency -> cachedPackages.add(Pair.of(dependency, packagesByKey.get(dependency.getCacheKey(lockFingerprint)))));
+        OssScanResultAdaptor scanResultAdaptor = OssScanResultAdaptor.fromCachedPackages(cachedPackages, uri);
+        ScanMetrics.recordStage(ScanEngine.OSS, ScanStage.RESULT_ADAPTATION, adaptStart);
+        return scanResultAdaptor;
+    }
+
+    /**
+     * Scans the given dependencies in a minimal manifest of the same kind, next to copies of the companion lock
+     * files of the original manifest.
+     *
+     * @return the reported packages by dependency cache key, or {@code null} if the result cannot be attributed
+     */
+    private Map<String, OssRealtimeScanPackage> scanDependencies(Collection<ManifestDependency> dependencies, PsiFile file,
+                                                                 String uri, CharSequence manifestContent, String lockFingerprint)
+            throws IOException, CxException, InterruptedException {
+        Path tempSubFolder = Paths.get(super.getTempSubFolderPath(DevAssistConstants.OSS_REALTIME_SCANNER_DIRECTORY),
+                "packages-" + UUID.randomUUID());
+        try {
+            long ioStart = System.nanoTime();
+            this.createTempFolder(tempSubFolder);
+            String fileName = getPath(uri).getFileName().toString();
+            String manifest = ManifestParser.render(fileName, manifestContent, new ArrayList<>(dependencies));
+            Path manifestPath = tempSubFolder.resolve(fileName);
+            ScanTempFileWriter.write(ScanEngine.OSS, manifest, manifestPath);
+            this.saveCompanionFile(tempSubFolder, uri);
+            ScanMetrics.recordStage(ScanEngine.OSS, ScanStage.TEMP_FILE_IO, ioStart);
+
+            LOGGER.info(format("Start Realtime Scan for %d changed dependencies of file: %s", dependencies.size(), uri));
+            long cliStart = System.nanoTime();
+            ScanMetrics.recordCliSpawn(ScanEngine.OSS);
+            OssRealtimeResults scanResults = CxWrapperFactory.build().ossRealtimeScan(manifestPath.toString(),
+                    DevAssistUtils.getIgnoreFilePath(file.getProject()));
+            ScanMetrics.recordStage(ScanEngine.OSS, ScanStage.CLI_EXECUTION, cliStart);
+            ScannerCircuitBreaker.success(ScanEngine.OSS);
+            return matchPackages(dependencies, scanResults, lockFingerprint);
+        } finally {
+            deleteTempFolder(tempSubFolder);
+        }
+    }
+
+    /**
+     * Adds the packages reported by a full manifest scan to the {@link OssPackageCache}, keyed by the declared
+     * coordinate; declared dependencies the CLI reported nothing for are cached as such.
+     */
+    private static void cacheScannedPackages(List<ManifestDependency> dependencies, String lockFingerprint,
+                                             OssRealtimeResults scanResults) {
+        if (Objects.isNull(dependencies) || dependencies.isEmpty()) {
+            return;
+        }
+        Map<String, OssRealtimeScanPackage> packagesByKey = matchPackages(dependencies, scanResults, lockFingerprint);
+        if (Objects.isNull(packagesByKey)) {
+            return;
+        }
+        OssPackageCache packageCache = OssPackageCache.getInstance();
+        dependencies.forEach(dependency -> {
+            String cacheKey = dependency.getCacheKey(lockFingerprint);
+            packageCache.put(cacheKey, packagesByKey.get(cacheKey));
+        });
+    }
+
+    /**
+     * Attributes the packages reported by the CLI to the declared dependencies.
+     *
+     * @return the reported packages by dependency cache key, or {@code null} if dependency names are ambiguous or
+     * a reported package does not belong to exactly one of the dependencies, e.g. a transitive package resolved
+     * from a lock file
+     */
+    private static Map<String, OssRealtimeScanPackage> matchPackages(Collection<ManifestDependency> dependencies,
+                                                                     OssRealtimeResults scanResults, String lockFingerprint) {
+        Set<String> names = new HashSet<>();
+        for (ManifestDependency dependency : dependencies) {
+            if (!names.add(ManifestDependency.normalizeName(dependency.getEcosystem(), dependency.getName()))) {
+                return null;
+            }
+        }
+        Map<String, OssRealtimeScanPackage> packagesByKey = new HashMap<>();
+        List<OssRealtimeScanPackage> packages = Objects.nonNull(scanResults) && Objects.nonNull(scanResults.getPackages())
+                ? scanResults.getPackages() : List.of();
+        for (OssRealtimeScanPackage scanPackage : packages) {
+            List<ManifestDependency> matches = dependencies.stream()
+                    .filter(dependency -> dependency.matchesPackage(scanPackage.getPackageName()))
+                    .collect(Collectors.toList());
+            if (matches.size() != 1
+                    || Objects.nonNull(packagesByKey.putIfAbsent(matches.get(0).getCacheKey(lockFingerprint), scanPackage))) {
+                return null;
+            }
+        }
+        return packagesByKey;
+    }
+
+    /**
+     * Fingerprints the companion lock files of a manifest, since they pin the versions a declared range resolves
+     * to; an empty string when the manifest has none. The digests are memoized, so the lock files already read
+     * for the shared cache key of this scan are not read again.
+     */
+    private String lockFingerprint(String originalFilePath) {
+        try {
+            return LockFileFingerprint.of(getPath(originalFilePath));
+        } catch (IOException e) {
+            LOGGER.debug("OSS: Could not read companion files of: " + originalFilePath, e);
+            return UUID.randomUUID().toString();
+        }
+    }
+
     /**
      * This method will scan the original file without considering the ignored issue file path (.checkmarxIgnoredTempFile).
      * And based on the original result that contains an updated line number for a scan.
@@ -262,6 +449,7 @@ public class OssScannerService extends BaseScannerService<OssRealtimeResults> {
             IgnoreManager ignoreManager = new IgnoreManager(project);
             if (ignoreManager.hasIgnoredEntries(ScanEngine.OSS)) {
                 LOGGER.debug("OSS: Performing full scan to update line numbers for ignored packages");
+                ScanMetrics.recordCliSpawn(ScanEngine.OSS);
                 OssRealtimeResults fullScanResults = CxWrapperFactory.build()
                         .ossRealtimeScan(tempFilePath, "");
                 if (fullScanResults != null && fullScanResults.getPackages() != null) {
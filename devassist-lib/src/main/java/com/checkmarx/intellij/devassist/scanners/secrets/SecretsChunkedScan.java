@@ -0,0 +1,159 @@
+package com.checkmarx.intellij.devassist.scanners.secrets;
+
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.intellij.openapi.util.text.StringUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Size policy and chunk bookkeeping for realtime secrets scans of large files.
+ * <p>
+ * Files above the chunk threshold of the settings are split into chunks of about {@link #CHUNK_CHARS}
+ * characters, cut at line ends where possible, which are scanned in parallel. Consecutive chunks overlap by at
+ * least {@link #OVERLAP_CHARS} characters, the length of the longest secret the engine detects (a PEM encoded
+ * private key), so every secret is entirely contained in at least one chunk. The findings of the chunks are
+ * moved to their lines in the file, and findings reported twice in an overlap are kept once.
+ * <p>
+ * Files above the save-only threshold are not scanned while they have unsaved changes; they are scanned when
+ * saved. Sizes are measured in characters.
+ */
+public final class SecretsChunkedScan {
+
+    /**
+     * The smallest threshold the settings accept; smaller files never consult the settings.
+     */
+    public static final int MIN_THRESHOLD_KB = 64;
+    public static final int CHUNK_CHARS = 512 * 1024;
+    public static final int OVERLAP_CHARS = 8 * 1024;
+
+    private SecretsChunkedScan() {
+        throw new IllegalStateException("Can't instantiate SecretsChunkedScan class");
+    }
+
+    /**
+     * Returns whether content of the given length is scanned in chunks.
+     */
+    public static boolean shouldChunk(long length) {
+        return length > MIN_THRESHOLD_KB * 1024L
+                && length > GlobalSettingsState.getInstance().getSecretsChunkThresholdKb() * 1024L;
+    }
+
+    /**
+     * Returns whether content of the given length is only scanned once saved.
+     */
+    public static boolean isSaveOnly(long length) {
+        return length > MIN_THRESHOLD_KB * 1024L
+                && length > GlobalSettingsState.getInstance().getSecretsSaveOnlyThresholdKb() * 1024L;
+    }
+
+    /**
+     * Splits the content into overlapping chunks. A chunk ends at the first line end after {@code chunkChars}
+     * characters; a line longer than another {@code chunkChars} characters is cut in the middle. The next chunk
+     * starts at the beginning of the line holding the first overlapping character, or in the middle of that line
+     * if it started before the current chunk.
+     *
+     * @param content      the file content
+     * @param chunkChars   the minimum number of characters per chunk, except for the last one
+     * @param overlapChars the minimum number of characters shared by consecutive chunks
+     * @return the chunks, in order
+     */
+    public static List<Chunk> split(CharSequence content, int chunkChars, int overlapChars) {
+        List<Chunk> chunks = new ArrayList<>();
+        int start = 0;
+        int firstLine = 1;
+        int firstColumn = 0;
+        while (true) {
+            int end = chunkEnd(content, start, chunkChars);
+            chunks.add(new Chunk(firstLine, firstColumn, start, end));
+            if (end >= content.length()) {
+                return chunks;
+            }
+            int nextStart = StringUtil.lastIndexOf(content, '\n', 0, end - overlapChars) + 1;
+            if (nextStart <= start) {
+                nextStart = Math.max(start + 1, end - overlapChars);
+                if (Character.isLowSurrogate(content.charAt(nextStart)) && nextStart - 1 > start) {
+                    nextStart--;
+                }
+            }
+            for (int i = start; i < nextStart; i++) {
+                if (content.charAt(i) == '\n') {
+                    firstLine++;
+                    firstColumn = 0;
+                } else {
+                    firstColumn++;
+                }
+            }
+            start = nextStart;
+        }
+    }
+
+    private static int chunkEnd(CharSequence content, int start, int chunkChars) {
+        if (content.length() - start <= chunkChars) {
+            return content.length();
+        }
+        int lineEnd = StringUtil.indexOf(content, '\n', start + chunkChars);
+        if (lineEnd >= 0 && lineEnd - start < 2 * chunkChars) {
+            return lineEnd + 1;
+        }
+        int end = start + chunkChars;
+        return Character.isHighSurrogate(content.charAt(end - 1)) ? end - 1 : end;
+    }
+
+    /**
+     * Moves the issues reported for each chunk to their lines in the file and drops the issues reported again
+     * in an overlap.
+     *
+     * @param chunks      the chunks, as returned by {@link #split(CharSequence, int, int)}
+     * @param chunkIssues the issues reported for each chunk, at their lines in the chunk
+     * @return the issues of the file
+     */
+    public static List<ScanIssue> merge(List<Chunk> chunks, List<List<ScanIssue>> chunkIssues) {
+        List<ScanIssue> merged = new ArrayList<>();
+        Set<String> reported = new HashSet<>();
+        for (int index = 0; index < chunks.size(); index++) {
+            Chunk chunk = chunks.get(index);
+            for (ScanIssue scanIssue : chunkIssues.get(index)) {
+                StringBuilder key = new StringBuilder(Objects.toString(scanIssue.getTitle())).append('|')
+                        .append(Objects.toString(scanIssue.getSecretValue()));
+                for (Location location : scanIssue.getLocations()) {
+                    if (location.getLine() == 1) {
+                        location.setStartIndex(location.getStartIndex() + chunk.getFirstColumn());
+                        location.setEndIndex(location.getEndIndex() + chunk.getFirstColumn());
+                    }
+                    location.setLine(location.getLine() + chunk.getFirstLine() - 1);
+                    key.append('|').append(location.getLine()).append(':').append(location.getStartIndex())
+                            .append('-').append(location.getEndIndex());
+                }
+                if (!reported.add(key.toString())) {
+                    continue;
+                }
+                int line = scanIssue.getLocations().isEmpty() ? 0 : scanIssue.getLocations().get(0).getLine();
+                scanIssue.setScanIssueId(DevAssistUtils.generateUniqueId(line, scanIssue.getTitle(), scanIssue.getDescription()));
+                merged.add(scanIssue);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * A range of the file content; its first character is at the one-based first line and zero-based first
+     * column of the file.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Chunk {
+        private final int firstLine;
+        private final int firstColumn;
+        private final int startOffset;
+        private final int endOffset;
+    }
+}
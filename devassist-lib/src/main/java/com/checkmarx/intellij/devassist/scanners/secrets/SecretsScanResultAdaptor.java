@@ -37,6 +37,24 @@ public class SecretsScanResultAdaptor implements ScanResult<SecretsRealtimeResul
         this.scanIssues = buildIssues();
     }
 
+    private SecretsScanResultAdaptor(String filePath, List<ScanIssue> scanIssues) {
+        this.secretsRealtimeResults = null;
+        this.filePath = filePath;
+        this.scanIssues = scanIssues;
+    }
+
+    /**
+     * Creates an adaptor holding issues that were not built from a single CLI result, such as the merged issues
+     * of a chunked scan; {@link #getResults()} returns {@code null}.
+     *
+     * @param scanIssues the issues of the file
+     * @param filePath   the path of the scanned file
+     * @return the adaptor
+     */
+    public static SecretsScanResultAdaptor fromIssues(List<ScanIssue> scanIssues, String filePath) {
+        return new SecretsScanResultAdaptor(filePath, scanIssues);
+    }
+
     /**
      * Retrieves the Secrets real-time scan results wrapped by this adapter.
      *
@@ -77,10 +95,22 @@ public class SecretsScanResultAdaptor implements ScanResult<SecretsRealtimeResul
         }
 
         return secrets.stream()
-                .map(this::createScanIssue)
+                .map(secret -> createScanIssue(secret, this.filePath))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Creates the issue of a single reported secret, for batch scans where the secrets of one result belong to
+     * different files.
+     *
+     * @param secret   the reported secret
+     * @param filePath the path of the file the secret was found in
+     * @return the issue of the secret
+     */
+    public static ScanIssue buildIssue(SecretsRealtimeResults.Secret secret, String filePath) {
+        return createScanIssue(secret, filePath);
+    }
+
     /**
      * Creates a {@code ScanIssue} object based on the provided secret result.
      * The method processes the secret details and converts them into a structured format to
@@ -88,18 +118,19 @@ public class SecretsScanResultAdaptor implements ScanResult<SecretsRealtimeResul
      * <p>
      * Creates a {@code ScanIssue} object based on the provided secret result.
      *
-     * @param secret the secret result containing information about the detected secret,
-     *               including its title, severity, description, and locations.
+     * @param secret   the secret result containing information about the detected secret,
+     *                 including its title, severity, description, and locations.
+     * @param filePath the path of the scanned file
      * @return a {@code ScanIssue} object encapsulating the details such as title, scan engine,
      * severity, and secret locations derived from the provided secret result.
      */
-    private ScanIssue createScanIssue(SecretsRealtimeResults.Secret secret) {
+    private static ScanIssue createScanIssue(SecretsRealtimeResults.Secret secret, String filePath) {
         ScanIssue scanIssue = new ScanIssue();
 
         scanIssue.setTitle(secret.getTitle());
         scanIssue.setScanEngine(ScanEngine.SECRETS);
         scanIssue.setSeverity(secret.getSeverity());
-        scanIssue.setFilePath(this.filePath);
+        scanIssue.setFilePath(filePath);
         scanIssue.setDescription(secret.getDescription()); // Set description on ScanIssue for tooltip display
         scanIssue.setSecretValue(secret.getSecretValue());
 
@@ -129,7 +160,7 @@ public class SecretsScanResultAdaptor implements ScanResult<SecretsRealtimeResul
      *                 start index, and end index for the location.
      * @return a new {@code Location} instance with the appropriate line and indices.
      */
-    private Location createLocation(RealtimeLocation location) {
+    private static Location createLocation(RealtimeLocation location) {
         return new Location(getLine(location), location.getStartIndex(), location.getEndIndex());
     }
 
@@ -140,14 +171,14 @@ public class SecretsScanResultAdaptor implements ScanResult<SecretsRealtimeResul
      * @return the incremented line number based on the {@code RealtimeLocation}'s line value
      * @apiNote - Current Secrets scan result line numbers are zero-based, so this method adjusts them to be one-based.
      */
-    private int getLine(RealtimeLocation location) {
+    private static int getLine(RealtimeLocation location) {
         return location.getLine() + 1;
     }
 
     /**
      * Generates a unique ID for the given scan issue.
      */
-    private String getUniqueId(ScanIssue scanIssue) {
+    private static String getUniqueId(ScanIssue scanIssue) {
         int line = (Objects.nonNull(scanIssue.getLocations()) && !scanIssue.getLocations().isEmpty())
                 ? scanIssue.getLocations().get(0).getLine() : 0;
         return DevAssistUtils.generateUniqueId(line, scanIssue.getTitle(), scanIssue.getDescription());
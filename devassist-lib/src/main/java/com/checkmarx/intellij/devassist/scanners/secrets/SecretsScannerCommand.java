@@ -1,5 +1,6 @@
 package com.checkmarx.intellij.devassist.scanners.secrets;
 
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.devassist.basescanner.BaseScannerCommand;
 import com.intellij.openapi.Disposable;
@@ -25,10 +26,14 @@ public class SecretsScannerCommand extends BaseScannerCommand {
 
     /**
      * Initializes the secrets scanner for real-time scanning
+     * and sweeps the whole project for secrets when enabled in the settings
      */
     @Override
     protected void initializeScanner() {
         LOGGER.info("Secrets scanner: initialized for real-time scanning");
+        if (GlobalSettingsState.getInstance().isSecretsSweepOnStartup()) {
+            SecretsSweep.start(project);
+        }
     }
 
     /**
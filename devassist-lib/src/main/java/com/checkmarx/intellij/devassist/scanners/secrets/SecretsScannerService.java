@@ -5,35 +5,61 @@ import com.checkmarx.ast.wrapper.CxException;
 import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
 import com.checkmarx.intellij.devassist.basescanner.BaseScannerService;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
 import com.checkmarx.intellij.devassist.common.ScanResult;
 import com.checkmarx.intellij.devassist.configuration.ScannerConfig;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
 import com.checkmarx.intellij.devassist.ignore.IgnoreManager;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
 import com.checkmarx.intellij.devassist.telemetry.TelemetryService;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
 import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProgressManager;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
  * Realtime Secrets scanner Class that does temporary file handling,
  * and invocation of the Checkmarx Secrets realtime scanning engine.
+ * Large files are scanned in parallel chunks or only when saved, see {@link SecretsChunkedScan}.
  */
 public class SecretsScannerService extends BaseScannerService<SecretsRealtimeResults> {
     private static final Logger LOGGER = Utils.getLogger(SecretsScannerService.class);
+    private static final int MAX_CHUNK_WORKERS = 4;
+    private static final long CHUNK_POLL_INTERVAL_MS = 100;
 
     /**
      * Creates a Secrets scanner service with the default Secrets realtime configuration.
@@ -158,14 +184,12 @@ public class SecretsScannerService extends BaseScannerService<SecretsRealtimeRes
      *
      * @param tempSubFolder    destination temp directory
      * @param originalFilePath original file path (used for logging and file naming)
-     * @param file             PSI file containing the file contents
+     * @param fileText         the file contents
      * @return optional containing the path to the temp file when saved successfully
      * @throws IOException if writing the file fails
      */
-    private Optional<String> saveFileForScanning(Path tempSubFolder, @NotNull String originalFilePath, PsiFile file) throws IOException {
-        String fileText = DevAssistUtils.getFileContent(file);
-
-        if (fileText == null || fileText.isBlank()) {
+    private Optional<String> saveFileForScanning(Path tempSubFolder, @NotNull String originalFilePath, CharSequence fileText) throws IOException {
+        if (StringUtil.isEmptyOrSpaces(fileText)) {
             LOGGER.debug("Secrets scanner: no content found - " + originalFilePath);
             return Optional.empty();
         }
@@ -173,7 +197,7 @@ public class SecretsScannerService extends BaseScannerService<SecretsRealtimeRes
         Path originalPath = Paths.get(originalFilePath);
         String fileName = originalPath.getFileName().toString();
         Path tempFilePath = Paths.get(tempSubFolder.toString(), fileName);
-        Files.writeString(tempFilePath, fileText, StandardCharsets.UTF_8);
+        ScanTempFileWriter.write(ScanEngine.SECRETS, fileText, tempFilePath);
         return Optional.of(tempFilePath.toString());
     }
 
@@ -188,18 +212,32 @@ public class SecretsScannerService extends BaseScannerService<SecretsRealtimeRes
         if (!this.shouldScanFile(uri, file)) {
             return null;
         }
+        CharSequence fileText = DevAssistUtils.getFileCharSequence(file);
+        if (Objects.nonNull(fileText) && SecretsChunkedScan.isSaveOnly(fileText.length()) && this.hasUnsavedChanges(file)) {
+            LOGGER.debug("Secrets scanner: large file has unsaved changes, keeping previous results until it is saved - " + uri);
+            return this.previousScanResult(file, uri);
+        }
+        if (Objects.nonNull(fileText) && SecretsChunkedScan.shouldChunk(fileText.length())) {
+            return this.scanInChunks(file, uri, fileText);
+        }
 
         Path tempSubFolder = this.getTempSubFolderPath(file);
         try {
+            long ioStart = System.nanoTime();
             this.createTempFolder(tempSubFolder);
-            Optional<String> tempFilePath = this.saveFileForScanning(tempSubFolder, uri, file);
+            Optional<String> tempFilePath = this.saveFileForScanning(tempSubFolder, uri, fileText);
+            ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.TEMP_FILE_IO, ioStart);
             if (tempFilePath.isEmpty()) {
                 LOGGER.debug("Secrets scanner: failed to save file - " + uri);
                 return null;
             }
 
             LOGGER.debug("Secrets scanner: starting scan - " + uri);
+            long cliStart = System.nanoTime();
+            ScanMetrics.recordCliSpawn(ScanEngine.SECRETS);
             SecretsRealtimeResults scanResults = CxWrapperFactory.build().secretsRealtimeScan(tempFilePath.get(), DevAssistUtils.getIgnoreFilePath(file.getProject()));
+            ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.CLI_EXECUTION, cliStart);
+            ScannerCircuitBreaker.success(ScanEngine.SECRETS);
 
             if (scanResults == null) {
                 LOGGER.debug("Secrets scanner: no results returned - " + uri);
@@ -216,12 +254,15 @@ public class SecretsScannerService extends BaseScannerService<SecretsRealtimeRes
                     LOGGER.debug("Secret " + (index + 1) + ": " + secret.getTitle() + " [" + secret.getSeverity() + "]");
                 }
             }
+            long adaptStart = System.nanoTime();
             SecretsScanResultAdaptor scanResultAdaptor = new SecretsScanResultAdaptor(scanResults, uri);
+            ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.RESULT_ADAPTATION, adaptStart);
             TelemetryService.logScanResults(scanResultAdaptor, ScanEngine.SECRETS);
             // Update line numbers for ignored secrets if any exist
             updateIgnoredFileDataOnLatestResult(tempFilePath.get(), file.getProject(), uri);
             return scanResultAdaptor;
         } catch (IOException | CxException | InterruptedException e) {
+            ScannerCircuitBreaker.failure(ScanEngine.SECRETS, e);
             LOGGER.debug("Secrets scanner: scan error", e);
         } finally {
             LOGGER.debug("Secrets scanner: cleaning up temp folder");
@@ -230,6 +271,190 @@ public class SecretsScannerService extends BaseScannerService<SecretsRealtimeRes
         return null;
     }
 
+    private boolean hasUnsavedChanges(@NotNull PsiFile file) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        return Objects.nonNull(virtualFile) && FileDocumentManager.getInstance().isFileModified(virtualFile);
+    }
+
+    /**
+     * Returns the secrets currently reported for the file, at the lines their range markers moved them to.
+     */
+    private ScanResult<SecretsRealtimeResults> previousScanResult(@NotNull PsiFile file, @NotNull String uri) {
+        List<ScanIssue> previousIssues = ProblemHolderService.getInstance(file.getProject()).getScanIssueByFile(uri).stream()
+                .filter(scanIssue -> scanIssue.getScanEngine() == ScanEngine.SECRETS)
+                .collect(Collectors.toList());
+        return SecretsScanResultAdaptor.fromIssues(previousIssues, uri);
+    }
+
+    /**
+     * Scans a large file as overlapping chunks in parallel, one CLI invocation per chunk, see
+     * {@link SecretsChunkedScan}.
+     *
+     * @param file     the file to scan
+     * @param uri      the file path
+     * @param fileText the file content
+     * @return the merged results of the chunks, or {@code null} if a chunk could not be scanned
+     */
+    private ScanResult<SecretsRealtimeResults> scanInChunks(@NotNull PsiFile file, @NotNull String uri, @NotNull CharSequence fileText) {
+        List<SecretsChunkedScan.Chunk> chunks = SecretsChunkedScan.split(fileText, SecretsChunkedScan.CHUNK_CHARS,
+                SecretsChunkedScan.OVERLAP_CHARS);
+        Path tempSubFolder = this.getTempSubFolderPath(file);
+        LOGGER.debug("Secrets scanner: scanning large file in " + chunks.size() + " chunks - " + uri);
+        try {
+            this.createTempFolder(tempSubFolder);
+            List<ScanIssue> scanIssues = this.scanChunks(tempSubFolder, uri, fileText, chunks,
+                    DevAssistUtils.getIgnoreFilePath(file.getProject()));
+            ScannerCircuitBreaker.success(ScanEngine.SECRETS);
+            SecretsScanResultAdaptor scanResultAdaptor = SecretsScanResultAdaptor.fromIssues(scanIssues, uri);
+            TelemetryService.logScanResults(scanResultAdaptor, ScanEngine.SECRETS);
+
+            IgnoreManager ignoreManager = new IgnoreManager(file.getProject());
+            if (ignoreManager.hasIgnoredEntries(ScanEngine.SECRETS)) {
+                LOGGER.debug("SECRETS: Performing full chunked scan to update line numbers for ignored secrets");
+                List<ScanIssue> fullScanIssues = this.scanChunks(tempSubFolder, uri, fileText, chunks, "");
+                ignoreManager.updateLineNumbersForIgnoredEntries(SecretsScanResultAdaptor.fromIssues(fullScanIssues, uri), uri);
+            }
+            return scanResultAdaptor;
+        } catch (ExecutionException e) {
+            ScannerCircuitBreaker.failure(ScanEngine.SECRETS, Objects.requireNonNullElse(e.getCause(), e));
+            LOGGER.debug("Secrets scanner: chunked scan error", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Secrets scanner: chunked scan interrupted - " + uri);
+        } finally {
+            deleteTempFolder(tempSubFolder);
+        }
+        return null;
+    }
+
+    /**
+     * Writes each chunk to its own sub-folder and scans the chunks on a bounded pool.
+     *
+     * @return the merged issues of the chunks, at their lines in the file
+     */
+    private List<ScanIssue> scanChunks(Path tempSubFolder, String uri, CharSequence fileText, List<SecretsChunkedScan.Chunk> chunks,
+                                       String ignoreFilePath) throws ExecutionException, InterruptedException {
+        String fileName = Paths.get(uri).getFileName().toString();
+        List<Future<List<ScanIssue>>> futures = new ArrayList<>(chunks.size());
+        for (int index = 0; index < chunks.size(); index++) {
+            SecretsChunkedScan.Chunk chunk = chunks.get(index);
+            Path chunkFilePath = tempSubFolder.resolve("chunk-" + index).resolve(fileName);
+            futures.add(ChunkExecutorHolder.EXECUTOR.submit(() -> {
+                long ioStart = System.nanoTime();
+                Files.createDirectories(chunkFilePath.getParent());
+                ScanTempFileWriter.write(ScanEngine.SECRETS,
+                        CharBuffer.wrap(fileText, chunk.getStartOffset(), chunk.getEndOffset()), chunkFilePath);
+                ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.TEMP_FILE_IO, ioStart);
+                long cliStart = System.nanoTime();
+                ScanMetrics.recordCliSpawn(ScanEngine.SECRETS);
+                SecretsRealtimeResults chunkResults = CxWrapperFactory.build().secretsRealtimeScan(chunkFilePath.toString(), ignoreFilePath);
+                ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.CLI_EXECUTION, cliStart);
+                return new SecretsScanResultAdaptor(chunkResults, uri).getIssues();
+            }));
+        }
+        List<List<ScanIssue>> chunkIssues = new ArrayList<>(chunks.size());
+        try {
+            for (Future<List<ScanIssue>> future : futures) {
+                chunkIssues.add(this.awaitChunk(future));
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        long adaptStart = System.nanoTime();
+        List<ScanIssue> scanIssues = SecretsChunkedScan.merge(chunks, chunkIssues);
+        ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.RESULT_ADAPTATION, adaptStart);
+        return scanIssues;
+    }
+
+    /**
+     * Waits for a chunk scan, giving up when the realtime scan of the file is canceled.
+     */
+    private List<ScanIssue> awaitChunk(Future<List<ScanIssue>> future) throws ExecutionException, InterruptedException {
+        while (true) {
+            ProgressManager.checkCanceled();
+            try {
+                return future.get(CHUNK_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // poll again, so a canceled scan stops waiting
+            }
+        }
+    }
+
+    /**
+     * Scans many files with a single CLI invocation, used by the project-wide {@link SecretsSweep}.
+     * <p>
+     * The files are scanned as a group rooted at their closest common directory, see
+     * {@link #scanGroup(ScanEngine, String, String, Map, GroupScanner)}: they are written below a scratch directory
+     * at their path relative to that root, and each reported secret is attributed back to the original file through
+     * the temp path it was found in. Files on different file system roots are scanned in one group per root.
+     *
+     * @param project       the project whose ignore file is applied
+     * @param contentByPath file content keyed by the original file path
+     * @return issues keyed by original file path; files without secrets map to an empty list and files that could
+     * not be scanned are absent
+     */
+    public Map<String, List<ScanIssue>> scanBatch(@NotNull Project project, @NotNull Map<String, String> contentByPath) {
+        Map<String, List<ScanIssue>> issuesByFile = new LinkedHashMap<>();
+        Map<Path, Map<String, String>> contentByFileSystemRoot = new LinkedHashMap<>();
+        contentByPath.forEach((filePath, content) -> contentByFileSystemRoot
+                .computeIfAbsent(Paths.get(filePath).getRoot(), key -> new LinkedHashMap<>()).put(filePath, content));
+        for (Map<String, String> groupContentByPath : contentByFileSystemRoot.values()) {
+            String groupRoot = commonDirectory(groupContentByPath.keySet());
+            LOGGER.debug("Secrets scanner: starting batch scan of " + groupContentByPath.size() + " file(s) in " + groupRoot);
+            issuesByFile.putAll(scanGroup(ScanEngine.SECRETS, DevAssistConstants.SECRETS_REALTIME_SCANNER_DIRECTORY, groupRoot,
+                    groupContentByPath, (scanSource, originalPathResolver) -> {
+                        SecretsRealtimeResults scanResults = CxWrapperFactory.build()
+                                .secretsRealtimeScan(scanSource, DevAssistUtils.getIgnoreFilePath(project));
+                        long adaptStart = System.nanoTime();
+                        List<ScanIssue> scanIssues = this.attributeIssues(scanResults, originalPathResolver);
+                        ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.RESULT_ADAPTATION, adaptStart);
+                        return scanIssues;
+                    }));
+        }
+        return issuesByFile;
+    }
+
+    /**
+     * Returns the closest directory containing all the given files, which must share one file system root.
+     */
+    private static String commonDirectory(Collection<String> filePaths) {
+        Path commonDirectory = null;
+        for (String filePath : filePaths) {
+            Path directory = Paths.get(filePath).getParent();
+            if (Objects.isNull(directory)) {
+                directory = Paths.get(filePath);
+            }
+            if (Objects.isNull(commonDirectory)) {
+                commonDirectory = directory;
+                continue;
+            }
+            while (Objects.nonNull(commonDirectory) && !directory.startsWith(commonDirectory)) {
+                commonDirectory = commonDirectory.getParent();
+            }
+        }
+        return String.valueOf(commonDirectory);
+    }
+
+    /**
+     * Builds the issues of a batch scan per reported secret, each attributed to the original file of the path
+     * the secret was reported in.
+     */
+    private List<ScanIssue> attributeIssues(SecretsRealtimeResults scanResults, UnaryOperator<String> originalPathResolver) {
+        List<ScanIssue> scanIssues = new ArrayList<>();
+        if (Objects.isNull(scanResults) || Objects.isNull(scanResults.getSecrets())) {
+            return scanIssues;
+        }
+        for (SecretsRealtimeResults.Secret secret : scanResults.getSecrets()) {
+            String originalPath = originalPathResolver.apply(secret.getFilePath());
+            if (Objects.isNull(originalPath)) {
+                LOGGER.debug("Secrets scanner: could not attribute secret to a file - " + secret.getFilePath());
+                continue;
+            }
+            scanIssues.add(SecretsScanResultAdaptor.buildIssue(secret, originalPath));
+        }
+        return scanIssues;
+    }
+
     /**
      * This method will scan the original file without considering the ignored issue file path (.checkmarxIgnoredTempFile).
      * And based on the original result that contains an updated line number for a scan.
@@ -246,6 +471,7 @@ public class SecretsScannerService extends BaseScannerService<SecretsRealtimeRes
             IgnoreManager ignoreManager = new IgnoreManager(project);
             if (ignoreManager.hasIgnoredEntries(ScanEngine.SECRETS)) {
                 LOGGER.debug("SECRETS: Performing full scan to update line numbers for ignored packages");
+                ScanMetrics.recordCliSpawn(ScanEngine.SECRETS);
                 SecretsRealtimeResults fullScanResults = CxWrapperFactory.build().secretsRealtimeScan(tempFilePath, "");
                 if (fullScanResults != null) {
                     SecretsScanResultAdaptor fullScanResultAdaptor = new SecretsScanResultAdaptor(fullScanResults, filePath);
@@ -256,4 +482,12 @@ public class SecretsScannerService extends BaseScannerService<SecretsRealtimeRes
             LOGGER.warn("RTS-SECRET: Exception occurred while performing full scan without passing ignore file to update .checkmarxIgnored file", e);
         }
     }
+
+    /**
+     * Pool of the chunk scans, created on the first chunked scan.
+     */
+    private static final class ChunkExecutorHolder {
+        private static final ExecutorService EXECUTOR =
+                AppExecutorUtil.createBoundedApplicationPoolExecutor("CxSecretsChunks", MAX_CHUNK_WORKERS);
+    }
 }
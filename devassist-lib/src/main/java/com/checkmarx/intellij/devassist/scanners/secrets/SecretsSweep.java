@@ -0,0 +1,204 @@
+package com.checkmarx.intellij.devassist.scanners.secrets;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
+import com.checkmarx.intellij.devassist.common.SweepUtils;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Project-wide secrets sweep.
+ * <p>
+ * Realtime secrets detection only covers files that are opened in the editor. The sweep scans every project
+ * content file accepted by {@link SecretsScannerService#shouldScanFile}, packing many files into each CLI call
+ * ({@link SecretsScannerService#scanBatch}) and running the batches on a small bounded pool. The findings of all
+ * batches are published to {@link ProblemHolderService} in one update once the sweep finishes or is cancelled.
+ * <p>
+ * The sweep runs on demand from the findings toolbar and, if enabled in the settings, when the project is opened.
+ */
+public final class SecretsSweep {
+
+    private static final Logger LOGGER = Utils.getLogger(SecretsSweep.class);
+
+    public static final int MAX_FILES_PER_BATCH = 50;
+    public static final long MAX_BATCH_BYTES = 4L * 1024 * 1024;
+    public static final long MAX_FILE_BYTES = 1024L * 1024;
+    private static final int MAX_WORKERS = 4;
+
+    // Projects with a sweep in progress, so repeated triggers do not stack up
+    private static final Set<Project> RUNNING_SWEEPS = ConcurrentHashMap.newKeySet();
+
+    private final Project project;
+    private final SecretsScannerService scannerService;
+
+    private SecretsSweep(@NotNull Project project, @NotNull SecretsScannerService scannerService) {
+        this.project = project;
+        this.scannerService = scannerService;
+    }
+
+    /**
+     * Starts a sweep of the given project in the background, unless one is already running.
+     *
+     * @param project - The IntelliJ Project instance
+     */
+    public static void start(@NotNull Project project) {
+        if (!DevAssistUtils.isScannerActive(ScanEngine.SECRETS.name())) {
+            LOGGER.debug("RTS: Secrets scanner is not active, skipping secrets sweep.");
+            return;
+        }
+        if (ScannerCircuitBreaker.forEngine(ScanEngine.SECRETS).getStatus().getState() == ScannerCircuitBreaker.State.OPEN) {
+            LOGGER.info("RTS: Secrets scanner is paused after repeated failures, skipping secrets sweep.");
+            return;
+        }
+        if (!RUNNING_SWEEPS.add(project)) {
+            LOGGER.info(format("RTS: Secrets sweep already running for project: %s", project.getName()));
+            return;
+        }
+        new Task.Backgroundable(project, Bundle.message(Resource.SECRETS_SWEEP_TITLE), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                new SecretsSweep(project, new SecretsScannerService()).run(indicator);
+            }
+
+            @Override
+            public void onFinished() {
+                RUNNING_SWEEPS.remove(project);
+            }
+        }.queue();
+    }
+
+    /**
+     * Returns whether a sweep of the given project is in progress.
+     */
+    public static boolean isRunning(@NotNull Project project) {
+        return RUNNING_SWEEPS.contains(project);
+    }
+
+    /**
+     * Splits the items into consecutive batches holding at most {@code maxFiles} items and, unless a single item
+     * is larger, at most {@code maxBytes} bytes.
+     *
+     * @param items    the items to split, in scan order
+     * @param sizeOf   size of an item in bytes
+     * @param maxFiles maximum number of items per batch
+     * @param maxBytes maximum total size per batch
+     * @return the batches, in order
+     */
+    public static <T> List<List<T>> partition(List<T> items, ToLongFunction<T> sizeOf, int maxFiles, long maxBytes) {
+        List<List<T>> batches = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        long batchBytes = 0;
+        for (T item : items) {
+            long size = Math.max(0L, sizeOf.applyAsLong(item));
+            if (!batch.isEmpty() && (batch.size() >= maxFiles || batchBytes + size > maxBytes)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batch.add(item);
+            batchBytes += size;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private void run(@NotNull ProgressIndicator indicator) {
+        long start = System.nanoTime();
+        indicator.setIndeterminate(true);
+        indicator.setText(Bundle.message(Resource.SECRETS_SWEEP_COLLECTING));
+        // A non-blocking read action yields to write actions during the walk and restarts it afterwards
+        List<VirtualFile> candidates = ReadAction.nonBlocking(this::collectCandidates)
+                .expireWith(project)
+                .wrapProgress(indicator)
+                .executeSynchronously();
+        List<List<VirtualFile>> batches = partition(candidates, VirtualFile::getLength, MAX_FILES_PER_BATCH, MAX_BATCH_BYTES);
+        LOGGER.info(format("RTS: Secrets sweep started for %d file(s) in %d batch(es).", candidates.size(), batches.size()));
+
+        Map<String, List<ScanIssue>> issuesByFile = new ConcurrentHashMap<>();
+        AtomicInteger scannedFiles = new AtomicInteger();
+        indicator.setIndeterminate(false);
+        indicator.setFraction(0.0);
+
+        int workers = Math.max(1, Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors() / 2));
+        ExecutorService executor = AppExecutorUtil.createBoundedApplicationPoolExecutor("CxSecretsSweep", workers);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (List<VirtualFile> batch : batches) {
+                futures.add(executor.submit(() -> {
+                    if (indicator.isCanceled()) {
+                        return;
+                    }
+                    issuesByFile.putAll(scannerService.scanBatch(project,
+                            SweepUtils.readContents(batch.stream().map(VirtualFile::getPath).collect(Collectors.toList()))));
+                    int done = scannedFiles.addAndGet(batch.size());
+                    indicator.setFraction((double) done / candidates.size());
+                    indicator.setText(Bundle.message(Resource.SECRETS_SWEEP_PROGRESS, done, candidates.size()));
+                }));
+            }
+            SweepUtils.awaitAll(futures, indicator, Long.MAX_VALUE, "RTS: Secrets sweep batch failed.");
+        } catch (ProcessCanceledException e) {
+            futures.forEach(future -> future.cancel(true));
+            LOGGER.info(format("RTS: Secrets sweep cancelled after %d of %d file(s).", scannedFiles.get(), candidates.size()));
+            throw e;
+        } finally {
+            executor.shutdownNow();
+            // Publish whatever was scanned, also when cancelled, in a single update
+            if (!project.isDisposed() && !issuesByFile.isEmpty()) {
+                ProblemHolderService.getInstance(project).replaceScanIssuesOfType(ScanEngine.SECRETS, issuesByFile);
+            }
+        }
+        long secrets = issuesByFile.values().stream().mapToLong(List::size).sum();
+        LOGGER.info(format("RTS: Secrets sweep scanned %d file(s) and found %d secret(s) in %d ms.",
+                issuesByFile.size(), secrets, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    /**
+     * Lists the project content files the secrets scanner accepts; must be called inside a read action, which may
+     * cancel and restart the walk.
+     */
+    private List<VirtualFile> collectCandidates() {
+        List<VirtualFile> candidates = new ArrayList<>();
+        ProjectFileIndex.getInstance(project).iterateContent(file -> {
+            // Cancelled by the sweep indicator and by write actions waiting for the read action
+            ProgressManager.checkCanceled();
+            if (!file.isDirectory() && file.isValid() && !file.getFileType().isBinary()
+                    && file.getLength() <= MAX_FILE_BYTES
+                    && scannerService.shouldScanFile(file.getPath(), null)) {
+                candidates.add(file);
+            }
+            return true;
+        });
+        return candidates;
+    }
+}
@@ -0,0 +1,60 @@
+package com.checkmarx.intellij.devassist.ui.actions;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.devassist.common.ChangedFilesScan;
+import com.checkmarx.intellij.devassist.common.GitChangedFiles;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.popup.JBPopupFactory;
+import com.intellij.ui.SimpleListCellRenderer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Toolbar action that asks for a git base and scans the files changed against it, see {@link ChangedFilesScan}.
+ */
+@SuppressWarnings("ComponentNotRegistered")
+public class ChangedFilesScanAction extends AnAction {
+
+    public ChangedFilesScanAction() {
+        super(Bundle.messagePointer(Resource.CHANGED_FILES_SCAN_ACTION),
+                Bundle.messagePointer(Resource.CHANGED_FILES_SCAN_ACTION_DESCRIPTION),
+                null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (Objects.isNull(project)) {
+            return;
+        }
+        JBPopupFactory.getInstance()
+                .createPopupChooserBuilder(Arrays.asList(GitChangedFiles.Base.values()))
+                .setTitle(Bundle.message(Resource.CHANGED_FILES_SCAN_CHOOSE_BASE))
+                .setRenderer(SimpleListCellRenderer.create("", base -> Bundle.message(base.getLabel())))
+                .setItemChosenCallback(base -> ChangedFilesScan.start(project, base))
+                .createPopup()
+                .showInBestPositionFor(e.getDataContext());
+    }
+
+    /**
+     * Enabled while a realtime scanner is active and no changed files scan of the project is running.
+     */
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(Objects.nonNull(project)
+                && ChangedFilesScan.hasEnabledEngine()
+                && !ChangedFilesScan.isRunning(project));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
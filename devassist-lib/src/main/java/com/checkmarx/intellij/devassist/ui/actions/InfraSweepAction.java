@@ -0,0 +1,52 @@
+package com.checkmarx.intellij.devassist.ui.actions;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.devassist.common.InfraSweep;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Toolbar action that sweeps the project's IaC and container files, see {@link InfraSweep}.
+ */
+@SuppressWarnings("ComponentNotRegistered")
+public class InfraSweepAction extends AnAction {
+
+    public InfraSweepAction() {
+        super(Bundle.messagePointer(Resource.INFRA_SWEEP_ACTION),
+                Bundle.messagePointer(Resource.INFRA_SWEEP_ACTION_DESCRIPTION),
+                null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (Objects.nonNull(project)) {
+            InfraSweep.getInstance(project).start();
+        }
+    }
+
+    /**
+     * Enabled while the IaC or containers scanner is active and no sweep of the project is running.
+     */
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(Objects.nonNull(project)
+                && (DevAssistUtils.isScannerActive(ScanEngine.IAC.name())
+                || DevAssistUtils.isScannerActive(ScanEngine.CONTAINERS.name()))
+                && !InfraSweep.getInstance(project).isRunning());
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,51 @@
+package com.checkmarx.intellij.devassist.ui.actions;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsSweep;
+import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Toolbar action that sweeps the whole project for secrets, see {@link SecretsSweep}.
+ */
+@SuppressWarnings("ComponentNotRegistered")
+public class SecretsSweepAction extends AnAction {
+
+    public SecretsSweepAction() {
+        super(Bundle.messagePointer(Resource.SECRETS_SWEEP_ACTION),
+                Bundle.messagePointer(Resource.SECRETS_SWEEP_ACTION_DESCRIPTION),
+                null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (Objects.nonNull(project)) {
+            SecretsSweep.start(project);
+        }
+    }
+
+    /**
+     * Enabled while the secrets scanner is active and no sweep of the project is running.
+     */
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(Objects.nonNull(project)
+                && DevAssistUtils.isScannerActive(ScanEngine.SECRETS.name())
+                && !SecretsSweep.isRunning(project));
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
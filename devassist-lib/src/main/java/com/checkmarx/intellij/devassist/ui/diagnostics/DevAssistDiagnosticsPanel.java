@@ -0,0 +1,273 @@
+package com.checkmarx.intellij.devassist.ui.diagnostics;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
+import com.checkmarx.intellij.devassist.diagnostics.LatencyHistogram;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
+import com.checkmarx.intellij.devassist.diagnostics.ScanTracer;
+import com.intellij.icons.AllIcons;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.actionSystem.ToggleAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.InputValidator;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.ui.components.JBScrollPane;
+import com.intellij.ui.table.JBTable;
+import com.intellij.util.ui.JBUI;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Tool window tab showing realtime scanning diagnostics collected by {@link ScanMetrics}.
+ * <p>
+ * Displays per-engine, per-stage latency percentiles together with queue depth, CLI spawn counts,
+ * cache hit rates and scanners paused by their {@link ScannerCircuitBreaker}. The view refreshes periodically while visible and a JSON snapshot can be exported
+ * to attach to support tickets. The toolbar also toggles {@link ScanTracer} recording and exports the last
+ * seconds of recorded spans as a Chrome/Perfetto trace.
+ */
+public class DevAssistDiagnosticsPanel extends SimpleToolWindowPanel implements Disposable {
+
+    private static final Logger LOGGER = Utils.getLogger(DevAssistDiagnosticsPanel.class);
+    private static final int REFRESH_INTERVAL_MS = 2000;
+    private static final String TOOLBAR_PLACE = "CheckmarxDiagnosticsToolbar";
+    private static final int DEFAULT_TRACE_WINDOW_SECONDS = 60;
+
+    private final Project project;
+    private final JBLabel summaryLabel = new JBLabel();
+    private final DefaultTableModel tableModel;
+    private final Timer refreshTimer;
+
+    /**
+     * Creates the diagnostics panel.
+     *
+     * @param project the current project, used for notifications and the export dialog
+     */
+    public DevAssistDiagnosticsPanel(Project project) {
+        super(false, true);
+        this.project = project;
+        this.tableModel = new DefaultTableModel(new Object[]{
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_ENGINE),
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_STAGE),
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_COUNT),
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_MEAN),
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_P50),
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_P90),
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_P99),
+                Bundle.message(Resource.DIAGNOSTICS_COLUMN_MAX)}, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+
+        JPanel content = new JPanel(new BorderLayout());
+        summaryLabel.setBorder(JBUI.Borders.empty(6, 8));
+        content.add(summaryLabel, BorderLayout.NORTH);
+        JBTable table = new JBTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        content.add(new JBScrollPane(table), BorderLayout.CENTER);
+        setContent(content);
+        setToolbar(createActionToolbar().getComponent());
+
+        refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> {
+            if (isShowing()) {
+                refresh();
+            }
+        });
+        refreshTimer.start();
+        refresh();
+    }
+
+    /**
+     * Reloads the table and summary from the current {@link ScanMetrics} snapshot.
+     */
+    public void refresh() {
+        ScanMetrics.DiagnosticsSnapshot snapshot = ScanMetrics.snapshot();
+        long cliSpawns = snapshot.getCliSpawns().values().stream().mapToLong(Long::longValue).sum();
+        String caches = snapshot.getCaches().isEmpty() ? "-" : snapshot.getCaches().entrySet().stream()
+                .map(entry -> String.format("%s %.0f%%", entry.getKey(), entry.getValue().getHitRate() * 100))
+                .collect(Collectors.joining(", "));
+        String pausedScanners = snapshot.getCircuitBreakers().entrySet().stream()
+                .filter(entry -> entry.getValue().getState() != ScannerCircuitBreaker.State.CLOSED)
+                .map(entry -> entry.getValue().getState() == ScannerCircuitBreaker.State.OPEN
+                        ? String.format("%s (retry in %d s)", entry.getKey(), TimeUnit.MILLISECONDS.toSeconds(entry.getValue().getRetryInMillis()))
+                        : String.format("%s (probing)", entry.getKey()))
+                .collect(Collectors.joining(", "));
+        summaryLabel.setText(Bundle.message(Resource.DIAGNOSTICS_SUMMARY,
+                snapshot.getQueueDepth(), snapshot.getPeakQueueDepth(), cliSpawns, caches,
+                pausedScanners.isEmpty() ? "-" : pausedScanners));
+
+        tableModel.setRowCount(0);
+        snapshot.getStages().forEach((engine, stages) -> stages.forEach((stage, histogram) ->
+                tableModel.addRow(toRow(engine, stage, histogram))));
+    }
+
+    private static Object[] toRow(String engine, String stage, LatencyHistogram.Snapshot histogram) {
+        return new Object[]{
+                engine,
+                ScanStage.valueOf(stage).getDisplayName(),
+                histogram.getCount(),
+                histogram.getMean(),
+                histogram.getP50(),
+                histogram.getP90(),
+                histogram.getP99(),
+                histogram.getMax()
+        };
+    }
+
+    private ActionToolbar createActionToolbar() {
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(new DumbAwareAction(Bundle.message(Resource.DIAGNOSTICS_REFRESH), null, AllIcons.Actions.Refresh) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(Bundle.message(Resource.DIAGNOSTICS_RESET), null, AllIcons.Actions.GC) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                ScanMetrics.reset();
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction(Bundle.message(Resource.DIAGNOSTICS_EXPORT), null, AllIcons.ToolbarDecorator.Export) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                exportSnapshot();
+            }
+        });
+        group.addSeparator();
+        group.add(new RecordTraceAction());
+        group.add(new DumbAwareAction(Bundle.message(Resource.DIAGNOSTICS_TRACE_EXPORT), null, AllIcons.Actions.Download) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                exportTrace();
+            }
+        });
+        ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar(TOOLBAR_PLACE, group, false);
+        toolbar.setTargetComponent(this);
+        return toolbar;
+    }
+
+    /**
+     * Asks the user for a destination and writes the current metrics snapshot there as JSON.
+     */
+    private void exportSnapshot() {
+        exportJson(Resource.DIAGNOSTICS_EXPORT_TITLE, Resource.DIAGNOSTICS_EXPORT_DESCRIPTION, "checkmarx-diagnostics.json",
+                ScanMetrics::toJson, Resource.DIAGNOSTICS_EXPORT_SUCCESS, Resource.DIAGNOSTICS_EXPORT_FAILED);
+    }
+
+    /**
+     * Asks the user how many seconds to include and where to save, then writes the recorded spans as a Chrome trace.
+     */
+    private void exportTrace() {
+        String seconds = Messages.showInputDialog(project,
+                Bundle.message(Resource.DIAGNOSTICS_TRACE_WINDOW_MESSAGE),
+                Bundle.message(Resource.DIAGNOSTICS_TRACE_WINDOW_TITLE),
+                null,
+                String.valueOf(DEFAULT_TRACE_WINDOW_SECONDS),
+                new PositiveNumberValidator());
+        if (Objects.isNull(seconds)) {
+            return;
+        }
+        long window = Long.parseLong(seconds.trim());
+        exportJson(Resource.DIAGNOSTICS_TRACE_EXPORT_TITLE, Resource.DIAGNOSTICS_TRACE_EXPORT_DESCRIPTION, "checkmarx-scan-trace.json",
+                () -> ScanTracer.toChromeTraceJson(window, TimeUnit.SECONDS),
+                Resource.DIAGNOSTICS_TRACE_EXPORT_SUCCESS, Resource.DIAGNOSTICS_TRACE_EXPORT_FAILED);
+    }
+
+    private void exportJson(Resource title, Resource description, String defaultFileName, Supplier<String> json,
+                            Resource successMessage, Resource failureMessage) {
+        FileSaverDescriptor descriptor = new FileSaverDescriptor(Bundle.message(title), Bundle.message(description), "json");
+        VirtualFileWrapper target = FileChooserFactory.getInstance()
+                .createSaveFileDialog(descriptor, project)
+                .save((Path) null, defaultFileName);
+        if (Objects.isNull(target)) {
+            return;
+        }
+        try {
+            Files.writeString(target.getFile().toPath(), json.get(), StandardCharsets.UTF_8);
+            Utils.notify(project, Bundle.message(successMessage, target.getFile().getPath()), NotificationType.INFORMATION);
+        } catch (Exception e) {
+            LOGGER.warn(String.format("RTS-Diagnostics: Failed to export %s.", defaultFileName), e);
+            Utils.notify(project, Bundle.message(failureMessage, e.getMessage()), NotificationType.ERROR);
+        }
+    }
+
+    /**
+     * Toggles {@link ScanTracer} recording.
+     */
+    private static final class RecordTraceAction extends ToggleAction implements DumbAware {
+
+        private RecordTraceAction() {
+            super(Bundle.message(Resource.DIAGNOSTICS_TRACE_RECORD), null, AllIcons.Actions.Execute);
+        }
+
+        @Override
+        public boolean isSelected(@NotNull AnActionEvent e) {
+            return ScanTracer.isEnabled();
+        }
+
+        @Override
+        public void setSelected(@NotNull AnActionEvent e, boolean state) {
+            ScanTracer.setEnabled(state);
+        }
+
+        @Override
+        public @NotNull ActionUpdateThread getActionUpdateThread() {
+            return ActionUpdateThread.BGT;
+        }
+    }
+
+    /**
+     * Accepts positive whole numbers only.
+     */
+    private static final class PositiveNumberValidator implements InputValidator {
+
+        @Override
+        public boolean checkInput(String inputString) {
+            try {
+                return Long.parseLong(inputString.trim()) > 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public boolean canClose(String inputString) {
+            return checkInput(inputString);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+    }
+}
@@ -1,6 +1,9 @@
 package com.checkmarx.intellij.devassist.utils;
 
+import com.checkmarx.intellij.devassist.common.InfraSweep;
 import com.checkmarx.intellij.devassist.inspection.DevAssistScanScheduler;
+import com.checkmarx.intellij.devassist.inspection.ScanLoadGovernor;
+import com.checkmarx.intellij.devassist.remediation.CopilotComponentLocator;
 import com.intellij.openapi.util.Key;
 
 import java.util.List;
@@ -19,6 +22,7 @@ public final class DevAssistConstants {
     // Tab Name Constants
     public static final String DEVASSIST_TAB = "Checkmarx One Assist Findings";
     public static final String IGNORED_FINDINGS_TAB = "Ignored Findings";
+    public static final String DIAGNOSTICS_TAB = "Diagnostics";
     public static final String DEVASSIST_PLUGIN_FINDINGS_WINDOW_NAME = "Checkmarx Developer Assist Findings";
 
     // OSS Scanner Constants
@@ -192,6 +196,9 @@ public final class DevAssistConstants {
         }
 
         public static final Key<DevAssistScanScheduler> SCHEDULER_INSTANCE_KEY = Key.create("CX_ONE_ASSIST_SCAN_SCHEDULER");
+        public static final Key<ScanLoadGovernor> LOAD_GOVERNOR_INSTANCE_KEY = Key.create("CX_ONE_ASSIST_SCAN_LOAD_GOVERNOR");
+        public static final Key<InfraSweep> INFRA_SWEEP_INSTANCE_KEY = Key.create("CX_ONE_ASSIST_INFRA_SWEEP");
+        public static final Key<CopilotComponentLocator> COPILOT_LOCATOR_INSTANCE_KEY = Key.create("CX_ONE_ASSIST_COPILOT_LOCATOR");
         public static final Key<Boolean> SCAN_SOURCE_KEY = Key.create("SCAN_SOURCE");
         public static final Key<Boolean> THEME_KEY = Key.create(DevAssistConstants.THEME);
 
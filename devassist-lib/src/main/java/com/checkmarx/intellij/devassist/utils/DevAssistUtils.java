@@ -225,11 +225,25 @@ public class DevAssistUtils {
      */
 
     public static String getFileContent(@NotNull PsiFile file) {
-        return ApplicationManager.getApplication().runReadAction((Computable<String>) () -> {
+        CharSequence content = getFileCharSequence(file);
+        return content != null ? content.toString() : null;
+    }
+
+    /**
+     * Returns the same content as {@link #getFileContent(PsiFile)} without copying the document text.
+     * <p>
+     * The returned sequence is the document's immutable snapshot, so it can be streamed into a temp file
+     * after the read action ends.
+     *
+     * @param file the PSI file whose content should be read
+     * @return the full file text, or {@code null} if the file cannot be accessed
+     */
+    public static CharSequence getFileCharSequence(@NotNull PsiFile file) {
+        return ApplicationManager.getApplication().runReadAction((Computable<CharSequence>) () -> {
 
             Document document = PsiDocumentManager.getInstance(file.getProject()).getDocument(file);
             if (document != null) {
-                return document.getText();
+                return document.getImmutableCharSequence();
             }
             VirtualFile virtualFile = file.getVirtualFile();
             if (virtualFile == null) {
@@ -0,0 +1,132 @@
+package com.checkmarx.intellij.devassist.utils;
+
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+
+/**
+ * Writes the content scanned by the realtime scanners into their temp files.
+ * <p>
+ * The content is encoded to UTF-8 in fixed size chunks through a per-thread encoder and buffer and streamed into
+ * the file, so when the content is the document's immutable char sequence neither a copy of the whole text nor its
+ * whole byte array is created, whatever the file size.
+ * <p>
+ * The bytes written are reported to {@link ScanMetrics} per engine. Content hashes are computed over the same
+ * chunks, see {@link #digest(MessageDigest, CharSequence)}.
+ */
+public final class ScanTempFileWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<Encoding> ENCODING = ThreadLocal.withInitial(Encoding::new);
+
+    private ScanTempFileWriter() {
+        throw new IllegalStateException("Can't instantiate ScanTempFileWriter class");
+    }
+
+    /**
+     * Writes the content into the target file as UTF-8, replacing any previous content.
+     *
+     * @param engine  the engine the file is written for, used for diagnostics
+     * @param content the content to write
+     * @param target  the temp file; its parent directory must exist
+     * @return the number of bytes written
+     * @throws IOException if the file cannot be written
+     */
+    public static long write(ScanEngine engine, CharSequence content, Path target) throws IOException {
+        long written;
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            written = ENCODING.get().encode(content, buffer -> {
+                long bytes = 0;
+                while (buffer.hasRemaining()) {
+                    bytes += channel.write(buffer);
+                }
+                return bytes;
+            });
+        }
+        ScanMetrics.recordTempFileWrite(engine, written);
+        return written;
+    }
+
+    /**
+     * Feeds the UTF-8 encoding of the content into the digest, chunk by chunk, without copying the content.
+     *
+     * @param digest  the digest to update
+     * @param content the content to hash
+     */
+    public static void digest(MessageDigest digest, CharSequence content) {
+        try {
+            ENCODING.get().encode(content, buffer -> {
+                int bytes = buffer.remaining();
+                digest.update(buffer);
+                return bytes;
+            });
+        } catch (IOException e) {
+            // only thrown by the sink, which does not do any I/O here
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Consumes the encoded bytes of one chunk.
+     */
+    private interface Sink {
+        long accept(ByteBuffer buffer) throws IOException;
+    }
+
+    /**
+     * The reusable encoder and buffer of one thread.
+     */
+    private static final class Encoding {
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        /**
+         * Encodes the content into the sink.
+         *
+         * @return the number of bytes consumed
+         */
+        private long encode(CharSequence content, Sink sink) throws IOException {
+            CharBuffer chars = CharBuffer.wrap(content);
+            encoder.reset();
+            long written = 0;
+            boolean flushing = false;
+            while (true) {
+                CoderResult result = flushing ? encoder.flush(buffer) : encoder.encode(chars, buffer, true);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                written += drain(sink);
+                if (result.isUnderflow()) {
+                    if (flushing) {
+                        return written;
+                    }
+                    flushing = true;
+                }
+            }
+        }
+
+        private long drain(Sink sink) throws IOException {
+            buffer.flip();
+            try {
+                return sink.accept(buffer);
+            } finally {
+                buffer.clear();
+            }
+        }
+    }
+}
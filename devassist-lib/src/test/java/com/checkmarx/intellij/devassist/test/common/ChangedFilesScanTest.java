@@ -0,0 +1,54 @@
+package com.checkmarx.intellij.devassist.test.common;
+
+import com.checkmarx.intellij.devassist.common.ChangedFilesScan;
+import com.checkmarx.intellij.devassist.common.GitChangedFiles;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsSweep;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChangedFilesScanTest {
+
+    @Test
+    @DisplayName("parseNameOnly: resolves NUL separated git paths against the root")
+    void testParseNameOnly() {
+        assertEquals(List.of("/repo/src/App.java", "/repo/dir with space/.env"),
+                GitChangedFiles.parseNameOnly("src/App.java\0dir with space/.env\0", "/repo"));
+        assertEquals(List.of("/repo/pom.xml"), GitChangedFiles.parseNameOnly("pom.xml\0", "/repo/"));
+        assertTrue(GitChangedFiles.parseNameOnly("", "/repo").isEmpty());
+    }
+
+    @Test
+    @DisplayName("plan: batches secrets files, groups infrastructure files by folder and scans other files alone")
+    void testPlan() {
+        List<String> secretsFiles = new ArrayList<>();
+        Map<String, Long> sizeByPath = new HashMap<>();
+        for (int i = 0; i < SecretsSweep.MAX_FILES_PER_BATCH + 1; i++) {
+            secretsFiles.add("/repo/src/file" + i + ".js");
+            sizeByPath.put("/repo/src/file" + i + ".js", 100L);
+        }
+        Map<ScanEngine, List<String>> filesByEngine = new LinkedHashMap<>();
+        filesByEngine.put(ScanEngine.SECRETS, secretsFiles);
+        filesByEngine.put(ScanEngine.IAC, List.of("/repo/infra/main.tf", "/repo/k8s/app.yaml", "/repo/infra/variables.tf"));
+        filesByEngine.put(ScanEngine.OSS, List.of("/repo/pom.xml", "/repo/web/package.json"));
+
+        List<ChangedFilesScan.Batch> batches = ChangedFilesScan.plan(filesByEngine, sizeByPath);
+
+        Map<ScanEngine, List<List<String>>> filesByBatch = batches.stream().collect(Collectors.groupingBy(
+                ChangedFilesScan.Batch::getEngine, Collectors.mapping(ChangedFilesScan.Batch::getFilePaths, Collectors.toList())));
+        assertEquals(2, filesByBatch.get(ScanEngine.SECRETS).size());
+        assertEquals(SecretsSweep.MAX_FILES_PER_BATCH, filesByBatch.get(ScanEngine.SECRETS).get(0).size());
+        assertEquals(List.of(List.of("/repo/infra/main.tf", "/repo/infra/variables.tf"), List.of("/repo/k8s/app.yaml")),
+                filesByBatch.get(ScanEngine.IAC));
+        assertEquals(List.of(List.of("/repo/pom.xml"), List.of("/repo/web/package.json")), filesByBatch.get(ScanEngine.OSS));
+    }
+}
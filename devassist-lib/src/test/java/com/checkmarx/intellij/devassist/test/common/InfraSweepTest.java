@@ -0,0 +1,76 @@
+package com.checkmarx.intellij.devassist.test.common;
+
+import com.checkmarx.intellij.devassist.common.InfraSweep;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InfraSweepTest {
+
+    @Test
+    @DisplayName("groupRoot: files are grouped by their directory")
+    void testGroupRoot_parentDirectory() {
+        assertEquals("/repo/infra", InfraSweep.groupRoot("/repo/infra/main.tf"));
+        assertEquals("/repo/templates", InfraSweep.groupRoot("/repo/templates/config.yaml"));
+    }
+
+    @Test
+    @DisplayName("groupRoot: Helm templates are grouped with the chart values")
+    void testGroupRoot_helmTemplates(@TempDir Path repo) throws IOException {
+        Path chart = Files.createDirectories(repo.resolve("charts/app"));
+        Files.createFile(chart.resolve("Chart.yaml"));
+        String chartRoot = chart.toString().replace('\\', '/');
+
+        assertEquals(chartRoot, InfraSweep.groupRoot(chartRoot + "/templates/deployment.yaml"));
+        assertEquals(chartRoot, InfraSweep.groupRoot(chartRoot + "/values.yaml"));
+    }
+
+    @Test
+    @DisplayName("groupRoot: templates folders outside a Helm chart are not merged, whatever the path")
+    void testGroupRoot_templatesWithoutChart(@TempDir Path repo) throws IOException {
+        Path app = Files.createDirectories(repo.resolve("helm/app"));
+        String appRoot = app.toString().replace('\\', '/');
+
+        assertEquals(appRoot + "/templates", InfraSweep.groupRoot(appRoot + "/templates/deployment.yaml"));
+    }
+
+    @Test
+    @DisplayName("groupByDirectory: returns sorted groups with sorted files")
+    void testGroupByDirectory(@TempDir Path repo) throws IOException {
+        Path chart = Files.createDirectories(repo.resolve("charts/app"));
+        Files.createFile(chart.resolve("Chart.yaml"));
+        String root = repo.toString().replace('\\', '/');
+
+        Map<String, List<String>> groups = InfraSweep.groupByDirectory(List.of(
+                root + "/charts/app/values.yaml",
+                root + "/infra/variables.tf",
+                root + "/charts/app/templates/service.yaml",
+                root + "/infra/main.tf"));
+
+        assertEquals(List.of(root + "/charts/app", root + "/infra"), List.copyOf(groups.keySet()));
+        assertEquals(List.of(root + "/charts/app/templates/service.yaml", root + "/charts/app/values.yaml"),
+                groups.get(root + "/charts/app"));
+        assertEquals(List.of(root + "/infra/main.tf", root + "/infra/variables.tf"), groups.get(root + "/infra"));
+    }
+
+    @Test
+    @DisplayName("fingerprint: changes when a file is modified, added or removed")
+    void testFingerprint() {
+        List<String> files = List.of("/repo/infra/main.tf", "/repo/infra/variables.tf");
+        long original = InfraSweep.fingerprint(files, Map.of("/repo/infra/main.tf", 1L, "/repo/infra/variables.tf", 2L));
+
+        assertEquals(original, InfraSweep.fingerprint(files, Map.of("/repo/infra/main.tf", 1L, "/repo/infra/variables.tf", 2L)));
+        assertNotEquals(original, InfraSweep.fingerprint(files, Map.of("/repo/infra/main.tf", 3L, "/repo/infra/variables.tf", 2L)));
+        assertNotEquals(original, InfraSweep.fingerprint(List.of("/repo/infra/main.tf"), Map.of("/repo/infra/main.tf", 1L)));
+        assertNotEquals(original, InfraSweep.fingerprint(List.of("/repo/infra/main.tf", "/repo/infra/outputs.tf", "/repo/infra/variables.tf"),
+                Map.of("/repo/infra/main.tf", 1L, "/repo/infra/outputs.tf", 5L, "/repo/infra/variables.tf", 2L)));
+    }
+}
@@ -2,6 +2,7 @@ package com.checkmarx.intellij.devassist.test.common;
 
 import com.checkmarx.intellij.devassist.basescanner.ScannerService;
 import com.checkmarx.intellij.devassist.common.ScanManager;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
 import com.checkmarx.intellij.devassist.common.ScannerFactory;
 import com.checkmarx.intellij.devassist.common.ScanResult;
 import com.checkmarx.intellij.devassist.configuration.ScannerConfig;
@@ -19,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +44,7 @@ public class ScanManagerTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        ScannerCircuitBreaker.resetAll();
         scanManager = new ScanManager();
         Field field = ScanManager.class.getDeclaredField("scannerFactory");
         field.setAccessible(true);
@@ -100,6 +103,26 @@ public class ScanManagerTest {
         }
     }
 
+    @Test
+    @DisplayName("scanFile skips the scanner while its circuit breaker is open")
+    void scanFile_specificEngine_whenCircuitOpen_skipsScanner() {
+        try (MockedStatic<DevAssistUtils> devAssistMock = mockStatic(DevAssistUtils.class)) {
+            devAssistMock.when(() -> DevAssistUtils.isScannerActive(anyString())).thenReturn(true);
+            when(mockScannerFactory.getSupportedScannerUsingScanEngine(anyString(), any(), eq(ScanEngine.ASCA)))
+                    .thenReturn(mockScannerService);
+            for (int i = 0; i < ScannerCircuitBreaker.FAILURE_THRESHOLD; i++) {
+                ScannerCircuitBreaker.failure(ScanEngine.ASCA, new IOException("cli crashed"));
+            }
+
+            List<ScanIssue> result = scanManager.scanFile("/path/File.java", mockPsiFile, ScanEngine.ASCA);
+
+            assertTrue(result.isEmpty());
+            verify(mockScannerService, never()).scan(any(), anyString());
+        } finally {
+            ScannerCircuitBreaker.resetAll();
+        }
+    }
+
     @Test
     @DisplayName("scanFile returns empty list when factory finds no scanners")
     void scanFile_whenNoSupportedScanners_returnsEmpty() {
@@ -0,0 +1,138 @@
+package com.checkmarx.intellij.devassist.test.common;
+
+import com.checkmarx.ast.wrapper.CxException;
+import com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScannerCircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ScannerCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new ScannerCircuitBreaker(ScanEngine.CONTAINERS, 3, Duration.ofSeconds(10), Duration.ofSeconds(35), clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ScannerCircuitBreaker.resetAll();
+    }
+
+    @Test
+    @DisplayName("Circuit stays closed below the failure threshold and a success resets the count")
+    void recordFailure_belowThreshold_staysClosed() {
+        breaker.recordFailure(new IOException("docker not found"));
+        breaker.recordFailure(new IOException("docker not found"));
+        breaker.recordSuccess();
+        breaker.recordFailure(new IOException("docker not found"));
+
+        assertTrue(breaker.tryAcquire());
+        assertEquals(ScannerCircuitBreaker.State.CLOSED, breaker.getStatus().getState());
+        assertEquals(1, breaker.getStatus().getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("Circuit opens after consecutive failures and rejects scans during the cool-down")
+    void recordFailure_atThreshold_opensCircuit() {
+        tripBreaker();
+
+        ScannerCircuitBreaker.Status status = breaker.getStatus();
+        assertEquals(ScannerCircuitBreaker.State.OPEN, status.getState());
+        assertEquals(10_000L, status.getRetryInMillis());
+        assertEquals("scan failed", status.getLastError());
+        assertFalse(breaker.tryAcquire());
+
+        advanceSeconds(9);
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("After the cool-down a single probe is admitted and its success closes the circuit")
+    void tryAcquire_afterCoolDown_admitsSingleProbe() {
+        tripBreaker();
+        advanceSeconds(10);
+
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(ScannerCircuitBreaker.State.HALF_OPEN, breaker.getStatus().getState());
+
+        breaker.recordSuccess();
+        breaker.release();
+        assertEquals(ScannerCircuitBreaker.State.CLOSED, breaker.getStatus().getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("A failed probe reopens the circuit with a doubled, capped cool-down")
+    void recordFailure_duringProbe_reopensWithExponentialCoolDown() {
+        tripBreaker();
+        advanceSeconds(10);
+        assertTrue(breaker.tryAcquire());
+        breaker.recordFailure(new CxException(1, "still failing"));
+        breaker.release();
+        assertEquals(ScannerCircuitBreaker.State.OPEN, breaker.getStatus().getState());
+        assertEquals(20_000L, breaker.getStatus().getRetryInMillis());
+
+        advanceSeconds(20);
+        assertTrue(breaker.tryAcquire());
+        breaker.recordFailure(new CxException(1, "still failing"));
+        assertEquals(35_000L, breaker.getStatus().getRetryInMillis());
+        assertEquals(3, breaker.getStatus().getTrips());
+    }
+
+    @Test
+    @DisplayName("A probe that ends without an outcome frees the probe slot")
+    void release_probeWithoutOutcome_allowsNextProbe() {
+        tripBreaker();
+        advanceSeconds(10);
+        assertTrue(breaker.tryAcquire());
+        breaker.release();
+
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Interruptions are cancellations and do not count as failures")
+    void recordFailure_interrupted_isIgnored() {
+        for (int i = 0; i < 5; i++) {
+            breaker.recordFailure(new InterruptedException());
+        }
+        assertEquals(ScannerCircuitBreaker.State.CLOSED, breaker.getStatus().getState());
+        assertEquals(0, breaker.getStatus().getConsecutiveFailures());
+    }
+
+    @Test
+    @DisplayName("Shared breakers are listed in the snapshot and closed by resetAll")
+    void resetAll_closesSharedBreakers() {
+        for (int i = 0; i < ScannerCircuitBreaker.FAILURE_THRESHOLD; i++) {
+            ScannerCircuitBreaker.failure(ScanEngine.IAC, new IOException("podman missing"));
+        }
+        assertEquals(ScannerCircuitBreaker.State.OPEN, ScannerCircuitBreaker.snapshotAll().get("IAC").getState());
+        assertFalse(ScannerCircuitBreaker.forEngine(ScanEngine.IAC).tryAcquire());
+
+        ScannerCircuitBreaker.resetAll();
+        assertEquals(ScannerCircuitBreaker.State.CLOSED, ScannerCircuitBreaker.snapshotAll().get("IAC").getState());
+        assertTrue(ScannerCircuitBreaker.forEngine(ScanEngine.IAC).tryAcquire());
+    }
+
+    private void tripBreaker() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure(new CxException(1, "scan failed"));
+        }
+    }
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(Duration.ofSeconds(seconds).toNanos());
+    }
+}
@@ -0,0 +1,213 @@
+package com.checkmarx.intellij.devassist.test.common;
+
+import com.checkmarx.intellij.devassist.common.ScanResult;
+import com.checkmarx.intellij.devassist.common.SharedScanResultCache;
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedScanResultCacheTest {
+
+    private static ScanResult<?> resultOf(String filePath) {
+        ScanIssue issue = new ScanIssue();
+        issue.setTitle("lodash");
+        issue.setScanEngine(ScanEngine.OSS);
+        issue.setFilePath(filePath);
+        issue.getLocations().add(new Location(3, 4, 10));
+        return new ScanResult<Object>() {
+            @Override
+            public Object getResults() {
+                return null;
+            }
+
+            @Override
+            public List<ScanIssue> getIssues() {
+                return List.of(issue);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("getIfPresent returns cached issues without scanning and null for unknown keys")
+    void testGetIfPresent() {
+        SharedScanResultCache cache = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES);
+        cache.scan("key", "/a/package.json", () -> resultOf("/a/package.json"));
+
+        List<ScanIssue> cached = cache.getIfPresent("key", "/b/package.json");
+
+        assertEquals(1, cached.size());
+        assertEquals("/b/package.json", cached.get(0).getFilePath());
+        assertNull(cache.getIfPresent("other", "/b/package.json"));
+        assertNull(cache.getIfPresent(null, "/b/package.json"));
+    }
+
+    @Test
+    @DisplayName("scan serves cached issues with the path of the requesting file")
+    void testScan_cacheHit_rebindsFilePath() {
+        SharedScanResultCache cache = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES);
+        AtomicInteger scans = new AtomicInteger();
+
+        cache.scan("key", "/a/package.json", () -> {
+            scans.incrementAndGet();
+            return resultOf("/a/package.json");
+        });
+        ScanResult<?> cached = cache.scan("key", "/b/package.json", () -> {
+            scans.incrementAndGet();
+            return resultOf("/b/package.json");
+        });
+
+        assertEquals(1, scans.get());
+        assertNull(cached.getResults());
+        assertEquals(1, cached.getIssues().size());
+        assertEquals("/b/package.json", cached.getIssues().get(0).getFilePath());
+        assertEquals(3, cached.getIssues().get(0).getLocations().get(0).getLine());
+    }
+
+    @Test
+    @DisplayName("scan does not cache missing results")
+    void testScan_nullResult_notCached() {
+        SharedScanResultCache cache = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES);
+
+        assertNull(cache.scan("key", "/a/Dockerfile", () -> null));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("concurrent scans of the same key run the scanner once")
+    void testScan_concurrentIdenticalScans_singleFlight() throws Exception {
+        SharedScanResultCache cache = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES);
+        AtomicInteger scans = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ScanResult<?>> leader = executor.submit(() -> cache.scan("key", "/a/pom.xml", () -> {
+                scans.incrementAndGet();
+                leaderStarted.countDown();
+                awaitQuietly(release);
+                return resultOf("/a/pom.xml");
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            Future<ScanResult<?>> follower = executor.submit(() -> cache.scan("key", "/b/pom.xml", () -> {
+                scans.incrementAndGet();
+                return resultOf("/b/pom.xml");
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("/a/pom.xml", leader.get(5, TimeUnit.SECONDS).getIssues().get(0).getFilePath());
+            assertEquals("/b/pom.xml", follower.get(5, TimeUnit.SECONDS).getIssues().get(0).getFilePath());
+            assertEquals(1, scans.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("results of scans started before clear are not cached")
+    void testScan_clearedWhileInFlight_resultDropped() {
+        SharedScanResultCache cache = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES);
+
+        cache.scan("key", "/a/Dockerfile", () -> {
+            cache.clear();
+            return resultOf("/a/Dockerfile");
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("least recently used entries are evicted above the memory budget")
+    void testScan_overBudget_evictsLeastRecentlyUsed() {
+        SharedScanResultCache probe = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES);
+        probe.scan("probe", "/a", () -> resultOf("/a"));
+        long entryBytes = probe.getUsedBytes();
+        SharedScanResultCache cache = new SharedScanResultCache(2 * entryBytes);
+
+        cache.scan("first", "/a", () -> resultOf("/a"));
+        cache.scan("second", "/a", () -> resultOf("/a"));
+        cache.scan("first", "/a", () -> resultOf("/a"));
+        cache.scan("third", "/a", () -> resultOf("/a"));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.getUsedBytes() <= 2 * entryBytes);
+        AtomicInteger scans = new AtomicInteger();
+        cache.scan("first", "/a", () -> {
+            scans.incrementAndGet();
+            return resultOf("/a");
+        });
+        assertEquals(0, scans.get());
+    }
+
+    @Test
+    @DisplayName("entries expire after the TTL and are scanned again")
+    void testScan_expiredEntry_rescans() {
+        AtomicLong clock = new AtomicLong();
+        SharedScanResultCache cache = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES,
+                TimeUnit.MINUTES.toNanos(60), clock::get, 1000);
+        AtomicInteger scans = new AtomicInteger();
+
+        cache.scan("key", "/a/package.json", () -> {
+            scans.incrementAndGet();
+            return resultOf("/a/package.json");
+        });
+        clock.set(TimeUnit.MINUTES.toNanos(59));
+        assertNotNull(cache.getIfPresent("key", "/a/package.json"));
+        clock.set(TimeUnit.MINUTES.toNanos(60));
+        assertNull(cache.getIfPresent("key", "/a/package.json"));
+        assertEquals(0, cache.getUsedBytes());
+        cache.scan("key", "/a/package.json", () -> {
+            scans.incrementAndGet();
+            return resultOf("/a/package.json");
+        });
+
+        assertEquals(2, scans.get());
+    }
+
+    @Test
+    @DisplayName("a waiter scans by itself when the shared scan does not complete in time")
+    void testScan_hungFlight_waiterScansItself() throws Exception {
+        SharedScanResultCache cache = new SharedScanResultCache(SharedScanResultCache.MEMORY_BUDGET_BYTES,
+                TimeUnit.MINUTES.toNanos(60), System::nanoTime, 50);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> cache.scan("key", "/a/pom.xml", () -> {
+                leaderStarted.countDown();
+                awaitQuietly(releaseLeader);
+                return resultOf("/a/pom.xml");
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            ScanResult<?> result = cache.scan("key", "/b/pom.xml", () -> resultOf("/b/pom.xml"));
+
+            assertEquals("/b/pom.xml", result.getIssues().get(0).getFilePath());
+        } finally {
+            releaseLeader.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.checkmarx.intellij.devassist.test.diagnostics;
+
+import com.checkmarx.intellij.devassist.diagnostics.LatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void emptyHistogram_reportsZeros() {
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0.0, snapshot.getMean());
+        assertEquals(0.0, snapshot.getP99());
+        assertEquals(0L, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void smallValues_areRecordedExactly() {
+        histogram.record(3, TimeUnit.MICROSECONDS);
+        histogram.record(5, TimeUnit.MICROSECONDS);
+        assertEquals(3L, histogram.getValueAtPercentile(50));
+        assertEquals(5L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void percentiles_stayWithinRelativeErrorBound() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertWithinError(500_000L, histogram.getValueAtPercentile(50));
+        assertWithinError(900_000L, histogram.getValueAtPercentile(90));
+        assertWithinError(990_000L, histogram.getValueAtPercentile(99));
+        assertEquals(1000.0, histogram.snapshot().getMax());
+        assertEquals(500.5, histogram.snapshot().getMean(), 0.01);
+    }
+
+    @Test
+    void percentile_neverExceedsMax() {
+        histogram.record(1_000_001, TimeUnit.MICROSECONDS);
+        assertEquals(1_000_001L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void negativeDuration_isTreatedAsZero() {
+        histogram.record(-5, TimeUnit.MILLISECONDS);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void hugeDuration_isClampedIntoLastBucket() {
+        histogram.record(Long.MAX_VALUE / 2, TimeUnit.MICROSECONDS);
+        assertEquals(1, histogram.getCount());
+        assertEquals(Long.MAX_VALUE / 2, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void reset_clearsAllSamples() {
+        histogram.record(10, TimeUnit.MILLISECONDS);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.snapshot().getMax());
+    }
+
+    @Test
+    void recordSince_recordsElapsedTime() {
+        histogram.recordSince(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(1, histogram.getCount());
+        assertTrue(histogram.snapshot().getMax() >= 20.0);
+    }
+
+    @Test
+    void concurrentRecording_countsEverySample() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(i, TimeUnit.MICROSECONDS);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        assertEquals((long) threads * perThread, histogram.getCount());
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.125,
+                "expected ~" + expected + " but was " + actual);
+    }
+}
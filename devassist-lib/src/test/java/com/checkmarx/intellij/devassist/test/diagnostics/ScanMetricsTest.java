@@ -0,0 +1,127 @@
+package com.checkmarx.intellij.devassist.test.diagnostics;
+
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.diagnostics.ScanStage;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        ScanMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        while (ScanMetrics.getQueueDepth() > 0) {
+            ScanMetrics.scanDequeued();
+        }
+        ScanMetrics.reset();
+    }
+
+    @Test
+    void recordStage_groupsByEngineAndStage() {
+        ScanMetrics.histogram(ScanEngine.OSS, ScanStage.CLI_EXECUTION).record(40, TimeUnit.MILLISECONDS);
+        ScanMetrics.histogram(ScanEngine.OSS, ScanStage.CLI_EXECUTION).record(60, TimeUnit.MILLISECONDS);
+        ScanMetrics.recordStage(ScanEngine.SECRETS, ScanStage.TEMP_FILE_IO, System.nanoTime());
+
+        ScanMetrics.DiagnosticsSnapshot snapshot = ScanMetrics.snapshot();
+        assertEquals(2, snapshot.getStages().get("OSS").get("CLI_EXECUTION").getCount());
+        assertEquals(1, snapshot.getStages().get("SECRETS").get("TEMP_FILE_IO").getCount());
+    }
+
+    @Test
+    void recordStage_nullEngine_isRecordedUnderAll() {
+        ScanMetrics.recordStage(null, ScanStage.UI_DECORATION, System.nanoTime());
+        assertEquals(1, ScanMetrics.snapshot().getStages().get("ALL").get("UI_DECORATION").getCount());
+    }
+
+    @Test
+    void snapshot_omitsEmptyHistograms() {
+        ScanMetrics.histogram(ScanEngine.IAC, ScanStage.RESULT_ADAPTATION);
+        assertFalse(ScanMetrics.snapshot().getStages().containsKey("IAC"));
+    }
+
+    @Test
+    void cacheCounters_computeHitRate() {
+        ScanMetrics.recordCacheHit("test-cache");
+        ScanMetrics.recordCacheHit("test-cache");
+        ScanMetrics.recordCacheHit("test-cache");
+        ScanMetrics.recordCacheMiss("test-cache");
+        ScanMetrics.recordCacheMiss("miss-only");
+
+        ScanMetrics.CacheStats stats = ScanMetrics.snapshot().getCaches().get("test-cache");
+        assertEquals(3, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.75, stats.getHitRate(), 0.0001);
+        assertEquals(0.0, ScanMetrics.snapshot().getCaches().get("miss-only").getHitRate());
+    }
+
+    @Test
+    void cliSpawns_areCountedPerEngine() {
+        ScanMetrics.recordCliSpawn(ScanEngine.ASCA);
+        ScanMetrics.recordCliSpawn(ScanEngine.ASCA);
+        ScanMetrics.recordCliSpawn(ScanEngine.CONTAINERS);
+        assertEquals(2L, ScanMetrics.snapshot().getCliSpawns().get("ASCA"));
+        assertEquals(1L, ScanMetrics.snapshot().getCliSpawns().get("CONTAINERS"));
+    }
+
+    @Test
+    void queueDepth_tracksCurrentAndPeak() {
+        ScanMetrics.scanQueued();
+        ScanMetrics.scanQueued();
+        ScanMetrics.scanDequeued();
+        ScanMetrics.DiagnosticsSnapshot snapshot = ScanMetrics.snapshot();
+        assertEquals(1, snapshot.getQueueDepth());
+        assertEquals(2, snapshot.getPeakQueueDepth());
+    }
+
+    @Test
+    void queueDepth_neverGoesNegative() {
+        ScanMetrics.scanDequeued();
+        assertEquals(0, ScanMetrics.getQueueDepth());
+    }
+
+    @Test
+    void reset_clearsCountersButKeepsLiveQueueDepth() {
+        ScanMetrics.scanQueued();
+        ScanMetrics.recordCliSpawn(ScanEngine.OSS);
+        ScanMetrics.recordTempFileWrite(ScanEngine.OSS, 512);
+        ScanMetrics.recordCacheHit("test-cache");
+        ScanMetrics.recordStage(ScanEngine.OSS, ScanStage.ENGINE_TOTAL, System.nanoTime());
+
+        ScanMetrics.reset();
+
+        ScanMetrics.DiagnosticsSnapshot snapshot = ScanMetrics.snapshot();
+        assertTrue(snapshot.getCliSpawns().isEmpty());
+        assertTrue(snapshot.getTempFileBytes().isEmpty());
+        assertTrue(snapshot.getCaches().isEmpty());
+        assertTrue(snapshot.getStages().isEmpty());
+        assertEquals(1, snapshot.getQueueDepth());
+    }
+
+    @Test
+    void toJson_containsAllSections() throws Exception {
+        ScanMetrics.recordCliSpawn(ScanEngine.OSS);
+        ScanMetrics.recordTempFileWrite(ScanEngine.OSS, 512);
+        ScanMetrics.recordCacheMiss("test-cache");
+        ScanMetrics.histogram(ScanEngine.OSS, ScanStage.ENGINE_TOTAL).record(15, TimeUnit.MILLISECONDS);
+
+        JsonNode json = new ObjectMapper().readTree(ScanMetrics.toJson());
+        assertTrue(json.has("capturedAt"));
+        assertEquals(1, json.get("cliSpawns").get("OSS").asInt());
+        assertEquals(512, json.get("tempFileBytes").get("OSS").asInt());
+        assertEquals(1, json.get("caches").get("test-cache").get("misses").asInt());
+        assertEquals(1, json.get("stages").get("OSS").get("ENGINE_TOTAL").get("count").asInt());
+        assertTrue(json.get("stages").get("OSS").get("ENGINE_TOTAL").has("p99"));
+    }
+}
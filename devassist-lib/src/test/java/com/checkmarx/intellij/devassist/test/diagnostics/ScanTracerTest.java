@@ -0,0 +1,101 @@
+package com.checkmarx.intellij.devassist.test.diagnostics;
+
+import com.checkmarx.intellij.devassist.diagnostics.ScanTracer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanTracerTest {
+
+    @BeforeEach
+    void setUp() {
+        ScanTracer.clear();
+        ScanTracer.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ScanTracer.setEnabled(false);
+        ScanTracer.clear();
+    }
+
+    @Test
+    void span_whenDisabled_recordsNothing() {
+        ScanTracer.setEnabled(false);
+        try (ScanTracer.Span ignored = ScanTracer.span("disabled")) {
+            ScanTracer.instant("marker", null);
+        }
+        assertTrue(ScanTracer.getEvents(1, TimeUnit.MINUTES).isEmpty());
+    }
+
+    @Test
+    void span_whenEnabled_recordsNameDetailAndThread() {
+        try (ScanTracer.Span ignored = ScanTracer.span("ScanManager.initiateScan", "/tmp/pom.xml")) {
+            // traced work
+        }
+        List<ScanTracer.TraceEvent> events = ScanTracer.getEvents(1, TimeUnit.MINUTES);
+        assertEquals(1, events.size());
+        ScanTracer.TraceEvent event = events.get(0);
+        assertEquals("ScanManager.initiateScan", event.getName());
+        assertEquals("/tmp/pom.xml", event.getDetail());
+        assertEquals(Thread.currentThread().getName(), event.getThreadName());
+        assertTrue(event.getDurationNanos() >= 0);
+    }
+
+    @Test
+    void getEvents_excludesEventsOutsideWindowAndSortsByStart() {
+        long now = System.nanoTime();
+        ScanTracer.complete("recent", null, now - TimeUnit.SECONDS.toNanos(2), now - TimeUnit.SECONDS.toNanos(1));
+        ScanTracer.complete("old", null, now - TimeUnit.SECONDS.toNanos(120), now - TimeUnit.SECONDS.toNanos(119));
+        ScanTracer.complete("earlier", null, now - TimeUnit.SECONDS.toNanos(5), now - TimeUnit.SECONDS.toNanos(4));
+
+        List<ScanTracer.TraceEvent> events = ScanTracer.getEvents(60, TimeUnit.SECONDS);
+        assertEquals(2, events.size());
+        assertEquals("earlier", events.get(0).getName());
+        assertEquals("recent", events.get(1).getName());
+    }
+
+    @Test
+    void record_overwritesOldestEventsWhenBufferIsFull() {
+        for (int i = 0; i < 20_000; i++) {
+            ScanTracer.instant("event-" + i, null);
+        }
+        List<ScanTracer.TraceEvent> events = ScanTracer.getEvents(1, TimeUnit.MINUTES);
+        assertEquals(1 << 14, events.size());
+        assertTrue(events.stream().noneMatch(event -> event.getName().equals("event-0")));
+        assertTrue(events.stream().anyMatch(event -> event.getName().equals("event-19999")));
+    }
+
+    @Test
+    void toChromeTraceJson_writesCompleteInstantAndThreadNameEvents() throws Exception {
+        try (ScanTracer.Span ignored = ScanTracer.span("DevAssistScanScheduler.runScan", "/tmp/Dockerfile")) {
+            ScanTracer.instant("DevAssistScanScheduler.scheduleScan", null);
+        }
+
+        JsonNode root = new ObjectMapper().readTree(ScanTracer.toChromeTraceJson(1, TimeUnit.MINUTES));
+        JsonNode events = root.get("traceEvents");
+        assertEquals(3, events.size());
+
+        JsonNode span = events.get(0);
+        assertEquals("DevAssistScanScheduler.runScan", span.get("name").asText());
+        assertEquals("X", span.get("ph").asText());
+        assertTrue(span.has("dur"));
+        assertEquals("/tmp/Dockerfile", span.get("args").get("detail").asText());
+
+        JsonNode marker = events.get(1);
+        assertEquals("i", marker.get("ph").asText());
+        assertFalse(marker.has("args"));
+
+        JsonNode threadName = events.get(2);
+        assertEquals("M", threadName.get("ph").asText());
+        assertEquals(Thread.currentThread().getName(), threadName.get("args").get("name").asText());
+        assertEquals("ms", root.get("displayTimeUnit").asText());
+    }
+}
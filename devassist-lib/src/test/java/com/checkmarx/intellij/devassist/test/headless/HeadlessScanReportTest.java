@@ -0,0 +1,141 @@
+package com.checkmarx.intellij.devassist.test.headless;
+
+import com.checkmarx.intellij.common.utils.SeverityLevel;
+import com.checkmarx.intellij.devassist.common.ChangedFilesScan;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.headless.DevAssistScanStarter;
+import com.checkmarx.intellij.devassist.headless.HeadlessScanReport;
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessScanReportTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("toSarif: writes one rule per rule id and results relative to the root, OK results left out")
+    void testToSarif() throws Exception {
+        JsonNode run = MAPPER.readTree(report(true).toSarif()).get("runs").get(0);
+
+        assertEquals(3, run.get("tool").get("driver").get("rules").size());
+        JsonNode results = run.get("results");
+        assertEquals(3, results.size());
+        JsonNode manifest = results.get(0);
+        assertEquals("oss/log4j-core", manifest.get("ruleId").asText());
+        assertEquals("error", manifest.get("level").asText());
+        JsonNode manifestLocation = manifest.get("locations").get(0).get("physicalLocation");
+        assertEquals("pom.xml", manifestLocation.get("artifactLocation").get("uri").asText());
+        assertFalse(manifestLocation.get("region").has("startColumn"));
+        JsonNode secret = results.get(1);
+        assertEquals("secrets/github-pat", secret.get("ruleId").asText());
+        assertEquals(1, secret.get("ruleIndex").asInt());
+        JsonNode secretLocation = secret.get("locations").get(0).get("physicalLocation");
+        assertEquals("src/config.js", secretLocation.get("artifactLocation").get("uri").asText());
+        assertEquals(3, secretLocation.get("region").get("startLine").asInt());
+        assertEquals(5, secretLocation.get("region").get("startColumn").asInt());
+        assertEquals("warning", results.get(2).get("level").asText());
+        assertTrue(run.get("invocations").get(0).get("executionSuccessful").asBoolean());
+        assertEquals(3, run.get("properties").get("issues").asInt());
+    }
+
+    @Test
+    @DisplayName("toJson: leaves out OK results and reports the run statistics")
+    void testToJson() throws Exception {
+        JsonNode json = MAPPER.readTree(report(false).toJson());
+
+        assertEquals(3, json.get("results").size());
+        assertEquals("OSS", json.get("results").get(0).get("engine").asText());
+        assertEquals("src/config.js", json.get("results").get(1).get("file").asText());
+        JsonNode statistics = json.get("statistics");
+        assertFalse(statistics.get("complete").asBoolean());
+        assertEquals(4, statistics.get("workers").asInt());
+        assertEquals(10, statistics.get("filesWalked").asInt());
+        assertEquals(2, statistics.get("fileScans").asInt());
+        assertTrue(statistics.has("metrics"));
+    }
+
+    @Test
+    @DisplayName("toSarifLevel: maps severities to SARIF levels")
+    void testToSarifLevel() {
+        assertEquals("error", HeadlessScanReport.toSarifLevel(SeverityLevel.MALICIOUS));
+        assertEquals("error", HeadlessScanReport.toSarifLevel(SeverityLevel.HIGH));
+        assertEquals("warning", HeadlessScanReport.toSarifLevel(SeverityLevel.MEDIUM));
+        assertEquals("note", HeadlessScanReport.toSarifLevel(SeverityLevel.LOW));
+        assertEquals("none", HeadlessScanReport.toSarifLevel(SeverityLevel.UNKNOWN));
+    }
+
+    @Test
+    @DisplayName("Options.parse: reads the path and options, skipping the command name")
+    void testParseOptions() {
+        DevAssistScanStarter.Options options = DevAssistScanStarter.Options.parse(List.of(
+                DevAssistScanStarter.COMMAND_NAME, root.toString(), "--workers", "8", "--format", "sarif", "--output", "out.sarif"));
+
+        assertEquals(root.toAbsolutePath().normalize(), options.getPath());
+        assertEquals(8, options.getWorkers());
+        assertEquals(DevAssistScanStarter.Format.SARIF, options.getFormat());
+        assertEquals(Path.of("out.sarif").toAbsolutePath(), options.getOutput());
+
+        DevAssistScanStarter.Options defaults = DevAssistScanStarter.Options.parse(List.of(root.toString()));
+        assertEquals(ChangedFilesScan.defaultWorkers(), defaults.getWorkers());
+        assertEquals(DevAssistScanStarter.Format.JSON, defaults.getFormat());
+        assertNull(defaults.getOutput());
+    }
+
+    @Test
+    @DisplayName("Options.parse: rejects invalid command lines")
+    void testParseOptionsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> DevAssistScanStarter.Options.parse(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> DevAssistScanStarter.Options.parse(List.of(root.toString(), "--workers", "0")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DevAssistScanStarter.Options.parse(List.of(root.toString(), "--format", "xml")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DevAssistScanStarter.Options.parse(List.of(root.toString(), "--output")));
+        assertThrows(IllegalArgumentException.class,
+                () -> DevAssistScanStarter.Options.parse(List.of(root.resolve("missing").toString())));
+    }
+
+    private HeadlessScanReport report(boolean complete) {
+        Map<ScanEngine, Map<String, List<ScanIssue>>> issuesByEngine = new EnumMap<>(ScanEngine.class);
+        Map<String, List<ScanIssue>> secrets = new LinkedHashMap<>();
+        secrets.put(root.resolve("src/config.js").toString(), List.of(
+                issue("High", "github-pat", new Location(3, 4, 20)),
+                issue("Medium", "generic-api-key", new Location(7, 0, 10))));
+        issuesByEngine.put(ScanEngine.SECRETS, secrets);
+        Map<String, List<ScanIssue>> oss = new LinkedHashMap<>();
+        oss.put(root.resolve("pom.xml").toString(), List.of(
+                issue("Critical", "log4j-core", null),
+                issue("OK", "commons-io", null)));
+        issuesByEngine.put(ScanEngine.OSS, oss);
+        return new HeadlessScanReport(root, issuesByEngine,
+                new HeadlessScanReport.Statistics(complete, 4, 10, 5, 50, ScanMetrics.snapshot()));
+    }
+
+    private static ScanIssue issue(String severity, String title, Location location) {
+        ScanIssue scanIssue = new ScanIssue();
+        scanIssue.setSeverity(severity);
+        scanIssue.setTitle(title);
+        scanIssue.setDescription(title + " found");
+        if (location != null) {
+            scanIssue.getLocations().add(location);
+        }
+        return scanIssue;
+    }
+}
@@ -273,7 +273,7 @@ class DevAssistScanSchedulerTest {
 
     private static Method getCacheScanResults() throws Exception {
         Method m = DevAssistScanScheduler.class.getDeclaredMethod(
-                "cacheScanResults", ProblemHelper.class, String.class, List.class, List.class, ScanEngine.class);
+                "cacheScanResults", ProblemHelper.class, String.class, List.class, List.class, ScanEngine.class, boolean.class);
         m.setAccessible(true);
         return m;
     }
@@ -288,7 +288,7 @@ class DevAssistScanSchedulerTest {
         List<ScanIssue> issues = Collections.singletonList(new ScanIssue());
         List<ProblemDescriptor> descriptors = Collections.singletonList(mock(ProblemDescriptor.class));
 
-        getCacheScanResults().invoke(scheduler, mockHelper, "/file.java", issues, descriptors, ScanEngine.ALL);
+        getCacheScanResults().invoke(scheduler, mockHelper, "/file.java", issues, descriptors, ScanEngine.ALL, false);
 
         verify(mockHolderService).addScanIssues("/file.java", issues);
         verify(mockHolderService).addProblemDescriptors("/file.java", descriptors);
@@ -305,7 +305,7 @@ class DevAssistScanSchedulerTest {
         List<ScanIssue> issues = Collections.singletonList(new ScanIssue());
         List<ProblemDescriptor> descriptors = Collections.singletonList(mock(ProblemDescriptor.class));
 
-        getCacheScanResults().invoke(scheduler, mockHelper, "/file.java", issues, descriptors, ScanEngine.ASCA);
+        getCacheScanResults().invoke(scheduler, mockHelper, "/file.java", issues, descriptors, ScanEngine.ASCA, false);
 
         verify(mockHolderService).removeScanIssuesByFileAndScanner("ASCA", "/file.java");
         verify(mockHolderService).mergeScanIssues("/file.java", issues);
@@ -0,0 +1,174 @@
+package com.checkmarx.intellij.devassist.test.inspection;
+
+import com.checkmarx.intellij.devassist.inspection.ScanLoadGovernor;
+import com.intellij.ide.PowerSaveMode;
+import com.intellij.openapi.application.Application;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.messages.MessageBus;
+import com.intellij.util.messages.MessageBusConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ScanLoadGovernorTest {
+
+    private Project project;
+    private DumbService dumbService;
+    private MockedStatic<DumbService> dumbServiceStatic;
+    private MockedStatic<PowerSaveMode> powerSaveStatic;
+
+    @BeforeEach
+    void setUp() {
+        project = mock(Project.class);
+        dumbService = mock(DumbService.class);
+        dumbServiceStatic = mockStatic(DumbService.class);
+        dumbServiceStatic.when(() -> DumbService.getInstance(project)).thenReturn(dumbService);
+        powerSaveStatic = mockStatic(PowerSaveMode.class);
+        powerSaveStatic.when(PowerSaveMode::isEnabled).thenReturn(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dumbServiceStatic.close();
+        powerSaveStatic.close();
+    }
+
+    // ===== computeConcurrencyLimit() =====
+
+    @Test
+    void computeConcurrencyLimit_idleMachine_usesHalfTheCoresUpToMaximum() {
+        assertEquals(ScanLoadGovernor.MAX_CONCURRENT_SCANS, ScanLoadGovernor.computeConcurrencyLimit(16, 1.0, 0.1));
+        assertEquals(2, ScanLoadGovernor.computeConcurrencyLimit(4, 0.5, 0.1));
+        assertEquals(1, ScanLoadGovernor.computeConcurrencyLimit(1, 0.0, 0.0));
+    }
+
+    @Test
+    void computeConcurrencyLimit_moderateLoad_halvesLimit() {
+        assertEquals(2, ScanLoadGovernor.computeConcurrencyLimit(16, 12.0, 0.1));
+        assertEquals(2, ScanLoadGovernor.computeConcurrencyLimit(16, 1.0, 0.6));
+    }
+
+    @Test
+    void computeConcurrencyLimit_saturatedSystemOrIde_allowsSingleScan() {
+        assertEquals(1, ScanLoadGovernor.computeConcurrencyLimit(8, 9.0, 0.1));
+        assertEquals(1, ScanLoadGovernor.computeConcurrencyLimit(8, 1.0, 0.95));
+    }
+
+    @Test
+    void computeConcurrencyLimit_metricsUnavailable_usesIdleLimit() {
+        assertEquals(4, ScanLoadGovernor.computeConcurrencyLimit(8, -1.0, -1.0));
+    }
+
+    // ===== shouldDefer() / defer() / resume() =====
+
+    @Test
+    void shouldDefer_whenDumbOrPowerSave_returnsTrue() {
+        ScanLoadGovernor governor = ScanLoadGovernor.getInstance(project);
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(false);
+        assertFalse(governor.shouldDefer());
+
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(true);
+        assertTrue(governor.shouldDefer());
+
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(false);
+        powerSaveStatic.when(PowerSaveMode::isEnabled).thenReturn(true);
+        assertTrue(governor.shouldDefer());
+    }
+
+    @Test
+    void defer_inDumbMode_coalescesPerFileAndCatchesUpOnceWhenSmart() {
+        ScanLoadGovernor governor = ScanLoadGovernor.getInstance(project);
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(true);
+        List<String> executed = new ArrayList<>();
+
+        governor.defer("/a/pom.xml", () -> executed.add("a-1"));
+        governor.defer("/b/Dockerfile", () -> executed.add("b-1"));
+        governor.defer("/a/pom.xml", () -> executed.add("a-2"));
+
+        assertEquals(2, governor.getDeferredCount());
+        ArgumentCaptor<Runnable> onSmart = ArgumentCaptor.forClass(Runnable.class);
+        verify(dumbService, times(1)).runWhenSmart(onSmart.capture());
+
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(false);
+        onSmart.getValue().run();
+
+        assertEquals(List.of("b-1", "a-2"), executed);
+        assertEquals(0, governor.getDeferredCount());
+    }
+
+    @Test
+    void resume_whileStillBusy_keepsDeferredScansAndWaitsAgain() {
+        ScanLoadGovernor governor = ScanLoadGovernor.getInstance(project);
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(true);
+        List<String> executed = new ArrayList<>();
+        governor.defer("/a/main.tf", () -> executed.add("a"));
+
+        governor.resume();
+
+        assertTrue(executed.isEmpty());
+        assertEquals(1, governor.getDeferredCount());
+        verify(dumbService, times(2)).runWhenSmart(any(Runnable.class));
+    }
+
+    @Test
+    void resume_whenProjectDisposed_doesNothing() {
+        ScanLoadGovernor governor = ScanLoadGovernor.getInstance(project);
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(true);
+        List<String> executed = new ArrayList<>();
+        governor.defer("/a/main.tf", () -> executed.add("a"));
+        when(project.isDisposed()).thenReturn(true);
+        dumbServiceStatic.when(() -> DumbService.isDumb(project)).thenReturn(false);
+
+        governor.resume();
+
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    void defer_powerSaveTurnedOffBeforeSubscribing_catchesUpWithoutAnEvent() {
+        Application application = mock(Application.class);
+        MessageBus messageBus = mock(MessageBus.class);
+        MessageBusConnection connection = mock(MessageBusConnection.class);
+        when(application.getMessageBus()).thenReturn(messageBus);
+        when(messageBus.connect(project)).thenReturn(connection);
+        powerSaveStatic.when(PowerSaveMode::isEnabled).thenReturn(true);
+        // Power save mode ends while the listener is being subscribed, so no event reaches it
+        doAnswer(invocation -> {
+            powerSaveStatic.when(PowerSaveMode::isEnabled).thenReturn(false);
+            return null;
+        }).when(connection).subscribe(eq(PowerSaveMode.TOPIC), any(PowerSaveMode.Listener.class));
+        List<String> executed = new ArrayList<>();
+
+        try (MockedStatic<ApplicationManager> applicationManagerStatic = mockStatic(ApplicationManager.class)) {
+            applicationManagerStatic.when(ApplicationManager::getApplication).thenReturn(application);
+            ScanLoadGovernor.getInstance(project).defer("/a/pom.xml", () -> executed.add("a"));
+        }
+
+        assertEquals(List.of("a"), executed);
+        verify(connection).disconnect();
+    }
+
+    // ===== acquireScanSlot() / releaseScanSlot() =====
+
+    @Test
+    void acquireScanSlot_afterRelease_canBeAcquiredAgain() {
+        ProgressIndicator indicator = mock(ProgressIndicator.class);
+        assertDoesNotThrow(() -> {
+            ScanLoadGovernor.acquireScanSlot(indicator);
+            ScanLoadGovernor.releaseScanSlot();
+            ScanLoadGovernor.acquireScanSlot(indicator);
+            ScanLoadGovernor.releaseScanSlot();
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.checkmarx.intellij.devassist.test.listener;
+
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
+import com.checkmarx.intellij.common.utils.SeverityLevel;
+import com.checkmarx.intellij.devassist.common.ChangedFilesScan;
+import com.checkmarx.intellij.devassist.listeners.DevAssistCheckinHandlerFactory;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.intellij.openapi.vcs.CheckinProjectPanel;
+import com.intellij.openapi.vcs.changes.CommitContext;
+import com.intellij.openapi.vcs.checkin.CheckinHandler;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class DevAssistCheckinHandlerFactoryTest {
+
+    private static ScanIssue issueWithSeverity(SeverityLevel severity) {
+        ScanIssue issue = new ScanIssue();
+        issue.setSeverity(severity.getSeverity());
+        return issue;
+    }
+
+    @Test
+    void countBySeverity_countsReportableIssuesMostSevereFirst() {
+        Map<SeverityLevel, Long> counts = DevAssistCheckinHandlerFactory.countBySeverity(List.of(
+                issueWithSeverity(SeverityLevel.HIGH),
+                issueWithSeverity(SeverityLevel.OK),
+                issueWithSeverity(SeverityLevel.CRITICAL),
+                issueWithSeverity(SeverityLevel.HIGH),
+                issueWithSeverity(SeverityLevel.IGNORED)));
+
+        assertEquals(List.of(SeverityLevel.CRITICAL, SeverityLevel.HIGH), List.copyOf(counts.keySet()));
+        assertEquals(1L, counts.get(SeverityLevel.CRITICAL));
+        assertEquals(2L, counts.get(SeverityLevel.HIGH));
+    }
+
+    @Test
+    void countBySeverity_noReportableIssues_isEmpty() {
+        assertTrue(DevAssistCheckinHandlerFactory.countBySeverity(List.of(issueWithSeverity(SeverityLevel.OK))).isEmpty());
+    }
+
+    @Test
+    void beforeCheckin_scanTurnedOff_commitsWithoutScanning() {
+        GlobalSettingsState state = mock(GlobalSettingsState.class);
+        when(state.isScanBeforeCommit()).thenReturn(false);
+        CheckinProjectPanel panel = mock(CheckinProjectPanel.class);
+        try (MockedStatic<GlobalSettingsState> settings = mockStatic(GlobalSettingsState.class);
+             MockedStatic<ChangedFilesScan> changedFilesScan = mockStatic(ChangedFilesScan.class)) {
+            settings.when(GlobalSettingsState::getInstance).thenReturn(state);
+            changedFilesScan.when(ChangedFilesScan::hasEnabledEngine).thenReturn(true);
+
+            CheckinHandler handler = new DevAssistCheckinHandlerFactory().createHandler(panel, mock(CommitContext.class));
+
+            assertEquals(CheckinHandler.ReturnResult.COMMIT, handler.beforeCheckin());
+            changedFilesScan.verify(() -> ChangedFilesScan.scanFiles(any(), anyList(), any(), anyLong()), never());
+            verify(panel, never()).getVirtualFiles();
+        }
+    }
+}
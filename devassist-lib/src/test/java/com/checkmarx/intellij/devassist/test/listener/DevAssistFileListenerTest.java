@@ -20,6 +20,7 @@ import com.intellij.util.messages.MessageBusConnection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
 
 import java.util.Collections;
@@ -30,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class DevAssistFileListenerTest {
@@ -239,6 +241,32 @@ class DevAssistFileListenerTest {
             verify(problemHolderService, times(1)).removeProblemDescriptorsForFile("/path/to/file.java");
         }
     }
+
+    @Test
+    @DisplayName("Releases the issue locations of a file once its last editor is closed")
+    void testFileClosed_untracksIssueLocations() {
+        MessageBus messageBus = mock(MessageBus.class);
+        when(project.getMessageBus()).thenReturn(messageBus);
+        when(messageBus.connect()).thenReturn(messageBusConnection);
+        when(fileEditorManager.getProject()).thenReturn(project);
+        when(virtualFile.getPath()).thenReturn("/path/to/file.java");
+        ArgumentCaptor<FileEditorManagerListener> listener = ArgumentCaptor.forClass(FileEditorManagerListener.class);
+
+        DevAssistFileListener.register(project);
+        verify(messageBusConnection).subscribe(eq(FileEditorManagerListener.FILE_EDITOR_MANAGER), listener.capture());
+
+        try (MockedStatic<ProblemHolderService> holderMock = mockStatic(ProblemHolderService.class)) {
+            holderMock.when(() -> ProblemHolderService.getInstance(project)).thenReturn(problemHolderService);
+            when(fileEditorManager.isFileOpen(virtualFile)).thenReturn(true);
+            listener.getValue().fileClosed(fileEditorManager, virtualFile);
+            verify(problemHolderService, never()).untrackIssueLocations(anyString());
+
+            when(fileEditorManager.isFileOpen(virtualFile)).thenReturn(false);
+            listener.getValue().fileClosed(fileEditorManager, virtualFile);
+            verify(problemHolderService).untrackIssueLocations("/path/to/file.java");
+        }
+    }
+
     // Helper class to invoke private static methods for coverage
     static class DevAssistFileListenerTestHelper {
         static void invokeRestoreGutterIcons(Project project, PsiFile psiFile, String filePath) throws Exception {
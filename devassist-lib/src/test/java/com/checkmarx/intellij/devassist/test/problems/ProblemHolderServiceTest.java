@@ -1,11 +1,14 @@
 package com.checkmarx.intellij.devassist.test.problems;
 
+import com.checkmarx.intellij.devassist.model.Location;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
 import com.checkmarx.intellij.devassist.remediation.DevAssistFix;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import com.intellij.codeInspection.LocalQuickFix;
 import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.editor.RangeMarker;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
@@ -295,6 +298,119 @@ class ProblemHolderServiceTest {
         assertEquals(1, service.getProblemDescriptors(filePath).size());
     }
 
+    // ===== replaceScanIssuesOfType =====
+
+    @Test
+    void replaceScanIssuesOfType_replacesOnlyThatScannerAndPublishesOnce() {
+        ProblemHolderService.IssueListener publisher = messageBus.syncPublisher(ProblemHolderService.ISSUE_TOPIC);
+        ScanIssue ascaIssue = mock(ScanIssue.class);
+        when(ascaIssue.getScanEngine()).thenReturn(ScanEngine.ASCA);
+        ScanIssue oldSecret = mock(ScanIssue.class);
+        when(oldSecret.getScanEngine()).thenReturn(ScanEngine.SECRETS);
+        ScanIssue newSecret = mock(ScanIssue.class);
+        when(newSecret.getScanEngine()).thenReturn(ScanEngine.SECRETS);
+        service.addScanIssues("a.js", List.of(ascaIssue, oldSecret));
+        service.addScanIssues("b.env", List.of(oldSecret));
+        clearInvocations(publisher);
+
+        service.replaceScanIssuesOfType(ScanEngine.SECRETS, Map.of(
+                "a.js", List.of(newSecret),
+                "b.env", List.of(),
+                "c.properties", List.of(newSecret)));
+
+        assertEquals(List.of(ascaIssue, newSecret), service.getScanIssueByFile("a.js"));
+        assertFalse(service.getAllIssues().containsKey("b.env"));
+        assertEquals(List.of(newSecret), service.getScanIssueByFile("c.properties"));
+        verify(publisher, times(1)).onIssuesUpdated(anyMap());
+    }
+
+    @Test
+    void replaceScanIssues_replacesSeveralScannersAndPublishesOnce() {
+        ProblemHolderService.IssueListener publisher = messageBus.syncPublisher(ProblemHolderService.ISSUE_TOPIC);
+        ScanIssue ossIssue = mock(ScanIssue.class);
+        when(ossIssue.getScanEngine()).thenReturn(ScanEngine.OSS);
+        ScanIssue oldSecret = mock(ScanIssue.class);
+        when(oldSecret.getScanEngine()).thenReturn(ScanEngine.SECRETS);
+        ScanIssue newSecret = mock(ScanIssue.class);
+        when(newSecret.getScanEngine()).thenReturn(ScanEngine.SECRETS);
+        ScanIssue ascaIssue = mock(ScanIssue.class);
+        when(ascaIssue.getScanEngine()).thenReturn(ScanEngine.ASCA);
+        service.addScanIssues("a.js", List.of(ossIssue, oldSecret));
+        clearInvocations(publisher);
+
+        service.replaceScanIssues(Map.of(
+                ScanEngine.SECRETS, Map.of("a.js", List.of(newSecret)),
+                ScanEngine.ASCA, Map.of("a.js", List.of(ascaIssue), "b.java", List.of())));
+
+        List<ScanIssue> issues = service.getScanIssueByFile("a.js");
+        assertEquals(3, issues.size());
+        assertTrue(issues.containsAll(List.of(ossIssue, newSecret, ascaIssue)));
+        assertFalse(service.getAllIssues().containsKey("b.java"));
+        verify(publisher, times(1)).onIssuesUpdated(anyMap());
+    }
+
+    // ===== issue location tracking =====
+
+    @Test
+    void refreshIssueLocations_followsMarkerAndDetectsEditedLine() {
+        ScanIssue issue = new ScanIssue();
+        issue.getLocations().add(new Location(2, 0, 5));
+        service.addScanIssues("a.java", List.of(issue));
+        Document document = mock(Document.class);
+        RangeMarker marker = mock(RangeMarker.class);
+        when(document.getLineCount()).thenReturn(3);
+        when(document.getLineStartOffset(1)).thenReturn(4);
+        when(document.getLineEndOffset(1)).thenReturn(9);
+        when(document.getImmutableCharSequence()).thenReturn("abc\nvuln(\nxyz");
+        when(document.createRangeMarker(4, 9)).thenReturn(marker);
+        service.trackIssueLocations("a.java", document);
+
+        // Two lines inserted above the issue line
+        when(document.getImmutableCharSequence()).thenReturn("abc\n\n\nvuln(\nxyz");
+        when(marker.isValid()).thenReturn(true);
+        when(marker.getStartOffset()).thenReturn(6);
+        when(marker.getEndOffset()).thenReturn(11);
+        when(document.getLineNumber(6)).thenReturn(3);
+        assertTrue(service.refreshIssueLocations("a.java", document));
+        assertEquals(4, issue.getLocations().get(0).getLine());
+
+        // The issue line itself edited
+        when(document.getImmutableCharSequence()).thenReturn("abc\n\n\nsafe(\nxyz");
+        assertFalse(service.refreshIssueLocations("a.java", document));
+
+        service.removeScanIssues("a.java");
+        verify(marker).dispose();
+        assertTrue(service.refreshIssueLocations("a.java", document));
+    }
+
+    @Test
+    void refreshIssueLocations_untrackedIssues_requireRescan() {
+        service.addScanIssues("a.java", List.of(new ScanIssue()));
+
+        assertFalse(service.refreshIssueLocations("a.java", mock(Document.class)));
+    }
+
+    @Test
+    void untrackIssueLocations_disposesMarkersAndRequiresRescan() {
+        ScanIssue issue = new ScanIssue();
+        issue.getLocations().add(new Location(1, 0, 5));
+        service.addScanIssues("a.java", List.of(issue));
+        Document document = mock(Document.class);
+        RangeMarker marker = mock(RangeMarker.class);
+        when(document.getLineCount()).thenReturn(1);
+        when(document.getLineStartOffset(0)).thenReturn(0);
+        when(document.getLineEndOffset(0)).thenReturn(5);
+        when(document.getImmutableCharSequence()).thenReturn("vuln(");
+        when(document.createRangeMarker(0, 5)).thenReturn(marker);
+        service.trackIssueLocations("a.java", document);
+
+        service.untrackIssueLocations("a.java");
+
+        verify(marker).dispose();
+        assertEquals(1, service.getScanIssueByFile("a.java").size());
+        assertFalse(service.refreshIssueLocations("a.java", document));
+    }
+
     // ===== getInstance =====
 
     @Test
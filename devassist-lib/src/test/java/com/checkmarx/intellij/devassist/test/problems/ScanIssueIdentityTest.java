@@ -0,0 +1,116 @@
+package com.checkmarx.intellij.devassist.test.problems;
+
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.problems.ScanIssueIdentity;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.intellij.openapi.editor.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScanIssueIdentityTest {
+
+    // Lines: 1 "import x;", 2 "", 3 "  eval(input);", 4 "eval(other);"
+    private static final String CONTENT = "import x;\n\n  eval(input);\neval(other);";
+    private static final int[] LINE_STARTS = {0, 10, 11, 26};
+    private static final int[] LINE_ENDS = {9, 10, 25, 38};
+
+    private static Document document() {
+        Document document = mock(Document.class);
+        when(document.getLineCount()).thenReturn(LINE_STARTS.length);
+        when(document.getImmutableCharSequence()).thenReturn(CONTENT);
+        for (int i = 0; i < LINE_STARTS.length; i++) {
+            when(document.getLineStartOffset(i)).thenReturn(LINE_STARTS[i]);
+            when(document.getLineEndOffset(i)).thenReturn(LINE_ENDS[i]);
+        }
+        return document;
+    }
+
+    private static ScanIssue issueAt(int line, String title) {
+        ScanIssue issue = new ScanIssue();
+        issue.setScanEngine(ScanEngine.ASCA);
+        issue.setTitle(title);
+        issue.setSeverity("High");
+        issue.setScanIssueId("id-" + line);
+        issue.getLocations().add(new Location(line, 0, 10));
+        return issue;
+    }
+
+    @Test
+    void of_ignoresLineNumberButNotLineText() {
+        Document document = document();
+
+        assertEquals(ScanIssueIdentity.of(issueAt(3, "eval"), document),
+                ScanIssueIdentity.of(issueAt(3, "eval"), document));
+        assertNotEquals(ScanIssueIdentity.of(issueAt(3, "eval"), document),
+                ScanIssueIdentity.of(issueAt(4, "eval"), document));
+        assertNotEquals(ScanIssueIdentity.of(issueAt(3, "eval"), document),
+                ScanIssueIdentity.of(issueAt(3, "exec"), document));
+    }
+
+    @Test
+    void diff_reusesPreviousInstancesOfUnchangedIssues() {
+        Document document = document();
+        ScanIssue previous = issueAt(3, "eval");
+        ScanIssue removed = issueAt(1, "import");
+        ScanIssue rescanned = issueAt(3, "eval");
+        ScanIssue added = issueAt(4, "eval");
+
+        ScanIssueIdentity.Diff diff = ScanIssueIdentity.diff(List.of(previous, removed), List.of(rescanned, added), document);
+
+        assertEquals(2, diff.getIssues().size());
+        assertSame(previous, diff.getIssues().get(0));
+        assertSame(added, diff.getIssues().get(1));
+        assertNotSame(rescanned.getLocations(), previous.getLocations(), "the diff must not modify issues");
+        assertSame(diff.getIssues(), diff.apply());
+        assertSame(rescanned.getLocations(), previous.getLocations());
+        assertEquals(1, diff.getAdded());
+        assertEquals(1, diff.getRemoved());
+        assertEquals(0, diff.getMoved());
+        assertFalse(diff.isUnchanged());
+    }
+
+    @Test
+    void diff_sameIssuesAtSameLines_isUnchanged() {
+        Document document = document();
+
+        ScanIssueIdentity.Diff diff = ScanIssueIdentity.diff(List.of(issueAt(3, "eval")), List.of(issueAt(3, "eval")), document);
+
+        assertTrue(diff.isUnchanged());
+    }
+
+    @Test
+    void diff_restartedBeforeApply_matchesTheSameIssues() {
+        Document document = document();
+        ScanIssue previous = issueAt(3, "eval");
+        previous.setScanIssueId("old-id");
+        List<ScanIssue> rescan = List.of(issueAt(3, "eval"));
+
+        ScanIssueIdentity.Diff canceled = ScanIssueIdentity.diff(List.of(previous), rescan, document);
+        ScanIssueIdentity.Diff restarted = ScanIssueIdentity.diff(List.of(previous), rescan, document);
+
+        assertEquals("old-id", previous.getScanIssueId());
+        assertEquals(canceled.getIssues(), restarted.getIssues());
+        restarted.apply();
+        assertEquals("id-3", previous.getScanIssueId());
+    }
+
+    @Test
+    void diff_matchedIssueAtOtherColumns_keepsNewInstance() {
+        Document document = document();
+        ScanIssue previous = issueAt(3, "eval");
+        ScanIssue rescanned = issueAt(3, "eval");
+        rescanned.getLocations().set(0, new Location(3, 2, 12));
+
+        ScanIssueIdentity.Diff diff = ScanIssueIdentity.diff(List.of(previous), List.of(rescanned), document);
+
+        assertSame(rescanned, diff.getIssues().get(0));
+        assertEquals(1, diff.getMoved());
+        assertFalse(diff.isUnchanged());
+    }
+}
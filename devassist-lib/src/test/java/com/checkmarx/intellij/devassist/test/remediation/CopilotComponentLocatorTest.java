@@ -0,0 +1,119 @@
+package com.checkmarx.intellij.devassist.test.remediation;
+
+import com.checkmarx.intellij.devassist.remediation.CopilotComponentLocator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CopilotComponentLocatorTest {
+
+    private JPanel root;
+    private ToolWindow toolWindow;
+    private CopilotComponentLocator locator;
+
+    @BeforeEach
+    void setUp() {
+        root = new JPanel();
+        JPanel chatPanel = new JPanel();
+        root.add(chatPanel);
+        Content content = mock(Content.class);
+        when(content.getComponent()).thenReturn(chatPanel);
+        ContentManager contentManager = mock(ContentManager.class);
+        when(contentManager.getContents()).thenReturn(new Content[]{content});
+        toolWindow = mock(ToolWindow.class);
+        when(toolWindow.getComponent()).thenReturn(root);
+        when(toolWindow.getContentManager()).thenReturn(contentManager);
+        locator = CopilotComponentLocator.getInstance(mock(Project.class));
+    }
+
+    @Test
+    @DisplayName("locate: searches the tool window once, then only re-checks the cached component")
+    void testLocateCachesComponent() {
+        JButton sendButton = new ShowingButton("Send");
+        ((Container) root.getComponent(0)).add(sendButton);
+        List<Component> searchedFrom = new ArrayList<>();
+        Function<Component, JButton> finder = component -> {
+            searchedFrom.add(component);
+            return findButton(component);
+        };
+
+        assertSame(sendButton, locator.locate(toolWindow, CopilotComponentLocator.Kind.SEND_BUTTON, finder));
+        assertSame(sendButton, locator.locate(toolWindow, CopilotComponentLocator.Kind.SEND_BUTTON, finder));
+
+        assertEquals(List.of(root.getComponent(0), sendButton), searchedFrom);
+    }
+
+    @Test
+    @DisplayName("locate: searches again once the cached component left the tool window")
+    void testLocateDropsRemovedComponent() {
+        Container chatPanel = (Container) root.getComponent(0);
+        JButton oldButton = new ShowingButton("Send");
+        chatPanel.add(oldButton);
+        assertSame(oldButton, locator.locate(toolWindow, CopilotComponentLocator.Kind.SEND_BUTTON, CopilotComponentLocatorTest::findButton));
+
+        chatPanel.remove(oldButton);
+        assertNull(locator.locate(toolWindow, CopilotComponentLocator.Kind.SEND_BUTTON, CopilotComponentLocatorTest::findButton));
+
+        JButton newButton = new ShowingButton("Send");
+        chatPanel.add(newButton);
+        assertSame(newButton, locator.locate(toolWindow, CopilotComponentLocator.Kind.SEND_BUTTON, CopilotComponentLocatorTest::findButton));
+    }
+
+    @Test
+    @DisplayName("awaitChange: repeated signals are coalesced and drained signals do not wake up")
+    void testChangeSignal() throws InterruptedException {
+        CopilotComponentLocator.drainChanges();
+        CopilotComponentLocator.signalChange();
+        CopilotComponentLocator.signalChange();
+
+        assertTrue(CopilotComponentLocator.awaitChange(10));
+        assertFalse(CopilotComponentLocator.awaitChange(10));
+
+        CopilotComponentLocator.signalChange();
+        CopilotComponentLocator.drainChanges();
+        assertFalse(CopilotComponentLocator.awaitChange(10));
+        assertFalse(CopilotComponentLocator.awaitChange(0));
+    }
+
+    private static JButton findButton(Component component) {
+        if (component instanceof JButton) {
+            return (JButton) component;
+        }
+        if (component instanceof Container) {
+            for (Component child : ((Container) component).getComponents()) {
+                JButton found = findButton(child);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Button that reports being on screen, as nothing is realized in headless tests.
+     */
+    private static final class ShowingButton extends JButton {
+        private ShowingButton(String text) {
+            super(text);
+        }
+
+        @Override
+        public boolean isShowing() {
+            return getParent() != null;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.checkmarx.intellij.devassist.test.scanners.asca;
+
+import com.checkmarx.ast.asca.ScanDetail;
+import com.checkmarx.intellij.devassist.scanners.asca.AscaIncrementalScan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AscaIncrementalScanTest {
+
+    @AfterEach
+    void tearDown() {
+        AscaIncrementalScan.clear();
+    }
+
+    private static ScanDetail detailAt(int line) {
+        ScanDetail detail = mock(ScanDetail.class);
+        when(detail.getLine()).thenReturn(line);
+        return detail;
+    }
+
+    private static String linesOf(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> "line" + i).collect(Collectors.joining("\n"));
+    }
+
+    @Test
+    @DisplayName("changedRegion returns null for identical content")
+    void changedRegionIdentical() {
+        assertNull(AscaIncrementalScan.changedRegion("a\nb\nc", "a\nb\nc"));
+    }
+
+    @Test
+    @DisplayName("changedRegion reports a modified line")
+    void changedRegionModified() {
+        AscaIncrementalScan.ChangedRegion region = AscaIncrementalScan.changedRegion("a\nb\nc\nd", "a\nb\nX\nd");
+
+        assertEquals(3, region.getFirstLine());
+        assertEquals(3, region.getLastLine());
+        assertEquals(3, region.getPreviousLastLine());
+        assertEquals(0, region.getLineDelta());
+    }
+
+    @Test
+    @DisplayName("changedRegion reports inserted and deleted lines")
+    void changedRegionInsertAndDelete() {
+        AscaIncrementalScan.ChangedRegion inserted = AscaIncrementalScan.changedRegion("a\nb\nc", "a\nb\nX\nY\nc");
+        assertEquals(3, inserted.getFirstLine());
+        assertEquals(4, inserted.getLastLine());
+        assertEquals(2, inserted.getLineDelta());
+
+        AscaIncrementalScan.ChangedRegion deleted = AscaIncrementalScan.changedRegion("a\nb\nc\nd", "a\nd");
+        assertEquals(2, deleted.getFirstLine());
+        assertEquals(1, deleted.getLastLine());
+        assertEquals(3, deleted.getPreviousLastLine());
+        assertEquals(-2, deleted.getLineDelta());
+    }
+
+    @Test
+    @DisplayName("blankLines empties the given lines and keeps the line count")
+    void blankLinesKeepsLineCount() {
+        String blanked = AscaIncrementalScan.blankLines("a\r\nb\r\nc\r\nd", List.of(new int[]{2, 3}));
+
+        assertEquals("a\r\n\r\n\r\nd", blanked);
+    }
+
+    @Test
+    @DisplayName("merge keeps findings outside the declaration, shifts those after it and replaces those inside")
+    void mergeReplacesDeclarationFindings() {
+        ScanDetail before = detailAt(5);
+        ScanDetail inside = detailAt(12);
+        ScanDetail after = detailAt(30);
+        ScanDetail rescanned = detailAt(13);
+        ScanDetail outsideOfDeclaration = detailAt(40);
+        List<AscaIncrementalScan.Finding> previous = AscaIncrementalScan.findingsOf(List.of(before, inside, after));
+
+        // The declaration spans lines 10-21 after an edit that added one line inside it
+        List<AscaIncrementalScan.Finding> merged =
+                AscaIncrementalScan.merge(previous, 10, 21, 1, List.of(rescanned, outsideOfDeclaration));
+
+        assertEquals(3, merged.size());
+        assertSame(before, merged.get(0).getDetail());
+        assertEquals(5, merged.get(0).getLine());
+        assertSame(after, merged.get(1).getDetail());
+        assertEquals(31, merged.get(1).getLine());
+        assertSame(rescanned, merged.get(2).getDetail());
+        assertEquals(13, merged.get(2).getLine());
+    }
+
+    @Test
+    @DisplayName("remember keeps snapshots of large files only")
+    void rememberSkipsSmallFiles() {
+        AscaIncrementalScan.remember("/repo/Small.java", linesOf(AscaIncrementalScan.MIN_LINES - 1), List.of());
+        AscaIncrementalScan.remember("/repo/Large.java", linesOf(AscaIncrementalScan.MIN_LINES), List.of());
+
+        assertNull(AscaIncrementalScan.lastScan("/repo/Small.java"));
+        assertNotNull(AscaIncrementalScan.lastScan("/repo/Large.java"));
+
+        AscaIncrementalScan.forget("/repo/Large.java");
+        assertNull(AscaIncrementalScan.lastScan("/repo/Large.java"));
+    }
+}
@@ -4,6 +4,7 @@ import com.checkmarx.ast.asca.ScanDetail;
 import com.checkmarx.ast.asca.ScanResult;
 import com.checkmarx.intellij.devassist.ignore.IgnoreFileManager;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.scanners.asca.AscaIncrementalScan;
 import com.checkmarx.intellij.devassist.scanners.asca.AscaScanResultAdaptor;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
@@ -271,4 +272,16 @@ class AscaScanResultAdaptorTest {
         assertEquals(100, issues.get(0).getVulnerabilities().get(0).getRuleId());
         assertEquals(100, issues.get(0).getVulnerabilities().get(1).getRuleId());
     }
+
+    @Test
+    @DisplayName("fromFindings reports findings at their shifted lines")
+    void fromFindingsUsesFindingLines() {
+        ScanDetail detail = mockDetail(10, "High", "ASCA_RULE", "desc", "fix");
+        AscaScanResultAdaptor adaptor = AscaScanResultAdaptor.fromFindings(
+                List.of(new AscaIncrementalScan.Finding(detail, 14)), "/repo/Main.java", mockProject());
+
+        assertNull(adaptor.getResults());
+        assertEquals(1, adaptor.getIssues().size());
+        assertEquals(14, adaptor.getIssues().get(0).getLocations().get(0).getLine());
+    }
 }
@@ -369,7 +369,7 @@ class AscaScannerServiceTest {
 
             // runReadAction: return file content from document
             Document mockDoc = mock(Document.class);
-            when(mockDoc.getText()).thenReturn("public class Main {}");
+            devUtilsMock.when(() -> DevAssistUtils.getFileCharSequence(psiFile)).thenReturn("public class Main {}");
             PsiDocumentManager psiDocMgr = mock(PsiDocumentManager.class);
             psiDocMgrStatic.when(() -> PsiDocumentManager.getInstance(mockProject)).thenReturn(psiDocMgr);
             when(psiDocMgr.getDocument(psiFile)).thenReturn(mockDoc);
@@ -459,7 +459,7 @@ class AscaScannerServiceTest {
     @Test
     @DisplayName("saveTempFile creates file with expected content")
     void saveTempFile_validInput_createsFileAndReturnsPath() throws Exception {
-        Method method = AscaScannerService.class.getDeclaredMethod("saveTempFile", String.class, String.class);
+        Method method = AscaScannerService.class.getDeclaredMethod("saveTempFile", String.class, CharSequence.class);
         method.setAccessible(true);
         String result = (String) method.invoke(service, "Test.java", "public class Test {}");
         assertNotNull(result);
@@ -488,7 +488,7 @@ class AscaScannerServiceTest {
     @DisplayName("deleteFile with file in temp directory deletes successfully")
     void deleteFile_fileInTempDir_deletesFile() throws Exception {
         // First create a temp file via saveTempFile to get a valid path inside the temp dir
-        Method saveTempFileMethod = AscaScannerService.class.getDeclaredMethod("saveTempFile", String.class, String.class);
+        Method saveTempFileMethod = AscaScannerService.class.getDeclaredMethod("saveTempFile", String.class, CharSequence.class);
         saveTempFileMethod.setAccessible(true);
         String filePath = (String) saveTempFileMethod.invoke(service, "ToDelete.java", "content");
         assertNotNull(filePath);
@@ -523,7 +523,7 @@ class AscaScannerServiceTest {
             appMgr.when(ApplicationManager::getApplication).thenReturn(mockApp);
 
             Document mockDoc = mock(Document.class);
-            when(mockDoc.getText()).thenReturn("public class Main {}");
+            devUtilsMock.when(() -> DevAssistUtils.getFileCharSequence(psiFile)).thenReturn("public class Main {}");
             PsiDocumentManager psiDocMgr = mock(PsiDocumentManager.class);
             psiDocMgrStatic.when(() -> PsiDocumentManager.getInstance(mockProject)).thenReturn(psiDocMgr);
             when(psiDocMgr.getDocument(psiFile)).thenReturn(mockDoc);
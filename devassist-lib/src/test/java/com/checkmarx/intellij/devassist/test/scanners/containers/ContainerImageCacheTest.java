@@ -0,0 +1,83 @@
+package com.checkmarx.intellij.devassist.test.scanners.containers;
+
+import com.checkmarx.ast.containersrealtime.ContainersRealtimeImage;
+import com.checkmarx.intellij.devassist.scanners.containers.ContainerImageCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ContainerImageCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong ttl = new AtomicLong(100);
+
+    @Test
+    @DisplayName("get returns cached images until the TTL elapses")
+    void testGet_expiresAfterTtl() {
+        ContainerImageCache cache = new ContainerImageCache(ttl::get, clock::get, 10);
+        ContainersRealtimeImage image = mock(ContainersRealtimeImage.class);
+        cache.put("docker.io/library/nginx:1.25", image);
+
+        clock.set(99);
+        assertSame(image, cache.get("docker.io/library/nginx:1.25").getImage());
+
+        clock.set(100);
+        assertNull(cache.get("docker.io/library/nginx:1.25"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("references the CLI reported nothing for are cached as empty entries")
+    void testPut_negativeEntry() {
+        ContainerImageCache cache = new ContainerImageCache(ttl::get, clock::get, 10);
+        cache.put("docker.io/library/unknown:1", null);
+
+        ContainerImageCache.Entry entry = cache.get("docker.io/library/unknown:1");
+        assertNotNull(entry);
+        assertNull(entry.getImage());
+    }
+
+    @Test
+    @DisplayName("a TTL of zero disables the cache")
+    void testDisabled() {
+        ttl.set(0);
+        ContainerImageCache cache = new ContainerImageCache(ttl::get, clock::get, 10);
+        cache.put("docker.io/library/nginx:1.25", mock(ContainersRealtimeImage.class));
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get("docker.io/library/nginx:1.25"));
+    }
+
+    @Test
+    @DisplayName("putReported keys reported images by their qualified name and tag")
+    void testPutReported() {
+        ContainerImageCache cache = new ContainerImageCache(ttl::get, clock::get, 10);
+        ContainersRealtimeImage image = mock(ContainersRealtimeImage.class);
+        when(image.getImageName()).thenReturn("nginx");
+        when(image.getImageTag()).thenReturn("1.25");
+
+        cache.putReported(image);
+
+        assertSame(image, cache.get("docker.io/library/nginx:1.25").getImage());
+    }
+
+    @Test
+    @DisplayName("the least recently used entry is evicted above the size limit")
+    void testEviction() {
+        ContainerImageCache cache = new ContainerImageCache(ttl::get, clock::get, 2);
+        cache.put("a", null);
+        cache.put("b", null);
+        cache.get("a");
+        cache.put("c", null);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+}
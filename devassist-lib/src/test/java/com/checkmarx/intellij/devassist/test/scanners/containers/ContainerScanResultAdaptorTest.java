@@ -10,13 +10,16 @@ import com.checkmarx.intellij.devassist.model.Location;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.model.Vulnerability;
 import com.checkmarx.intellij.devassist.scanners.containers.ContainerScanResultAdaptor;
+import com.checkmarx.intellij.devassist.scanners.containers.ImageReference;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -133,4 +136,33 @@ public class ContainerScanResultAdaptorTest {
         assertEquals("INFO", adaptedVulnerability.getDescription(),
                 "For unmapped severities description should fallback to raw severity");
     }
+
+    @Test
+    void fromCachedImagesReportsImagesAtReferencePositions() {
+        ContainersRealtimeImage image = mock(ContainersRealtimeImage.class);
+        ContainersRealtimeVulnerability vulnerability = mock(ContainersRealtimeVulnerability.class);
+        when(image.getImageName()).thenReturn("nginx");
+        when(image.getImageTag()).thenReturn("1.25");
+        when(image.getStatus()).thenReturn(Constants.HIGH_SEVERITY);
+        when(image.getVulnerabilities()).thenReturn(List.of(vulnerability));
+        when(vulnerability.getCve()).thenReturn("CVE-2024-0001");
+        when(vulnerability.getSeverity()).thenReturn(Constants.HIGH_SEVERITY);
+
+        ContainerScanResultAdaptor adaptor = ContainerScanResultAdaptor.fromCachedImages(List.of(
+                        Pair.of(ImageReference.parse("nginx:1.25", 4, 5), image),
+                        Pair.of(ImageReference.parse("unknown:1", 6, 5), null)),
+                "dockerfile", "/repo/Dockerfile");
+
+        assertNull(adaptor.getResults());
+        assertEquals(1, adaptor.getIssues().size());
+        ScanIssue issue = adaptor.getIssues().get(0);
+        assertEquals("/repo/Dockerfile", issue.getFilePath());
+        assertEquals("dockerfile", issue.getFileType());
+        assertEquals(ScanEngine.CONTAINERS, issue.getScanEngine());
+        assertEquals(1, issue.getLocations().size());
+        assertEquals(5, issue.getLocations().get(0).getLine());
+        assertEquals(5, issue.getLocations().get(0).getStartIndex());
+        assertEquals(15, issue.getLocations().get(0).getEndIndex());
+        assertEquals("CVE-2024-0001", issue.getVulnerabilities().get(0).getCve());
+    }
 }
@@ -246,7 +246,7 @@ public class ContainerScannerServiceTest {
         PsiFile psiFile = mockPsiFile("Dockerfile", null, "/project/Dockerfile", true);
 
         try (MockedStatic<DevAssistUtils> devUtilsMock = mockStatic(DevAssistUtils.class)) {
-            devUtilsMock.when(() -> DevAssistUtils.getFileContent(psiFile)).thenReturn(null);
+            devUtilsMock.when(() -> DevAssistUtils.getFileCharSequence(psiFile)).thenReturn(null);
 
             Method method = ContainerScannerService.class.getDeclaredMethod(
                     "createSubFolderAndSaveFile", Path.class, String.class, PsiFile.class);
@@ -263,7 +263,7 @@ public class ContainerScannerServiceTest {
         PsiFile psiFile = mockPsiFile("Dockerfile", null, "/project/Dockerfile", true);
 
         try (MockedStatic<DevAssistUtils> devUtilsMock = mockStatic(DevAssistUtils.class)) {
-            devUtilsMock.when(() -> DevAssistUtils.getFileContent(psiFile)).thenReturn("   ");
+            devUtilsMock.when(() -> DevAssistUtils.getFileCharSequence(psiFile)).thenReturn("   ");
 
             Method method = ContainerScannerService.class.getDeclaredMethod(
                     "createSubFolderAndSaveFile", Path.class, String.class, PsiFile.class);
@@ -281,7 +281,7 @@ public class ContainerScannerServiceTest {
         Path subFolder = tempDir.resolve("subfolder");
 
         try (MockedStatic<DevAssistUtils> devUtilsMock = mockStatic(DevAssistUtils.class)) {
-            devUtilsMock.when(() -> DevAssistUtils.getFileContent(psiFile)).thenReturn("FROM ubuntu:20.04");
+            devUtilsMock.when(() -> DevAssistUtils.getFileCharSequence(psiFile)).thenReturn("FROM ubuntu:20.04");
 
             Method method = ContainerScannerService.class.getDeclaredMethod(
                     "createSubFolderAndSaveFile", Path.class, String.class, PsiFile.class);
@@ -316,4 +316,18 @@ public class ContainerScannerServiceTest {
         when(virtualFile.getName()).thenReturn(name);
         return psiFile;
     }
+
+    @Test
+    @DisplayName("isContainerFilePath and getFileType detect Dockerfiles, docker-compose and Helm files by path")
+    void containerFileTypeFromPath() {
+        assertEquals("dockerfile", ContainerScannerService.getFileType("/repo/Dockerfile"));
+        assertEquals("docker-compose", ContainerScannerService.getFileType("/repo/docker-compose.yml"));
+        assertEquals("helm", ContainerScannerService.getFileType("/repo/helm/app/templates/deployment.yaml"));
+        assertNull(ContainerScannerService.getFileType("/repo/helm/app/Chart.yaml"));
+        assertNull(ContainerScannerService.getFileType("/repo/k8s/deployment.yaml"));
+
+        assertTrue(ContainerScannerService.isContainerFilePath("/repo/docker-compose-dev.yaml"));
+        assertFalse(ContainerScannerService.isContainerFilePath("/repo/node_modules/pkg/Dockerfile"));
+        assertFalse(ContainerScannerService.isContainerFilePath("/repo/src/Main.java"));
+    }
 }
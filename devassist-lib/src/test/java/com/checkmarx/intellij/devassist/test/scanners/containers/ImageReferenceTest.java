@@ -0,0 +1,85 @@
+package com.checkmarx.intellij.devassist.test.scanners.containers;
+
+import com.checkmarx.intellij.devassist.scanners.containers.ImageReference;
+import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageReferenceTest {
+
+    @Test
+    @DisplayName("parse: splits name, tag and digest and defaults the tag to latest")
+    void testParse() {
+        ImageReference pinned = ImageReference.parse("registry.local:5000/team/app:1.0@sha256:abc", 0, 5);
+        assertEquals("registry.local:5000/team/app", pinned.getImageName());
+        assertEquals("1.0", pinned.getImageTag());
+        assertEquals("sha256:abc", pinned.getDigest());
+        assertEquals("registry.local:5000/team/app:1.0@sha256:abc", pinned.getCacheKey());
+
+        ImageReference untagged = ImageReference.parse("nginx", 0, 5);
+        assertEquals("latest", untagged.getImageTag());
+        assertNull(untagged.getDigest());
+    }
+
+    @Test
+    @DisplayName("getCacheKey: short and fully qualified Docker Hub names share a key")
+    void testCacheKey_qualifiesDockerHubNames() {
+        assertEquals("docker.io/library/nginx:1.25", ImageReference.parse("nginx:1.25", 0, 0).getCacheKey());
+        assertEquals("docker.io/library/nginx:1.25", ImageReference.parse("docker.io/library/nginx:1.25", 0, 0).getCacheKey());
+        assertEquals("docker.io/library/nginx:1.25", ImageReference.cacheKey("library/nginx", "1.25"));
+        assertEquals("docker.io/bitnami/redis:7", ImageReference.cacheKey("bitnami/redis", "7"));
+        assertEquals("ghcr.io/org/tool:latest", ImageReference.cacheKey("ghcr.io/org/tool", null));
+    }
+
+    @Test
+    @DisplayName("extract: Dockerfile FROM references with positions, skipping build stages and scratch")
+    void testExtract_dockerfile() {
+        String content = "FROM --platform=linux/amd64 golang:1.22 AS build\n"
+                + "RUN go build\n"
+                + "FROM scratch\n"
+                + "from alpine:3.19\n"
+                + "COPY --from=build /app /app\n"
+                + "FROM build\n";
+
+        List<ImageReference> references = ImageReference.extract(content, DevAssistConstants.DOCKERFILE);
+
+        assertEquals(2, references.size());
+        assertEquals("golang:1.22", references.get(0).getReference());
+        assertEquals(0, references.get(0).getLine());
+        assertEquals(28, references.get(0).getStartIndex());
+        assertEquals(39, references.get(0).getEndIndex());
+        assertEquals("alpine:3.19", references.get(1).getReference());
+        assertEquals(3, references.get(1).getLine());
+    }
+
+    @Test
+    @DisplayName("extract: docker-compose image keys, quoted or not")
+    void testExtract_compose() {
+        String content = "services:\n"
+                + "  web:\n"
+                + "    image: \"nginx:1.25\"\n"
+                + "  db:\n"
+                + "    image: postgres:16 # pinned\n";
+
+        List<ImageReference> references = ImageReference.extract(content, DevAssistConstants.DOCKER_COMPOSE);
+
+        assertEquals(2, references.size());
+        assertEquals("nginx:1.25", references.get(0).getReference());
+        assertEquals(2, references.get(0).getLine());
+        assertEquals(12, references.get(0).getStartIndex());
+        assertEquals("postgres:16", references.get(1).getReference());
+    }
+
+    @Test
+    @DisplayName("extract: references using variables and unsupported file types cannot be resolved")
+    void testExtract_unresolvable() {
+        assertNull(ImageReference.extract("ARG BASE=alpine\nFROM ${BASE}\n", DevAssistConstants.DOCKERFILE));
+        assertNull(ImageReference.extract("image: app:${TAG}\n", DevAssistConstants.DOCKER_COMPOSE));
+        assertNull(ImageReference.extract("image:\n  repository: nginx\n", DevAssistConstants.HELM));
+        assertNull(ImageReference.extract(null, DevAssistConstants.DOCKERFILE));
+    }
+}
@@ -154,6 +154,22 @@ public class IacScanResultAdaptorTest {
         assertEquals(1, issues.size());
         assertEquals("Valid Issue", issues.get(0).getTitle());
     }
-}
 
+    @Test
+    @DisplayName("forGroupScan attributes issues to original files and skips unresolved paths")
+    void forGroupScanResolvesOriginalPaths() {
+        IacRealtimeResults.Issue terraformIssue = mockIssue("Open S3 bucket", "HIGH", "desc", "/tmp/sweep/infra/main.tf", "sim-1",
+                List.of(mockLocation(1, 0, 4)));
+        IacRealtimeResults.Issue unknownIssue = mockIssue("Unknown", "LOW", "desc", "/tmp/elsewhere/other.tf", "sim-2",
+                List.of(mockLocation(2, 0, 4)));
+
+        IacScanResultAdaptor adaptor = IacScanResultAdaptor.forGroupScan(mockResults(List.of(terraformIssue, unknownIssue)),
+                reportedPath -> "/tmp/sweep/infra/main.tf".equals(reportedPath) ? "/repo/infra/main.tf" : null);
 
+        List<ScanIssue> issues = adaptor.getIssues();
+        assertEquals(1, issues.size());
+        assertEquals("/repo/infra/main.tf", issues.get(0).getFilePath());
+        assertEquals("tf", issues.get(0).getFileType());
+        assertEquals(ScanEngine.IAC, issues.get(0).getScanEngine());
+    }
+}
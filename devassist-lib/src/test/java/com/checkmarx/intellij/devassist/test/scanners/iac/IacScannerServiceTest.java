@@ -141,7 +141,7 @@ public class IacScannerServiceTest {
         doReturn(true).when(spyService).shouldScanFile("/repo/main.tf", psiFile);
 
         try (MockedStatic<DevAssistUtils> utils = mockStatic(DevAssistUtils.class)) {
-            utils.when(() -> DevAssistUtils.getFileContent(psiFile)).thenReturn("   ");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psiFile)).thenReturn("   ");
             assertNull(spyService.scan(psiFile, "/repo/main.tf"));
         }
     }
@@ -164,7 +164,7 @@ public class IacScannerServiceTest {
                  when(mock.hasIgnoredEntries(any())).thenReturn(false);
              })) {
 
-            utils.when(() -> DevAssistUtils.getFileContent(psiFile)).thenReturn("resource");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psiFile)).thenReturn("resource");
             utils.when(DevAssistUtils::getContainerTool).thenReturn("docker");
             utils.when(() -> DevAssistUtils.getFileExtension(psiFile)).thenReturn("tf");
             utils.when(() -> DevAssistUtils.getIgnoreFilePath(any())).thenReturn("");
@@ -219,6 +219,23 @@ public class IacScannerServiceTest {
         assertEquals(DevAssistConstants.IAC_REALTIME_SCANNER, config.getConfigSection());
         assertEquals(DevAssistConstants.ACTIVATE_IAC_REALTIME_SCANNER, config.getActivateKey());
     }
-}
 
+    @Test
+    @DisplayName("isIacFilePath matches IaC extensions and Dockerfiles but skips node_modules")
+    void isIacFilePathMatchesSupportedFiles() {
+        assertTrue(IacScannerService.isIacFilePath("/repo/infra/main.tf"));
+        assertTrue(IacScannerService.isIacFilePath("/repo/k8s/deployment.YAML"));
+        assertTrue(IacScannerService.isIacFilePath("/repo/Dockerfile"));
+        assertFalse(IacScannerService.isIacFilePath("/repo/src/Main.java"));
+        assertFalse(IacScannerService.isIacFilePath("/repo/node_modules/pkg/config.json"));
+    }
 
+    @Test
+    @DisplayName("getFileType returns dockerfile for Dockerfiles and the lower-case extension otherwise")
+    void getFileTypeFromPath() {
+        assertEquals(DevAssistConstants.DOCKERFILE, IacScannerService.getFileType("/repo/Dockerfile"));
+        assertEquals("yaml", IacScannerService.getFileType("/repo/k8s/deployment.YAML"));
+        assertNull(IacScannerService.getFileType("/repo/Makefile"));
+        assertNull(IacScannerService.getFileType(null));
+    }
+}
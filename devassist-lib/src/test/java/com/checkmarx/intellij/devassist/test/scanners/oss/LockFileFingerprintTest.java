@@ -0,0 +1,42 @@
+package com.checkmarx.intellij.devassist.test.scanners.oss;
+
+import com.checkmarx.intellij.devassist.scanners.oss.LockFileFingerprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LockFileFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("a manifest without lock files has an empty fingerprint")
+    void testOf_noLockFile() throws Exception {
+        assertEquals("", LockFileFingerprint.of(tempDir.resolve("package.json")));
+    }
+
+    @Test
+    @DisplayName("lock files are only read again once their size or modification time changed")
+    void testOf_memoizedBySizeAndModificationTime() throws Exception {
+        Path lockFile = tempDir.resolve("yarn.lock");
+        Files.writeString(lockFile, "lodash@4.17.20");
+        FileTime modified = FileTime.fromMillis(1_000_000);
+        Files.setLastModifiedTime(lockFile, modified);
+        String fingerprint = LockFileFingerprint.of(tempDir.resolve("package.json"));
+        assertFalse(fingerprint.isEmpty());
+
+        Files.writeString(lockFile, "lodash@4.17.21");
+        Files.setLastModifiedTime(lockFile, modified);
+        assertEquals(fingerprint, LockFileFingerprint.of(tempDir.resolve("package.json")));
+
+        Files.setLastModifiedTime(lockFile, FileTime.fromMillis(2_000_000));
+        assertNotEquals(fingerprint, LockFileFingerprint.of(tempDir.resolve("package.json")));
+    }
+}
@@ -0,0 +1,163 @@
+package com.checkmarx.intellij.devassist.test.scanners.oss;
+
+import com.checkmarx.intellij.devassist.scanners.oss.ManifestDependency;
+import com.checkmarx.intellij.devassist.scanners.oss.ManifestParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ManifestParserTest {
+
+    private static final String PACKAGE_JSON = "{\n"
+            + "  \"name\": \"app\",\n"
+            + "  \"dependencies\": {\n"
+            + "    \"lodash\": \"^4.17.20\",\n"
+            + "    \"express\": \"4.19.2\"\n"
+            + "  },\n"
+            + "  \"devDependencies\": {}\n"
+            + "}\n";
+
+    private static final String POM = "<project>\n"
+            + "  <properties>\n"
+            + "    <jackson.version>2.15.0</jackson.version>\n"
+            + "  </properties>\n"
+            + "  <dependencyManagement>\n"
+            + "    <dependencies>\n"
+            + "      <dependency>\n"
+            + "        <groupId>org.slf4j</groupId>\n"
+            + "        <artifactId>slf4j-api</artifactId>\n"
+            + "        <version>2.0.9</version>\n"
+            + "      </dependency>\n"
+            + "    </dependencies>\n"
+            + "  </dependencyManagement>\n"
+            + "  <dependencies>\n"
+            + "    <dependency>\n"
+            + "      <groupId>com.fasterxml.jackson.core</groupId>\n"
+            + "      <artifactId>jackson-databind</artifactId>\n"
+            + "      <version>${jackson.version}</version>\n"
+            + "    </dependency>\n"
+            + "    <dependency>\n"
+            + "      <groupId>org.slf4j</groupId>\n"
+            + "      <artifactId>slf4j-api</artifactId>\n"
+            + "    </dependency>\n"
+            + "  </dependencies>\n"
+            + "  <build>\n"
+            + "    <plugins>\n"
+            + "      <plugin>\n"
+            + "        <dependencies><dependency><groupId>x</groupId><artifactId>y</artifactId></dependency></dependencies>\n"
+            + "      </plugin>\n"
+            + "    </plugins>\n"
+            + "  </build>\n"
+            + "</project>\n";
+
+    @Test
+    @DisplayName("parse_packageJson_returnsDependenciesWithLocations")
+    void testParse_packageJson_returnsDependenciesWithLocations() {
+        List<ManifestDependency> dependencies = ManifestParser.parse("package.json", PACKAGE_JSON);
+
+        assertNotNull(dependencies);
+        assertEquals(2, dependencies.size());
+        ManifestDependency lodash = dependencies.get(0);
+        assertEquals("lodash", lodash.getName());
+        assertEquals("^4.17.20", lodash.getVersion());
+        assertEquals(4, lodash.getLocations().get(0).getLine());
+        assertEquals(4, lodash.getLocations().get(0).getStartIndex());
+        assertEquals("npm:lodash@^4.17.20", lodash.getCacheKey(""));
+        assertEquals("npm:lodash@^4.17.20#abc", lodash.getCacheKey("abc"));
+    }
+
+    @Test
+    @DisplayName("parse_packageJsonInlineSection_returnsNull")
+    void testParse_packageJsonInlineSection_returnsNull() {
+        assertNull(ManifestParser.parse("package.json", "{\"dependencies\": {\"lodash\": \"4.17.20\"}}"));
+    }
+
+    @Test
+    @DisplayName("parse_pom_resolvesPropertiesAndManagedVersions")
+    void testParse_pom_resolvesPropertiesAndManagedVersions() {
+        List<ManifestDependency> dependencies = ManifestParser.parse("pom.xml", POM);
+
+        assertNotNull(dependencies);
+        assertEquals(2, dependencies.size());
+        assertEquals("com.fasterxml.jackson.core:jackson-databind", dependencies.get(0).getName());
+        assertEquals("2.15.0", dependencies.get(0).getVersion());
+        assertEquals(5, dependencies.get(0).getLocations().size());
+        assertEquals(15, dependencies.get(0).getLocations().get(0).getLine());
+        assertEquals("org.slf4j:slf4j-api", dependencies.get(1).getName());
+        assertEquals("2.0.9", dependencies.get(1).getVersion());
+        assertFalse(dependencies.get(1).isManaged());
+        assertTrue(dependencies.get(0).matchesPackage("jackson-databind"));
+    }
+
+    @Test
+    @DisplayName("parse_pomWithParent_returnsNull")
+    void testParse_pomWithParent_returnsNull() {
+        String pom = "<project>\n  <parent>\n    <groupId>a</groupId>\n  </parent>\n</project>\n";
+        assertNull(ManifestParser.parse("pom.xml", pom));
+    }
+
+    @Test
+    @DisplayName("parse_requirements_normalizesNamesAndStripsComments")
+    void testParse_requirements_normalizesNamesAndStripsComments() {
+        List<ManifestDependency> dependencies = ManifestParser.parse("requirements.txt",
+                "# comment\nrequests[security]==2.31.0  # pinned\nFlask\n\nDjango>=4.2,<5\n");
+
+        assertNotNull(dependencies);
+        assertEquals(3, dependencies.size());
+        assertEquals("requests", dependencies.get(0).getName());
+        assertEquals("==2.31.0", dependencies.get(0).getVersion());
+        assertEquals(2, dependencies.get(0).getLocations().get(0).getLine());
+        assertEquals("", dependencies.get(1).getVersion());
+        assertTrue(dependencies.get(1).matchesPackage("flask"));
+        assertEquals(">=4.2,<5", dependencies.get(2).getVersion());
+    }
+
+    @Test
+    @DisplayName("parse_requirementsWithOptions_returnsNull")
+    void testParse_requirementsWithOptions_returnsNull() {
+        assertNull(ManifestParser.parse("requirements-dev.txt", "-r base.txt\nrequests==2.31.0\n"));
+    }
+
+    @Test
+    @DisplayName("parse_goMod_readsSingleAndBlockRequires")
+    void testParse_goMod_readsSingleAndBlockRequires() {
+        String goMod = "module x\n\ngo 1.21\n\nrequire github.com/pkg/errors v0.9.1\n\nrequire (\n\tgolang.org/x/text v0.14.0 // indirect\n)\n";
+        List<ManifestDependency> dependencies = ManifestParser.parse("go.mod", goMod);
+
+        assertNotNull(dependencies);
+        assertEquals(2, dependencies.size());
+        assertEquals("github.com/pkg/errors", dependencies.get(0).getName());
+        assertEquals(5, dependencies.get(0).getLocations().get(0).getLine());
+        assertEquals("v0.14.0", dependencies.get(1).getVersion());
+        assertEquals(8, dependencies.get(1).getLocations().get(0).getLine());
+    }
+
+    @Test
+    @DisplayName("parse_unsupportedManifest_returnsNull")
+    void testParse_unsupportedManifest_returnsNull() {
+        assertFalse(ManifestParser.isSupported("build.gradle"));
+        assertNull(ManifestParser.parse("build.gradle", "dependencies {}"));
+    }
+
+    @Test
+    @DisplayName("render_roundTripsSubsetOfDependencies")
+    void testRender_roundTripsSubsetOfDependencies() {
+        List<ManifestDependency> dependencies = ManifestParser.parse("package.json", PACKAGE_JSON);
+        String rendered = ManifestParser.render("package.json", PACKAGE_JSON, dependencies.subList(1, 2));
+
+        List<ManifestDependency> reparsed = ManifestParser.parse("package.json", rendered);
+        assertNotNull(reparsed);
+        assertEquals(1, reparsed.size());
+        assertEquals("express", reparsed.get(0).getName());
+        assertEquals("4.19.2", reparsed.get(0).getVersion());
+
+        List<ManifestDependency> pomDependencies = ManifestParser.parse("pom.xml", POM);
+        List<ManifestDependency> reparsedPom = ManifestParser.parse("pom.xml", ManifestParser.render("pom.xml", POM, pomDependencies));
+        assertNotNull(reparsedPom);
+        assertEquals(2, reparsedPom.size());
+        assertEquals("2.15.0", reparsedPom.get(0).getVersion());
+    }
+}
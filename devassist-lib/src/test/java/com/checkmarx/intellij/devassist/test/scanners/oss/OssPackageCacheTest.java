@@ -0,0 +1,59 @@
+package com.checkmarx.intellij.devassist.test.scanners.oss;
+
+import com.checkmarx.ast.ossrealtime.OssRealtimeScanPackage;
+import com.checkmarx.intellij.devassist.scanners.oss.OssPackageCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class OssPackageCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("get returns cached packages until the TTL elapses")
+    void testGet_expiresAfterTtl() {
+        OssPackageCache cache = new OssPackageCache(100, clock::get, 10);
+        OssRealtimeScanPackage scanPackage = mock(OssRealtimeScanPackage.class);
+        cache.put("npm:lodash@4.17.20", scanPackage);
+
+        clock.set(99);
+        assertSame(scanPackage, cache.get("npm:lodash@4.17.20").getScanPackage());
+
+        clock.set(100);
+        assertNull(cache.get("npm:lodash@4.17.20"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("coordinates the CLI reported nothing for are cached as empty entries")
+    void testPut_negativeEntry() {
+        OssPackageCache cache = new OssPackageCache(100, clock::get, 10);
+        cache.put("npm:left-pad@1.3.0", null);
+
+        OssPackageCache.Entry entry = cache.get("npm:left-pad@1.3.0");
+        assertNotNull(entry);
+        assertNull(entry.getScanPackage());
+    }
+
+    @Test
+    @DisplayName("least recently used coordinates are evicted above the capacity")
+    void testPut_evictsLeastRecentlyUsed() {
+        OssPackageCache cache = new OssPackageCache(100, clock::get, 2);
+        cache.put("a", null);
+        cache.put("b", null);
+        cache.get("a");
+        cache.put("c", null);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
@@ -6,9 +6,11 @@ import com.checkmarx.ast.ossrealtime.OssRealtimeVulnerability;
 import com.checkmarx.ast.realtime.RealtimeLocation;
 import com.checkmarx.intellij.devassist.model.Location;
 import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.scanners.oss.ManifestDependency;
 import com.checkmarx.intellij.devassist.scanners.oss.OssScanResultAdaptor;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
 import org.junit.jupiter.api.DisplayName;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -138,4 +140,36 @@ public class OssScanResultAdaptorTest {
         OssScanResultAdaptor adaptor = new OssScanResultAdaptor(results, "");
         assertSame(results, adaptor.getResults());
     }
+
+    @Test
+    @DisplayName("fromCachedPackages_reportsPackagesAtDeclarationLines")
+    void testFromCachedPackages_reportsPackagesAtDeclarationLines() {
+        OssRealtimeScanPackage pkg = mock(OssRealtimeScanPackage.class);
+        OssRealtimeVulnerability vul = mock(OssRealtimeVulnerability.class);
+        when(pkg.getPackageManager()).thenReturn("npm");
+        when(pkg.getPackageName()).thenReturn("lodash");
+        when(pkg.getPackageVersion()).thenReturn("4.17.20");
+        when(pkg.getStatus()).thenReturn("HIGH");
+        when(pkg.getVulnerabilities()).thenReturn(List.of(vul));
+        when(vul.getCve()).thenReturn("CVE-2021-23337");
+        ManifestDependency lodash = new ManifestDependency(ManifestDependency.NPM, "lodash", "4.17.20",
+                List.of(new Location(7, 4, 25)), false);
+        ManifestDependency express = new ManifestDependency(ManifestDependency.NPM, "express", "4.19.2",
+                List.of(new Location(8, 4, 25)), false);
+
+        OssScanResultAdaptor adaptor = OssScanResultAdaptor.fromCachedPackages(
+                List.of(Pair.of(lodash, pkg), Pair.of(express, null)), "/repo/package.json");
+
+        assertNull(adaptor.getResults());
+        assertEquals(1, adaptor.getIssues().size());
+        ScanIssue issue = adaptor.getIssues().get(0);
+        assertEquals("lodash", issue.getTitle());
+        assertEquals("/repo/package.json", issue.getFilePath());
+        assertEquals(ScanEngine.OSS, issue.getScanEngine());
+        assertEquals(1, issue.getLocations().size());
+        assertEquals(7, issue.getLocations().get(0).getLine());
+        assertEquals(4, issue.getLocations().get(0).getStartIndex());
+        assertEquals("CVE-2021-23337", issue.getVulnerabilities().get(0).getCve());
+        assertNotNull(issue.getScanIssueId());
+    }
 }
@@ -81,7 +81,7 @@ public class OssScannerServiceTest {
         PsiFile psi = mockPsiFile("package.json");
         doReturn(true).when(service).shouldScanFile("package.json",psi);
         try(MockedStatic<DevAssistUtils> utils = mockStatic(DevAssistUtils.class)) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn("   ");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn("   ");
             assertNull(service.scan(psi, "/project/package.json"));
         }
     }
@@ -92,7 +92,7 @@ public class OssScannerServiceTest {
         PsiFile psi = mockPsiFile("package.json");
         doReturn(true).when(service).shouldScanFile("/project/package.json",psi);
         try(MockedStatic<DevAssistUtils> utils = mockStatic(DevAssistUtils.class)) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn(null);
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn(null);
             assertNull(service.scan(psi, "/project/package.json"));
         }
     }
@@ -109,7 +109,7 @@ public class OssScannerServiceTest {
              MockedConstruction<com.checkmarx.intellij.devassist.ignore.IgnoreManager> ignoreMgrConstruction = mockConstruction(com.checkmarx.intellij.devassist.ignore.IgnoreManager.class, (mock, context) -> {
                  when(mock.hasIgnoredEntries(any())).thenReturn(false);
              })) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn("{ }\n");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn("{ }\n");
             utils.when(() -> DevAssistUtils.getIgnoreFilePath(any(com.intellij.openapi.project.Project.class))).thenReturn("");
             telemetry.when(() -> com.checkmarx.intellij.devassist.telemetry.TelemetryService.logScanResults(any(com.checkmarx.intellij.devassist.common.ScanResult.class), any(ScanEngine.class))).then(invocation -> null);
             CxWrapper wrapper = mock(CxWrapper.class);
@@ -135,7 +135,7 @@ public class OssScannerServiceTest {
              MockedConstruction<com.checkmarx.intellij.devassist.ignore.IgnoreManager> ignoreMgrConstruction = mockConstruction(com.checkmarx.intellij.devassist.ignore.IgnoreManager.class, (mock, context) -> {
                  when(mock.hasIgnoredEntries(any())).thenReturn(false);
              })) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn("{ }\n");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn("{ }\n");
             utils.when(() -> DevAssistUtils.getIgnoreFilePath(any(com.intellij.openapi.project.Project.class))).thenReturn("");
             telemetry.when(() -> com.checkmarx.intellij.devassist.telemetry.TelemetryService.logScanResults(any(com.checkmarx.intellij.devassist.common.ScanResult.class), any(ScanEngine.class))).then(invocation -> null);
             CxWrapper wrapper = mock(CxWrapper.class);
@@ -187,7 +187,7 @@ public class OssScannerServiceTest {
              MockedConstruction<com.checkmarx.intellij.devassist.ignore.IgnoreManager> ignoreMgrConstruction = mockConstruction(com.checkmarx.intellij.devassist.ignore.IgnoreManager.class, (mock, context) -> {
                  when(mock.hasIgnoredEntries(any())).thenReturn(false);
              })) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn("{ }\n");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn("{ }\n");
             utils.when(() -> DevAssistUtils.getIgnoreFilePath(any(com.intellij.openapi.project.Project.class))).thenReturn("");
             telemetry.when(() -> com.checkmarx.intellij.devassist.telemetry.TelemetryService.logScanResults(any(com.checkmarx.intellij.devassist.common.ScanResult.class), any(ScanEngine.class))).then(invocation -> null);
             CxWrapper wrapper = mock(CxWrapper.class);
@@ -214,7 +214,7 @@ public class OssScannerServiceTest {
              MockedConstruction<com.checkmarx.intellij.devassist.ignore.IgnoreManager> ignoreMgrConstruction = mockConstruction(com.checkmarx.intellij.devassist.ignore.IgnoreManager.class, (mock, context) -> {
                  when(mock.hasIgnoredEntries(any())).thenReturn(false);
              })) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn("{ }\n");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn("{ }\n");
             utils.when(() -> DevAssistUtils.getIgnoreFilePath(any(com.intellij.openapi.project.Project.class))).thenReturn("");
             telemetry.when(() -> com.checkmarx.intellij.devassist.telemetry.TelemetryService.logScanResults(any(com.checkmarx.intellij.devassist.common.ScanResult.class), any(ScanEngine.class))).then(invocation -> null);
             CxWrapper wrapper = mock(CxWrapper.class);
@@ -242,7 +242,7 @@ public class OssScannerServiceTest {
              MockedConstruction<com.checkmarx.intellij.devassist.ignore.IgnoreManager> ignoreMgrConstruction = mockConstruction(com.checkmarx.intellij.devassist.ignore.IgnoreManager.class, (mock, context) -> {
                  when(mock.hasIgnoredEntries(any())).thenReturn(false);
              })) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn("{ }\n");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn("{ }\n");
             utils.when(() -> DevAssistUtils.getIgnoreFilePath(any(com.intellij.openapi.project.Project.class))).thenReturn("");
             telemetry.when(() -> com.checkmarx.intellij.devassist.telemetry.TelemetryService.logScanResults(any(com.checkmarx.intellij.devassist.common.ScanResult.class), any(ScanEngine.class))).then(invocation -> null);
             CxWrapper wrapper = mock(CxWrapper.class);
@@ -264,7 +264,7 @@ public class OssScannerServiceTest {
         doReturn(true).when(service).shouldScanFile("package.json",psi);
         try (MockedStatic<DevAssistUtils> utils = mockStatic(DevAssistUtils.class);
              MockedStatic<CxWrapperFactory> factory = mockStatic(CxWrapperFactory.class)) {
-            utils.when(() -> DevAssistUtils.getFileContent(psi)).thenReturn("{ }\n");
+            utils.when(() -> DevAssistUtils.getFileCharSequence(psi)).thenReturn("{ }\n");
             factory.when(CxWrapperFactory::build).thenThrow(new IOException("simulated"));
             assertNull(service.scan(psi, temp.resolve("package.json").toString()));
         }
@@ -0,0 +1,115 @@
+package com.checkmarx.intellij.devassist.test.scanners.secrets;
+
+import com.checkmarx.intellij.devassist.model.Location;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsChunkedScan;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SecretsChunkedScanTest {
+
+    private static String lines(int count, int length) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append("x".repeat(length - 1)).append('\n');
+        }
+        return content.toString();
+    }
+
+    private static ScanIssue secretAt(int line, int start, int end) {
+        ScanIssue issue = new ScanIssue();
+        issue.setScanEngine(ScanEngine.SECRETS);
+        issue.setTitle("generic-api-key");
+        issue.setSecretValue("secret-" + start);
+        issue.getLocations().add(new Location(line, start, end));
+        return issue;
+    }
+
+    @Test
+    @DisplayName("split returns a single chunk for content not larger than a chunk")
+    void splitSmallContent() {
+        List<SecretsChunkedScan.Chunk> chunks = SecretsChunkedScan.split(lines(10, 10), 100, 20);
+
+        assertEquals(1, chunks.size());
+        assertEquals(0, chunks.get(0).getStartOffset());
+        assertEquals(100, chunks.get(0).getEndOffset());
+        assertEquals(1, chunks.get(0).getFirstLine());
+    }
+
+    @Test
+    @DisplayName("split cuts chunks at line ends and overlaps them by whole lines")
+    void splitAtLineEnds() {
+        // 100 lines of 10 characters, the line n starting at offset (n - 1) * 10
+        String content = lines(100, 10);
+
+        List<SecretsChunkedScan.Chunk> chunks = SecretsChunkedScan.split(content, 95, 25);
+
+        assertTrue(chunks.size() > 1);
+        assertEquals(content.length(), chunks.get(chunks.size() - 1).getEndOffset());
+        for (int i = 0; i < chunks.size(); i++) {
+            SecretsChunkedScan.Chunk chunk = chunks.get(i);
+            assertEquals(0, chunk.getStartOffset() % 10);
+            assertEquals(0, chunk.getEndOffset() % 10);
+            assertEquals(chunk.getStartOffset() / 10 + 1, chunk.getFirstLine());
+            assertEquals(0, chunk.getFirstColumn());
+            if (i > 0) {
+                assertTrue(chunks.get(i - 1).getEndOffset() - chunk.getStartOffset() >= 25);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("split cuts a line longer than two chunks in the middle and tracks the first column")
+    void splitLongLine() {
+        String content = "ab\n" + "y".repeat(500);
+
+        List<SecretsChunkedScan.Chunk> chunks = SecretsChunkedScan.split(content, 100, 20);
+
+        assertEquals(100, chunks.get(0).getEndOffset());
+        SecretsChunkedScan.Chunk second = chunks.get(1);
+        assertEquals(3, second.getStartOffset());
+        assertEquals(2, second.getFirstLine());
+        assertEquals(0, second.getFirstColumn());
+        SecretsChunkedScan.Chunk third = chunks.get(2);
+        assertEquals(83, third.getStartOffset());
+        assertEquals(2, third.getFirstLine());
+        assertEquals(80, third.getFirstColumn());
+        assertEquals(content.length(), chunks.get(chunks.size() - 1).getEndOffset());
+    }
+
+    @Test
+    @DisplayName("merge moves issues to their file lines and keeps issues found twice in an overlap once")
+    void mergeRemapsAndDeduplicates() {
+        List<SecretsChunkedScan.Chunk> chunks = List.of(
+                new SecretsChunkedScan.Chunk(1, 0, 0, 1000),
+                new SecretsChunkedScan.Chunk(41, 5, 900, 2000));
+        ScanIssue inFirst = secretAt(3, 0, 10);
+        ScanIssue inOverlap = secretAt(45, 2, 12);
+        ScanIssue inOverlapAgain = secretAt(5, 2, 12);
+        ScanIssue onFirstLineOfSecond = secretAt(1, 0, 4);
+
+        List<ScanIssue> merged = SecretsChunkedScan.merge(chunks,
+                List.of(List.of(inFirst, inOverlap), List.of(inOverlapAgain, onFirstLineOfSecond)));
+
+        assertEquals(List.of(inFirst, inOverlap, onFirstLineOfSecond), merged);
+        assertEquals(3, inFirst.getLocations().get(0).getLine());
+        assertEquals(45, inOverlap.getLocations().get(0).getLine());
+        Location location = onFirstLineOfSecond.getLocations().get(0);
+        assertEquals(41, location.getLine());
+        assertEquals(5, location.getStartIndex());
+        assertEquals(9, location.getEndIndex());
+        assertNotNull(onFirstLineOfSecond.getScanIssueId());
+    }
+
+    @Test
+    @DisplayName("small files are never chunked nor deferred to saves")
+    void smallFilesUseRealtimeScans() {
+        assertFalse(SecretsChunkedScan.shouldChunk(SecretsChunkedScan.MIN_THRESHOLD_KB * 1024L));
+        assertFalse(SecretsChunkedScan.isSaveOnly(1024));
+    }
+}
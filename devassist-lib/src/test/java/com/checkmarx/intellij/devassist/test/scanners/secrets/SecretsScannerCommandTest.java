@@ -1,7 +1,9 @@
 package com.checkmarx.intellij.devassist.test.scanners.secrets;
 
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
 import com.checkmarx.intellij.devassist.scanners.secrets.SecretsScannerCommand;
 import com.checkmarx.intellij.devassist.scanners.secrets.SecretsScannerService;
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsSweep;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
@@ -9,6 +11,7 @@ import com.intellij.psi.PsiFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
 
 import java.lang.reflect.Field;
 
@@ -70,8 +73,30 @@ public class SecretsScannerCommandTest {
     @Test
     @DisplayName("Initialize scanner completes successfully and logs initialization")
     void testInitializeScanner() {
-        // Secrets scanner initialization just logs a message and doesn't throw exceptions
-        assertDoesNotThrow(() -> command.invokeInitializeScanner());
+        GlobalSettingsState state = mock(GlobalSettingsState.class);
+        when(state.isSecretsSweepOnStartup()).thenReturn(false);
+        try (MockedStatic<GlobalSettingsState> stateStatic = mockStatic(GlobalSettingsState.class);
+             MockedStatic<SecretsSweep> sweepStatic = mockStatic(SecretsSweep.class)) {
+            stateStatic.when(GlobalSettingsState::getInstance).thenReturn(state);
+
+            // Secrets scanner initialization just logs a message and doesn't throw exceptions
+            assertDoesNotThrow(() -> command.invokeInitializeScanner());
+            sweepStatic.verify(() -> SecretsSweep.start(any(Project.class)), never());
+        }
+    }
+
+    @Test
+    @DisplayName("Initialize scanner starts a project-wide secrets sweep when enabled in the settings")
+    void testInitializeScanner_sweepOnStartupEnabled() {
+        GlobalSettingsState state = mock(GlobalSettingsState.class);
+        when(state.isSecretsSweepOnStartup()).thenReturn(true);
+        try (MockedStatic<GlobalSettingsState> stateStatic = mockStatic(GlobalSettingsState.class);
+             MockedStatic<SecretsSweep> sweepStatic = mockStatic(SecretsSweep.class)) {
+            stateStatic.when(GlobalSettingsState::getInstance).thenReturn(state);
+
+            command.invokeInitializeScanner();
+            sweepStatic.verify(() -> SecretsSweep.start(project));
+        }
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.checkmarx.ast.secretsrealtime.SecretsRealtimeResults;
 import com.checkmarx.ast.wrapper.CxWrapper;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
 import com.checkmarx.intellij.devassist.common.ScanResult;
+import com.checkmarx.intellij.devassist.model.ScanIssue;
 import com.checkmarx.intellij.devassist.scanners.secrets.SecretsScannerService;
 import com.checkmarx.intellij.devassist.utils.DevAssistUtils;
 import com.checkmarx.intellij.devassist.utils.ScanEngine;
@@ -16,8 +17,12 @@ import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -84,7 +89,7 @@ public class SecretsScannerServiceTest {
                  when(mock.hasIgnoredEntries(any())).thenReturn(false);
              })) {
 
-            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileContent(mockPsiFile)).thenReturn("file contents");
+            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileCharSequence(mockPsiFile)).thenReturn("file contents");
             devAssistUtilsStatic.when(() -> DevAssistUtils.getIgnoreFilePath(any(Project.class))).thenReturn("");
             telemetryStatic.when(() -> com.checkmarx.intellij.devassist.telemetry.TelemetryService.logScanResults(any(ScanResult.class), any(ScanEngine.class))).then(invocation -> null);
 
@@ -124,7 +129,7 @@ public class SecretsScannerServiceTest {
 
         try (MockedStatic<DevAssistUtils> devAssistUtilsStatic = mockStatic(DevAssistUtils.class)) {
 
-            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileContent(mockPsiFile)).thenReturn("");
+            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileCharSequence(mockPsiFile)).thenReturn("");
 
             assertDoesNotThrow(() -> {
                 var result = secretsScannerService.scan(mockPsiFile, "test.js");
@@ -160,7 +165,7 @@ public class SecretsScannerServiceTest {
         try (MockedStatic<DevAssistUtils> devAssistUtilsStatic = mockStatic(DevAssistUtils.class);
              MockedStatic<CxWrapperFactory> wrapperFactoryStatic = mockStatic(CxWrapperFactory.class)) {
 
-            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileContent(mockPsiFile)).thenReturn("content");
+            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileCharSequence(mockPsiFile)).thenReturn("content");
             devAssistUtilsStatic.when(() -> DevAssistUtils.getIgnoreFilePath(any(Project.class))).thenReturn("");
 
             wrapperFactoryStatic.when(CxWrapperFactory::build).thenReturn(mockWrapper);
@@ -186,7 +191,7 @@ public class SecretsScannerServiceTest {
         try (MockedStatic<DevAssistUtils> devAssistUtilsStatic = mockStatic(DevAssistUtils.class);
              MockedStatic<CxWrapperFactory> wrapperFactoryStatic = mockStatic(CxWrapperFactory.class)) {
 
-            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileContent(mockPsiFile)).thenReturn("content");
+            devAssistUtilsStatic.when(() -> DevAssistUtils.getFileCharSequence(mockPsiFile)).thenReturn("content");
             devAssistUtilsStatic.when(() -> DevAssistUtils.getIgnoreFilePath(any(Project.class))).thenReturn("");
 
             wrapperFactoryStatic.when(CxWrapperFactory::build).thenReturn(mockWrapper);
@@ -232,4 +237,109 @@ public class SecretsScannerServiceTest {
         assertTrue(result.startsWith("app.js-"));
         assertTrue(result.endsWith(".tmp"));
     }
+
+    @Test
+    @DisplayName("scanBatch: scans a batch with one CLI call and attributes secrets to the original files")
+    void testScanBatch_attributesSecretsToOriginalFiles() throws Exception {
+        Map<String, String> contentByPath = new LinkedHashMap<>();
+        contentByPath.put("/project/src/config.js", "const key = 'abc';");
+        contentByPath.put("/project/.env", "TOKEN=secret");
+        contentByPath.put("/project/other/.env", "PASSWORD=secret");
+        List<String> scanSources = new ArrayList<>();
+
+        try (MockedStatic<DevAssistUtils> devAssistUtilsStatic = mockStatic(DevAssistUtils.class);
+             MockedStatic<CxWrapperFactory> wrapperFactoryStatic = mockStatic(CxWrapperFactory.class)) {
+            devAssistUtilsStatic.when(() -> DevAssistUtils.getIgnoreFilePath(any(Project.class))).thenReturn("");
+            wrapperFactoryStatic.when(CxWrapperFactory::build).thenReturn(mockWrapper);
+            when(mockWrapper.secretsRealtimeScan(anyString(), anyString())).thenAnswer(invocation -> {
+                Path source = Path.of(invocation.getArgument(0, String.class));
+                scanSources.add(source.toString());
+                assertTrue(Files.isDirectory(source), "a multi-file batch should be scanned as one directory");
+                assertEquals("project", source.getFileName().toString());
+                assertEquals("PASSWORD=secret", Files.readString(source.resolve("other").resolve(".env")));
+                SecretsRealtimeResults.Secret secret = mock(SecretsRealtimeResults.Secret.class);
+                when(secret.getTitle()).thenReturn("generic-api-key");
+                when(secret.getFilePath()).thenReturn(source.resolve("other").resolve(".env").toString());
+                SecretsRealtimeResults results = mock(SecretsRealtimeResults.class);
+                when(results.getSecrets()).thenReturn(List.of(secret));
+                return results;
+            });
+
+            Map<String, List<ScanIssue>> issuesByFile = secretsScannerService.scanBatch(mock(Project.class), contentByPath);
+
+            assertEquals(1, scanSources.size());
+            assertEquals(List.copyOf(contentByPath.keySet()), List.copyOf(issuesByFile.keySet()));
+            assertTrue(issuesByFile.get("/project/src/config.js").isEmpty());
+            assertTrue(issuesByFile.get("/project/.env").isEmpty());
+            assertEquals(1, issuesByFile.get("/project/other/.env").size());
+            assertEquals("/project/other/.env", issuesByFile.get("/project/other/.env").get(0).getFilePath());
+            assertTrue(Files.notExists(Path.of(scanSources.get(0))), "scratch directory should be removed");
+        }
+    }
+
+    @Test
+    @DisplayName("scanBatch: attributes each secret by its reported path, whatever the order of the secrets")
+    void testScanBatch_attributesSecretsByPath() throws Exception {
+        Map<String, String> contentByPath = new LinkedHashMap<>();
+        contentByPath.put("/project/a.js", "const key = 'abc';");
+        contentByPath.put("/project/b.js", "const token = 'def';");
+
+        try (MockedStatic<DevAssistUtils> devAssistUtilsStatic = mockStatic(DevAssistUtils.class);
+             MockedStatic<CxWrapperFactory> wrapperFactoryStatic = mockStatic(CxWrapperFactory.class)) {
+            devAssistUtilsStatic.when(() -> DevAssistUtils.getIgnoreFilePath(any(Project.class))).thenReturn("");
+            wrapperFactoryStatic.when(CxWrapperFactory::build).thenReturn(mockWrapper);
+            when(mockWrapper.secretsRealtimeScan(anyString(), anyString())).thenAnswer(invocation -> {
+                Path source = Path.of(invocation.getArgument(0, String.class));
+                SecretsRealtimeResults.Secret inB = mock(SecretsRealtimeResults.Secret.class);
+                when(inB.getTitle()).thenReturn("b-secret");
+                when(inB.getFilePath()).thenReturn(source.resolve("b.js").toString());
+                SecretsRealtimeResults.Secret inA = mock(SecretsRealtimeResults.Secret.class);
+                when(inA.getTitle()).thenReturn("a-secret");
+                when(inA.getFilePath()).thenReturn(source.resolve("a.js").toString());
+                SecretsRealtimeResults.Secret unknown = mock(SecretsRealtimeResults.Secret.class);
+                when(unknown.getFilePath()).thenReturn(source.resolve("c.js").toString());
+                SecretsRealtimeResults results = mock(SecretsRealtimeResults.class);
+                when(results.getSecrets()).thenReturn(List.of(inB, unknown, inA));
+                return results;
+            });
+
+            Map<String, List<ScanIssue>> issuesByFile = secretsScannerService.scanBatch(mock(Project.class), contentByPath);
+
+            assertEquals(1, issuesByFile.get("/project/a.js").size());
+            assertEquals("a-secret", issuesByFile.get("/project/a.js").get(0).getTitle());
+            assertEquals("/project/a.js", issuesByFile.get("/project/a.js").get(0).getFilePath());
+            assertEquals(1, issuesByFile.get("/project/b.js").size());
+            assertEquals("b-secret", issuesByFile.get("/project/b.js").get(0).getTitle());
+            assertEquals("/project/b.js", issuesByFile.get("/project/b.js").get(0).getFilePath());
+        }
+    }
+
+    @Test
+    @DisplayName("scanBatch: falls back to single-file scans when the CLI rejects the batch")
+    void testScanBatch_fallsBackToSingleFiles() throws Exception {
+        Map<String, String> contentByPath = new LinkedHashMap<>();
+        contentByPath.put("/project/a.js", "a");
+        contentByPath.put("/project/b.js", "b");
+
+        try (MockedStatic<DevAssistUtils> devAssistUtilsStatic = mockStatic(DevAssistUtils.class);
+             MockedStatic<CxWrapperFactory> wrapperFactoryStatic = mockStatic(CxWrapperFactory.class)) {
+            devAssistUtilsStatic.when(() -> DevAssistUtils.getIgnoreFilePath(any(Project.class))).thenReturn("");
+            wrapperFactoryStatic.when(CxWrapperFactory::build).thenReturn(mockWrapper);
+            when(mockWrapper.secretsRealtimeScan(anyString(), anyString())).thenAnswer(invocation -> {
+                if (Files.isDirectory(Path.of(invocation.getArgument(0, String.class)))) {
+                    throw new com.checkmarx.ast.wrapper.CxException(1, "source must be a file");
+                }
+                SecretsRealtimeResults results = mock(SecretsRealtimeResults.class);
+                when(results.getSecrets()).thenReturn(List.of());
+                return results;
+            });
+
+            Map<String, List<ScanIssue>> issuesByFile = secretsScannerService.scanBatch(mock(Project.class), contentByPath);
+
+            assertEquals(2, issuesByFile.size());
+            verify(mockWrapper, times(3)).secretsRealtimeScan(anyString(), anyString());
+        } finally {
+            com.checkmarx.intellij.devassist.common.ScannerCircuitBreaker.resetAll();
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.checkmarx.intellij.devassist.test.scanners.secrets;
+
+import com.checkmarx.intellij.devassist.scanners.secrets.SecretsSweep;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SecretsSweepTest {
+
+    @Test
+    @DisplayName("partition: splits by file count while keeping the original order")
+    void testPartition_byFileCount() {
+        List<List<Long>> batches = SecretsSweep.partition(List.of(1L, 2L, 3L, 4L, 5L), Long::longValue, 2, 1_000L);
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), batches);
+    }
+
+    @Test
+    @DisplayName("partition: splits by total size and keeps oversized files in their own batch")
+    void testPartition_bySize() {
+        List<List<Long>> batches = SecretsSweep.partition(List.of(40L, 50L, 20L, 500L, 10L), Long::longValue, 10, 100L);
+
+        assertEquals(List.of(List.of(40L, 50L), List.of(20L), List.of(500L), List.of(10L)), batches);
+    }
+
+    @Test
+    @DisplayName("partition: no items yields no batches")
+    void testPartition_empty() {
+        assertTrue(SecretsSweep.partition(List.<Long>of(), Long::longValue, 10, 100L).isEmpty());
+    }
+}
@@ -0,0 +1,76 @@
+package com.checkmarx.intellij.devassist.test.utils;
+
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.checkmarx.intellij.devassist.utils.ScanTempFileWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScanTempFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        ScanMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ScanMetrics.reset();
+    }
+
+    @Test
+    @DisplayName("write streams content larger than the buffer as UTF-8 and reports the bytes written")
+    void writeStreamsContentAsUtf8() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append("line ").append(i).append(" caf\u00e9 \u20ac\n");
+        }
+        Path target = tempDir.resolve("large.txt");
+
+        long written = ScanTempFileWriter.write(ScanEngine.SECRETS, content, target);
+
+        byte[] expected = content.toString().getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, written);
+        assertArrayEquals(expected, Files.readAllBytes(target));
+        assertEquals(expected.length, ScanMetrics.snapshot().getTempFileBytes().get("SECRETS"));
+    }
+
+    @Test
+    @DisplayName("write replaces the previous content of the file")
+    void writeReplacesPreviousContent() throws Exception {
+        Path target = tempDir.resolve("Main.java");
+        ScanTempFileWriter.write(ScanEngine.ASCA, "class Main { int field; }", target);
+
+        assertEquals(10, ScanTempFileWriter.write(ScanEngine.ASCA, "class B {}", target));
+        assertEquals("class B {}", Files.readString(target));
+        assertEquals(35, ScanMetrics.snapshot().getTempFileBytes().get("ASCA"));
+    }
+
+    @Test
+    @DisplayName("digest hashes the UTF-8 encoding of the content")
+    void digestMatchesUtf8Bytes() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append("line ").append(i).append(" caf\u00e9 \u20ac\n");
+        }
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+        ScanTempFileWriter.digest(digest, content);
+
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+        assertArrayEquals(expected, digest.digest());
+    }
+}
@@ -2,6 +2,7 @@ package com.checkmarx.intellij.ast.commands;
 
 import com.checkmarx.ast.wrapper.CxException;
 import com.checkmarx.intellij.ast.commands.helper.ResultGetState;
+import com.checkmarx.intellij.ast.service.ResultsCache;
 import com.checkmarx.intellij.common.resources.Bundle;
 import com.checkmarx.intellij.common.resources.Resource;
 import com.checkmarx.intellij.common.utils.Constants;
@@ -9,6 +10,7 @@ import com.checkmarx.intellij.common.utils.Utils;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
 import com.intellij.openapi.diagnostic.Logger;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -36,14 +38,30 @@ public class Results {
      */
     @NotNull
     public static CompletableFuture<ResultGetState> getResults(String scanIdFieldValue) {
+        return getResults(scanIdFieldValue, null);
+    }
+
+    /**
+     * Get a {@link CompletableFuture} which, when completed, supplies a {@link ResultGetState}.
+     * Results are cached only when the scan, as already known to the caller, is completed.
+     *
+     * @param scanIdFieldValue current value in the scan id field
+     * @param knownScan        scan selected from a list, or null if only its id is known
+     * @return CompletableFuture that supplies state for drawing results
+     */
+    @NotNull
+    public static CompletableFuture<ResultGetState> getResults(String scanIdFieldValue,
+                                                               @Nullable com.checkmarx.ast.scan.Scan knownScan) {
         return CompletableFuture.supplyAsync(() -> {
             boolean getLatest = Utils.isBlank(scanIdFieldValue);
             ResultGetState newState = new ResultGetState();
             String scanId;
+            com.checkmarx.ast.scan.Scan scan = knownScan;
 
             if (getLatest) {
                 try {
-                    scanId = Scan.getLatestScanId();
+                    scan = Scan.getLatestScan();
+                    scanId = scan.getId();
                     newState.setLatest(true);
                 } catch (CxException e) {
                     newState.setMessage(e.getMessage());
@@ -60,15 +78,23 @@ public class Results {
             newState.setScanId(scanId);
             newState.setScanIdFieldValue(scanIdFieldValue);
 
-            com.checkmarx.ast.results.Results results;
-            try {
-                results = CxWrapperFactory.build().results(UUID.fromString(scanId), Constants.JET_BRAINS_AGENT_NAME);
-            } catch (IOException | CxException | InterruptedException e) {
-                newState.setMessage(getMessageFromException(e.getMessage(), 2));
-                LOGGER.warn(newState.getMessage(), e);
-                newState.setScanId(null);
-                newState.setScanIdFieldValue(null);
-                return newState;
+            // results of a completed scan never change, so a cached copy is served without calling the CLI
+            com.checkmarx.ast.results.Results results = ResultsCache.lookup(scanId);
+            if (results == null) {
+                try {
+                    results = CxWrapperFactory.build().results(UUID.fromString(scanId), Constants.JET_BRAINS_AGENT_NAME);
+                } catch (IOException | CxException | InterruptedException e) {
+                    newState.setMessage(getMessageFromException(e.getMessage(), 2));
+                    LOGGER.warn(newState.getMessage(), e);
+                    newState.setScanId(null);
+                    newState.setScanIdFieldValue(null);
+                    return newState;
+                }
+                if (isCompleted(scan, scanId)) {
+                    ResultsCache.store(scanId, scan.getProjectId(), results);
+                }
+            } else {
+                LOGGER.info(String.format("Using cached results for scan %s", scanId));
             }
 
             if (results.getTotalCount() > 0) {
@@ -82,6 +108,20 @@ public class Results {
         });
     }
 
+    /**
+     * Check whether a known scan is completed, so its results are final and can be cached.
+     *
+     * @param scan   scan as listed, or null if unknown
+     * @param scanId id of the scan whose results were retrieved
+     * @return whether the scan is known to be completed and to belong to a project
+     */
+    private static boolean isCompleted(@Nullable com.checkmarx.ast.scan.Scan scan, String scanId) {
+        return scan != null
+                && scanId.equals(scan.getId())
+                && Utils.isNotBlank(scan.getProjectId())
+                && Constants.SCAN_STATUS_COMPLETED.equalsIgnoreCase(scan.getStatus());
+    }
+
     private static String getMessageFromException(String text, int count) {
         return text == null || text.trim().isEmpty() ? "" :
                 Arrays.stream(text.split("\\r?\\n"))
@@ -27,7 +27,20 @@ public class Scan {
             IOException,
             CxException,
             InterruptedException {
-        return CxWrapperFactory.build().scanList().get(0).getId();
+        return getLatestScan().getId();
+    }
+
+    /**
+     * Get latest scan, independent of project.
+     *
+     * @return scan
+     */
+    @NotNull
+    public static com.checkmarx.ast.scan.Scan getLatestScan() throws
+            IOException,
+            CxException,
+            InterruptedException {
+        return CxWrapperFactory.build().scanList().get(0);
     }
 
     /**
@@ -6,6 +6,8 @@ import com.checkmarx.intellij.common.utils.Utils;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.diagnostic.Logger;
 import com.intellij.openapi.project.Project;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 import java.nio.file.Paths;
 import java.util.*;
@@ -48,30 +50,42 @@ public class ProjectResultsService {
         this.resultByNode = new HashMap<>();
 
         CompletableFuture.runAsync(() -> {
-            Map<String, Map<Integer, List<Node>>> nodesByFile = new HashMap<>();
-            Map<Node, Result> resultByNode = new HashMap<>();
-            for (Result result : results.getResults()) {
-                for (Node node : Optional.ofNullable(result.getData().getNodes())
-                                         .orElse(Collections.emptyList())) {
-                    Map<Integer, List<Node>> nodesByLine
-                            = nodesByFile.computeIfAbsent(Paths.get(node.getFileName())
-                                                               .toString()
-                                                               .substring(1),
-                                                          k -> new HashMap<>());
-                    List<Node> nodesForLine = nodesByLine.computeIfAbsent(node.getLine(),
-                                                                          k -> new ArrayList<>());
-                    nodesForLine.add(node);
-                    resultByNode.put(node, result);
-                }
-            }
+            ResultsIndex index = buildIndex(results.getResults());
             ApplicationManager.getApplication().invokeLater(() -> {
-                this.nodesByFile = nodesByFile;
-                this.resultByNode = resultByNode;
+                this.nodesByFile = index.getNodesByFile();
+                this.resultByNode = index.getResultByNode();
                 LOGGER.info("Indexed results are live");
             });
         });
     }
 
+    /**
+     * Build the file/line and node/result indexes for the given results.
+     * Pure function with no platform dependencies, so it can run on any thread.
+     *
+     * @param results results to index
+     * @return the built index
+     */
+    public static ResultsIndex buildIndex(List<Result> results) {
+        Map<String, Map<Integer, List<Node>>> nodesByFile = new HashMap<>();
+        Map<Node, Result> resultByNode = new HashMap<>();
+        for (Result result : results) {
+            for (Node node : Optional.ofNullable(result.getData().getNodes())
+                                     .orElse(Collections.emptyList())) {
+                Map<Integer, List<Node>> nodesByLine
+                        = nodesByFile.computeIfAbsent(Paths.get(node.getFileName())
+                                                           .toString()
+                                                           .substring(1),
+                                                      k -> new HashMap<>());
+                List<Node> nodesForLine = nodesByLine.computeIfAbsent(node.getLine(),
+                                                                      k -> new ArrayList<>());
+                nodesForLine.add(node);
+                resultByNode.put(node, result);
+            }
+        }
+        return new ResultsIndex(nodesByFile, resultByNode);
+    }
+
     /**
      * Get results for a given file and line number.
      *
@@ -130,4 +144,16 @@ public class ProjectResultsService {
             throw new IllegalArgumentException("invalid project for service");
         }
     }
+
+    /**
+     * Indexes built from a set of results
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class ResultsIndex {
+        // index by file and by line number
+        private final Map<String, Map<Integer, List<Node>>> nodesByFile;
+        // index each node by the result
+        private final Map<Node, Result> resultByNode;
+    }
 }
@@ -0,0 +1,320 @@
+package com.checkmarx.intellij.ast.service;
+
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
+import com.checkmarx.intellij.common.utils.PluginVersionProvider;
+import com.checkmarx.intellij.common.utils.Utils;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Disk cache of the results of completed scans, under the IDE system directory.
+ * Results of a completed scan do not change, so a cached entry is served without asking the server again, which
+ * also allows browsing previously loaded scans offline. Entries are keyed by server, tenant, CLI parameters,
+ * plugin version and scan id, stored as gzip compressed JSON with nulls left out, and evicted least recently used
+ * first once the cache exceeds its size budget.
+ * A triage changes the state and severity of a result in every scan of its project, so entry files are prefixed
+ * with a key of their project and all entries of a project are evicted together.
+ * The cache is best effort: any failure is logged and treated as a miss.
+ */
+public class ResultsCache {
+
+    private static final Logger LOGGER = Utils.getLogger(ResultsCache.class);
+
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final String DIRECTORY = "checkmarx/results-cache";
+    private static final String EXTENSION = ".cxr";
+    private static final String SEPARATOR = "-";
+    // header of every entry, so entries of another format are dropped instead of misread
+    private static final int MAGIC = 0x43585231;
+    private static final int FORMAT_VERSION = 1;
+
+    // the wrapper models are written under their field names, which match the CLI names their creators read except
+    // in case (nodeID); getter names would drop the is prefix of flags such as isDevelopmentDependency
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .visibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.IS_GETTER, JsonAutoDetect.Visibility.NONE)
+            .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .build();
+
+    private static volatile ResultsCache instance;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    public ResultsCache(@NotNull Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the cache in the IDE system directory
+     */
+    public static ResultsCache getInstance() {
+        if (instance == null) {
+            synchronized (ResultsCache.class) {
+                if (instance == null) {
+                    instance = new ResultsCache(Paths.get(PathManager.getSystemPath(), DIRECTORY), DEFAULT_MAX_BYTES);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the cached results of a scan for the current settings.
+     *
+     * @param scanId scan id
+     * @return cached results, or null if not cached or the cache is unavailable
+     */
+    @Nullable
+    public static com.checkmarx.ast.results.Results lookup(String scanId) {
+        try {
+            return getInstance().get(currentKey(scanId));
+        } catch (RuntimeException e) {
+            LOGGER.warn(format("Results cache unavailable for scan %s", scanId), e);
+            return null;
+        }
+    }
+
+    /**
+     * Cache the results of a completed scan for the current settings.
+     *
+     * @param scanId    scan id
+     * @param projectId id of the project of the scan
+     * @param results   results of the scan
+     */
+    public static void store(String scanId, String projectId, com.checkmarx.ast.results.Results results) {
+        try {
+            getInstance().put(currentProjectKey(projectId), currentKey(scanId), results);
+        } catch (RuntimeException e) {
+            LOGGER.warn(format("Results cache unavailable for scan %s", scanId), e);
+        }
+    }
+
+    /**
+     * Drop the cached results of every scan of a project for the current settings, e.g. after a result was triaged.
+     *
+     * @param projectId project id
+     */
+    public static void evictProject(String projectId) {
+        try {
+            getInstance().removeProject(currentProjectKey(projectId));
+        } catch (RuntimeException e) {
+            LOGGER.warn(format("Results cache unavailable for project %s", projectId), e);
+        }
+    }
+
+    /**
+     * Build the cache key of a scan.
+     *
+     * @param baseUrl              server url
+     * @param tenant               tenant
+     * @param additionalParameters additional CLI parameters
+     * @param pluginVersion        plugin version, so a new wrapper model never reads older entries
+     * @param scanId               scan id
+     * @return file name safe key
+     */
+    @NotNull
+    public static String key(String baseUrl, String tenant, String additionalParameters, String pluginVersion,
+                             String scanId) {
+        return digest(FORMAT_VERSION + "", baseUrl, tenant, additionalParameters, pluginVersion, scanId);
+    }
+
+    /**
+     * Build the key of a project, which prefixes the entries of its scans.
+     *
+     * @param baseUrl   server url
+     * @param tenant    tenant
+     * @param projectId project id
+     * @return file name safe key
+     */
+    @NotNull
+    public static String projectKey(String baseUrl, String tenant, String projectId) {
+        return digest(baseUrl, tenant, projectId);
+    }
+
+    /**
+     * Read an entry, marking it as recently used.
+     *
+     * @param key cache key
+     * @return cached results, or null if absent or unreadable
+     */
+    @Nullable
+    public com.checkmarx.ast.results.Results get(@NotNull String key) {
+        Path file = find(key);
+        if (file == null) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unknown cache entry format");
+            }
+            com.checkmarx.ast.results.Results results = MAPPER.readValue(in, com.checkmarx.ast.results.Results.class);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return results;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn(format("Dropping unreadable results cache entry %s", file), e);
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /**
+     * Write an entry, then evict the least recently used entries above the size budget.
+     *
+     * @param projectKey key of the project of the scan
+     * @param key        cache key
+     * @param results    results to cache
+     */
+    public synchronized void put(@NotNull String projectKey, @NotNull String key,
+                                 @NotNull com.checkmarx.ast.results.Results results) {
+        Path file = directory.resolve(projectKey + SEPARATOR + key + EXTENSION);
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                MAPPER.writeValue((OutputStream) out, results);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOGGER.info(format("Cached %d results in %s (%d bytes)", results.getTotalCount(), file, Files.size(file)));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn(format("Failed caching results in %s", file), e);
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+            return;
+        }
+        evictOverBudget();
+    }
+
+    /**
+     * Remove all entries of a project.
+     *
+     * @param projectKey key of the project
+     */
+    public synchronized void removeProject(@NotNull String projectKey) {
+        for (Path entry : list(projectKey + SEPARATOR + "*" + EXTENSION)) {
+            deleteQuietly(entry);
+        }
+    }
+
+    @Nullable
+    private Path find(String key) {
+        List<Path> entries = list("*" + SEPARATOR + key + EXTENSION);
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+
+    private List<Path> list(String glob) {
+        List<Path> entries = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return entries;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, glob)) {
+            files.forEach(entries::add);
+        } catch (IOException e) {
+            LOGGER.warn(format("Failed listing results cache %s", directory), e);
+        }
+        return entries;
+    }
+
+    private static String digest(String... parts) {
+        String source = String.join("\n", parts);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                key.append(format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void evictOverBudget() {
+        List<Path> entries = list("*" + EXTENSION);
+        long total = 0;
+        List<long[]> sizesAndTimes = new ArrayList<>(entries.size());
+        for (Path entry : entries) {
+            try {
+                long size = Files.size(entry);
+                total += size;
+                sizesAndTimes.add(new long[]{size, Files.getLastModifiedTime(entry).toMillis()});
+            } catch (IOException e) {
+                sizesAndTimes.add(new long[]{0, 0});
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+        List<Integer> order = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingLong(i -> sizesAndTimes.get(i)[1]));
+        for (int i : order) {
+            if (total <= maxBytes) {
+                break;
+            }
+            deleteQuietly(entries.get(i));
+            total -= sizesAndTimes.get(i)[0];
+            LOGGER.debug(format("Evicted results cache entry %s", entries.get(i)));
+        }
+    }
+
+    private static String currentKey(String scanId) {
+        GlobalSettingsState state = GlobalSettingsState.getInstance();
+        return key(state.getBaseUrl(), state.getTenant(), state.getAdditionalParameters(),
+                PluginVersionProvider.getPluginVersion(), scanId);
+    }
+
+    private static String currentProjectKey(String projectId) {
+        GlobalSettingsState state = GlobalSettingsState.getInstance();
+        return projectKey(state.getBaseUrl(), state.getTenant(), projectId);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn(format("Failed deleting %s", file), e);
+        }
+    }
+}
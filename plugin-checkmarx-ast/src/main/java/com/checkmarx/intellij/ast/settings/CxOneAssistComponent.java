@@ -25,6 +25,7 @@ import com.intellij.openapi.ui.ComboBox;
 import com.intellij.openapi.vfs.LocalFileSystem;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.ui.JBColor;
+import com.intellij.ui.JBIntSpinner;
 import com.intellij.ui.components.JBCheckBox;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.util.messages.MessageBusConnection;
@@ -58,9 +59,13 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
 
     private final JBLabel secretsTitle = new JBLabel(formatTitle(Bundle.message(Resource.SECRETS_REALTIME_TITLE)));
     private final JBCheckBox secretsCheckbox = new JBCheckBox(Bundle.message(Resource.SECRETS_REALTIME_CHECKBOX));
+    private final JBCheckBox secretsSweepCheckbox = new JBCheckBox(Bundle.message(Resource.SECRETS_SWEEP_ON_STARTUP_CHECKBOX));
+    private final JBIntSpinner secretsChunkThresholdSpinner = new JBIntSpinner(1024, 64, 100 * 1024);
+    private final JBIntSpinner secretsSaveOnlyThresholdSpinner = new JBIntSpinner(10 * 1024, 64, 1024 * 1024);
 
     private final JBLabel containersTitle = new JBLabel(formatTitle(Bundle.message(Resource.CONTAINERS_REALTIME_TITLE)));
     private final JBCheckBox containersCheckbox = new JBCheckBox(Bundle.message(Resource.CONTAINERS_REALTIME_CHECKBOX));
+    private final JBIntSpinner containersImageCacheTtlSpinner = new JBIntSpinner(60, 0, 24 * 60);
 
     private final JBLabel iacTitle = new JBLabel(formatTitle(Bundle.message(Resource.IAC_REALTIME_TITLE)));
     private final JBCheckBox iacCheckbox = new JBCheckBox(Bundle.message(Resource.IAC_REALTIME_CHECKBOX));
@@ -127,11 +132,18 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
 
         mainPanel.add(secretsTitle, "split 2, span");
         mainPanel.add(new JSeparator(), "growx, wrap");
-        mainPanel.add(secretsCheckbox, "wrap, gapbottom 10, gapleft 15");
+        mainPanel.add(secretsCheckbox, "wrap, gapleft 15");
+        mainPanel.add(secretsSweepCheckbox, "wrap, gapleft 15");
+        mainPanel.add(new JBLabel(Bundle.message(Resource.SECRETS_CHUNK_THRESHOLD_LABEL)), "split 2, gapleft 15");
+        mainPanel.add(secretsChunkThresholdSpinner, "wrap");
+        mainPanel.add(new JBLabel(Bundle.message(Resource.SECRETS_SAVE_ONLY_THRESHOLD_LABEL)), "split 2, gapleft 15");
+        mainPanel.add(secretsSaveOnlyThresholdSpinner, "wrap, gapbottom 10");
 
         mainPanel.add(containersTitle, "split 2, span");
         mainPanel.add(new JSeparator(), "growx, wrap");
-        mainPanel.add(containersCheckbox, "wrap, gapbottom 10, gapleft 15");
+        mainPanel.add(containersCheckbox, "wrap, gapleft 15");
+        mainPanel.add(new JBLabel(Bundle.message(Resource.CONTAINERS_IMAGE_CACHE_TTL_LABEL)), "split 2, gapleft 15");
+        mainPanel.add(containersImageCacheTtlSpinner, "wrap, gapbottom 10");
 
         mainPanel.add(iacTitle, "split 2, span");
         mainPanel.add(new JSeparator(), "growx, wrap");
@@ -296,7 +308,11 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
         return ascaCheckbox.isSelected() != state.isAscaRealtime()
                 || ossCheckbox.isSelected() != state.isOssRealtime()
                 || secretsCheckbox.isSelected() != state.isSecretDetectionRealtime()
+                || secretsSweepCheckbox.isSelected() != state.isSecretsSweepOnStartup()
+                || secretsChunkThresholdSpinner.getNumber() != state.getSecretsChunkThresholdKb()
+                || secretsSaveOnlyThresholdSpinner.getNumber() != state.getSecretsSaveOnlyThresholdKb()
                 || containersCheckbox.isSelected() != state.isContainersRealtime()
+                || containersImageCacheTtlSpinner.getNumber() != state.getContainersImageCacheTtlMinutes()
                 || iacCheckbox.isSelected() != state.isIacRealtime()
                 || !Objects.equals(containersToolCombo.getSelectedItem(), state.getContainersTool());
     }
@@ -316,7 +332,11 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
         state.setAsca(ascaSelected);
         state.setOssRealtime(ossSelected);
         state.setSecretDetectionRealtime(secretsSelected);
+        state.setSecretsSweepOnStartup(secretsSweepCheckbox.isSelected());
+        state.setSecretsChunkThresholdKb(secretsChunkThresholdSpinner.getNumber());
+        state.setSecretsSaveOnlyThresholdKb(secretsSaveOnlyThresholdSpinner.getNumber());
         state.setContainersRealtime(containersSelected);
+        state.setContainersImageCacheTtlMinutes(containersImageCacheTtlSpinner.getNumber());
         state.setIacRealtime(iacSelected);
         String selectedValue = (String) containersToolCombo.getSelectedItem();
         state.setContainersTool(selectedValue);
@@ -340,7 +360,11 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
 
         ossCheckbox.setSelected(state.isOssRealtime());
         secretsCheckbox.setSelected(state.isSecretDetectionRealtime());
+        secretsSweepCheckbox.setSelected(state.isSecretsSweepOnStartup());
+        secretsChunkThresholdSpinner.setNumber(state.getSecretsChunkThresholdKb());
+        secretsSaveOnlyThresholdSpinner.setNumber(state.getSecretsSaveOnlyThresholdKb());
         containersCheckbox.setSelected(state.isContainersRealtime());
+        containersImageCacheTtlSpinner.setNumber(state.getContainersImageCacheTtlMinutes());
         iacCheckbox.setSelected(state.isIacRealtime());
         containersToolCombo.setSelectedItem(state.getContainersTool());
 
@@ -388,7 +412,11 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
         ascaCheckbox.setEnabled(false);
         ossCheckbox.setEnabled(false);
         secretsCheckbox.setEnabled(false);
+        secretsSweepCheckbox.setEnabled(false);
+        secretsChunkThresholdSpinner.setEnabled(false);
+        secretsSaveOnlyThresholdSpinner.setEnabled(false);
         containersCheckbox.setEnabled(false);
+        containersImageCacheTtlSpinner.setEnabled(false);
         iacCheckbox.setEnabled(false);
         containersToolCombo.setEnabled(false);
         if (installMcpLink != null) {
@@ -451,9 +479,13 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
         ascaCheckbox.setEnabled(mcpEnabled);
         ossCheckbox.setEnabled(mcpEnabled);
         secretsCheckbox.setEnabled(mcpEnabled);
+        secretsSweepCheckbox.setEnabled(mcpEnabled);
+        secretsChunkThresholdSpinner.setEnabled(mcpEnabled);
+        secretsSaveOnlyThresholdSpinner.setEnabled(mcpEnabled);
         // Enable install MCP link only if MCP is enabled at tenant level AND user is authenticated
         installMcpLink.setEnabled(mcpEnabled && isAuthenticated);
         containersCheckbox.setEnabled(mcpEnabled);
+        containersImageCacheTtlSpinner.setEnabled(mcpEnabled);
         iacCheckbox.setEnabled(mcpEnabled);
         containersToolCombo.setEnabled(mcpEnabled);
 
@@ -548,7 +580,11 @@ public class CxOneAssistComponent implements SettingsComponent, Disposable {
         ascaCheckbox.setEnabled(false);
         ossCheckbox.setEnabled(false);
         secretsCheckbox.setEnabled(false);
+        secretsSweepCheckbox.setEnabled(false);
+        secretsChunkThresholdSpinner.setEnabled(false);
+        secretsSaveOnlyThresholdSpinner.setEnabled(false);
         containersCheckbox.setEnabled(false);
+        containersImageCacheTtlSpinner.setEnabled(false);
         iacCheckbox.setEnabled(false);
         installMcpLink.setEnabled(false);
 
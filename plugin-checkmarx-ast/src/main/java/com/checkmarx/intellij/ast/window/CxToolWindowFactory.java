@@ -2,6 +2,7 @@ package com.checkmarx.intellij.ast.window;
 
 import com.checkmarx.intellij.common.context.PluginContext;
 import com.checkmarx.intellij.common.utils.Constants;
+import com.checkmarx.intellij.devassist.ui.diagnostics.DevAssistDiagnosticsPanel;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistFindingsWindow;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistIgnoredFindings;
 import com.checkmarx.intellij.devassist.utils.DevAssistConstants;
@@ -73,7 +74,8 @@ public class CxToolWindowFactory implements ToolWindowFactory, DumbAware {
         contentManager.addContent(ignoredVulnerabilities);
         Disposer.register(project, ignoredVulnerabilitiesWindow);
 
-
+        // Realtime scanning Diagnostics tab
+        addDiagnosticsTab(project, contentManager);
     }
 
     /**
@@ -105,4 +107,20 @@ public class CxToolWindowFactory implements ToolWindowFactory, DumbAware {
             LOG.error("Failed to create Dev Assist Findings tab", e);
         }
     }
+
+    /**
+     * Add the realtime scanning Diagnostics tab.
+     */
+    private void addDiagnosticsTab(@NotNull Project project,
+                                   @NotNull ContentManager contentManager) {
+        try {
+            final DevAssistDiagnosticsPanel diagnosticsPanel = new DevAssistDiagnosticsPanel(project);
+            contentManager.addContent(
+                    contentManager.getFactory().createContent(diagnosticsPanel, DevAssistConstants.DIAGNOSTICS_TAB, false)
+            );
+            Disposer.register(project, diagnosticsPanel);
+        } catch (Exception e) {
+            LOG.warn("Failed to create Diagnostics tab", e);
+        }
+    }
 }
@@ -11,6 +11,8 @@ import com.checkmarx.intellij.ast.window.actions.group.by.GroupBy;
 import com.checkmarx.intellij.ast.window.actions.selection.ResetSelectionAction;
 import com.checkmarx.intellij.ast.window.actions.selection.RootGroup;
 import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeFactory;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeIndex;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeState;
 import com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode;
 import com.checkmarx.intellij.common.commands.TenantSetting;
 import com.checkmarx.intellij.common.components.TreeUtils;
@@ -21,6 +23,7 @@ import com.checkmarx.intellij.common.settings.SettingsListener;
 import com.checkmarx.intellij.common.ui.CommonPanels;
 import com.checkmarx.intellij.common.utils.Constants;
 import com.checkmarx.intellij.common.utils.Utils;
+import com.checkmarx.intellij.common.window.actions.filter.Filterable;
 import com.checkmarx.intellij.devassist.registry.ScannerRegistry;
 import com.intellij.openapi.Disposable;
 import com.intellij.openapi.actionSystem.ActionGroup;
@@ -37,11 +40,11 @@ import com.intellij.ui.treeStructure.Tree;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.swing.event.TreeSelectionEvent;
 import javax.swing.event.TreeSelectionListener;
 import javax.swing.tree.DefaultMutableTreeNode;
-import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
@@ -63,6 +66,9 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
 
     private static final Logger LOGGER = Utils.getLogger(CxToolWindowPanel.class);
 
+    // result count from which the results tree is built outside the EDT
+    private static final int BACKGROUND_TREE_THRESHOLD = 1000;
+
     // pattern for validating UUIDs provided in the scan id field
     private static final Pattern uuidPattern = Pattern.compile(
             "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$");
@@ -81,6 +87,12 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
     private ResultGetState currentState = new ResultGetState();
     private Tree currentTree = null;
     private boolean getResultsInProgress = false;
+    // scan shown by currentTree, expansion and selection are only kept when redrawing the same scan
+    private String currentTreeScanId = null;
+    // incremented for every tree draw, so only the latest background build is shown
+    private int treeGeneration = 0;
+    // current results indexed for the tree, reused when only the grouping or filters change
+    private ResultsTreeIndex currentIndex = null;
 
     @Getter
     private RootGroup rootGroup;
@@ -225,7 +237,18 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
      */
     public void selectScan(String scanId) {
         if (Utils.validThread()) {
-            triggerDrawResultsTree(scanId, false);
+            triggerDrawResultsTree(scanId, false, null);
+        }
+    }
+
+    /**
+     * Trigger drawing the results by a selection from the list of scans, whose status is already known
+     *
+     * @param scan selected scan
+     */
+    public void selectScan(com.checkmarx.ast.scan.Scan scan) {
+        if (Utils.validThread()) {
+            triggerDrawResultsTree(scan.getId(), false, scan);
         }
     }
 
@@ -329,6 +352,7 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
         }
         rootGroup.setEnabled(false);
         currentState = new ResultGetState();
+        currentIndex = null;
         projectResultsService.indexResults(project, Results.emptyResults);
         scanIdField.setText("");
         scanTreeSplitter.setSecondComponent(simplePanel());
@@ -345,8 +369,10 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
      * - the scan id is a valid UUID or blank (latest)
      *
      * @param scanIdValue scan id to get results
+     * @param knownScan   scan selected from a list, or null if only its id is known
      */
-    private void triggerDrawResultsTree(String scanIdValue, boolean overrideSelections) {
+    private void triggerDrawResultsTree(String scanIdValue, boolean overrideSelections,
+                                        @Nullable com.checkmarx.ast.scan.Scan knownScan) {
 
         if (!Utils.validThread() || getResultsInProgress || Objects.equals(scanIdValue,
                 currentState.getScanIdFieldValue())) {
@@ -376,7 +402,7 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
 
         // updates to variables wrapped in an invokeLater call so the Swing EDT performs the update
         // in a single threaded manner
-        Results.getResults(scanIdValue)
+        Results.getResults(scanIdValue, knownScan)
                 .thenAcceptAsync((newState) -> ApplicationManager.getApplication().invokeLater(() -> {
                     currentState = newState;
                     if (overrideSelections) {
@@ -410,20 +436,64 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
     }
 
     /**
-     * Draw the results tree
+     * Draw the results tree.
+     * Results are indexed once per result set, so regrouping and refiltering only project the index.
+     * Large result sets are grouped in a pooled thread and the finished tree replaces the current one in a single
+     * EDT update, keeping the expanded and selected nodes when the scan is the same.
      */
     private void drawTree() {
         if (!Utils.validThread() || currentState.getScanId() == null) {
             return;
         }
 
-        currentTree = ResultsTreeFactory.buildResultsTree(currentState.getScanId(),
-                currentState.getResultOutput(),
-                project,
-                groupByList,
-                GlobalSettingsState.getInstance().getFilters(),
-                currentState.isLatest());
-        currentTree.addTreeSelectionListener(new OnSelectShowDetail());
+        int generation = ++treeGeneration;
+        String scanId = currentState.getScanId();
+        com.checkmarx.ast.results.Results results = currentState.getResultOutput();
+        boolean latest = currentState.isLatest();
+        // copies, as grouping runs outside the EDT and reorders the group by list
+        List<GroupBy> groupBy = new ArrayList<>(groupByList);
+        Set<Filterable> filters = new HashSet<>(GlobalSettingsState.getInstance().getFilters());
+
+        ResultsTreeIndex cachedIndex = currentIndex != null && currentIndex.isFor(results) ? currentIndex : null;
+
+        if (results.getResults().size() < BACKGROUND_TREE_THRESHOLD) {
+            currentIndex = cachedIndex != null ? cachedIndex : ResultsTreeFactory.indexResults(results);
+            showTree(scanId, ResultsTreeFactory.buildResultsRoot(scanId, currentIndex, project, groupBy, filters, latest));
+            return;
+        }
+        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+            ResultsTreeIndex index = cachedIndex != null ? cachedIndex : ResultsTreeFactory.indexResults(results);
+            DefaultMutableTreeNode root = ResultsTreeFactory.buildResultsRoot(scanId, index, project, groupBy,
+                    filters, latest);
+            ApplicationManager.getApplication().invokeLater(() -> {
+                // keep the index for the next draw of the same results, even if this tree is outdated
+                if (index.isFor(currentState.getResultOutput())) {
+                    currentIndex = index;
+                }
+                // skip if a newer draw started or the panel moved on to another scan meanwhile
+                if (generation == treeGeneration && scanId.equals(currentState.getScanId())) {
+                    showTree(scanId, root);
+                }
+            });
+        });
+    }
+
+    /**
+     * Replace the current tree with a tree for the given root, restoring expansion and selection of the same scan.
+     * The selection listener is attached first, so a restored result selection shows the details of the rebuilt
+     * node instead of the detached node of the previous tree.
+     */
+    private void showTree(String scanId, DefaultMutableTreeNode root) {
+        ResultsTreeState previousState = currentTree != null && scanId.equals(currentTreeScanId)
+                ? ResultsTreeState.capture(currentTree)
+                : null;
+        Tree tree = ResultsTreeFactory.createTree(root);
+        tree.addTreeSelectionListener(new OnSelectShowDetail());
+        if (previousState != null) {
+            previousState.restore(tree);
+        }
+        currentTree = tree;
+        currentTreeScanId = scanId;
         scanTreeSplitter.setSecondComponent(TreeUtils.treePanel(currentTree));
     }
 
@@ -441,24 +511,14 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
                 Tree tree = (Tree) e.getSource();
                 if (tree.getModel().isLeaf(selected) && selected instanceof ResultNode) {
                     ResultNode resultNode = (ResultNode) selected;
-                    treeDetailsSplitter.setSecondComponent(resultNode.buildResultPanel(() -> {
-                        ApplicationManager.getApplication().invokeLater(() -> {
-                            drawTree();
-                            DefaultMutableTreeNode root = (DefaultMutableTreeNode) currentTree.getModel().getRoot();
-                            Enumeration<TreeNode> enumeration = root.depthFirstEnumeration();
-                            while (enumeration.hasMoreElements()) {
-                                TreeNode treeNode = enumeration.nextElement();
-                                if (tree.getModel().isLeaf(treeNode) && treeNode instanceof ResultNode) {
-                                    ResultNode node = (ResultNode) treeNode;
-                                    if (node.getResult() == resultNode.getResult()) {
-                                        currentTree.expandPath(new TreePath(node.getPath()).getParentPath());
-                                        break;
-                                    }
-                                }
-                            }
-                            valueChanged(new TreeSelectionEvent(currentTree, path, true, e.getOldLeadSelectionPath(), e.getNewLeadSelectionPath()));
-                        });
-                    }, () -> refreshPanel()));
+                    // triage changed the result, so its indexed severity and state are outdated;
+                    // redrawing keeps the selection by key, which shows the details of the rebuilt node
+                    treeDetailsSplitter.setSecondComponent(resultNode.buildResultPanel(
+                            () -> ApplicationManager.getApplication().invokeLater(() -> {
+                                currentIndex = null;
+                                drawTree();
+                            }),
+                            () -> refreshPanel()));
                 }
             }
         }
@@ -501,7 +561,7 @@ public class CxToolWindowPanel extends SimpleToolWindowPanel implements Disposab
                     resetResultWindow();
                     return;
                 }
-                triggerDrawResultsTree(scanIdField.getText().trim(), true);
+                triggerDrawResultsTree(scanIdField.getText().trim(), true, null);
             }
         }
     }
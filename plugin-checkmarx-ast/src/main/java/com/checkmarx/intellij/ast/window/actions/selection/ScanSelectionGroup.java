@@ -79,13 +79,13 @@ public class ScanSelectionGroup extends BaseSelectionGroup {
             ApplicationManager.getApplication().invokeLater(() -> {
                 for (com.checkmarx.ast.scan.Scan scan : scans) {
                     if(scan == scans.get(0)) {
-                        add(new Action(scan.getId(), formatScan(scan, true)));
+                        add(new Action(scan, formatScan(scan, true)));
                     } else {
-                        add(new Action(scan.getId(), formatScan(scan, false)));
+                        add(new Action(scan, formatScan(scan, false)));
                     }
                 }
                 if (!scans.isEmpty() && selectLatestScan) {
-                    select(scans.get(0).getId(), formatScan(scans.get(0), true));
+                    select(scans.get(0), formatScan(scans.get(0), true));
                 }
                 setEnabled(true);
                 refreshPanel(project);
@@ -110,13 +110,13 @@ public class ScanSelectionGroup extends BaseSelectionGroup {
      * - Storing the selected scan in the IDE state;
      * - Triggering redrawing of the panel with the new scan id
      *
-     * @param scanId        selected scan's id
+     * @param scan          selected scan
      * @param formattedScan scan formatted for showing in the label
      */
-    private void select(String scanId, String formattedScan) {
+    private void select(com.checkmarx.ast.scan.Scan scan, String formattedScan) {
         propertiesComponent.setValue(Constants.SELECTED_SCAN_PROPERTY, formattedScan);
         Optional<CxToolWindowPanel> toolWindowPanel = Optional.ofNullable(getCxToolWindowPanel(project));
-        toolWindowPanel.ifPresent(cxToolWindowPanel -> cxToolWindowPanel.selectScan(scanId));
+        toolWindowPanel.ifPresent(cxToolWindowPanel -> cxToolWindowPanel.selectScan(scan));
         refreshPanel(project);
     }
 
@@ -151,17 +151,17 @@ public class ScanSelectionGroup extends BaseSelectionGroup {
     private class Action extends AnAction implements DumbAware {
 
         private final String name;
-        private final String scanId;
+        private final com.checkmarx.ast.scan.Scan scan;
 
-        public Action(String scanId, String name) {
+        public Action(com.checkmarx.ast.scan.Scan scan, String name) {
             super(name);
             this.name = name;
-            this.scanId = scanId;
+            this.scan = scan;
         }
 
         @Override
         public void actionPerformed(@NotNull AnActionEvent e) {
-            select(scanId, name);
+            select(scan, name);
         }
     }
 }
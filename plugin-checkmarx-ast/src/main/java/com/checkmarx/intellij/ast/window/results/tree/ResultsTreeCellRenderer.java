@@ -1,7 +1,9 @@
 package com.checkmarx.intellij.ast.window.results.tree;
 
+import com.checkmarx.intellij.ast.window.results.tree.nodes.LoadMoreNode;
 import com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode;
 import com.intellij.ide.util.treeView.NodeRenderer;
+import com.intellij.ui.SimpleTextAttributes;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
@@ -19,6 +21,9 @@ public class ResultsTreeCellRenderer extends NodeRenderer {
         super.customizeCellRenderer(tree, value, selected, expanded, leaf, row, hasFocus);
         if (value instanceof ResultNode) {
             setIcon(((ResultNode) value).getIcon());
+        } else if (value instanceof LoadMoreNode) {
+            clear();
+            append(value.toString(), SimpleTextAttributes.LINK_ATTRIBUTES);
         }
     }
 }
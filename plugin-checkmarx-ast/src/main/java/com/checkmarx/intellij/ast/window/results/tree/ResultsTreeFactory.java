@@ -4,6 +4,7 @@ import com.checkmarx.ast.results.Results;
 import com.checkmarx.ast.results.result.Result;
 import com.checkmarx.ast.results.result.ScaPackageData;
 import com.checkmarx.intellij.ast.window.actions.group.by.GroupBy;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.LoadMoreNode;
 import com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode;
 import com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode;
 import com.checkmarx.intellij.common.resources.Bundle;
@@ -17,8 +18,12 @@ import com.intellij.ui.tree.ui.DefaultTreeUI;
 import com.intellij.ui.treeStructure.Tree;
 import org.jetbrains.annotations.NotNull;
 
+import javax.swing.*;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeWillExpandListener;
 import javax.swing.tree.DefaultMutableTreeNode;
-import javax.swing.tree.TreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -29,6 +34,11 @@ import static com.checkmarx.intellij.ast.window.actions.group.by.GroupBy.SCA_TYP
  */
 public class ResultsTreeFactory {
 
+    /**
+     * Number of result nodes created at a time below a group, see {@link NonLeafNode#loadNextPage}.
+     */
+    public static final int RESULTS_PAGE_SIZE = 500;
+
     /**
      * Get results from the CLI in a tree format.
      *
@@ -47,18 +57,151 @@ public class ResultsTreeFactory {
                                         List<GroupBy> groupByList,
                                         Set<Filterable> enabledFilters,
                                         boolean latest) {
+        return createTree(buildResultsRoot(scanId, results, project, groupByList, enabledFilters, latest));
+    }
+
+    /**
+     * Build the root node of a results tree, without creating any Swing component.
+     * Can be called outside the Swing EDT, the nodes are not shared until passed to {@link #createTree}.
+     *
+     * @param scanId         scan id
+     * @param results        list of results
+     * @param project        context project
+     * @param groupByList    list of {@link GroupBy}
+     * @param enabledFilters set of enabled {@link Filterable}
+     * @param latest         whether the scan id is the latest
+     * @return root node with one child per engine
+     */
+    @NotNull
+    public static DefaultMutableTreeNode buildResultsRoot(String scanId,
+                                                          Results results,
+                                                          Project project,
+                                                          List<GroupBy> groupByList,
+                                                          Set<Filterable> enabledFilters,
+                                                          boolean latest) {
+        return buildResultsRoot(scanId, indexResults(results), project, groupByList, enabledFilters, latest);
+    }
+
+    /**
+     * Build the root node of a results tree from indexed results, without creating any Swing component.
+     * Can be called outside the Swing EDT, the nodes are not shared until passed to {@link #createTree}.
+     *
+     * @param scanId         scan id
+     * @param index          indexed results, see {@link #indexResults}
+     * @param project        context project
+     * @param groupByList    list of {@link GroupBy}
+     * @param enabledFilters set of enabled {@link Filterable}
+     * @param latest         whether the scan id is the latest
+     * @return root node with one child per engine
+     */
+    @NotNull
+    public static DefaultMutableTreeNode buildResultsRoot(String scanId,
+                                                          ResultsTreeIndex index,
+                                                          Project project,
+                                                          List<GroupBy> groupByList,
+                                                          Set<Filterable> enabledFilters,
+                                                          boolean latest) {
+        Object rootNodeLabel = Bundle.message(Resource.RESULTS_TREE_HEADER, scanId);
+        rootNodeLabel += Utils.formatLatest(latest);
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode(rootNodeLabel);
+        for (DefaultMutableTreeNode node : buildEngineNodes(scanId, index, project, groupByList, enabledFilters)) {
+            root.add(node);
+        }
+        return root;
+    }
+
+    /**
+     * Create the results tree component for a root built by {@link #buildResultsRoot}.
+     * Result nodes of a group are created when the group is expanded, a page at a time; selecting the
+     * {@link LoadMoreNode} of a group creates the next page.
+     * Must be called in the Swing EDT.
+     *
+     * @param root root node
+     * @return tree with the root node
+     */
+    @NotNull
+    public static Tree createTree(DefaultMutableTreeNode root) {
+        Tree tree = new Tree(root);
+        DefaultTreeModel model = (DefaultTreeModel) tree.getModel();
 
-        Tree tree = createTree(scanId, latest);
+        tree.addTreeWillExpandListener(new TreeWillExpandListener() {
+            @Override
+            public void treeWillExpand(TreeExpansionEvent event) {
+                Object node = event.getPath().getLastPathComponent();
+                if (node instanceof NonLeafNode) {
+                    ((NonLeafNode) node).loadFirstPage(RESULTS_PAGE_SIZE, model);
+                }
+            }
 
+            @Override
+            public void treeWillCollapse(TreeExpansionEvent event) {
+                // nothing to do, loaded pages are kept
+            }
+        });
+        tree.addTreeSelectionListener(event -> {
+            TreePath path = event.getNewLeadSelectionPath();
+            if (path != null && path.getLastPathComponent() instanceof LoadMoreNode) {
+                NonLeafNode group = (NonLeafNode) path.getParentPath().getLastPathComponent();
+                // change the model after the selection change completed
+                SwingUtilities.invokeLater(() -> {
+                    List<ResultNode> loaded = group.loadNextPage(RESULTS_PAGE_SIZE, model);
+                    if (!loaded.isEmpty()) {
+                        tree.scrollPathToVisible(path.getParentPath().pathByAddingChild(loaded.get(0)));
+                    }
+                });
+            }
+        });
+
+        tree.setCellRenderer(new ResultsTreeCellRenderer());
+
+        tree.setUI(new DefaultTreeUI());
+
+        //noinspection UnstableApiUsage
+        TreeHoverListener.DEFAULT.addTo(tree);
+
+        return tree;
+    }
+
+    /**
+     * Group and filter the results into one node per engine, without creating any Swing component.
+     *
+     * @param scanId         scan id
+     * @param results        list of results
+     * @param project        context project
+     * @param groupByList    list of {@link GroupBy}
+     * @param enabledFilters set of enabled {@link Filterable}
+     * @return engine nodes with their grouped sub-trees
+     */
+    @NotNull
+    public static Collection<NonLeafNode> buildEngineNodes(String scanId,
+                                                           Results results,
+                                                           Project project,
+                                                           List<GroupBy> groupByList,
+                                                           Set<Filterable> enabledFilters) {
+        return buildEngineNodes(scanId, indexResults(results), project, groupByList, enabledFilters);
+    }
+
+    /**
+     * Group and filter indexed results into one node per engine, without creating any Swing component.
+     * Only the selected results are visited, with their filter ids and group keys read from the index.
+     *
+     * @param scanId         scan id
+     * @param index          indexed results, see {@link #indexResults}
+     * @param project        context project
+     * @param groupByList    list of {@link GroupBy}
+     * @param enabledFilters set of enabled {@link Filterable}
+     * @return engine nodes with their grouped sub-trees
+     */
+    @NotNull
+    public static Collection<NonLeafNode> buildEngineNodes(String scanId,
+                                                           ResultsTreeIndex index,
+                                                           Project project,
+                                                           List<GroupBy> groupByList,
+                                                           Set<Filterable> enabledFilters) {
         Map<String, NonLeafNode> engineNodes = new HashMap<>();
         // Make sure sca type groupBy is always applied first
         groupByList.remove(SCA_TYPE);
-        long distinctScaTypes = results.getResults().stream()
-                .filter(r -> Constants.SCAN_TYPE_SCA.equalsIgnoreCase(r.getType()))                                                                                                    .map(Result::getScaType)
-                .filter(t -> !Utils.isBlank(t))
-                .distinct()
-                .count();
-        if (distinctScaTypes > 1) {
+        if (index.hasMultipleScaTypes()) {
             groupByList.add(0, SCA_TYPE);
         }
 
@@ -69,23 +212,53 @@ public class ResultsTreeFactory {
 
         boolean isSCAHideDevTestDependencyEnabled = Utils.isFilterEnabled(enabledFilterValues, Constants.SCA_HIDE_DEV_TEST_DEPENDENCIES);
 
-        // Stream over results and filter
-        results.getResults().stream()
-                .filter(result -> enabledFilterValues.contains(result.getSeverity())
-                        && enabledFilterValues.contains(result.getState()))
-                .forEach(result -> {
-                    if (!isDevTestDependency(result, isSCAHideDevTestDependencyEnabled)) {
-                        String engineType = mapEngineTypeForDisplay(result.getType());
-                        addResultToEngine(project, groupByList,
-                                engineNodes.computeIfAbsent(engineType, NonLeafNode::new),
-                                result, scanId);
-                            }
-                        }
-                );
-        for (DefaultMutableTreeNode node : engineNodes.values()) {
-            ((DefaultMutableTreeNode) tree.getModel().getRoot()).add(node);
+        BitSet selected = index.select(enabledFilterValues, isSCAHideDevTestDependencyEnabled);
+        String[][] groupKeys = new String[groupByList.size()][];
+        List<Comparator<String>> comparators = new ArrayList<>(groupByList.size());
+        for (int level = 0; level < groupByList.size(); level++) {
+            groupKeys[level] = index.groupKeys(groupByList.get(level));
+            comparators.add(groupByList.get(level).getComparator());
         }
-        return tree;
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            addResultToEngine(project,
+                    groupKeys,
+                    comparators,
+                    engineNodes.computeIfAbsent(index.getEngine(i), NonLeafNode::new),
+                    index.getResult(i),
+                    i,
+                    scanId);
+        }
+        // sort once per level, sorting on every insertion makes big trees quadratic
+        engineNodes.values().forEach(NonLeafNode::sortChildren);
+        return engineNodes.values();
+    }
+
+    /**
+     * Index results for building trees with {@link #buildEngineNodes(String, ResultsTreeIndex, Project, List, Set)}.
+     * The index can be kept and reused for every regroup or refilter of the same results.
+     *
+     * @param results results to index
+     * @return indexed results
+     */
+    @NotNull
+    public static ResultsTreeIndex indexResults(Results results) {
+        List<Result> resultList = results.getResults();
+        String[] engines = new String[resultList.size()];
+        BitSet devTestDependencies = new BitSet(resultList.size());
+        for (int i = 0; i < resultList.size(); i++) {
+            Result result = resultList.get(i);
+            engines[i] = mapEngineTypeForDisplay(result.getType());
+            if (isDevTestDependency(result, true)) {
+                devTestDependencies.set(i);
+            }
+        }
+        long distinctScaTypes = resultList.stream()
+                .filter(r -> Constants.SCAN_TYPE_SCA.equalsIgnoreCase(r.getType()))
+                .map(Result::getScaType)
+                .filter(t -> !Utils.isBlank(t))
+                .distinct()
+                .count();
+        return new ResultsTreeIndex(results, engines, devTestDependencies, distinctScaTypes > 1);
     }
 
     /**
@@ -98,7 +271,7 @@ public class ResultsTreeFactory {
      * @return true if SCA Hide Dev & Test Dependency filter is enabled and a result is for SCA and belongs to dev or test dependency, otherwise false
      */
     private static boolean isDevTestDependency(Result result, boolean isSCAHideDevTestDependencyEnabled) {
-        if (isSCAHideDevTestDependencyEnabled && result != null && result.getType().equalsIgnoreCase(Constants.SCAN_TYPE_SCA)) {
+        if (isSCAHideDevTestDependencyEnabled && result != null && Constants.SCAN_TYPE_SCA.equalsIgnoreCase(result.getType())) {
             ScaPackageData scaPackageData = result.getData() != null ? result.getData().getScaPackageData() : null;
             return (scaPackageData != null && (scaPackageData.isDevelopmentDependency() || scaPackageData.isTestDependency()));
         }
@@ -126,54 +299,22 @@ public class ResultsTreeFactory {
     }
 
     private static void addResultToEngine(Project project,
-                                          List<GroupBy> groupByList,
+                                          String[][] groupKeys,
+                                          List<Comparator<String>> comparators,
                                           NonLeafNode parent,
                                           Result result,
+                                          int position,
                                           String scanId) {
-        for (GroupBy groupBy : groupByList) {
-            NonLeafNode child = null;
-            String childKey = groupBy.getFunction().apply(result);
+        for (int level = 0; level < groupKeys.length; level++) {
+            String childKey = groupKeys[level][position];
             if (Utils.isBlank(childKey)) {
                 continue;
             }
-            // search for the child node
-            Iterator<TreeNode> it = parent.children().asIterator();
-            while (it.hasNext()) {
-                TreeNode node = it.next();
-                if (!(node instanceof NonLeafNode)) continue;
-                NonLeafNode newChild = (NonLeafNode) node;
-                if (childKey.equals(newChild.getUserObject())) {
-                    child = newChild;
-                    break;
-                }
-            }
-            if (child == null) {
-                // if the parent was not found, create a new one
-                child = new NonLeafNode(childKey);
-                parent.add(child, groupBy.getComparator());
-            }
+            NonLeafNode child = parent.getOrAddChild(childKey, comparators.get(level));
             parent.incrementSubTreeSize();
             parent = child;
         }
-        parent.add(new ResultNode(result, project, scanId), String::compareTo);
+        parent.addPendingResult(result, project, scanId);
         parent.incrementSubTreeSize();
     }
-
-    @NotNull
-    private static Tree createTree(String scanId, boolean latest) {
-        Object rootNodeLabel = Bundle.message(Resource.RESULTS_TREE_HEADER, scanId);
-        rootNodeLabel += Utils.formatLatest(latest);
-        DefaultMutableTreeNode root = new DefaultMutableTreeNode(rootNodeLabel);
-
-        Tree tree = new Tree(root);
-
-        tree.setCellRenderer(new ResultsTreeCellRenderer());
-
-        tree.setUI(new DefaultTreeUI());
-
-        //noinspection UnstableApiUsage
-        TreeHoverListener.DEFAULT.addTo(tree);
-
-        return tree;
-    }
 }
@@ -0,0 +1,142 @@
+package com.checkmarx.intellij.ast.window.results.tree;
+
+import com.checkmarx.ast.results.Results;
+import com.checkmarx.ast.results.result.Result;
+import com.checkmarx.intellij.ast.window.actions.group.by.GroupBy;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Results of a scan indexed for building results trees, so regrouping or refiltering the same results does not
+ * recompute anything per result.
+ * Each result has its engine label, dev/test dependency flag and filter value ids computed once; group keys are
+ * computed once per {@link GroupBy} dimension, the first time the dimension is used.
+ * Created by {@link ResultsTreeFactory#indexResults}, safe to share between threads.
+ */
+public final class ResultsTreeIndex {
+
+    private final Results results;
+    private final List<Result> resultList;
+    private final String[] engines;
+    private final BitSet devTestDependencies;
+    private final boolean multipleScaTypes;
+
+    // severities and states share one id space, as they share the filter value space
+    private final Map<String, Integer> filterValueIds = new HashMap<>();
+    private final int[] severityIds;
+    private final int[] stateIds;
+
+    private final String[][] groupKeys = new String[GroupBy.values().length][];
+
+    ResultsTreeIndex(Results results, String[] engines, BitSet devTestDependencies, boolean multipleScaTypes) {
+        this.results = results;
+        this.resultList = results.getResults();
+        this.engines = engines;
+        this.devTestDependencies = devTestDependencies;
+        this.multipleScaTypes = multipleScaTypes;
+        this.severityIds = new int[resultList.size()];
+        this.stateIds = new int[resultList.size()];
+        for (int i = 0; i < resultList.size(); i++) {
+            severityIds[i] = filterValueId(resultList.get(i).getSeverity());
+            stateIds[i] = filterValueId(resultList.get(i).getState());
+        }
+    }
+
+    /**
+     * @param results results to check
+     * @return whether this index was built for the given results
+     */
+    public boolean isFor(Results results) {
+        return this.results == results;
+    }
+
+    /**
+     * @return number of indexed results
+     */
+    public int size() {
+        return resultList.size();
+    }
+
+    /**
+     * @param position result position
+     * @return the result at the position
+     */
+    public Result getResult(int position) {
+        return resultList.get(position);
+    }
+
+    /**
+     * @param position result position
+     * @return display label of the result engine
+     */
+    public String getEngine(int position) {
+        return engines[position];
+    }
+
+    /**
+     * @return whether the results have more than one SCA type, so they are grouped by SCA type first
+     */
+    public boolean hasMultipleScaTypes() {
+        return multipleScaTypes;
+    }
+
+    /**
+     * Select the results matching the enabled filters, by checking the severity and state ids of each result
+     * against the bitmask of enabled filter values.
+     *
+     * @param enabledFilterValues  enabled filter values
+     * @param hideDevTestDependency whether SCA dev and test dependencies are hidden
+     * @return positions of the matching results
+     */
+    @NotNull
+    public BitSet select(Set<String> enabledFilterValues, boolean hideDevTestDependency) {
+        BitSet enabled = new BitSet(filterValueIds.size());
+        for (String value : enabledFilterValues) {
+            Integer id = filterValueIds.get(value);
+            if (id != null) {
+                enabled.set(id);
+            }
+        }
+        BitSet selected = new BitSet(resultList.size());
+        for (int i = 0; i < resultList.size(); i++) {
+            if (severityIds[i] >= 0 && stateIds[i] >= 0 && enabled.get(severityIds[i]) && enabled.get(stateIds[i])) {
+                selected.set(i);
+            }
+        }
+        if (hideDevTestDependency) {
+            selected.andNot(devTestDependencies);
+        }
+        return selected;
+    }
+
+    /**
+     * Get the group keys of all results for a dimension, computing them on first use.
+     *
+     * @param groupBy group by dimension
+     * @return group key of each result, by position
+     */
+    @NotNull
+    public synchronized String[] groupKeys(GroupBy groupBy) {
+        String[] keys = groupKeys[groupBy.ordinal()];
+        if (keys == null) {
+            keys = new String[resultList.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = groupBy.getFunction().apply(resultList.get(i));
+            }
+            groupKeys[groupBy.ordinal()] = keys;
+        }
+        return keys;
+    }
+
+    private int filterValueId(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return filterValueIds.computeIfAbsent(value, k -> filterValueIds.size());
+    }
+}
@@ -0,0 +1,139 @@
+package com.checkmarx.intellij.ast.window.results.tree;
+
+import com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode;
+import com.intellij.ui.treeStructure.Tree;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreeNode;
+import javax.swing.tree.TreePath;
+import java.util.*;
+
+/**
+ * Expansion and selection of a results tree, recorded by stable node keys so they can be restored on a rebuilt
+ * tree.
+ * The key of a group node is its label without the sub-tree size, the key of a result node is the result id.
+ * The root is left out of the keys, as its label changes with the scan.
+ */
+public class ResultsTreeState {
+
+    private final List<List<String>> expanded;
+    private final List<String> selected;
+
+    private ResultsTreeState(List<List<String>> expanded, List<String> selected) {
+        this.expanded = expanded;
+        this.selected = selected;
+    }
+
+    /**
+     * Record the expansion and selection of a tree.
+     * Must be called in the Swing EDT.
+     *
+     * @param tree tree to record
+     * @return recorded state
+     */
+    @NotNull
+    public static ResultsTreeState capture(@NotNull Tree tree) {
+        List<List<String>> expanded = new ArrayList<>();
+        Object root = tree.getModel().getRoot();
+        if (root != null) {
+            Enumeration<TreePath> expandedPaths = tree.getExpandedDescendants(new TreePath(root));
+            if (expandedPaths != null) {
+                while (expandedPaths.hasMoreElements()) {
+                    expanded.add(keysOf(expandedPaths.nextElement()));
+                }
+            }
+        }
+        // parents first, so expanding a path never collapses a recorded descendant
+        expanded.sort(Comparator.comparingInt(List::size));
+        TreePath selectionPath = tree.getSelectionPath();
+        return new ResultsTreeState(expanded, selectionPath != null ? keysOf(selectionPath) : null);
+    }
+
+    /**
+     * Expand and select the nodes of a tree matching the recorded keys; nodes that no longer exist are skipped.
+     * Must be called in the Swing EDT.
+     *
+     * @param tree tree to restore the state on
+     */
+    public void restore(@NotNull Tree tree) {
+        Object root = tree.getModel().getRoot();
+        if (!(root instanceof DefaultMutableTreeNode)) {
+            return;
+        }
+        DefaultTreeModel model = tree.getModel() instanceof DefaultTreeModel ? (DefaultTreeModel) tree.getModel() : null;
+        for (List<String> keys : expanded) {
+            TreePath path = find((DefaultMutableTreeNode) root, keys, model);
+            if (path != null) {
+                tree.expandPath(path);
+            }
+        }
+        if (selected != null) {
+            TreePath path = find((DefaultMutableTreeNode) root, selected, model);
+            if (path != null) {
+                tree.setSelectionPath(path);
+                tree.scrollPathToVisible(path);
+            }
+        }
+    }
+
+    /**
+     * @param node tree node
+     * @return stable key of the node
+     */
+    @NotNull
+    public static String keyOf(@NotNull Object node) {
+        if (node instanceof ResultNode && ((ResultNode) node).getResult().getId() != null) {
+            return ((ResultNode) node).getResult().getId();
+        }
+        if (node instanceof DefaultMutableTreeNode) {
+            return String.valueOf(((DefaultMutableTreeNode) node).getUserObject());
+        }
+        return String.valueOf(node);
+    }
+
+    private static List<String> keysOf(TreePath path) {
+        Object[] nodes = path.getPath();
+        List<String> keys = new ArrayList<>(nodes.length - 1);
+        for (int i = 1; i < nodes.length; i++) {
+            keys.add(keyOf(nodes[i]));
+        }
+        return keys;
+    }
+
+    /**
+     * Find the node of the keys; if a result node was not created yet, pages are loaded until it is.
+     */
+    @Nullable
+    private static TreePath find(DefaultMutableTreeNode root, List<String> keys, @Nullable DefaultTreeModel model) {
+        TreePath path = new TreePath(root);
+        TreeNode node = root;
+        for (String key : keys) {
+            TreeNode next = findChild(node, key);
+            while (next == null && node instanceof NonLeafNode && ((NonLeafNode) node).hasPendingResult(key)) {
+                ((NonLeafNode) node).loadNextPage(ResultsTreeFactory.RESULTS_PAGE_SIZE, model);
+                next = findChild(node, key);
+            }
+            if (next == null) {
+                return null;
+            }
+            path = path.pathByAddingChild(next);
+            node = next;
+        }
+        return path;
+    }
+
+    @Nullable
+    private static TreeNode findChild(TreeNode node, String key) {
+        for (int i = 0; i < node.getChildCount(); i++) {
+            TreeNode child = node.getChildAt(i);
+            if (key.equals(keyOf(child))) {
+                return child;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.checkmarx.intellij.ast.window.results.tree.nodes;
+
+import com.checkmarx.intellij.common.resources.Bundle;
+import com.checkmarx.intellij.common.resources.Resource;
+
+import javax.swing.tree.DefaultMutableTreeNode;
+
+/**
+ * Last child of a group with results not shown yet; selecting it shows the next page of results.
+ */
+public class LoadMoreNode extends DefaultMutableTreeNode {
+
+    public LoadMoreNode(int pageSize, int remaining) {
+        super(Bundle.message(Resource.RESULTS_TREE_LOAD_MORE, Math.min(pageSize, remaining), remaining));
+        setAllowsChildren(false);
+    }
+}
@@ -1,17 +1,37 @@
 package com.checkmarx.intellij.ast.window.results.tree.nodes;
 
+import com.checkmarx.ast.results.result.Result;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.Nullable;
+
 import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
 import javax.swing.tree.MutableTreeNode;
 import javax.swing.tree.TreeNode;
-import java.util.Comparator;
+import java.util.*;
 
 /**
- * Non-leaf node (not a result) for engines and group by
+ * Non-leaf node (not a result) for engines and group by.
+ * Results directly below the node are kept pending and only get a {@link ResultNode} when the node is expanded,
+ * one page at a time, so the tree holds nodes for what is visible rather than for every result.
  */
 public class NonLeafNode extends DefaultMutableTreeNode {
 
     private int subTreeSize = 0;
 
+    // group children by label, so building a tree does not search the children for every result
+    private final Map<String, NonLeafNode> childIndex = new HashMap<>();
+    // comparator of the last deferred addition, applied by sortChildren
+    private Comparator<String> pendingComparator;
+
+    // results without a ResultNode yet, sorted by label on first load; null once all are loaded
+    private List<Result> pendingResults;
+    private boolean pendingSorted = false;
+    private int loadedResults = 0;
+    private LoadMoreNode loadMoreNode;
+    private Project project;
+    private String scanId;
+
     public NonLeafNode(String userObject) {
         super(userObject);
     }
@@ -32,7 +52,159 @@ public class NonLeafNode extends DefaultMutableTreeNode {
     public void add(MutableTreeNode newChild, Comparator<String> comparator) {
         super.add(newChild);
         if (comparator != null) {
-            super.children.sort((a, b) -> comparator.compare(getTreeNodeUserObject(a), getTreeNodeUserObject(b)));
+            sort(comparator);
+        }
+    }
+
+    /**
+     * Get the group child with the given label, appending a new one if there is none yet.
+     * Children are not sorted, call {@link #sortChildren()} once the tree is complete.
+     *
+     * @param label      label of the child
+     * @param comparator comparator to sort children with
+     * @return the existing or new child
+     */
+    public NonLeafNode getOrAddChild(String label, Comparator<String> comparator) {
+        NonLeafNode child = childIndex.get(label);
+        if (child == null) {
+            child = new NonLeafNode(label);
+            childIndex.put(label, child);
+            append(child, comparator);
+        }
+        return child;
+    }
+
+    /**
+     * Append a child without sorting; the comparator is applied by {@link #sortChildren()}.
+     *
+     * @param newChild   child to append
+     * @param comparator comparator to sort children with
+     */
+    public void append(MutableTreeNode newChild, Comparator<String> comparator) {
+        super.add(newChild);
+        if (comparator != null) {
+            pendingComparator = comparator;
+        }
+    }
+
+    /**
+     * Add a result directly below this node, without creating its {@link ResultNode} yet.
+     *
+     * @param result  result
+     * @param project context project
+     * @param scanId  scan id
+     */
+    public void addPendingResult(Result result, Project project, String scanId) {
+        if (pendingResults == null) {
+            pendingResults = new ArrayList<>();
+        }
+        pendingResults.add(result);
+        this.project = project;
+        this.scanId = scanId;
+    }
+
+    /**
+     * @return whether some results below this node have no {@link ResultNode} yet
+     */
+    public boolean hasPendingResults() {
+        return pendingResults != null && loadedResults < pendingResults.size();
+    }
+
+    /**
+     * @param resultId result id
+     * @return whether the result with the id is below this node without a {@link ResultNode} yet
+     */
+    public boolean hasPendingResult(String resultId) {
+        if (!hasPendingResults()) {
+            return false;
+        }
+        for (int i = loadedResults; i < pendingResults.size(); i++) {
+            if (Objects.equals(resultId, pendingResults.get(i).getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Create the nodes of the first page of results, if no page was loaded yet.
+     *
+     * @param pageSize number of results per page
+     * @param model    model to notify of the inserted nodes, if any
+     */
+    public void loadFirstPage(int pageSize, @Nullable DefaultTreeModel model) {
+        if (loadedResults == 0 && hasPendingResults()) {
+            loadNextPage(pageSize, model);
+        }
+    }
+
+    /**
+     * Create the nodes of the next page of results, in label order, followed by a {@link LoadMoreNode} while
+     * results remain.
+     *
+     * @param pageSize number of results per page
+     * @param model    model to notify of the removed and inserted nodes, if any
+     * @return the created result nodes
+     */
+    public List<ResultNode> loadNextPage(int pageSize, @Nullable DefaultTreeModel model) {
+        if (!hasPendingResults()) {
+            return Collections.emptyList();
+        }
+        if (loadMoreNode != null) {
+            int index = getIndex(loadMoreNode);
+            super.remove(index);
+            if (model != null) {
+                model.nodesWereRemoved(this, new int[]{index}, new Object[]{loadMoreNode});
+            }
+            loadMoreNode = null;
+        }
+        sortPendingResults();
+        int firstIndex = getChildCount();
+        int end = Math.min(loadedResults + pageSize, pendingResults.size());
+        List<ResultNode> loaded = new ArrayList<>(end - loadedResults);
+        for (int i = loadedResults; i < end; i++) {
+            ResultNode resultNode = new ResultNode(pendingResults.get(i), project, scanId);
+            super.add(resultNode);
+            loaded.add(resultNode);
+        }
+        loadedResults = end;
+        if (loadedResults < pendingResults.size()) {
+            loadMoreNode = new LoadMoreNode(pageSize, pendingResults.size() - loadedResults);
+            super.add(loadMoreNode);
+        } else {
+            pendingResults = null;
+            pendingSorted = false;
+            loadedResults = 0;
+        }
+        if (model != null) {
+            int[] inserted = new int[getChildCount() - firstIndex];
+            for (int i = 0; i < inserted.length; i++) {
+                inserted[i] = firstIndex + i;
+            }
+            model.nodesWereInserted(this, inserted);
+        }
+        return loaded;
+    }
+
+    /**
+     * {@inheritDoc}
+     * A node with pending results is not a leaf, so it can be expanded to load them.
+     */
+    @Override
+    public boolean isLeaf() {
+        return super.isLeaf() && !hasPendingResults();
+    }
+
+    /**
+     * Sort the children of this node and of every group below it, once per level.
+     */
+    public void sortChildren() {
+        if (pendingComparator != null) {
+            sort(pendingComparator);
+            pendingComparator = null;
+        }
+        for (NonLeafNode child : childIndex.values()) {
+            child.sortChildren();
         }
     }
 
@@ -45,6 +217,26 @@ public class NonLeafNode extends DefaultMutableTreeNode {
         return super.toString() + " (" + subTreeSize + ")";
     }
 
+    private void sortPendingResults() {
+        if (pendingSorted) {
+            return;
+        }
+        // compute each label once, not once per comparison
+        List<Map.Entry<String, Result>> labelled = new ArrayList<>(pendingResults.size());
+        for (Result result : pendingResults) {
+            labelled.add(new AbstractMap.SimpleImmutableEntry<>(ResultNode.labelOf(result), result));
+        }
+        labelled.sort(Map.Entry.comparingByKey(Comparator.nullsFirst(Comparator.naturalOrder())));
+        for (int i = 0; i < labelled.size(); i++) {
+            pendingResults.set(i, labelled.get(i).getValue());
+        }
+        pendingSorted = true;
+    }
+
+    private void sort(Comparator<String> comparator) {
+        super.children.sort((a, b) -> comparator.compare(getTreeNodeUserObject(a), getTreeNodeUserObject(b)));
+    }
+
     private static String getTreeNodeUserObject(TreeNode node) {
         return (String) ((DefaultMutableTreeNode) node).getUserObject();
     }
@@ -9,6 +9,7 @@ import com.checkmarx.ast.scan.Scan;
 import com.checkmarx.ast.wrapper.CxConstants;
 import com.checkmarx.ast.wrapper.CxException;
 import com.checkmarx.intellij.ast.commands.Triage;
+import com.checkmarx.intellij.ast.service.ResultsCache;
 import com.checkmarx.intellij.ast.service.StateService;
 import com.checkmarx.intellij.common.components.CxLinkLabel;
 import com.checkmarx.intellij.common.components.PaneUtils;
@@ -124,6 +125,19 @@ public class ResultNode extends DefaultMutableTreeNode {
         this.nodes = Optional.ofNullable(this.result.getData().getNodes()).orElse(Collections.emptyList());
         this.packageData = Optional.ofNullable(this.result.getData().getPackageData()).orElse(Collections.emptyList());
 
+        this.label = labelOf(result);
+        setUserObject(this.label);
+        setAllowsChildren(false);
+    }
+
+    /**
+     * Build the node title of a result, without creating the node.
+     *
+     * @param result result
+     * @return node title
+     */
+    public static String labelOf(@NotNull Result result) {
+        List<Node> nodes = Optional.ofNullable(result.getData().getNodes()).orElse(Collections.emptyList());
         String labelBuilder;
 
         //If engine is scs (secret detection), show ruleName
@@ -146,9 +160,7 @@ public class ResultNode extends DefaultMutableTreeNode {
             }
         }
 
-        this.label = labelBuilder;
-        setUserObject(this.label);
-        setAllowsChildren(false);
+        return labelBuilder;
     }
 
     @NotNull
@@ -641,12 +653,15 @@ public class ResultNode extends DefaultMutableTreeNode {
 
             CompletableFuture.runAsync(() -> {
                 try {
+                    String projectId = getProjectId();
                     Triage.triageUpdateForResult(
-                            UUID.fromString(getProjectId()),
+                            UUID.fromString(projectId),
                             result,
                             newState,
                             commentText.getText(),
                             newSeverity);
+                    // the triage applies to every scan of the project, so none of their cached results match the server
+                    ResultsCache.evictProject(projectId);
                     runnableDraw.run();
                     result.setState(newState);
                     result.setSeverity(newSeverity);
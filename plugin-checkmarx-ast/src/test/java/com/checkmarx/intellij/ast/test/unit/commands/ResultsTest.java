@@ -6,6 +6,7 @@ import com.checkmarx.ast.wrapper.CxWrapper;
 import com.checkmarx.intellij.ast.commands.Results;
 import com.checkmarx.intellij.ast.commands.Scan;
 import com.checkmarx.intellij.ast.commands.helper.ResultGetState;
+import com.checkmarx.intellij.ast.service.ResultsCache;
 import com.checkmarx.intellij.common.resources.Bundle;
 import com.checkmarx.intellij.common.resources.Resource;
 import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
@@ -165,6 +166,12 @@ class ResultsTest {
     @SuppressWarnings({"rawtypes","unchecked"})
     private ResultGetState runGetResults(String scanId,
                                           MockedStatic<CompletableFuture> cfMock) {
+        return runGetResults(scanId, null, cfMock);
+    }
+
+    @SuppressWarnings({"rawtypes","unchecked"})
+    private ResultGetState runGetResults(String scanId, com.checkmarx.ast.scan.Scan knownScan,
+                                          MockedStatic<CompletableFuture> cfMock) {
         final ResultGetState[] captured = new ResultGetState[1];
         cfMock.when(() -> CompletableFuture.supplyAsync(any())).thenAnswer(inv -> {
             Supplier<ResultGetState> supplier = inv.getArgument(0);
@@ -172,10 +179,18 @@ class ResultsTest {
             CompletableFuture<ResultGetState> future = mock(CompletableFuture.class);
             return future;
         });
-        Results.getResults(scanId);
+        Results.getResults(scanId, knownScan);
         return captured[0];
     }
 
+    private static com.checkmarx.ast.scan.Scan listedScan(String id, String status) {
+        com.checkmarx.ast.scan.Scan scan = mock(com.checkmarx.ast.scan.Scan.class);
+        when(scan.getId()).thenReturn(id);
+        when(scan.getProjectId()).thenReturn("project-1");
+        when(scan.getStatus()).thenReturn(status);
+        return scan;
+    }
+
     @Test
     @SuppressWarnings({"rawtypes","unchecked"})
     void getResults_WithBlankId_LatestScanPath_CxExceptionSetsMessage() throws Exception {
@@ -184,7 +199,7 @@ class ResultsTest {
 
             CxException ex = mock(CxException.class);
             when(ex.getMessage()).thenReturn("auth error");
-            scanMock.when(Scan::getLatestScanId).thenThrow(ex);
+            scanMock.when(Scan::getLatestScan).thenThrow(ex);
 
             ResultGetState state = runGetResults("", cfMock);
 
@@ -200,7 +215,7 @@ class ResultsTest {
              MockedStatic<Scan> scanMock = mockStatic(Scan.class);
              MockedStatic<Bundle> bundleMock = mockStatic(Bundle.class)) {
 
-            scanMock.when(Scan::getLatestScanId).thenThrow(new RuntimeException("network timeout"));
+            scanMock.when(Scan::getLatestScan).thenThrow(new RuntimeException("network timeout"));
             bundleMock.when(() -> Bundle.message(eq(Resource.LATEST_SCAN_ERROR))).thenReturn("latest scan error");
 
             ResultGetState state = runGetResults("   ", cfMock);
@@ -288,7 +303,9 @@ class ResultsTest {
              MockedStatic<Scan> scanMock = mockStatic(Scan.class);
              MockedStatic<CxWrapperFactory> factoryMock = mockStatic(CxWrapperFactory.class)) {
 
-            scanMock.when(Scan::getLatestScanId).thenReturn(latestId);
+            com.checkmarx.ast.scan.Scan latest = mock(com.checkmarx.ast.scan.Scan.class);
+            when(latest.getId()).thenReturn(latestId);
+            scanMock.when(Scan::getLatestScan).thenReturn(latest);
             factoryMock.when(CxWrapperFactory::build).thenReturn(mockWrapper);
 
             com.checkmarx.ast.results.Results mockResults = mock(com.checkmarx.ast.results.Results.class);
@@ -305,5 +322,49 @@ class ResultsTest {
         }
     }
 
-}
+    @Test
+    @SuppressWarnings({"rawtypes","unchecked"})
+    void getResults_WithCompletedListedScanWithoutResults_CachesWithoutAskingForStatus() throws Exception {
+        String validScanId = "3f6a5b2c-1d4e-4f8a-9c0b-7e2d1a3f5c8e";
+
+        try (MockedStatic<CompletableFuture> cfMock = mockStatic(CompletableFuture.class);
+             MockedStatic<CxWrapperFactory> factoryMock = mockStatic(CxWrapperFactory.class);
+             MockedStatic<ResultsCache> cacheMock = mockStatic(ResultsCache.class);
+             MockedStatic<Scan> scanMock = mockStatic(Scan.class);
+             MockedStatic<Bundle> bundleMock = mockStatic(Bundle.class)) {
+
+            factoryMock.when(CxWrapperFactory::build).thenReturn(mockWrapper);
+            com.checkmarx.ast.results.Results mockResults = mock(com.checkmarx.ast.results.Results.class);
+            when(mockResults.getTotalCount()).thenReturn(0);
+            when(mockWrapper.results(eq(UUID.fromString(validScanId)), anyString())).thenReturn(mockResults);
+            bundleMock.when(() -> Bundle.message(eq(Resource.NO_RESULTS), any())).thenReturn("no results");
 
+            runGetResults(validScanId, listedScan(validScanId, "Completed"), cfMock);
+
+            cacheMock.verify(() -> ResultsCache.store(validScanId, "project-1", mockResults));
+            scanMock.verifyNoInteractions();
+        }
+    }
+
+    @Test
+    @SuppressWarnings({"rawtypes","unchecked"})
+    void getResults_WithoutKnownCompletedScan_DoesNotCache() throws Exception {
+        String validScanId = "3f6a5b2c-1d4e-4f8a-9c0b-7e2d1a3f5c8e";
+
+        try (MockedStatic<CompletableFuture> cfMock = mockStatic(CompletableFuture.class);
+             MockedStatic<CxWrapperFactory> factoryMock = mockStatic(CxWrapperFactory.class);
+             MockedStatic<ResultsCache> cacheMock = mockStatic(ResultsCache.class)) {
+
+            factoryMock.when(CxWrapperFactory::build).thenReturn(mockWrapper);
+            com.checkmarx.ast.results.Results mockResults = mock(com.checkmarx.ast.results.Results.class);
+            when(mockResults.getTotalCount()).thenReturn(1);
+            when(mockResults.getResults()).thenReturn(List.of(mock(Result.class)));
+            when(mockWrapper.results(eq(UUID.fromString(validScanId)), anyString())).thenReturn(mockResults);
+
+            runGetResults(validScanId, null, cfMock);
+            runGetResults(validScanId, listedScan(validScanId, "Running"), cfMock);
+
+            cacheMock.verify(() -> ResultsCache.store(anyString(), anyString(), any()), never());
+        }
+    }
+}
@@ -273,5 +273,38 @@ class ProjectResultsServiceTest {
         List<Node> result = projectResultsService.getResultsForFileAndLine(mockProject, file, 1);
         assertTrue(result.isEmpty());
     }
-}
 
+    @Test
+    void buildIndex_GroupsNodesByFileAndLine() {
+        Result result = mock(Result.class);
+        Data data = mock(Data.class);
+        Node first = mock(Node.class);
+        Node second = mock(Node.class);
+        when(result.getData()).thenReturn(data);
+        when(data.getNodes()).thenReturn(List.of(first, second));
+        when(first.getFileName()).thenReturn("/src/Main.java");
+        when(first.getLine()).thenReturn(3);
+        when(second.getFileName()).thenReturn("/src/Main.java");
+        when(second.getLine()).thenReturn(3);
+
+        ProjectResultsService.ResultsIndex index = ProjectResultsService.buildIndex(List.of(result));
+
+        String file = Paths.get("/src/Main.java").toString().substring(1);
+        assertEquals(List.of(first, second), index.getNodesByFile().get(file).get(3));
+        assertSame(result, index.getResultByNode().get(first));
+        assertSame(result, index.getResultByNode().get(second));
+    }
+
+    @Test
+    void buildIndex_ResultWithoutNodes_ReturnsEmptyIndex() {
+        Result result = mock(Result.class);
+        Data data = mock(Data.class);
+        when(result.getData()).thenReturn(data);
+        when(data.getNodes()).thenReturn(null);
+
+        ProjectResultsService.ResultsIndex index = ProjectResultsService.buildIndex(List.of(result));
+
+        assertTrue(index.getNodesByFile().isEmpty());
+        assertTrue(index.getResultByNode().isEmpty());
+    }
+}
@@ -0,0 +1,274 @@
+package com.checkmarx.intellij.ast.test.unit.service;
+
+import com.checkmarx.ast.results.Results;
+import com.checkmarx.ast.results.result.Result;
+import com.checkmarx.intellij.ast.service.ResultsCache;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultsCacheTest {
+
+    private static final ObjectMapper CLI_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    // everything the plugin can read through the getters of the wrapper models
+    private static final ObjectMapper GETTERS_MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void put_ThenGet_RoundTripsResults() {
+        ResultsCache cache = new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES);
+
+        cache.put("project", "scan", results("r", 3));
+        Results cached = cache.get("scan");
+
+        assertNotNull(cached);
+        assertEquals(3, cached.getTotalCount());
+        assertEquals(3, cached.getResults().size());
+        Result first = cached.getResults().get(0);
+        assertEquals("r-0", first.getId());
+        assertEquals("sast", first.getType());
+        assertEquals("HIGH", first.getSeverity());
+        assertEquals("TO_VERIFY", first.getState());
+        assertEquals("Query_0", first.getData().getQueryName());
+        assertEquals(2, first.getData().getNodes().size());
+        assertEquals("1", String.valueOf(first.getData().getNodes().get(1).getNodeId()));
+        assertEquals(11, first.getData().getNodes().get(1).getLine());
+    }
+
+    @Test
+    void put_ThenGet_RoundTripsScaResults() {
+        ResultsCache cache = new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES);
+        Results sca = scaResults();
+        Result original = sca.getResults().get(0);
+        assertEquals("npm-lodash-4.17.15", original.getData().getPackageIdentifier());
+        assertEquals("Direct Dependency", original.getData().getScaPackageData().getTypeOfDependency());
+        assertTrue(original.getData().getScaPackageData().isSupportsQuickFix());
+        assertEquals("CVE-2020-8203", original.getVulnerabilityDetails().getCveName());
+
+        cache.put("project", "scan", sca);
+
+        assertEquals(GETTERS_MAPPER.valueToTree(sca), GETTERS_MAPPER.valueToTree(cache.get("scan")));
+    }
+
+    @Test
+    void put_ThenGet_RoundTripsKicsResults() {
+        ResultsCache cache = new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES);
+        Results kics = kicsResults();
+        Result original = kics.getResults().get(0);
+        assertEquals("/infra/Dockerfile", original.getData().getFileName());
+        assertEquals(3, original.getData().getLine());
+        assertEquals("USER is defined", original.getData().getExpectedValue());
+        assertEquals("USER is not defined", original.getData().getValue());
+
+        cache.put("project", "scan", kics);
+
+        assertEquals(GETTERS_MAPPER.valueToTree(kics), GETTERS_MAPPER.valueToTree(cache.get("scan")));
+    }
+
+    @Test
+    void put_ThenGet_RoundTripsScanWithoutResults() {
+        ResultsCache cache = new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES);
+
+        cache.put("project", "scan", results("r", 0));
+        Results cached = cache.get("scan");
+
+        assertNotNull(cached);
+        assertEquals(0, cached.getTotalCount());
+    }
+
+    @Test
+    void get_Missing_ReturnsNull() {
+        assertNull(new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES).get("missing"));
+    }
+
+    @Test
+    void removeProject_DropsEntriesOfThatProjectOnly() {
+        ResultsCache cache = new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES);
+        cache.put("project", "scan-1", results("a", 1));
+        cache.put("project", "scan-2", results("b", 1));
+        cache.put("other", "scan-3", results("c", 1));
+
+        cache.removeProject("project");
+
+        assertNull(cache.get("scan-1"));
+        assertNull(cache.get("scan-2"));
+        assertNotNull(cache.get("scan-3"));
+    }
+
+    @Test
+    void get_CorruptEntry_ReturnsNullAndDeletesIt() throws IOException {
+        ResultsCache cache = new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES);
+        cache.put("project", "scan", results("r", 1));
+        Path entry = entries().get(0);
+        Files.write(entry, new byte[]{1, 2, 3});
+
+        assertNull(cache.get("scan"));
+        assertFalse(Files.exists(entry));
+    }
+
+    @Test
+    void put_OverBudget_EvictsLeastRecentlyUsed() throws IOException {
+        ResultsCache unbounded = new ResultsCache(directory, ResultsCache.DEFAULT_MAX_BYTES);
+        unbounded.put("project", "a", results("a", 20));
+        Path a = entries().get(0);
+        unbounded.put("project", "b", results("b", 20));
+        Path b = entries().stream().filter(path -> !path.equals(a)).findFirst().orElseThrow();
+        unbounded.put("project", "c", results("c", 20));
+        Path c = entries().stream().filter(path -> !path.equals(a) && !path.equals(b)).findFirst().orElseThrow();
+        long budget = Files.size(a) + Files.size(c);
+        Files.delete(c);
+        Files.setLastModifiedTime(b, FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(a, FileTime.fromMillis(2000));
+
+        new ResultsCache(directory, budget).put("project", "c", results("c", 20));
+
+        assertEquals(Set.of(a, c), new HashSet<>(entries()));
+    }
+
+    @Test
+    void key_DependsOnConnectionAndScan() {
+        String key = ResultsCache.key("https://ast", "tenant", "", "1.0", "scan");
+
+        assertEquals(64, key.length());
+        assertTrue(key.matches("[0-9a-f]+"));
+        assertEquals(key, ResultsCache.key("https://ast", "tenant", "", "1.0", "scan"));
+        assertNotEquals(key, ResultsCache.key("https://ast", "other", "", "1.0", "scan"));
+        assertNotEquals(key, ResultsCache.key("https://ast", "tenant", "--debug", "1.0", "scan"));
+        assertNotEquals(key, ResultsCache.key("https://ast", "tenant", "", "1.1", "scan"));
+        assertNotEquals(key, ResultsCache.key("https://ast", "tenant", "", "1.0", "other"));
+    }
+
+    @Test
+    void projectKey_DependsOnConnectionAndProject() {
+        String key = ResultsCache.projectKey("https://ast", "tenant", "project");
+
+        assertTrue(key.matches("[0-9a-f]+"));
+        assertEquals(key, ResultsCache.projectKey("https://ast", "tenant", "project"));
+        assertNotEquals(key, ResultsCache.projectKey("https://ast", "other", "project"));
+        assertNotEquals(key, ResultsCache.projectKey("https://ast", "tenant", "other"));
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Results parsed from CLI shaped JSON, as the wrapper does.
+     */
+    private static Results results(String prefix, int count) {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Map<String, Object>> nodes = new ArrayList<>();
+            for (int n = 0; n < 2; n++) {
+                Map<String, Object> node = new LinkedHashMap<>();
+                node.put("nodeID", n);
+                node.put("fileName", "/src/File" + i + ".java");
+                node.put("line", 10 + n);
+                nodes.add(node);
+            }
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("queryName", "Query_" + i);
+            data.put("nodes", nodes);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("type", "sast");
+            result.put("id", prefix + "-" + i);
+            result.put("severity", "HIGH");
+            result.put("state", "TO_VERIFY");
+            result.put("data", data);
+            results.add(result);
+        }
+        return results(results);
+    }
+
+    /**
+     * A SCA result parsed from CLI shaped JSON.
+     */
+    private static Results scaResults() {
+        Map<String, Object> dependency = new LinkedHashMap<>();
+        dependency.put("id", "lodash");
+        dependency.put("name", "lodash");
+        dependency.put("version", "4.17.15");
+        dependency.put("isResolved", true);
+        dependency.put("isDevelopment", true);
+        dependency.put("supportsQuickFix", true);
+        dependency.put("locations", List.of("package.json"));
+        Map<String, Object> scaPackageData = new LinkedHashMap<>();
+        scaPackageData.put("id", "npm-lodash-4.17.15");
+        scaPackageData.put("fixLink", "https://devhub.checkmarx.com/cve-details/CVE-2020-8203");
+        scaPackageData.put("locations", List.of("package.json"));
+        scaPackageData.put("dependencyPaths", List.of(List.of(dependency)));
+        scaPackageData.put("outdated", true);
+        scaPackageData.put("supportsQuickFix", true);
+        scaPackageData.put("isDirectDependency", true);
+        scaPackageData.put("typeOfDependency", "Direct Dependency");
+        scaPackageData.put("isDevelopmentDependency", true);
+        scaPackageData.put("isTestDependency", true);
+        Map<String, Object> packageData = new LinkedHashMap<>();
+        packageData.put("comment", "Advisory");
+        packageData.put("type", "Advisory");
+        packageData.put("url", "https://github.com/advisories/GHSA-p6mc-m468-83gw");
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("packageIdentifier", "npm-lodash-4.17.15");
+        data.put("recommendedVersion", "4.17.21");
+        data.put("packageData", List.of(packageData));
+        data.put("scaPackageData", scaPackageData);
+        Map<String, Object> vulnerabilityDetails = new LinkedHashMap<>();
+        vulnerabilityDetails.put("cweId", "CWE-770");
+        vulnerabilityDetails.put("cvssScore", 7.4);
+        vulnerabilityDetails.put("cveName", "CVE-2020-8203");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("type", "sca");
+        result.put("id", "CVE-2020-8203");
+        result.put("severity", "HIGH");
+        result.put("state", "TO_VERIFY");
+        result.put("data", data);
+        result.put("vulnerabilityDetails", vulnerabilityDetails);
+        return results(List.of(result));
+    }
+
+    /**
+     * A KICS result parsed from CLI shaped JSON.
+     */
+    private static Results kicsResults() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("queryId", "fd54f200-402c-4333-a5a4-36ef6709af2f");
+        data.put("queryName", "Missing User Instruction");
+        data.put("group", "Build Process");
+        data.put("fileName", "/infra/Dockerfile");
+        data.put("line", 3);
+        data.put("platform", "Dockerfile");
+        data.put("issueType", "MissingAttribute");
+        data.put("expectedValue", "USER is defined");
+        data.put("value", "USER is not defined");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("type", "kics");
+        result.put("id", "kics-0");
+        result.put("severity", "HIGH");
+        result.put("state", "TO_VERIFY");
+        result.put("data", data);
+        return results(List.of(result));
+    }
+
+    private static Results results(List<Map<String, Object>> results) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("totalCount", results.size());
+        root.put("results", results);
+        return CLI_MAPPER.convertValue(root, Results.class);
+    }
+}
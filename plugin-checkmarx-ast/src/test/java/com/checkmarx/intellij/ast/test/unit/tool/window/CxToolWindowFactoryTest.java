@@ -3,6 +3,7 @@ package com.checkmarx.intellij.ast.test.unit.tool.window;
 import com.checkmarx.intellij.ast.window.CxToolWindowFactory;
 import com.checkmarx.intellij.ast.window.CxToolWindowPanel;
 import com.checkmarx.intellij.common.context.PluginContext;
+import com.checkmarx.intellij.devassist.ui.diagnostics.DevAssistDiagnosticsPanel;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistFindingsWindow;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistIgnoredFindings;
 import com.intellij.openapi.project.Project;
@@ -66,7 +67,8 @@ class CxToolWindowFactoryTest {
              MockedStatic<Disposer> mockedDisposer = mockStatic(Disposer.class);
              MockedConstruction<CxToolWindowPanel> mockedPanel = mockConstruction(CxToolWindowPanel.class);
              MockedConstruction<DevAssistFindingsWindow> mockedFindings = mockConstruction(DevAssistFindingsWindow.class);
-             MockedConstruction<DevAssistIgnoredFindings> mockedIgnored = mockConstruction(DevAssistIgnoredFindings.class)) {
+             MockedConstruction<DevAssistIgnoredFindings> mockedIgnored = mockConstruction(DevAssistIgnoredFindings.class);
+             MockedConstruction<DevAssistDiagnosticsPanel> mockedDiagnostics = mockConstruction(DevAssistDiagnosticsPanel.class)) {
 
             when(mockPluginContext.isPlugin(PluginContext.PLUGIN_CHECKMARX_AST)).thenReturn(true);
             mockedPluginContext.when(PluginContext::getInstance).thenReturn(mockPluginContext);
@@ -82,12 +84,13 @@ class CxToolWindowFactoryTest {
     }
 
     @Test
-    void createToolWindowContent_AddsThreeContentTabs() {
+    void createToolWindowContent_AddsFourContentTabs() {
         try (MockedStatic<PluginContext> mockedPluginContext = mockStatic(PluginContext.class);
              MockedStatic<Disposer> mockedDisposer = mockStatic(Disposer.class);
              MockedConstruction<CxToolWindowPanel> mockedPanel = mockConstruction(CxToolWindowPanel.class);
              MockedConstruction<DevAssistFindingsWindow> mockedFindings = mockConstruction(DevAssistFindingsWindow.class);
-             MockedConstruction<DevAssistIgnoredFindings> mockedIgnored = mockConstruction(DevAssistIgnoredFindings.class)) {
+             MockedConstruction<DevAssistIgnoredFindings> mockedIgnored = mockConstruction(DevAssistIgnoredFindings.class);
+             MockedConstruction<DevAssistDiagnosticsPanel> mockedDiagnostics = mockConstruction(DevAssistDiagnosticsPanel.class)) {
 
             when(mockPluginContext.isPlugin(anyString())).thenReturn(false);
             mockedPluginContext.when(PluginContext::getInstance).thenReturn(mockPluginContext);
@@ -98,8 +101,8 @@ class CxToolWindowFactoryTest {
 
             factory.createToolWindowContent(mockProject, mockToolWindow);
 
-            // Scan Results + DevAssist Findings + Ignored Findings
-            verify(mockContentManager, times(3)).addContent(any(Content.class));
+            // Scan Results + DevAssist Findings + Ignored Findings + Diagnostics
+            verify(mockContentManager, times(4)).addContent(any(Content.class));
         }
     }
 
@@ -109,7 +112,8 @@ class CxToolWindowFactoryTest {
              MockedStatic<Disposer> mockedDisposer = mockStatic(Disposer.class);
              MockedConstruction<CxToolWindowPanel> mockedPanel = mockConstruction(CxToolWindowPanel.class);
              MockedConstruction<DevAssistFindingsWindow> mockedFindings = mockConstruction(DevAssistFindingsWindow.class);
-             MockedConstruction<DevAssistIgnoredFindings> mockedIgnored = mockConstruction(DevAssistIgnoredFindings.class)) {
+             MockedConstruction<DevAssistIgnoredFindings> mockedIgnored = mockConstruction(DevAssistIgnoredFindings.class);
+             MockedConstruction<DevAssistDiagnosticsPanel> mockedDiagnostics = mockConstruction(DevAssistDiagnosticsPanel.class)) {
 
             // isPlugin returns false → plugin name is already set, skip setPluginName
             when(mockPluginContext.isPlugin(anyString())).thenReturn(false);
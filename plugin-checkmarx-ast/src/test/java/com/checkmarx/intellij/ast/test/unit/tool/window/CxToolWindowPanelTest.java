@@ -345,9 +345,9 @@ class CxToolWindowPanelTest {
             mockedUtils.when(Utils::validThread).thenReturn(true);
             mockedBundle.when(() -> Bundle.message(Resource.INVALID_SCAN_ID)).thenReturn("INVALID");
 
-            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class);
+            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class, com.checkmarx.ast.scan.Scan.class);
             m.setAccessible(true);
-            m.invoke(panel, "not-a-uuid", false);
+            m.invoke(panel, "not-a-uuid", false, null);
 
             ResultGetState state = (ResultGetState) getField("currentState");
             assertEquals("INVALID", state.getMessage());
@@ -368,9 +368,9 @@ class CxToolWindowPanelTest {
              MockedStatic<Bundle> mockedBundle = mockStatic(Bundle.class)) {
             mockedUtils.when(Utils::validThread).thenReturn(true);
 
-            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class);
+            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class, com.checkmarx.ast.scan.Scan.class);
             m.setAccessible(true);
-            m.invoke(panel, "", false);
+            m.invoke(panel, "", false, null);
 
             ResultGetState state = (ResultGetState) getField("currentState");
             assertNull(state.getMessage());
@@ -568,9 +568,9 @@ class CxToolWindowPanelTest {
         try (MockedStatic<Utils> mockedUtils = mockStatic(Utils.class)) {
             mockedUtils.when(Utils::validThread).thenReturn(true);
 
-            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class);
+            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class, com.checkmarx.ast.scan.Scan.class);
             m.setAccessible(true);
-            m.invoke(panel, "3f6a5b2c-1d4e-4f8a-9c0b-7e2d1a3f5c8e", false);
+            m.invoke(panel, "3f6a5b2c-1d4e-4f8a-9c0b-7e2d1a3f5c8e", false, null);
 
             ResultGetState state = (ResultGetState) getField("currentState");
             assertEquals("original-id", state.getScanId(), "State must not change when in progress");
@@ -588,9 +588,9 @@ class CxToolWindowPanelTest {
         try (MockedStatic<Utils> mockedUtils = mockStatic(Utils.class)) {
             mockedUtils.when(Utils::validThread).thenReturn(true);
 
-            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class);
+            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class, com.checkmarx.ast.scan.Scan.class);
             m.setAccessible(true);
-            m.invoke(panel, scanId, false);
+            m.invoke(panel, scanId, false, null);
 
             ResultGetState after = (ResultGetState) getField("currentState");
             assertEquals(scanId, after.getScanIdFieldValue(), "State must not change when same scanId");
@@ -621,11 +621,11 @@ class CxToolWindowPanelTest {
             java.util.concurrent.CompletableFuture<ResultGetState> mockFuture =
                     mock(java.util.concurrent.CompletableFuture.class);
             when(mockFuture.thenAcceptAsync(any())).thenReturn(mock(java.util.concurrent.CompletableFuture.class));
-            resultsMock.when(() -> Results.getResults(anyString())).thenReturn(mockFuture);
+            resultsMock.when(() -> Results.getResults(anyString(), any())).thenReturn(mockFuture);
 
-            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class);
+            Method m = CxToolWindowPanel.class.getDeclaredMethod("triggerDrawResultsTree", String.class, boolean.class, com.checkmarx.ast.scan.Scan.class);
             m.setAccessible(true);
-            m.invoke(panel, "3f6a5b2c-1d4e-4f8a-9c0b-7e2d1a3f5c8e", false);
+            m.invoke(panel, "3f6a5b2c-1d4e-4f8a-9c0b-7e2d1a3f5c8e", false, null);
 
             verify(mockRootGroup).setEnabled(false);
             assertTrue((boolean) getField("getResultsInProgress"));
@@ -661,7 +661,7 @@ class CxToolWindowPanelTest {
             java.util.concurrent.CompletableFuture<ResultGetState> mockFuture =
                     mock(java.util.concurrent.CompletableFuture.class);
             when(mockFuture.thenAcceptAsync(any())).thenReturn(mock(java.util.concurrent.CompletableFuture.class));
-            resultsMock.when(() -> Results.getResults(anyString())).thenReturn(mockFuture);
+            resultsMock.when(() -> Results.getResults(anyString(), any())).thenReturn(mockFuture);
 
             panel.selectScan(scanId);
 
@@ -669,6 +669,38 @@ class CxToolWindowPanelTest {
         }
     }
 
+    @Test
+    void selectScan_WithListedScan_PassesScanToResults() throws Exception {
+        setField("getResultsInProgress", false);
+        setField("rootGroup", mockRootGroup);
+        String scanId = "3f6a5b2c-1d4e-4f8a-9c0b-7e2d1a3f5c8e";
+        com.checkmarx.ast.scan.Scan scan = mock(com.checkmarx.ast.scan.Scan.class);
+        when(scan.getId()).thenReturn(scanId);
+        setField("scanTreeSplitter", new OnePixelSplitter(true, 0.1f));
+
+        try (MockedStatic<Utils> mockedUtils = mockStatic(Utils.class);
+             MockedStatic<Bundle> bundleMock = mockStatic(Bundle.class);
+             MockedStatic<com.checkmarx.intellij.ast.service.StateService> ssMock =
+                     mockStatic(com.checkmarx.intellij.ast.service.StateService.class);
+             MockedStatic<Results> resultsMock = mockStatic(Results.class)) {
+
+            mockedUtils.when(Utils::validThread).thenReturn(true);
+            bundleMock.when(() -> Bundle.message(Resource.GETTING_RESULTS)).thenReturn("Getting...");
+            ssMock.when(com.checkmarx.intellij.ast.service.StateService::getInstance)
+                    .thenReturn(mock(com.checkmarx.intellij.ast.service.StateService.class));
+
+            @SuppressWarnings("unchecked")
+            java.util.concurrent.CompletableFuture<ResultGetState> mockFuture =
+                    mock(java.util.concurrent.CompletableFuture.class);
+            when(mockFuture.thenAcceptAsync(any())).thenReturn(mock(java.util.concurrent.CompletableFuture.class));
+            resultsMock.when(() -> Results.getResults(anyString(), any())).thenReturn(mockFuture);
+
+            panel.selectScan(scan);
+
+            resultsMock.verify(() -> Results.getResults(scanId, scan));
+        }
+    }
+
     // -------------------------------------------------------------------------
     // changeFilter — valid thread calls drawTree
     // -------------------------------------------------------------------------
@@ -757,6 +789,94 @@ class CxToolWindowPanelTest {
         }
     }
 
+    // -------------------------------------------------------------------------
+    // showTree — swaps in a rebuilt tree, keeping expansion of the same scan
+    // -------------------------------------------------------------------------
+
+    @Test
+    void showTree_SameScan_KeepsExpandedGroups() throws Exception {
+        Method showTree = CxToolWindowPanel.class.getDeclaredMethod("showTree", String.class,
+                javax.swing.tree.DefaultMutableTreeNode.class);
+        showTree.setAccessible(true);
+
+        showTree.invoke(panel, "scan-1", groupRoot());
+        Tree firstTree = (Tree) getField("currentTree");
+        Object firstEngine = ((javax.swing.tree.TreeNode) firstTree.getModel().getRoot()).getChildAt(0);
+        firstTree.expandPath(new javax.swing.tree.TreePath(
+                ((javax.swing.tree.DefaultMutableTreeNode) firstEngine).getPath()));
+
+        showTree.invoke(panel, "scan-1", groupRoot());
+        Tree sameScanTree = (Tree) getField("currentTree");
+        assertNotSame(firstTree, sameScanTree);
+        assertTrue(sameScanTree.isExpanded(engineOf(sameScanTree)));
+
+        showTree.invoke(panel, "scan-2", groupRoot());
+        Tree otherScanTree = (Tree) getField("currentTree");
+        assertFalse(otherScanTree.isExpanded(engineOf(otherScanTree)));
+    }
+
+    @Test
+    void showTree_SameScanWithSelectedResult_ShowsDetailsOfRebuiltNode() throws Exception {
+        Method showTree = CxToolWindowPanel.class.getDeclaredMethod("showTree", String.class,
+                javax.swing.tree.DefaultMutableTreeNode.class);
+        showTree.setAccessible(true);
+        OnePixelSplitter detailsSplitter = (OnePixelSplitter) getField("treeDetailsSplitter");
+
+        JPanel firstDetails = new JPanel();
+        showTree.invoke(panel, "scan-1", resultRoot(firstDetails));
+        Tree firstTree = (Tree) getField("currentTree");
+        firstTree.setSelectionPath(resultOf(firstTree));
+        assertSame(firstDetails, detailsSplitter.getSecondComponent());
+
+        JPanel rebuiltDetails = new JPanel();
+        showTree.invoke(panel, "scan-1", resultRoot(rebuiltDetails));
+        Tree rebuiltTree = (Tree) getField("currentTree");
+
+        assertEquals(resultOf(rebuiltTree), rebuiltTree.getSelectionPath());
+        assertSame(rebuiltDetails, detailsSplitter.getSecondComponent(),
+                "Redrawing must show the details of the rebuilt result node");
+    }
+
+    private javax.swing.tree.DefaultMutableTreeNode resultRoot(JPanel details) {
+        com.checkmarx.ast.results.result.Result result = mock(com.checkmarx.ast.results.result.Result.class);
+        com.checkmarx.ast.results.result.Data data = mock(com.checkmarx.ast.results.result.Data.class);
+        lenient().when(result.getId()).thenReturn("result-1");
+        lenient().when(result.getSeverity()).thenReturn("HIGH");
+        lenient().when(result.getData()).thenReturn(data);
+        com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode resultNode =
+                new com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode(result, mockProject, "scan-1") {
+                    @Override
+                    public JPanel buildResultPanel(Runnable runnableDraw, Runnable runnableUpdater) {
+                        return details;
+                    }
+                };
+        javax.swing.tree.DefaultMutableTreeNode root = new javax.swing.tree.DefaultMutableTreeNode("Scan");
+        com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode engine =
+                new com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode("SAST");
+        engine.add(resultNode);
+        root.add(engine);
+        return root;
+    }
+
+    private static javax.swing.tree.TreePath resultOf(Tree tree) {
+        javax.swing.tree.DefaultMutableTreeNode root = (javax.swing.tree.DefaultMutableTreeNode) tree.getModel().getRoot();
+        return new javax.swing.tree.TreePath(((javax.swing.tree.DefaultMutableTreeNode) root.getChildAt(0).getChildAt(0)).getPath());
+    }
+
+    private static javax.swing.tree.DefaultMutableTreeNode groupRoot() {
+        javax.swing.tree.DefaultMutableTreeNode root = new javax.swing.tree.DefaultMutableTreeNode("Scan");
+        com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode engine =
+                new com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode("SAST");
+        engine.getOrAddChild("HIGH", null);
+        root.add(engine);
+        return root;
+    }
+
+    private static javax.swing.tree.TreePath engineOf(Tree tree) {
+        javax.swing.tree.DefaultMutableTreeNode root = (javax.swing.tree.DefaultMutableTreeNode) tree.getModel().getRoot();
+        return new javax.swing.tree.TreePath(((javax.swing.tree.DefaultMutableTreeNode) root.getChildAt(0)).getPath());
+    }
+
     // -------------------------------------------------------------------------
     // dispose
     // -------------------------------------------------------------------------
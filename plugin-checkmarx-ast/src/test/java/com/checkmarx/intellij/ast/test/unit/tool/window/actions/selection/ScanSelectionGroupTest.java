@@ -187,8 +187,8 @@ class ScanSelectionGroupTest {
 
             group.refresh("p1", "main", true);
 
-            // select() was called → panel.selectScan invoked with first scan id
-            verify(panel).selectScan("scan-1");
+            // select() was called → panel.selectScan invoked with first scan, so its status is known
+            verify(panel).selectScan(scan1);
             // group became enabled after async
             assertTrue(group.isEnabled());
             // two children added
@@ -271,9 +271,10 @@ class ScanSelectionGroupTest {
             }
             assertNotNull(actionClass);
             java.lang.reflect.Constructor<?> ctor =
-                    actionClass.getDeclaredConstructor(ScanSelectionGroup.class, String.class, String.class);
+                    actionClass.getDeclaredConstructor(ScanSelectionGroup.class, Scan.class, String.class);
             ctor.setAccessible(true);
-            Object action = ctor.newInstance(group, "scan-xyz", storedFormatted);
+            Scan scan = mockScan("scan-xyz", "2024-05-01T10:30:45");
+            Object action = ctor.newInstance(group, scan, storedFormatted);
 
             AnActionEvent event = mock(AnActionEvent.class);
             Method actionPerformed = actionClass.getDeclaredMethod("actionPerformed", AnActionEvent.class);
@@ -282,7 +283,7 @@ class ScanSelectionGroupTest {
 
             // select() stores property and calls panel.selectScan again
             verify(props, atLeastOnce()).setValue(Constants.SELECTED_SCAN_PROPERTY, storedFormatted);
-            verify(panel, atLeast(2)).selectScan("scan-xyz");
+            verify(panel).selectScan(scan);
         }
     }
 }
@@ -0,0 +1,114 @@
+package com.checkmarx.intellij.ast.test.unit.tool.window.results.tree;
+
+import com.checkmarx.ast.results.Results;
+import com.checkmarx.ast.results.result.Data;
+import com.checkmarx.ast.results.result.Result;
+import com.checkmarx.ast.results.result.ScaPackageData;
+import com.checkmarx.intellij.ast.window.actions.group.by.GroupBy;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeFactory;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeIndex;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode;
+import com.checkmarx.intellij.common.window.actions.filter.Filterable;
+import com.checkmarx.intellij.common.window.actions.filter.SeverityFilter;
+import com.intellij.openapi.project.Project;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ResultsTreeIndexTest {
+
+    @Test
+    void select_WithEnabledFilterValues_MatchesSeverityAndState() {
+        Results results = results(
+                result("SAST", "HIGH", "TO_VERIFY", "SQL_Injection"),
+                result("SAST", "LOW", "TO_VERIFY", "XSS"),
+                result("SAST", "HIGH", "NOT_EXPLOITABLE", "XSS"),
+                result("SAST", null, "TO_VERIFY", "XSS"));
+        ResultsTreeIndex index = ResultsTreeFactory.indexResults(results);
+
+        BitSet selected = index.select(Set.of("HIGH", "TO_VERIFY", "UNKNOWN"), false);
+
+        assertTrue(index.isFor(results));
+        assertEquals(4, index.size());
+        assertEquals(BitSet.valueOf(new long[]{0b1}), selected);
+        assertTrue(index.select(Set.of(), false).isEmpty());
+    }
+
+    @Test
+    void select_WhenHidingDevTestDependencies_LeavesThemOut() {
+        Result devDependency = result("sca", "HIGH", "TO_VERIFY", null);
+        ScaPackageData scaPackageData = mock(ScaPackageData.class);
+        when(scaPackageData.isDevelopmentDependency()).thenReturn(true);
+        when(devDependency.getData().getScaPackageData()).thenReturn(scaPackageData);
+        ResultsTreeIndex index = ResultsTreeFactory.indexResults(
+                results(devDependency, result("SAST", "HIGH", "TO_VERIFY", "XSS")));
+
+        assertEquals(2, index.select(Set.of("HIGH", "TO_VERIFY"), false).cardinality());
+        BitSet selected = index.select(Set.of("HIGH", "TO_VERIFY"), true);
+        assertEquals(1, selected.cardinality());
+        assertTrue(selected.get(1));
+    }
+
+    @Test
+    void groupKeys_ComputedOncePerDimension() {
+        Result result = result("SAST", "HIGH", "TO_VERIFY", "XSS");
+        ResultsTreeIndex index = ResultsTreeFactory.indexResults(results(result));
+
+        String[] keys = index.groupKeys(GroupBy.VULNERABILITY_TYPE_NAME);
+
+        assertArrayEquals(new String[]{"XSS"}, keys);
+        assertSame(keys, index.groupKeys(GroupBy.VULNERABILITY_TYPE_NAME));
+        verify(result.getData(), times(1)).getQueryName();
+    }
+
+    @Test
+    void buildEngineNodes_FromSameIndex_RegroupsWithoutReindexing() {
+        Results results = results(
+                result("SAST", "HIGH", "TO_VERIFY", "XSS"),
+                result("SAST", "LOW", "TO_VERIFY", "XSS"));
+        ResultsTreeIndex index = ResultsTreeFactory.indexResults(results);
+        Set<Filterable> filters = Set.of(SeverityFilter.HIGH, SeverityFilter.LOW, filter("TO_VERIFY"));
+
+        Collection<NonLeafNode> bySeverity = ResultsTreeFactory.buildEngineNodes("scan", index, mock(Project.class),
+                new ArrayList<>(List.of(GroupBy.SEVERITY)), filters);
+        Collection<NonLeafNode> byName = ResultsTreeFactory.buildEngineNodes("scan", index, mock(Project.class),
+                new ArrayList<>(List.of(GroupBy.VULNERABILITY_TYPE_NAME)), filters);
+
+        NonLeafNode severityEngine = bySeverity.iterator().next();
+        assertEquals(2, severityEngine.getChildCount());
+        assertEquals("HIGH", ((NonLeafNode) severityEngine.getChildAt(0)).getUserObject());
+        assertEquals("LOW", ((NonLeafNode) severityEngine.getChildAt(1)).getUserObject());
+        NonLeafNode nameEngine = byName.iterator().next();
+        assertEquals(1, nameEngine.getChildCount());
+        assertEquals("XSS (2)", nameEngine.getChildAt(0).toString());
+        // re-grouping only reads the index
+        verify(results.getResults().get(0), times(1)).getState();
+    }
+
+    private static Results results(Result... results) {
+        Results mock = mock(Results.class);
+        when(mock.getResults()).thenReturn(Arrays.asList(results));
+        return mock;
+    }
+
+    private static Result result(String type, String severity, String state, String queryName) {
+        Result result = mock(Result.class);
+        Data data = mock(Data.class);
+        lenient().when(result.getType()).thenReturn(type);
+        lenient().when(result.getSeverity()).thenReturn(severity);
+        lenient().when(result.getState()).thenReturn(state);
+        lenient().when(result.getId()).thenReturn(UUID.randomUUID().toString());
+        lenient().when(result.getData()).thenReturn(data);
+        lenient().when(data.getQueryName()).thenReturn(queryName);
+        return result;
+    }
+
+    private static Filterable filter(String value) {
+        Filterable filterable = mock(Filterable.class);
+        when(filterable.getFilterValue()).thenReturn(value);
+        return filterable;
+    }
+}
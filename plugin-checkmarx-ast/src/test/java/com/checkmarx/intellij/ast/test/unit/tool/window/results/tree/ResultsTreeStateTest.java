@@ -0,0 +1,133 @@
+package com.checkmarx.intellij.ast.test.unit.tool.window.results.tree;
+
+import com.checkmarx.ast.results.result.Data;
+import com.checkmarx.ast.results.result.Result;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeFactory;
+import com.checkmarx.intellij.ast.window.results.tree.ResultsTreeState;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.LoadMoreNode;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode;
+import com.intellij.openapi.project.Project;
+import com.intellij.ui.treeStructure.Tree;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreePath;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ResultsTreeStateTest {
+
+    @Test
+    void restore_OnRebuiltTree_ExpandsAndSelectsNodesWithSameKeys() {
+        Tree oldTree = new Tree(buildRoot("Scan 1", "id-1"));
+        DefaultMutableTreeNode oldRoot = (DefaultMutableTreeNode) oldTree.getModel().getRoot();
+        NonLeafNode oldHigh = (NonLeafNode) oldRoot.getChildAt(0).getChildAt(0);
+        TreePath oldSelection = new TreePath(((DefaultMutableTreeNode) oldHigh.getChildAt(0)).getPath());
+        oldTree.expandPath(oldSelection.getParentPath());
+        oldTree.setSelectionPath(oldSelection);
+
+        ResultsTreeState state = ResultsTreeState.capture(oldTree);
+        // the root label changes with the scan and sub-tree sizes change with the results
+        Tree newTree = new Tree(buildRoot("Scan 1 (latest)", "id-1"));
+        state.restore(newTree);
+
+        TreePath selection = newTree.getSelectionPath();
+        assertNotNull(selection);
+        assertEquals("id-1", ((ResultNode) selection.getLastPathComponent()).getResult().getId());
+        assertTrue(newTree.isExpanded(selection.getParentPath()));
+    }
+
+    @Test
+    void restore_WhenSelectedResultIsGone_KeepsExpansionOnly() {
+        Tree oldTree = new Tree(buildRoot("Scan 1", "id-1"));
+        DefaultMutableTreeNode oldRoot = (DefaultMutableTreeNode) oldTree.getModel().getRoot();
+        TreePath oldSelection = new TreePath(((DefaultMutableTreeNode) oldRoot.getChildAt(0).getChildAt(0).getChildAt(0)).getPath());
+        oldTree.expandPath(oldSelection.getParentPath());
+        oldTree.setSelectionPath(oldSelection);
+
+        ResultsTreeState state = ResultsTreeState.capture(oldTree);
+        Tree newTree = new Tree(buildRoot("Scan 1", "id-2"));
+        state.restore(newTree);
+
+        assertNull(newTree.getSelectionPath());
+        DefaultMutableTreeNode newRoot = (DefaultMutableTreeNode) newTree.getModel().getRoot();
+        assertTrue(newTree.isExpanded(new TreePath(((DefaultMutableTreeNode) newRoot.getChildAt(0).getChildAt(0)).getPath())));
+    }
+
+    @Test
+    void restore_WhenSelectedResultIsPastFirstPage_LoadsPagesUntilFound() {
+        int total = ResultsTreeFactory.RESULTS_PAGE_SIZE + 10;
+        Tree oldTree = ResultsTreeFactory.createTree(pagedRoot(total));
+        DefaultMutableTreeNode oldGroup = (DefaultMutableTreeNode) ((DefaultMutableTreeNode) oldTree.getModel().getRoot()).getChildAt(0);
+        oldTree.expandPath(new TreePath(oldGroup.getPath()));
+        ((NonLeafNode) oldGroup).loadNextPage(ResultsTreeFactory.RESULTS_PAGE_SIZE, null);
+        DefaultMutableTreeNode last = (DefaultMutableTreeNode) oldGroup.getChildAt(total - 1);
+        oldTree.setSelectionPath(new TreePath(last.getPath()));
+
+        ResultsTreeState state = ResultsTreeState.capture(oldTree);
+        Tree newTree = ResultsTreeFactory.createTree(pagedRoot(total));
+        state.restore(newTree);
+
+        TreePath selection = newTree.getSelectionPath();
+        assertNotNull(selection);
+        assertEquals(((ResultNode) last).getResult().getId(),
+                ((ResultNode) selection.getLastPathComponent()).getResult().getId());
+    }
+
+    @Test
+    void createTree_ExpandingGroup_LoadsFirstPageOnly() {
+        int total = ResultsTreeFactory.RESULTS_PAGE_SIZE + 10;
+        Tree tree = ResultsTreeFactory.createTree(pagedRoot(total));
+        NonLeafNode group = (NonLeafNode) ((DefaultMutableTreeNode) tree.getModel().getRoot()).getChildAt(0);
+        assertEquals(0, group.getChildCount());
+
+        tree.expandPath(new TreePath(group.getPath()));
+
+        assertEquals(ResultsTreeFactory.RESULTS_PAGE_SIZE + 1, group.getChildCount());
+        assertTrue(group.getLastChild() instanceof LoadMoreNode);
+    }
+
+    @Test
+    void keyOf_GroupNode_IsLabelWithoutSubTreeSize() {
+        NonLeafNode node = new NonLeafNode("HIGH");
+        node.incrementSubTreeSize();
+        assertEquals("HIGH", ResultsTreeState.keyOf(node));
+    }
+
+    private static DefaultMutableTreeNode buildRoot(String label, String resultId) {
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode(label);
+        NonLeafNode engine = new NonLeafNode("SAST");
+        root.add(engine);
+        NonLeafNode high = engine.getOrAddChild("HIGH", Comparator.naturalOrder());
+        engine.incrementSubTreeSize();
+        high.append(new ResultNode(result(resultId), mock(Project.class), "scan"), String::compareTo);
+        high.incrementSubTreeSize();
+        engine.sortChildren();
+        return root;
+    }
+
+    private static DefaultMutableTreeNode pagedRoot(int total) {
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode("Scan");
+        NonLeafNode group = new NonLeafNode("SAST");
+        root.add(group);
+        Project project = mock(Project.class);
+        for (int i = 0; i < total; i++) {
+            group.addPendingResult(result(String.format("id-%04d", i)), project, "scan");
+            group.incrementSubTreeSize();
+        }
+        return root;
+    }
+
+    private static Result result(String id) {
+        Result result = mock(Result.class);
+        Data data = mock(Data.class);
+        when(result.getId()).thenReturn(id);
+        when(result.getType()).thenReturn("sast");
+        when(result.getData()).thenReturn(data);
+        when(data.getQueryName()).thenReturn("SQL_Injection");
+        return result;
+    }
+}
@@ -1,11 +1,22 @@
 package com.checkmarx.intellij.ast.test.unit.tool.window.results.tree.nodes;
 
+import com.checkmarx.ast.results.result.Data;
+import com.checkmarx.ast.results.result.Result;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.LoadMoreNode;
 import com.checkmarx.intellij.ast.window.results.tree.nodes.NonLeafNode;
+import com.checkmarx.intellij.ast.window.results.tree.nodes.ResultNode;
+import com.intellij.openapi.project.Project;
 import org.junit.jupiter.api.Test;
 
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.DefaultTreeModel;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 /**
  * Unit tests for NonLeafNode.
@@ -105,5 +116,123 @@ class NonLeafNodeTest {
         assertEquals("delta", ((NonLeafNode) parent.getChildAt(2)).getUserObject());
         assertEquals("gamma", ((NonLeafNode) parent.getChildAt(3)).getUserObject());
     }
-}
 
+    @Test
+    void getOrAddChild_SameLabel_ReturnsExistingChild() {
+        NonLeafNode parent = new NonLeafNode("parent");
+
+        NonLeafNode first = parent.getOrAddChild("child", Comparator.naturalOrder());
+        NonLeafNode second = parent.getOrAddChild("child", Comparator.naturalOrder());
+
+        assertSame(first, second);
+        assertEquals(1, parent.getChildCount());
+    }
+
+    @Test
+    void sortChildren_AfterDeferredAdds_SortsEveryLevelOnce() {
+        NonLeafNode parent = new NonLeafNode("parent");
+        NonLeafNode zGroup = parent.getOrAddChild("z-group", Comparator.naturalOrder());
+        parent.getOrAddChild("a-group", Comparator.naturalOrder());
+        zGroup.append(new NonLeafNode("y-leaf"), Comparator.naturalOrder());
+        zGroup.append(new NonLeafNode("b-leaf"), Comparator.naturalOrder());
+
+        // insertion order until sorted
+        assertEquals("z-group", ((NonLeafNode) parent.getChildAt(0)).getUserObject());
+
+        parent.sortChildren();
+
+        assertEquals("a-group", ((NonLeafNode) parent.getChildAt(0)).getUserObject());
+        assertEquals("z-group", ((NonLeafNode) parent.getChildAt(1)).getUserObject());
+        assertEquals("b-leaf", ((NonLeafNode) zGroup.getChildAt(0)).getUserObject());
+        assertEquals("y-leaf", ((NonLeafNode) zGroup.getChildAt(1)).getUserObject());
+    }
+
+    @Test
+    void sortChildren_WithoutChildren_DoesNothing() {
+        NonLeafNode parent = new NonLeafNode("parent");
+        assertDoesNotThrow(parent::sortChildren);
+        assertEquals(0, parent.getChildCount());
+    }
+
+    @Test
+    void addPendingResult_CreatesNoResultNodesUntilLoaded() {
+        NonLeafNode group = new NonLeafNode("group");
+        group.addPendingResult(result("id-1", "b"), mock(Project.class), "scan");
+
+        assertEquals(0, group.getChildCount());
+        assertTrue(group.hasPendingResults());
+        assertFalse(group.isLeaf(), "a group with pending results must be expandable");
+        assertTrue(group.hasPendingResult("id-1"));
+        assertFalse(group.hasPendingResult("id-2"));
+    }
+
+    @Test
+    void loadNextPage_LoadsSortedPagesAndReplacesLoadMoreNode() {
+        NonLeafNode group = new NonLeafNode("group");
+        Project project = mock(Project.class);
+        for (String label : new String[]{"e", "c", "a", "d", "b"}) {
+            group.addPendingResult(result("id-" + label, label), project, "scan");
+        }
+        DefaultTreeModel model = new DefaultTreeModel(group);
+        List<String> events = new ArrayList<>();
+        model.addTreeModelListener(new RecordingListener(events));
+
+        group.loadFirstPage(2, model);
+        group.loadFirstPage(2, model);
+
+        assertEquals(3, group.getChildCount(), "first page and a load more node, loaded once");
+        assertEquals("a", ((ResultNode) group.getChildAt(0)).getUserObject());
+        assertEquals("b", ((ResultNode) group.getChildAt(1)).getUserObject());
+        assertTrue(group.getChildAt(2) instanceof LoadMoreNode);
+        assertEquals(List.of("inserted 3"), events);
+
+        List<ResultNode> loaded = group.loadNextPage(2, model);
+        assertEquals(2, loaded.size());
+        assertEquals("c", loaded.get(0).getUserObject());
+        assertTrue(group.getChildAt(4) instanceof LoadMoreNode);
+        assertEquals(List.of("inserted 3", "removed 1", "inserted 3"), events);
+
+        group.loadNextPage(2, model);
+        assertEquals(5, group.getChildCount(), "no load more node once all results are loaded");
+        assertEquals("e", ((ResultNode) group.getChildAt(4)).getUserObject());
+        assertFalse(group.hasPendingResults());
+        assertTrue(group.loadNextPage(2, model).isEmpty());
+    }
+
+    private static Result result(String id, String queryName) {
+        Result result = mock(Result.class);
+        Data data = mock(Data.class);
+        when(result.getId()).thenReturn(id);
+        when(result.getData()).thenReturn(data);
+        when(data.getQueryName()).thenReturn(queryName);
+        return result;
+    }
+
+    private static final class RecordingListener implements TreeModelListener {
+        private final List<String> events;
+
+        private RecordingListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void treeNodesChanged(TreeModelEvent e) {
+            events.add("changed " + e.getChildIndices().length);
+        }
+
+        @Override
+        public void treeNodesInserted(TreeModelEvent e) {
+            events.add("inserted " + e.getChildIndices().length);
+        }
+
+        @Override
+        public void treeNodesRemoved(TreeModelEvent e) {
+            events.add("removed " + e.getChildIndices().length);
+        }
+
+        @Override
+        public void treeStructureChanged(TreeModelEvent e) {
+            events.add("structure");
+        }
+    }
+}
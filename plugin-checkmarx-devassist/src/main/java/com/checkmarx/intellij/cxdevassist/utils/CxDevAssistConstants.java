@@ -13,5 +13,6 @@ public final class CxDevAssistConstants {
     public static final String PLUGIN_CHILD_REALTIME_SETTINGS_ID = "settings.devassist.realtime";
     public static final String FINDINGS_WINDOW_NAME = "Checkmarx Developer Assist Findings";
     public static final String IGNORED_FINDINGS_WINDOW_NAME = "Ignored Findings";
+    public static final String DIAGNOSTICS_WINDOW_NAME = "Diagnostics";
     public static final String DEVASSIST_HELP_LINK = "https://docs.checkmarx.com/en/34965-549323-checkmarx-developer-assist---jetbrains-plugin.html";
 }
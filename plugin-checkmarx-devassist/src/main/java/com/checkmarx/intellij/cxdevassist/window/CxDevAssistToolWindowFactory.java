@@ -1,6 +1,7 @@
 package com.checkmarx.intellij.cxdevassist.window;
 
 import com.checkmarx.intellij.common.context.PluginContext;
+import com.checkmarx.intellij.devassist.ui.diagnostics.DevAssistDiagnosticsPanel;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistFindingsWindow;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistIgnoredFindings;
 import com.checkmarx.intellij.cxdevassist.utils.CxDevAssistConstants;
@@ -46,6 +47,23 @@ public class CxDevAssistToolWindowFactory implements ToolWindowFactory, DumbAwar
         ignoredContent.setComponent(ignoredFindings);
         toolWindow.getContentManager().addContent(ignoredContent);
         Disposer.register(project, ignoredFindings);
+
+        // Realtime scanning Diagnostics Tab
+        addDiagnosticsTab(project, toolWindow, contentFactory);
+    }
+
+    /**
+     * Add the realtime scanning Diagnostics tab.
+     */
+    private void addDiagnosticsTab(@NotNull Project project, @NotNull ToolWindow toolWindow, ContentFactory contentFactory) {
+        try {
+            DevAssistDiagnosticsPanel diagnosticsPanel = new DevAssistDiagnosticsPanel(project);
+            toolWindow.getContentManager().addContent(
+                    contentFactory.createContent(diagnosticsPanel, CxDevAssistConstants.DIAGNOSTICS_WINDOW_NAME, false));
+            Disposer.register(project, diagnosticsPanel);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to create Diagnostics tab", e);
+        }
     }
 }
 
@@ -0,0 +1,193 @@
+package com.checkmarx.intellij.cxdevassist.test.integration.loadtest;
+
+import com.checkmarx.ast.asca.ScanResult;
+import com.checkmarx.ast.containersrealtime.ContainersRealtimeResults;
+import com.checkmarx.ast.iacrealtime.IacRealtimeResults;
+import com.checkmarx.ast.ossrealtime.OssRealtimeResults;
+import com.checkmarx.ast.secretsrealtime.SecretsRealtimeResults;
+import com.checkmarx.ast.wrapper.CxConfig;
+import com.checkmarx.ast.wrapper.CxException;
+import com.checkmarx.ast.wrapper.CxWrapper;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Offline stand-in for the Checkmarx CLI used by the realtime load test.
+ * <p>
+ * Every realtime scan call sleeps for the configured latency plus a random jitter, fails with the configured
+ * probability and otherwise replays the recorded CLI output from {@code /loadtest/<engine>.json}. Each call is
+ * recorded together with the load-test marker ({@code cx-loadtest:<file>:<edit>}) found in the scanned content,
+ * which lets the harness attribute CLI work back to the edit that triggered it.
+ */
+public class FakeCxWrapper extends CxWrapper {
+
+    public static final String MARKER_PREFIX = "cx-loadtest:";
+    private static final Pattern MARKER = Pattern.compile(Pattern.quote(MARKER_PREFIX) + "(\\d+):(\\d+)");
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double failureRate;
+    private final Random random;
+    private final Map<ScanEngine, String> recordedOutputs = new EnumMap<>(ScanEngine.class);
+    @Getter
+    private final List<Invocation> invocations = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * @param latencyMs   base latency of every CLI call
+     * @param jitterMs    maximum random latency added on top of the base latency
+     * @param failureRate probability in [0, 1] that a call fails with a {@link CxException}
+     * @param seed        seed for jitter and failure injection, so runs are reproducible
+     */
+    public FakeCxWrapper(long latencyMs, long jitterMs, double failureRate, long seed) throws IOException {
+        super(CxConfig.builder().build());
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.failureRate = failureRate;
+        this.random = new Random(seed);
+        for (ScanEngine engine : List.of(ScanEngine.OSS, ScanEngine.SECRETS, ScanEngine.IAC, ScanEngine.CONTAINERS, ScanEngine.ASCA)) {
+            recordedOutputs.put(engine, readRecordedOutput(engine));
+        }
+    }
+
+    @Override
+    public OssRealtimeResults ossRealtimeScan(String sourcePath, String ignoredFilePath)
+            throws IOException, InterruptedException, CxException {
+        return replay(ScanEngine.OSS, sourcePath, OssRealtimeResults.class);
+    }
+
+    @Override
+    public SecretsRealtimeResults secretsRealtimeScan(String sourcePath, String ignoredFilePath)
+            throws IOException, InterruptedException, CxException {
+        return replay(ScanEngine.SECRETS, sourcePath, SecretsRealtimeResults.class);
+    }
+
+    @Override
+    public IacRealtimeResults iacRealtimeScan(String sourcePath, String containerTool, String ignoredFilePath)
+            throws IOException, InterruptedException, CxException {
+        return replay(ScanEngine.IAC, sourcePath, IacRealtimeResults.class);
+    }
+
+    @Override
+    public ContainersRealtimeResults containersRealtimeScan(String sourcePath, String ignoredFilePath)
+            throws IOException, InterruptedException, CxException {
+        return replay(ScanEngine.CONTAINERS, sourcePath, ContainersRealtimeResults.class);
+    }
+
+    @Override
+    public ScanResult ScanAsca(String fileSource, boolean ascaLatestVersion, String agent, String ignoredFilePath)
+            throws IOException, InterruptedException, CxException {
+        return replay(ScanEngine.ASCA, fileSource, ScanResult.class);
+    }
+
+    /**
+     * @return number of CLI calls currently sleeping/replaying
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return end time of the most recently finished call, or {@code 0} if none finished yet
+     */
+    public long getLastCompletionNanos() {
+        return invocations.stream().mapToLong(Invocation::getEndNanos).max().orElse(0L);
+    }
+
+    private <T> T replay(ScanEngine engine, String sourcePath, Class<T> type)
+            throws IOException, InterruptedException, CxException {
+        int[] marker = readMarker(sourcePath);
+        long startNanos = System.nanoTime();
+        boolean failed = false;
+        inFlight.incrementAndGet();
+        try {
+            long jitter;
+            boolean fail;
+            synchronized (random) {
+                jitter = jitterMs > 0 ? (long) (random.nextDouble() * jitterMs) : 0L;
+                fail = random.nextDouble() < failureRate;
+            }
+            Thread.sleep(latencyMs + jitter);
+            if (fail) {
+                failed = true;
+                throw new CxException(1, "Injected failure for " + engine + " scan of " + sourcePath);
+            }
+            return MAPPER.readValue(recordedOutputs.get(engine), type);
+        } finally {
+            invocations.add(new Invocation(engine, marker[0], marker[1], startNanos, System.nanoTime(), failed));
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Finds the load-test marker in the scanned file, or in any file below it when the CLI is given a folder.
+     *
+     * @return {@code [fileId, editNumber]}, or {@code [-1, -1]} for calls not triggered by the harness
+     */
+    private static int[] readMarker(String sourcePath) {
+        if (sourcePath == null || sourcePath.isBlank()) {
+            return new int[]{-1, -1};
+        }
+        Path path = Paths.get(sourcePath);
+        List<Path> candidates;
+        try (Stream<Path> files = Files.isDirectory(path) ? Files.walk(path, 3) : Stream.of(path)) {
+            candidates = files.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException e) {
+            return new int[]{-1, -1};
+        }
+        for (Path candidate : candidates) {
+            try {
+                Matcher matcher = MARKER.matcher(Files.readString(candidate, StandardCharsets.UTF_8));
+                if (matcher.find()) {
+                    return new int[]{Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))};
+                }
+            } catch (IOException ignored) {
+                // Temp files may already be gone or be binary; keep looking
+            }
+        }
+        return new int[]{-1, -1};
+    }
+
+    private static String readRecordedOutput(ScanEngine engine) throws IOException {
+        String resource = "/loadtest/" + engine.name().toLowerCase(Locale.ROOT) + ".json";
+        try (InputStream stream = FakeCxWrapper.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IOException("Recorded CLI output not found: " + resource);
+            }
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A single CLI call made through the fake.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Invocation {
+        private final ScanEngine engine;
+        private final int fileId;
+        private final int edit;
+        private final long startNanos;
+        private final long endNanos;
+        private final boolean failed;
+    }
+}
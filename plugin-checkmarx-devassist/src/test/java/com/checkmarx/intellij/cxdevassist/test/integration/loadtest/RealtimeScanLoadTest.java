@@ -0,0 +1,280 @@
+package com.checkmarx.intellij.cxdevassist.test.integration.loadtest;
+
+import com.checkmarx.intellij.common.settings.GlobalSettingsState;
+import com.checkmarx.intellij.common.wrapper.CxWrapperFactory;
+import com.checkmarx.intellij.cxdevassist.test.integration.LocalBasePlatformTest;
+import com.checkmarx.intellij.devassist.configuration.GlobalScannerController;
+import com.checkmarx.intellij.devassist.diagnostics.LatencyHistogram;
+import com.checkmarx.intellij.devassist.diagnostics.ScanMetrics;
+import com.checkmarx.intellij.devassist.inspection.DevAssistInspectionMgr;
+import com.checkmarx.intellij.devassist.inspection.DevAssistScanScheduler;
+import com.checkmarx.intellij.devassist.problems.ProblemDecorator;
+import com.checkmarx.intellij.devassist.problems.ProblemHelper;
+import com.checkmarx.intellij.devassist.problems.ProblemHolderService;
+import com.checkmarx.intellij.devassist.utils.ScanEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.EdtTestUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Offline load test for the realtime scanning pipeline.
+ * <p>
+ * Replaces the CLI with {@link FakeCxWrapper} and drives {@link DevAssistScanScheduler} through a scripted edit
+ * storm across many files, the same way the inspection does while a user types. Afterwards it reports throughput,
+ * edit-to-result latency percentiles and wasted scans (CLI calls whose result was already outdated by a newer
+ * edit when it arrived), prints the report and writes it as JSON together with the {@link ScanMetrics} snapshot.
+ * <p>
+ * Disabled by default; run with
+ * {@code ./gradlew :plugin-checkmarx-devassist:test --tests '*RealtimeScanLoadTest' -Dcx.loadtest=true}.
+ * The profile can be tuned with {@code -Dcx.loadtest.files}, {@code .edits}, {@code .minGapMs}, {@code .maxGapMs},
+ * {@code .latencyMs}, {@code .jitterMs}, {@code .failureRate}, {@code .seed} and {@code .report}.
+ */
+@EnabledIfSystemProperty(named = "cx.loadtest", matches = "true")
+public class RealtimeScanLoadTest extends LocalBasePlatformTest {
+
+    private static final long QUIET_PERIOD_MS = 2500;
+    private static final long DRAIN_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Workspace file kinds, chosen so that every realtime engine gets traffic.
+     */
+    private static final List<FileKind> FILE_KINDS = List.of(
+            new FileKind("package.json", (id, edit) -> "{\n  \"name\": \"module-" + id + "\",\n  \"description\": \""
+                    + FakeCxWrapper.MARKER_PREFIX + id + ":" + edit + "\",\n  \"dependencies\": {\n    \"lodash\": \"4.17."
+                    + edit + "\"\n  }\n}\n"),
+            new FileKind("Dockerfile", (id, edit) -> "# " + FakeCxWrapper.MARKER_PREFIX + id + ":" + edit
+                    + "\nFROM nginx:1." + edit + "\nRUN echo build-" + edit + "\n"),
+            new FileKind("main.tf", (id, edit) -> "# " + FakeCxWrapper.MARKER_PREFIX + id + ":" + edit
+                    + "\nresource \"aws_s3_bucket\" \"bucket_" + edit + "\" {\n  bucket = \"b-" + id + "\"\n}\n"),
+            new FileKind("Main.java", (id, edit) -> "// " + FakeCxWrapper.MARKER_PREFIX + id + ":" + edit
+                    + "\nclass Main {\n    String password = \"secret" + edit + "\";\n}\n"),
+            new FileKind("app.properties", (id, edit) -> "# " + FakeCxWrapper.MARKER_PREFIX + id + ":" + edit
+                    + "\napi.key=sk_live_" + edit + "\n"));
+
+    @AfterEach
+    public void resetWrapper() {
+        CxWrapperFactory.setWrapperProvider(null);
+    }
+
+    @Test
+    public void editStorm_reportsThroughputTailLatencyAndWastedScans() throws Exception {
+        int fileCount = Integer.getInteger("cx.loadtest.files", 25);
+        int editsPerFile = Integer.getInteger("cx.loadtest.edits", 12);
+        long minGapMs = Long.getLong("cx.loadtest.minGapMs", 50L);
+        long maxGapMs = Long.getLong("cx.loadtest.maxGapMs", 600L);
+        long latencyMs = Long.getLong("cx.loadtest.latencyMs", 400L);
+        long jitterMs = Long.getLong("cx.loadtest.jitterMs", 300L);
+        double failureRate = Double.parseDouble(System.getProperty("cx.loadtest.failureRate", "0"));
+        long seed = Long.getLong("cx.loadtest.seed", 42L);
+
+        FakeCxWrapper fakeCli = new FakeCxWrapper(latencyMs, jitterMs, failureRate, seed);
+        CxWrapperFactory.setWrapperProvider(() -> fakeCli);
+        enableAllScanners();
+        ScanMetrics.reset();
+
+        List<PsiFile> files = createWorkspace(fileCount);
+        DevAssistScanScheduler scheduler = DevAssistScanScheduler.getInstance(getProject());
+        DevAssistInspectionMgr inspectionMgr = new DevAssistInspectionMgr();
+        Random random = new Random(seed);
+
+        // Script: every file receives editsPerFile edits, interleaved across files with random gaps
+        List<Integer> script = new ArrayList<>();
+        for (int fileId = 0; fileId < fileCount; fileId++) {
+            for (int edit = 0; edit < editsPerFile; edit++) {
+                script.add(fileId);
+            }
+        }
+        Collections.shuffle(script, random);
+
+        int[] nextEdit = new int[fileCount];
+        Map<Integer, List<Long>> editTimes = new HashMap<>();
+        long stormStart = System.nanoTime();
+        for (int fileId : script) {
+            int edit = nextEdit[fileId]++;
+            PsiFile file = files.get(fileId);
+            applyEdit(file, FILE_KINDS.get(fileId % FILE_KINDS.size()).content.apply(fileId, edit));
+            editTimes.computeIfAbsent(fileId, k -> new ArrayList<>()).add(System.nanoTime());
+            scheduler.scheduleScan(file.getVirtualFile().getPath(), buildProblemHelper(file, inspectionMgr), ScanEngine.ALL);
+            Thread.sleep(minGapMs + (long) (random.nextDouble() * Math.max(0, maxGapMs - minGapMs)));
+        }
+        long stormEnd = System.nanoTime();
+        awaitQuiescence(fakeCli);
+
+        Map<String, Object> report = buildReport(fakeCli, editTimes, stormStart, stormEnd, fileCount, editsPerFile,
+                latencyMs, jitterMs, failureRate);
+        publish(report);
+
+        Assertions.assertFalse(fakeCli.getInvocations().isEmpty(), "The edit storm did not trigger any CLI call");
+        if (failureRate == 0) {
+            Assertions.assertEquals(0, report.get("lostFinalEdits"), "Every file's final edit must be scanned");
+        }
+    }
+
+    private void enableAllScanners() {
+        GlobalSettingsState state = GlobalSettingsState.getInstance();
+        state.setAuthenticated(true);
+        state.setMcpEnabled(true);
+        state.setOssRealtime(true);
+        state.setSecretDetectionRealtime(true);
+        state.setContainersRealtime(true);
+        state.setIacRealtime(true);
+        state.setAscaRealtime(true);
+        Map<ScanEngine, Boolean> scannerStates = GlobalScannerController.getInstance().getScannerStateMap();
+        for (ScanEngine engine : List.of(ScanEngine.OSS, ScanEngine.SECRETS, ScanEngine.CONTAINERS, ScanEngine.IAC, ScanEngine.ASCA)) {
+            scannerStates.put(engine, true);
+        }
+    }
+
+    private List<PsiFile> createWorkspace(int fileCount) {
+        return EdtTestUtil.runInEdtAndGet(() -> {
+            List<PsiFile> files = new ArrayList<>(fileCount);
+            for (int fileId = 0; fileId < fileCount; fileId++) {
+                FileKind kind = FILE_KINDS.get(fileId % FILE_KINDS.size());
+                files.add(myFixture.addFileToProject("module" + fileId + "/" + kind.name, kind.content.apply(fileId, 0)));
+            }
+            return files;
+        });
+    }
+
+    private void applyEdit(PsiFile file, String content) {
+        EdtTestUtil.runInEdtAndWait(() -> WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+            Document document = PsiDocumentManager.getInstance(getProject()).getDocument(file);
+            Objects.requireNonNull(document).setText(content);
+            PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        }));
+    }
+
+    private final ProblemDecorator problemDecorator = new ProblemDecorator();
+
+    private ProblemHelper buildProblemHelper(PsiFile file, DevAssistInspectionMgr inspectionMgr) {
+        String path = file.getVirtualFile().getPath();
+        return ProblemHelper.builder(file, getProject())
+                .filePath(path)
+                .manager(InspectionManager.getInstance(getProject()))
+                .isOnTheFly(true)
+                .document(PsiDocumentManager.getInstance(getProject()).getDocument(file))
+                .supportedScanners(inspectionMgr.getSupportedScanner(path, file))
+                .problemHolderService(ProblemHolderService.getInstance(getProject()))
+                .problemDecorator(problemDecorator)
+                .build();
+    }
+
+    /**
+     * Waits until nothing is queued or running and no CLI call finished for {@link #QUIET_PERIOD_MS}.
+     */
+    private static void awaitQuiescence(FakeCxWrapper fakeCli) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            long idleMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - fakeCli.getLastCompletionNanos());
+            if (ScanMetrics.getQueueDepth() == 0 && fakeCli.getInFlight() == 0 && idleMs >= QUIET_PERIOD_MS) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        Assertions.fail("Realtime pipeline did not drain within " + DRAIN_TIMEOUT_MS + " ms");
+    }
+
+    private static Map<String, Object> buildReport(FakeCxWrapper fakeCli, Map<Integer, List<Long>> editTimes,
+                                                   long stormStart, long stormEnd, int fileCount, int editsPerFile,
+                                                   long latencyMs, long jitterMs, double failureRate) {
+        List<FakeCxWrapper.Invocation> invocations = fakeCli.getInvocations();
+        long completed = invocations.stream().filter(invocation -> !invocation.isFailed()).count();
+        long failed = invocations.size() - completed;
+        long lastCompletion = Math.max(stormEnd, fakeCli.getLastCompletionNanos());
+        double wallSeconds = (lastCompletion - stormStart) / 1e9;
+
+        Map<String, Long> callsPerEngine = new TreeMap<>();
+        long wasted = 0;
+        long unattributed = 0;
+        for (FakeCxWrapper.Invocation invocation : invocations) {
+            callsPerEngine.merge(invocation.getEngine().name(), 1L, Long::sum);
+            List<Long> fileEdits = editTimes.get(invocation.getFileId());
+            if (fileEdits == null) {
+                unattributed++;
+                continue;
+            }
+            // Outdated on arrival: a newer edit of the same file happened before this call returned
+            int newerEdit = invocation.getEdit() + 1;
+            if (newerEdit < fileEdits.size() && fileEdits.get(newerEdit) <= invocation.getEndNanos()) {
+                wasted++;
+            }
+        }
+
+        // Edit-to-result latency: final edit of a file until the last engine finished scanning that content
+        LatencyHistogram editToResult = new LatencyHistogram();
+        int lostFinalEdits = 0;
+        for (Map.Entry<Integer, List<Long>> entry : editTimes.entrySet()) {
+            int finalEdit = entry.getValue().size() - 1;
+            long finalEditTime = entry.getValue().get(finalEdit);
+            OptionalLong resultTime = invocations.stream()
+                    .filter(invocation -> invocation.getFileId() == entry.getKey()
+                            && invocation.getEdit() == finalEdit && !invocation.isFailed())
+                    .mapToLong(FakeCxWrapper.Invocation::getEndNanos)
+                    .max();
+            if (resultTime.isPresent()) {
+                editToResult.record(resultTime.getAsLong() - finalEditTime, TimeUnit.NANOSECONDS);
+            } else {
+                lostFinalEdits++;
+            }
+        }
+
+        Map<String, Object> profile = new LinkedHashMap<>();
+        profile.put("files", fileCount);
+        profile.put("editsPerFile", editsPerFile);
+        profile.put("cliLatencyMs", latencyMs);
+        profile.put("cliJitterMs", jitterMs);
+        profile.put("cliFailureRate", failureRate);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profile", profile);
+        report.put("wallSeconds", wallSeconds);
+        report.put("edits", (long) fileCount * editsPerFile);
+        report.put("cliCalls", invocations.size());
+        report.put("cliCallsPerEngine", callsPerEngine);
+        report.put("cliCallsFailed", failed);
+        report.put("cliCallsUnattributed", unattributed);
+        report.put("throughputScansPerSecond", wallSeconds > 0 ? completed / wallSeconds : 0.0);
+        report.put("wastedScans", wasted);
+        report.put("wastedScanRatio", invocations.isEmpty() ? 0.0 : (double) wasted / invocations.size());
+        report.put("lostFinalEdits", lostFinalEdits);
+        report.put("editToResultLatencyMs", editToResult.snapshot());
+        report.put("scanMetrics", ScanMetrics.snapshot());
+        return report;
+    }
+
+    private static void publish(Map<String, Object> report) throws Exception {
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        System.out.println("Realtime scan load test report:\n" + json);
+        Path target = Paths.get(System.getProperty("cx.loadtest.report", "build/reports/loadtest/realtime-load-test.json"));
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Files.writeString(target, json);
+    }
+
+    private static final class FileKind {
+        private final String name;
+        private final BiFunction<Integer, Integer, String> content;
+
+        private FileKind(String name, BiFunction<Integer, Integer, String> content) {
+            this.name = name;
+            this.content = content;
+        }
+    }
+}
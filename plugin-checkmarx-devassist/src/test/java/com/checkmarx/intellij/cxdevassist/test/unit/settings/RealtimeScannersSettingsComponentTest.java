@@ -13,6 +13,7 @@ import com.intellij.openapi.application.Application;
 import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.ui.ComboBox;
 import com.intellij.ui.JBColor;
+import com.intellij.ui.JBIntSpinner;
 import com.intellij.ui.components.JBCheckBox;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.util.messages.MessageBus;
@@ -64,7 +65,11 @@ class RealtimeScannersSettingsComponentTest {
         setField(component, "ascaCheckbox", new JBCheckBox());
         setField(component, "ossCheckbox", new JBCheckBox());
         setField(component, "secretsCheckbox", new JBCheckBox());
+        setField(component, "secretsSweepCheckbox", new JBCheckBox());
+        setField(component, "secretsChunkThresholdSpinner", new JBIntSpinner(64, 64, 100 * 1024));
+        setField(component, "secretsSaveOnlyThresholdSpinner", new JBIntSpinner(64, 64, 1024 * 1024));
         setField(component, "containersCheckbox", new JBCheckBox());
+        setField(component, "containersImageCacheTtlSpinner", new JBIntSpinner(0, 0, 24 * 60));
         setField(component, "iacCheckbox", new JBCheckBox());
         setField(component, "containersToolCombo", new ComboBox<>(new String[]{"docker", "podman"}));
         setField(component, "assistMessageLabel", new com.intellij.ui.components.JBLabel());
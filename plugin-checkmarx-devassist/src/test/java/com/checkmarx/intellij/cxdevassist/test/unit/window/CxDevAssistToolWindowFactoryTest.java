@@ -4,6 +4,7 @@ import com.checkmarx.intellij.common.context.PluginContext;
 import com.checkmarx.intellij.common.settings.GlobalSettingsState;
 import com.checkmarx.intellij.cxdevassist.utils.CxDevAssistConstants;
 import com.checkmarx.intellij.cxdevassist.window.CxDevAssistToolWindowFactory;
+import com.checkmarx.intellij.devassist.ui.diagnostics.DevAssistDiagnosticsPanel;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistFindingsWindow;
 import com.checkmarx.intellij.devassist.ui.findings.window.DevAssistIgnoredFindings;
 import com.intellij.openapi.project.Project;
@@ -115,9 +116,9 @@ class CxDevAssistToolWindowFactoryTest {
     // ===== createToolWindowContent() =====
 
     @Test
-    @DisplayName("createToolWindowContent adds two content tabs to the tool window")
+    @DisplayName("createToolWindowContent adds findings, ignored and diagnostics tabs to the tool window")
     @SuppressWarnings({"rawtypes", "unchecked"})
-    void testCreateToolWindowContent_addsTwoTabs() {
+    void testCreateToolWindowContent_addsAllTabs() {
         // Mock PluginContext
         PluginContext mockPluginContext = mock(PluginContext.class);
         when(mockPluginContext.isPlugin(PluginContext.PLUGIN_CHECKMARX_DEVASSIST)).thenReturn(true);
@@ -130,6 +131,9 @@ class CxDevAssistToolWindowFactoryTest {
                 .thenReturn(mockFindingsContent);
         when(mockContentFactory.createContent(isNull(), eq(CxDevAssistConstants.IGNORED_FINDINGS_WINDOW_NAME), eq(false)))
                 .thenReturn(mockIgnoredContent);
+        Content mockDiagnosticsContent = mock(Content.class);
+        when(mockContentFactory.createContent(any(DevAssistDiagnosticsPanel.class), eq(CxDevAssistConstants.DIAGNOSTICS_WINDOW_NAME), eq(false)))
+                .thenReturn(mockDiagnosticsContent);
 
         // Mock ContentManager
         ContentManager mockContentManager = mock(ContentManager.class);
@@ -141,7 +145,9 @@ class CxDevAssistToolWindowFactoryTest {
              MockedConstruction<DevAssistFindingsWindow> findingsMock =
                      mockConstruction(DevAssistFindingsWindow.class);
              MockedConstruction<DevAssistIgnoredFindings> ignoredMock =
-                     mockConstruction(DevAssistIgnoredFindings.class)) {
+                     mockConstruction(DevAssistIgnoredFindings.class);
+             MockedConstruction<DevAssistDiagnosticsPanel> diagnosticsMock =
+                     mockConstruction(DevAssistDiagnosticsPanel.class)) {
 
             pluginCtxMock.when(PluginContext::getInstance).thenReturn(mockPluginContext);
             cfMock.when(ContentFactory::getInstance).thenReturn(mockContentFactory);
@@ -150,12 +156,14 @@ class CxDevAssistToolWindowFactoryTest {
             CxDevAssistToolWindowFactory factory = new CxDevAssistToolWindowFactory();
             factory.createToolWindowContent(mockProject, mockToolWindow);
 
-            // Both tabs must have been added
+            // All tabs must have been added
             verify(mockContentManager).addContent(mockFindingsContent);
             verify(mockContentManager).addContent(mockIgnoredContent);
-            // Both windows must have been constructed
+            verify(mockContentManager).addContent(mockDiagnosticsContent);
+            // All windows must have been constructed
             assertEquals(1, findingsMock.constructed().size());
             assertEquals(1, ignoredMock.constructed().size());
+            assertEquals(1, diagnosticsMock.constructed().size());
         }
     }
 
@@ -184,7 +192,9 @@ class CxDevAssistToolWindowFactoryTest {
              MockedConstruction<DevAssistFindingsWindow> findingsMock =
                      mockConstruction(DevAssistFindingsWindow.class);
              MockedConstruction<DevAssistIgnoredFindings> ignoredMock =
-                     mockConstruction(DevAssistIgnoredFindings.class)) {
+                     mockConstruction(DevAssistIgnoredFindings.class);
+             MockedConstruction<DevAssistDiagnosticsPanel> diagnosticsMock =
+                     mockConstruction(DevAssistDiagnosticsPanel.class)) {
 
             pluginCtxMock.when(PluginContext::getInstance).thenReturn(mockPluginContext);
             cfMock.when(ContentFactory::getInstance).thenReturn(mockContentFactory);